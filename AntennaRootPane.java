@@ -25,6 +25,7 @@ import alma.ControlGUIErrType.wrappers.AcsJUnsupportedAntennaTypeEx;
 import alma.acs.exceptions.AcsJException;
 import alma.acs.gui.util.panel.IPanel;
 import alma.acs.logging.AcsLogLevel;
+import alma.acs.logging.ClientLogManager;
 import alma.acs.container.ContainerServices;
 
 
@@ -37,16 +38,25 @@ import alma.control.gui.antennamount.errortab.ErrorInfo;
 import alma.control.gui.antennamount.errortab.ErrorTabbedPane;
 
 import alma.control.gui.antennamount.mount.ACSComponentsManager;
+import alma.control.gui.antennamount.mount.ArrayPoller;
 import alma.control.gui.antennamount.mount.Mount;
 import alma.control.gui.antennamount.mount.MountConnectionListener;
 import alma.control.gui.antennamount.mount.MountController;
 import alma.control.gui.antennamount.mount.MountOperationListener;
+import alma.control.gui.antennamount.mount.ReplayComponentsFactory;
 import alma.control.gui.antennamount.mount.vertex.MountVertex;
 import alma.control.gui.antennamount.mount.vertexLLama.MountVertexLLama;
 import alma.control.gui.antennamount.mount.aca.MountACA;
 import alma.control.gui.antennamount.mount.a7m.MountA7M;
 import alma.control.gui.antennamount.mount.aem.MountAEM;
+import alma.control.gui.antennamount.telemetry.TelemetryBinder;
+import alma.control.gui.antennamount.telemetry.TelemetryPlayer;
+import alma.control.gui.antennamount.telemetry.TelemetryReader;
+import alma.control.gui.antennamount.telemetry.TelemetryRecorder;
+import alma.control.gui.antennamount.telemetry.TelemetryStream;
 import alma.control.gui.antennamount.toolbar.Toolbar;
+import alma.control.gui.antennamount.tracking.ArrayOverviewModel;
+import alma.control.gui.antennamount.tracking.ArrayOverviewTable;
 import alma.control.gui.antennamount.utils.ValueDisplayer;
 
 import alma.exec.extension.subsystemplugin.IPauseResume;
@@ -60,6 +70,9 @@ import java.awt.FlowLayout;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.awt.event.WindowEvent;
+import java.io.File;
+import java.util.Vector;
+import java.util.logging.Logger;
 
 import javax.swing.BorderFactory;
 import javax.swing.Box;
@@ -68,8 +81,10 @@ import javax.swing.JFrame;
 import javax.swing.JMenu;
 import javax.swing.JMenuBar;
 import javax.swing.JMenuItem;
+import javax.swing.JOptionPane;
 import javax.swing.JPanel;
 import javax.swing.JRootPane;
+import javax.swing.JScrollPane;
 import javax.swing.JSeparator;
 import javax.swing.event.MenuEvent;
 import javax.swing.event.MenuListener;
@@ -175,6 +190,12 @@ public abstract class AntennaRootPane extends JRootPane
      */
     private ACSComponentsManager manager=null;
     
+    /**
+     * The antenna whose telemetry is replayed 
+     * (<code>null</code> if not replaying or no antenna is connected)
+     */
+    private volatile String replayedAntenna=null;
+    
     /**
      * It is <code>true</code> if the panel runs in debug mode.
      * <P>
@@ -196,6 +217,76 @@ public abstract class AntennaRootPane extends JRootPane
      */
     private final DebugFileLogger debugLogger;
     
+    /**
+     * The name of the JVM property with the folder to record the telemetry into.
+     * <P>
+     * The telemetry is not recorded if the property is not set.
+     */
+    public static final String telemetryFolderPropertyName="alma.control.mountpanel.telemetry";
+    
+    /**
+     * The object to record the values read from the components.
+     * <P>
+     * It is <code>null</code> if the telemetry is not recorded
+     */
+    private final TelemetryRecorder telemetryRecorder;
+    
+    /**
+     * The name of the JVM property with the folder of the telemetry to replay.
+     * <P>
+     * If the property is set, the values of the connected components are 
+     * set by the {@link TelemetryPlayer} instead of being read from the components
+     * and the telemetry is not recorded.
+     * The components are not connected: the panel replays the recorded antennas
+     * without ACS (see {@link ReplayComponentsFactory}).
+     */
+    public static final String replayFolderPropertyName="alma.control.mountpanel.replay";
+    
+    /**
+     * The name of the JVM property with the speed of the replay
+     * (1 if not set; <code>Infinity</code> to replay as fast as possible)
+     */
+    public static final String replaySpeedPropertyName="alma.control.mountpanel.replaySpeed";
+    
+    /**
+     * The name of the JVM property with the session to replay
+     * (all the sessions of the antenna are replayed if not set)
+     */
+    public static final String replaySessionPropertyName="alma.control.mountpanel.replaySession";
+    
+    /**
+     * The object to replay the telemetry.
+     * <P>
+     * It is <code>null</code> if the telemetry is not replayed
+     */
+    private final TelemetryPlayer telemetryPlayer;
+    
+    /**
+     * The name of the JVM property with the number of threads 
+     * of the {@link ArrayPoller} (array mode).
+     * <P>
+     * In array mode the status of the components of all the panels running in
+     * the same JVM is updated by the threads of the same {@link ArrayPoller}
+     * and summarized in the {@link ArrayOverviewModel}.
+     * If the property is not set, each mount and mount controller
+     * has its own thread.
+     */
+    public static final String arrayPollerThreadsPropertyName="alma.control.mountpanel.arrayPoller";
+    
+    /**
+     * The poller shared by all the panels in array mode
+     * (<code>null</code> if not yet built or not in array mode)
+     * 
+     * @see AntennaRootPane#arrayPollerThreadsPropertyName
+     */
+    private static ArrayPoller arrayPoller=null;
+    
+    /**
+     * The overview of the antennas shared by all the panels in array mode
+     * (<code>null</code> if not yet built or not in array mode)
+     */
+    private static ArrayOverviewModel arrayOverview=null;
+    
 	/**
 	 * Empty constructor
 	 * (called by OMC to run as plugin)
@@ -209,6 +300,8 @@ public abstract class AntennaRootPane extends JRootPane
 		} else {
 			debugLogger=null;
 		}
+		telemetryPlayer=buildTelemetryPlayer();
+		telemetryRecorder=(telemetryPlayer==null)?buildTelemetryRecorder():null;
 	}
 	
 	/**
@@ -225,12 +318,61 @@ public abstract class AntennaRootPane extends JRootPane
 		} else {
 			debugLogger=null;
 		}
+		telemetryPlayer=buildTelemetryPlayer();
+		telemetryRecorder=(telemetryPlayer==null)?buildTelemetryRecorder():null;
 		if (frame==null) {
 			throw new IllegalArgumentException("Invalid null AntMountFrame in construcotr");
 		}
 		mountFrame=frame;
 	}
 	
+	/**
+	 * Build the recorder of the telemetry if the folder is set 
+	 * by {@link #telemetryFolderPropertyName}
+	 * 
+	 * @return The recorder or <code>null</code> if the telemetry is not recorded
+	 */
+	private TelemetryRecorder buildTelemetryRecorder() {
+		String folderName=System.getProperty(telemetryFolderPropertyName);
+		if (folderName==null || folderName.trim().isEmpty()) {
+			return null;
+		}
+		try {
+			return new TelemetryRecorder(new File(folderName.trim()));
+		} catch (IllegalArgumentException e) {
+			System.err.println("Telemetry not recorded: "+e.getMessage());
+			return null;
+		}
+	}
+	
+	/**
+	 * Build the player of the telemetry if the folder is set 
+	 * by {@link #replayFolderPropertyName}
+	 * 
+	 * @return The player or <code>null</code> if the telemetry is not replayed
+	 */
+	private TelemetryPlayer buildTelemetryPlayer() {
+		String folderName=System.getProperty(replayFolderPropertyName);
+		if (folderName==null || folderName.trim().isEmpty()) {
+			return null;
+		}
+		try {
+			double speed=Double.parseDouble(System.getProperty(replaySpeedPropertyName, "1"));
+			String session=System.getProperty(replaySessionPropertyName);
+			if (session!=null) {
+				session=session.trim();
+				if (session.isEmpty()) {
+					session=null;
+				}
+			}
+			return new TelemetryPlayer(new File(folderName.trim()), speed, session, getLogger());
+		} catch (IllegalArgumentException e) {
+			// NumberFormatException is an IllegalArgumentException
+			System.err.println("Telemetry not replayed: "+e.getMessage());
+			return null;
+		}
+	}
+	
 	/**
 	 * Initialize the GUI
 	 *
@@ -267,6 +409,23 @@ public abstract class AntennaRootPane extends JRootPane
 
 	}
 	
+	/**
+	 * Add the tab with the overview of all the antennas monitored in array mode.
+	 * <P>
+	 * It is called by the specialized classes after adding their tabs.
+	 * Nothing is added if the panel does not run in array mode.
+	 */
+	protected void addArrayOverviewTab() {
+		ArrayOverviewModel overview=getArrayOverview();
+		if (overview==null) {
+			return;
+		}
+		JScrollPane overviewScrollPane = new JScrollPane(new ArrayOverviewTable(overview),
+				JScrollPane.VERTICAL_SCROLLBAR_AS_NEEDED,
+				JScrollPane.HORIZONTAL_SCROLLBAR_AS_NEEDED);
+		errorTab.addTab("Array", overviewScrollPane);
+	}
+	
 	/**
      * Add the menu bar
      */
@@ -371,6 +530,15 @@ public abstract class AntennaRootPane extends JRootPane
 		disconnectComponents();
 		acsCS = null;
 		pluginCS = null;
+		if (debugModeOn) {
+			debugLogger.close();
+		}
+		if (telemetryRecorder!=null) {
+			telemetryRecorder.close();
+		}
+		if (telemetryPlayer!=null) {
+			telemetryPlayer.close();
+		}
 	}
 	
 	/**
@@ -415,6 +583,7 @@ public abstract class AntennaRootPane extends JRootPane
 			manager.close();
 			manager=null;
 		}
+		replayedAntenna=null;
 		
 		if (!isOMCPlugin()) {
 			mountFrame.setTitle("Mount panel");
@@ -434,13 +603,43 @@ public abstract class AntennaRootPane extends JRootPane
 			throw new IllegalArgumentException("Invalid name "+name);
 		}
 		setComponents(null,null);
+		mountGUI=null;
+		controllerGUI=null;
+		if (telemetryPlayer!=null) {
+			buildReplayedComponents(name);
+		} else {
+			buildComponents(name);
+		}
+		mountGUI.addComponentConnectionListener(connectionListener);
+		controllerGUI.addComponentConnectionListener(connectionListener);
+
+		setComponents(controllerGUI,mountGUI);
+		
+		coordsTbl.setComponents(controllerGUI,mountGUI);
+		if (!isOMCPlugin()) {
+			if (name.startsWith("CONTROL/")) {
+				mountFrame.setTitle(name.substring(8));
+			} else {
+				mountFrame.setTitle(name);
+			}
+		}
+		mountGUI.addOperationListener(this);
+		controllerGUI.addOperationListener(this);
+	}
+	
+	/**
+	 * Connect the components of the antenna with the {@link ACSComponentsManager}
+	 * and build the mountGUI and the controllerGUI
+	 * 
+	 * @param name The name of the antenna (for example CONTROL/DV01)
+	 */
+	private void buildComponents(String name) throws AcsJException, AcsJMountGUIErrorEx {
 		manager = new ACSComponentsManager(acsCS);
 		// Connect mount and mount controller
 		addStatusMessage("Connecting to "+name,false);
 		manager.connectComponents(name);
 		addStatusMessage("Connected to "+name,false);
 		
-		mountGUI=null;
 		try {
 			if (manager.getMountType()==ACSComponentsManager.AntennaType.VERTEX) {
 				mountGUI=new MountVertex(manager.getVertex(),manager.getMountType(),acsCS,this);
@@ -462,23 +661,49 @@ public abstract class AntennaRootPane extends JRootPane
 		if (mountGUI==null) {
 			throw new AcsJUnsupportedAntennaTypeEx();
 		}
-		mountGUI.addComponentConnectionListener(connectionListener);
 		
 		controllerGUI=new MountController(manager.getController(),acsCS, this);
-		controllerGUI.addComponentConnectionListener(connectionListener);
-
-		setComponents(controllerGUI,mountGUI);
-		
-		coordsTbl.setComponents(controllerGUI,mountGUI);
-		if (!isOMCPlugin()) {
-			if (name.startsWith("CONTROL/")) {
-				mountFrame.setTitle(name.substring(8));
-			} else {
-				mountFrame.setTitle(name);
+	}
+	
+	/**
+	 * Build the mountGUI and the controllerGUI of an antenna whose 
+	 * telemetry is replayed: no component is connected.
+	 * 
+	 * @param name The name of the antenna (for example CONTROL/DV01 or DV01)
+	 */
+	private void buildReplayedComponents(String name) throws AcsJException, AcsJMountGUIErrorEx {
+		String antenna=name.substring(name.lastIndexOf('/')+1);
+		TelemetryStream mountStream=null;
+		TelemetryStream controllerStream=null;
+		for (TelemetryStream stream: TelemetryReader.selectStreams(telemetryPlayer.getStreams(), antenna, telemetryPlayer.getSession())) {
+			if (TelemetryBinder.MOUNT_CONTROLLER_TYPE.equals(stream.getComponentType())) {
+				if (controllerStream==null) {
+					controllerStream=stream;
+				}
+			} else if (mountStream==null) {
+				mountStream=stream;
 			}
 		}
-		mountGUI.addOperationListener(this);
-		controllerGUI.addOperationListener(this);
+		if (mountStream==null || controllerStream==null) {
+			AcsJMountGUIErrorEx ex = new AcsJMountGUIErrorEx();
+			ex.setContextDescription("No telemetry of the mount and the controller of "+antenna);
+			throw ex;
+		}
+		// The name of the antenna is needed to bind the telemetry
+		// while building the components
+		replayedAntenna=antenna;
+		addStatusMessage("Replaying "+antenna,false);
+		try {
+			mountGUI=ReplayComponentsFactory.buildMount(mountStream, this);
+		} catch (AcsJUnsupportedAntennaTypeEx e) {
+			throw e;
+		} catch (Throwable t) {
+			AcsJMountGUIErrorEx ex = new AcsJMountGUIErrorEx(t);
+			ex.setContextDescription("Error building the mount");
+			ex.setProperty("Mount type", mountStream.getComponentType());
+			throw ex;
+		}
+		controllerGUI=ReplayComponentsFactory.buildController(controllerStream, this);
 	}
 	
 	/**
@@ -497,7 +722,15 @@ public abstract class AntennaRootPane extends JRootPane
 			}
 			return;
 		}
-		String componentName=sce.getComponentName();
+		startConnection(sce.getComponentName());
+	}
+	
+	/**
+	 * Connect the components of an antenna in a separate thread
+	 * 
+	 * @param componentName The name of the antenna (for example CONTROL/DV01)
+	 */
+	private void startConnection(String componentName) {
 		if (debugModeOn) {
 			debugLogger.log("The user requested to connect to "+componentName);
 		}
@@ -514,11 +747,7 @@ public abstract class AntennaRootPane extends JRootPane
 		    		 addStatusMessage("Connection to "+compName+" established",false);
 		    	 } catch (Throwable t) {
 		    		 String msg = "Error connecting components";
-		    		 if (acsCS!=null) {
-		    			 if (acsCS.getLogger()!=null) {
-		    				 acsCS.getLogger().log(AcsLogLevel.ERROR, msg,t);
-		    			 }
-		    		 }
+		    		 getLogger().log(AcsLogLevel.ERROR, msg,t);
 		    		 if (t instanceof AcsJException) {
 		    			 msg=((AcsJException)t).getShortDescription();
 		    			 addError(new ErrorInfo(msg,msg+": "+compName,(AcsJException)t));
@@ -592,8 +821,10 @@ public abstract class AntennaRootPane extends JRootPane
 	 */
 	public void menuSelected(MenuEvent e) {
 		if (e.getSource()==fileMenu) {
-			connectMountMenuItem.setEnabled(acsCS!=null && mountGUI==null);
-			releaseMountMenuItem.setEnabled(acsCS!=null && mountGUI!=null);
+			// While replaying the telemetry the components are not connected to ACS
+			boolean canConnect=acsCS!=null || telemetryPlayer!=null;
+			connectMountMenuItem.setEnabled(canConnect && mountGUI==null);
+			releaseMountMenuItem.setEnabled(canConnect && mountGUI!=null);
 		} 
 	}
 	
@@ -604,12 +835,44 @@ public abstract class AntennaRootPane extends JRootPane
 	 * by SelectAntennaMountDlg
 	 */
 	private void connectMount() {
+		if (telemetryPlayer!=null) {
+			selectReplayedAntenna();
+			return;
+		}
 		SelectAntennaMountDlg dlg = new SelectAntennaMountDlg(this,mountFrame,acsCS);
 		dlg.setModal(true);
 		dlg.setLocationRelativeTo(this);
 		dlg.setVisible(true);
 	}
 	
+	/**
+	 * Shows the dialog to select one of the recorded antennas 
+	 * and replay its telemetry 
+	 */
+	private void selectReplayedAntenna() {
+		Vector<String> antennas = new Vector<String>();
+		for (TelemetryStream stream: TelemetryReader.selectStreams(telemetryPlayer.getStreams(), null, telemetryPlayer.getSession())) {
+			if (!antennas.contains(stream.getAntennaName())) {
+				antennas.add(stream.getAntennaName());
+			}
+		}
+		if (antennas.isEmpty()) {
+			addStatusMessage("No antenna to replay",true);
+			return;
+		}
+		Object antenna = JOptionPane.showInputDialog(
+				this, 
+				"Antenna to replay", 
+				"Replay telemetry", 
+				JOptionPane.QUESTION_MESSAGE, 
+				null, 
+				antennas.toArray(), 
+				antennas.get(0));
+		if (antenna!=null) {
+			startConnection(antenna.toString());
+		}
+	}
+	
 	/**
 	 * This method is executed whenever a command has been executed.
 	 * A message is shown if the exception is not <code>null</code> (i.e. there was
@@ -719,4 +982,87 @@ public abstract class AntennaRootPane extends JRootPane
 	public HeartbeatChecker getHeartbeatChecker() {
 		return hbChecker;
 	}
+	
+	/**
+	 * 
+	 * @return The recorder of the telemetry 
+	 * 			or <code>null</code> if the telemetry is not recorded
+	 */
+	public TelemetryRecorder getTelemetryRecorder() {
+		return telemetryRecorder;
+	}
+	
+	/**
+	 * 
+	 * @return The player of the telemetry 
+	 * 			or <code>null</code> if the telemetry is not replayed
+	 */
+	public TelemetryPlayer getTelemetryPlayer() {
+		return telemetryPlayer;
+	}
+	
+	/**
+	 * Return the poller shared by all the panels in array mode.
+	 * <P>
+	 * The poller and the overview are built the first time this method is called
+	 * with the number of threads set by {@link #arrayPollerThreadsPropertyName}.
+	 * 
+	 * @return The poller or <code>null</code> if the panel does not run in array mode
+	 */
+	public ArrayPoller getArrayPoller() {
+		synchronized (AntennaRootPane.class) {
+			if (arrayPoller==null) {
+				int threads=Integer.getInteger(arrayPollerThreadsPropertyName, 0);
+				if (threads<=0) {
+					return null;
+				}
+				arrayPoller = new ArrayPoller("ArrayPoller", threads, ArrayPoller.DEFAULT_DEADLINE);
+				arrayOverview = new ArrayOverviewModel();
+			}
+			return arrayPoller;
+		}
+	}
+	
+	/**
+	 * 
+	 * @return The overview of the antennas shared by all the panels 
+	 * 			or <code>null</code> if the panel does not run in array mode
+	 */
+	public ArrayOverviewModel getArrayOverview() {
+		if (getArrayPoller()==null) {
+			return null;
+		}
+		synchronized (AntennaRootPane.class) {
+			return arrayOverview;
+		}
+	}
+	
+	/**
+	 * 
+	 * @return The name of the connected antenna (for example DV01) 
+	 * 			or <code>null</code> if no antenna is connected
+	 */
+	public String getAntennaName() {
+		if (telemetryPlayer!=null) {
+			return replayedAntenna;
+		}
+		ACSComponentsManager mgr=manager;
+		return (mgr==null)?null:mgr.getAntennaName();
+	}
+	
+	/**
+	 * Return the logger of the panel.
+	 * <P>
+	 * The logger is the one of the ContainerServices or, when replaying 
+	 * the telemetry without ACS, a logger of the application.
+	 * 
+	 * @return The logger
+	 */
+	public Logger getLogger() {
+		ContainerServices cs=acsCS;
+		if (cs!=null && cs.getLogger()!=null) {
+			return cs.getLogger();
+		}
+		return ClientLogManager.getAcsLogManager().getLoggerForApplication("MountPanel", false);
+	}
 }
@@ -18,8 +18,10 @@
  */
 package alma.control.gui.antennamount;
 
-import java.util.HashMap;
-import java.util.Set;
+import java.util.Vector;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
 
 import javax.swing.ImageIcon;
 import javax.swing.JLabel;
@@ -45,12 +47,190 @@ import alma.control.gui.antennamount.utils.GUIConstants;
  * Note that this method decide if a thread is dead if it is
  * not calling the ping method for a certain amount of time,
  * a <code>threshold</code>.  
+ * <P>
+ * Each registered thread owns a {@link Heartbeat}: the registry and the heartbeats 
+ * are lock free so that <code>ping</code> never blocks the threads.
+ * A heartbeat can be pinged by more threads at the same time, like the workers
+ * of the <code>ArrayPoller</code> that poll the same component in array mode,
+ * so it is not a slot owned by one thread.
+ * <P>
+ * The fields of the heartbeats are not padded to avoid the false sharing of the
+ * cache lines: a thread pings at most a few times per second (once per cycle)
+ * so the cost of sharing a cache line is negligible compared with the
+ * memory needed to pad each field of each registered thread.
+ * <P>
+ * The {@link Heartbeat} records also the statistics of the pings and, for 
+ * the threads that report it with {@link #ping(Thread, long)}, 
+ * the histogram of the duration of their cycles (see {@link ThreadStats}).
  * 
  * @author acaproni
  *
  */
 public class HeartbeatChecker extends JLabel implements Runnable {
 	
+	/**
+	 * The upper limits (msec) of the buckets of the histogram of the
+	 * duration of the cycles.
+	 * <P>
+	 * The durations greater then the last limit are counted in one more bucket.
+	 */
+	public static final long[] HISTOGRAM_LIMITS = { 250, 500, 1000, 2000, 4000, 8000, 16000, 32000 };
+	
+	/**
+	 * The statistics of the pings of a thread
+	 * 
+	 * @author acaproni
+	 *
+	 */
+	public static class ThreadStats {
+		
+		/**
+		 * The name of the thread
+		 */
+		public final String name;
+		
+		/**
+		 * The time of the last ping
+		 */
+		public final long lastPing;
+		
+		/**
+		 * The number of pings
+		 */
+		public final long pings;
+		
+		/**
+		 * The max interval (msec) between two pings
+		 */
+		public final long maxGap;
+		
+		/**
+		 * The max duration (msec) of a cycle
+		 */
+		public final long maxCycleTime;
+		
+		/**
+		 * The number of cycles in each bucket of duration
+		 * (see {@link HeartbeatChecker#HISTOGRAM_LIMITS})
+		 */
+		public final long[] histogram;
+		
+		/**
+		 * Constructor
+		 * 
+		 * @param name The name of the thread
+		 * @param lastPing The time of the last ping
+		 * @param pings The number of pings
+		 * @param maxGap The max interval (msec) between two pings
+		 * @param maxCycleTime The max duration (msec) of a cycle
+		 * @param histogram The number of cycles in each bucket of duration
+		 */
+		public ThreadStats(String name, long lastPing, long pings, long maxGap, long maxCycleTime, long[] histogram) {
+			this.name=name;
+			this.lastPing=lastPing;
+			this.pings=pings;
+			this.maxGap=maxGap;
+			this.maxCycleTime=maxCycleTime;
+			this.histogram=histogram;
+		}
+	}
+	
+	/**
+	 * The heartbeat of a thread.
+	 * <P>
+	 * The fields can be written by more threads at the same time: 
+	 * each one is atomic and the max values are updated with a compare and set.
+	 * 
+	 * @author acaproni
+	 *
+	 */
+	private static final class Heartbeat {
+		
+		/**
+		 * The time of the last ping
+		 */
+		private final AtomicLong lastPing;
+		
+		/**
+		 * The number of pings
+		 */
+		private final AtomicLong pings = new AtomicLong(0);
+		
+		/**
+		 * The max interval (msec) between two pings
+		 */
+		private final AtomicLong maxGap = new AtomicLong(0);
+		
+		/**
+		 * The max duration (msec) of a cycle
+		 */
+		private final AtomicLong maxCycleTime = new AtomicLong(0);
+		
+		/**
+		 * The number of cycles in each bucket of duration
+		 */
+		private final AtomicLongArray histogram = new AtomicLongArray(HISTOGRAM_LIMITS.length+1);
+		
+		/**
+		 * Constructor
+		 * 
+		 * @param now The time of the registration
+		 */
+		public Heartbeat(long now) {
+			lastPing = new AtomicLong(now);
+		}
+		
+		/**
+		 * Record a ping
+		 * 
+		 * @param now The time of the ping
+		 */
+		public void ping(long now) {
+			long gap=now-lastPing.getAndSet(now);
+			updateMax(maxGap, gap);
+			pings.incrementAndGet();
+		}
+		
+		/**
+		 * Record the duration of a cycle
+		 * 
+		 * @param cycleTime The duration (msec) of the cycle
+		 */
+		public void cycle(long cycleTime) {
+			updateMax(maxCycleTime, cycleTime);
+			int bucket=0;
+			while (bucket<HISTOGRAM_LIMITS.length && cycleTime>HISTOGRAM_LIMITS[bucket]) {
+				bucket++;
+			}
+			histogram.incrementAndGet(bucket);
+		}
+		
+		/**
+		 * Set a max value if the passed value is greater
+		 * 
+		 * @param max The max value
+		 * @param value The new value
+		 */
+		private static void updateMax(AtomicLong max, long value) {
+			long current=max.get();
+			while (value>current && !max.compareAndSet(current, value)) {
+				current=max.get();
+			}
+		}
+		
+		/**
+		 * 
+		 * @return A copy of the histogram of the durations of the cycles
+		 */
+		public long[] getHistogram() {
+			long[] ret = new long[histogram.length()];
+			for (int t=0; t<ret.length; t++) {
+				ret[t]=histogram.get(t);
+			}
+			return ret;
+		}
+	}
+	
 	/**
 	 * The icon shown when everything is ok
 	 */
@@ -79,7 +259,7 @@ public class HeartbeatChecker extends JLabel implements Runnable {
 	/**
 	 * Signal the thread to terminate
 	 */
-	private boolean terminateThread=false;
+	private volatile boolean terminateThread=false;
 	
 	/**
 	 * The thread executed by this {@link Runnable}
@@ -87,10 +267,9 @@ public class HeartbeatChecker extends JLabel implements Runnable {
 	private final Thread thread;
 	
 	/**
-	 * The map to store for each thread the last time
-	 * it called ping 
+	 * The heartbeat of each registered thread
 	 */
-	private final HashMap<String, Long> threadsPingTime = new HashMap<String, Long>();
+	private final ConcurrentHashMap<String, Heartbeat> heartbeats = new ConcurrentHashMap<String, Heartbeat>();
 	
 	/**
 	 * Constructor
@@ -122,10 +301,16 @@ public class HeartbeatChecker extends JLabel implements Runnable {
 	 * @see HeartbeatChecker#watchdog()
 	 */
 	private void updateIcon(final String name) {
-		final int sz;
-		synchronized (threadsPingTime) {
-			sz=threadsPingTime.size();
+		final int sz=heartbeats.size();
+		long gap=0;
+		String slowest=null;
+		for (ThreadStats stats: getStatistics()) {
+			if (stats.maxGap>=gap) {
+				gap=stats.maxGap;
+				slowest=stats.name;
+			}
 		}
+		final String maxGapStr=(slowest==null)?"":", max gap "+gap+"ms in "+slowest;
 		SwingUtilities.invokeLater(new Runnable(){
 			public void run() {
 				if (name!=null) {
@@ -133,7 +318,7 @@ public class HeartbeatChecker extends JLabel implements Runnable {
 					setToolTipText("Thread "+name+"not responding!");
 					return;
 				}
-				setToolTipText("Ok ("+sz+" threads)");
+				setToolTipText("Ok ("+sz+" threads"+maxGapStr+")");
 				if (getIcon()==onIcon) {
 					setIcon(offIcon);	
 				} else {
@@ -144,13 +329,12 @@ public class HeartbeatChecker extends JLabel implements Runnable {
 	}
 	
 	/**
-	 * Add the thread to the list of threads to check
-	 * <P>
-	 * The thread is added with the current time.
+	 * Check the thread and return its name
 	 * 
-	 * @param t The thread to add for checking
+	 * @param t The thread
+	 * @return The name of the thread
 	 */
-	public void register(Thread t) {
+	private String getThreadName(Thread t) {
 		if (t==null) {
 			throw new IllegalArgumentException("Can't check a null thread");
 		}
@@ -158,11 +342,20 @@ public class HeartbeatChecker extends JLabel implements Runnable {
 		if (name==null || name.isEmpty()) {
 			throw new IllegalArgumentException("Invalid thread name. Please set a name to your thread");
 		}
-		synchronized (threadsPingTime) {
-			if (threadsPingTime.containsKey(name)) {
-				throw new IllegalArgumentException("Already checking "+name);
-			}
-			threadsPingTime.put(name, System.currentTimeMillis());
+		return name;
+	}
+	
+	/**
+	 * Add the thread to the list of threads to check
+	 * <P>
+	 * The thread is added with the current time.
+	 * 
+	 * @param t The thread to add for checking
+	 */
+	public void register(Thread t) {
+		String name=getThreadName(t);
+		if (heartbeats.putIfAbsent(name, new Heartbeat(System.currentTimeMillis()))!=null) {
+			throw new IllegalArgumentException("Already checking "+name);
 		}
 	}
 	
@@ -172,63 +365,92 @@ public class HeartbeatChecker extends JLabel implements Runnable {
 	 * @param t The thread to remove from checking
 	 */
 	public void unregister(Thread t) {
-		if (t==null) {
-			throw new IllegalArgumentException("Can't check a null thread");
-		}
-		String name=t.getName();
-		if (name==null || name.isEmpty()) {
-			throw new IllegalArgumentException("Invalid thread name. Please set a name to your thread");
-		}
-		synchronized (threadsPingTime) {
-			if (!threadsPingTime.containsKey(name)) {
-				throw new IllegalArgumentException(name+" is not in the map");
-			}
-			threadsPingTime.remove(name);
+		String name=getThreadName(t);
+		if (heartbeats.remove(name)==null) {
+			throw new IllegalArgumentException(name+" is not in the map");
 		}
 	}
 	
 	/**
 	 * Signal that thread t is alive
+	 * 
 	 * @param t
 	 */
 	public void ping(Thread t) {
-		if (t==null) {
-			throw new IllegalArgumentException("Can't check a null thread");
-		}
-		String name=t.getName();
-		if (name==null || name.isEmpty()) {
-			throw new IllegalArgumentException("Invalid thread name. Please set a name to your thread");
+		getHeartbeat(t).ping(System.currentTimeMillis());
+	}
+	
+	/**
+	 * Signal that thread t is alive and terminated a cycle
+	 * (for example an iteration polling a component)
+	 * 
+	 * @param t The thread
+	 * @param cycleTime The duration (msec) of the cycle
+	 */
+	public void ping(Thread t, long cycleTime) {
+		Heartbeat heartbeat=getHeartbeat(t);
+		heartbeat.ping(System.currentTimeMillis());
+		heartbeat.cycle(cycleTime);
+	}
+	
+	/**
+	 * Return the heartbeat of a registered thread
+	 * 
+	 * @param t The thread
+	 * @return The heartbeat of the thread
+	 */
+	private Heartbeat getHeartbeat(Thread t) {
+		Heartbeat heartbeat=heartbeats.get(getThreadName(t));
+		if (heartbeat==null) {
+			throw new IllegalStateException("Register thread before calling ping");
 		}
-		synchronized (threadsPingTime) {
-			if (!threadsPingTime.containsKey(name)) {
-				throw new IllegalStateException("Register thread before calling ping");
+		return heartbeat;
+	}
+	
+	/**
+	 * Return the statistics of the pings of the registered threads.
+	 * 
+	 * @return The statistics of each registered thread
+	 */
+	public Vector<ThreadStats> getStatistics() {
+		Vector<ThreadStats> ret = new Vector<ThreadStats>();
+		for (String name: heartbeats.keySet()) {
+			Heartbeat heartbeat=heartbeats.get(name);
+			if (heartbeat==null) {
+				continue;
 			}
-			threadsPingTime.put(name, System.currentTimeMillis());
+			ret.add(new ThreadStats(
+					name, 
+					heartbeat.lastPing.get(), 
+					heartbeat.pings.get(), 
+					heartbeat.maxGap.get(), 
+					heartbeat.maxCycleTime.get(), 
+					heartbeat.getHistogram()));
 		}
+		return ret;
 	}
 	
 	/**
 	 * Check if all the registered threads are alive, i.e. 
 	 * if they have called <code>ping</code> at list once.
 	 * 
-	 * @return the name of the thread that does not respond or
+	 * @return the name of the threads that do not respond or
 	 * 			<code>null</code> otherwise
 	 */
 	private String watchdog() {
 		String ret=null;
-		synchronized (threadsPingTime) {
-			Set<String> keys=threadsPingTime.keySet();
-			for (String key: keys) {
-				if (System.currentTimeMillis()>threadsPingTime.get(key)+threshold) {
-					if (ret==null) {
-						ret=key+" ";
-					} else {
-						ret=ret+key+" ";
-					}
+		long now=System.currentTimeMillis();
+		for (String key: heartbeats.keySet()) {
+			Heartbeat heartbeat=heartbeats.get(key);
+			if (heartbeat!=null && now>heartbeat.lastPing.get()+threshold) {
+				if (ret==null) {
+					ret=key+" ";
+				} else {
+					ret=ret+key+" ";
 				}
 			}
-			return null;
 		}
+		return ret;
 	}
 	
 	@Override
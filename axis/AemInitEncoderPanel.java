@@ -37,8 +37,7 @@ import alma.control.gui.antennamount.mount.Mount;
 import alma.control.gui.antennamount.mount.MountController;
 import alma.control.gui.antennamount.mount.ValueHolder;
 import alma.control.gui.antennamount.mount.aem.MountAEM;
-import alma.control.gui.antennamount.utils.bit.LongArrayBit;
-import alma.control.gui.antennamount.utils.bit.LongBit;
+import alma.control.gui.antennamount.utils.bit.IntArrayBit;
 
 /**
  * The panel with the buttons to initialize the encoders
@@ -297,17 +296,13 @@ public class AemInitEncoderPanel extends JPanel implements ActionListener, Runna
 					continue;
 				}
 				ValueHolder<int[]> azStatus=mount.getAzStatus();
-				Long longAzBits = new Long(azStatus.getValue()[4]);
-				LongBit azBits= new LongBit(longAzBits);
-				if (azBits.getBit(1)) {
+				if (IntArrayBit.getBit(azStatus.getValue(),4,1)) {
 					refreshEncState(azStatusLbl, EncoderState.NOT_INITED);
 				} else {
 					refreshEncState(azStatusLbl, EncoderState.INITED);
 				}
 				ValueHolder<int[]> elStatus=mount.getElStatus();
-				Long longElBits = new Long(elStatus.getValue()[4]);
-				LongBit elBits= new LongBit(longElBits);
-				if (elBits.getBit(1)) {
+				if (IntArrayBit.getBit(elStatus.getValue(),4,1)) {
 					refreshEncState(elStatusLbl, EncoderState.NOT_INITED);
 				} else {
 					refreshEncState(elStatusLbl, EncoderState.INITED);
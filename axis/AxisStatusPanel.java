@@ -29,7 +29,6 @@ import alma.Control.MountPackage.AxisMode;
 import alma.control.gui.antennamount.mount.AxisStatusDefinition;
 import alma.control.gui.antennamount.mount.ValueHolder;
 import alma.control.gui.antennamount.utils.ValueDisplayer;
-import alma.control.gui.antennamount.utils.ValueState;
 import alma.control.gui.antennamount.utils.ValueDisplayer.DisplayStruct;
 
 import java.awt.Dimension;
@@ -125,7 +124,7 @@ public class AxisStatusPanel extends JPanel {
 				}
 				AxisStatusDefinition statusDef = AxisStatusDefinition.fromAxisMode(axisMode.getValue()); 
 				DisplayStruct dStruct = ValueDisplayer.getString(statusDef.description,axisMode);
-				statusLabel.setText(dStruct.state.htmlHeader+dStruct.str+ValueState.htmlCloser);
+				statusLabel.setText(ValueDisplayer.render(dStruct.str,dStruct.state));
 				statusLabel.setToolTipText(statusDef.tooltip);
 				iconLbl.setIcon(statusDef.icon);
 				iconLbl.setToolTipText(statusDef.tooltip);
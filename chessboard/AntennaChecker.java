@@ -18,7 +18,12 @@
  */
 package alma.control.gui.antennamount.chessboard;
 
-import java.util.HashMap;
+import java.util.Vector;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.logging.Logger;
 
 import org.omg.CORBA.Object;
@@ -28,34 +33,109 @@ import alma.Control.AntennaHelper;
 import alma.Control.AntennaState;
 import alma.Control.AntennaStateEvent;
 import alma.Control.AntennaSubstate;
-import alma.ControlGUIErrType.wrappers.AcsJMountGUIErrorEx;
 import alma.acs.container.ContainerServices;
 import alma.acs.logging.AcsLogLevel;
+import alma.control.gui.antennamount.mount.CommandDispatcher;
 
 /**
  * The class to get the states of the antennas.
  * It connects to all the antennas and read their status.
  * 
- * The state of each Antenna is stored in a HashMap having the name of the 
+ * The state of each Antenna is stored in a ConcurrentHashMap having the name of the 
  * antenna as key.
+ * <P>
+ * The states are read by a background thread every {@link #EVENTS_TIME} msecs:
+ * the antennas are read in parallel by a bounded pool of threads 
+ * (see {@link #PARALLEL_READS}) so that the time to refresh all the antennas
+ * is not the sum of the round-trips of each antenna.
+ * <P>
+ * If the checker is built with a {@link AntennaStateEventSource}, the states 
+ * are updated as soon as the {@link AntennaStateEvent}s are received and 
+ * the polling is only a fallback: the thread runs every {@link #FALLBACK_TIME} msecs
+ * and reads only the antennas that did not publish any event in that time
+ * (and the antennas never read before, because the events are published 
+ * only when the state changes).
  * When the user ask for the state of the antenna the object 
- * return the state if it is in the HashMap (and not too old),
- * otherwise the remote object is queried.
+ * returns the last state read from the antenna without calling the remote object.
+ * An antenna is read for the first time as soon as its state is requested:
+ * until then its state is {@link #STATE_SHUTDOWN}.
+ * <P>
+ * The {@link AntennaStateListener}s are notified when the calculated state of 
+ * an antenna changes.
  * 
  * @author acaproni
  *
  */
-public class AntennaChecker {
+public class AntennaChecker implements AntennaStateEventListener {
 	// The situation of an antenna
 	public class AntennaSituation {
+		// The name of the antenna (for example DV01)
+		public final String antennaName;
 		// The name of the ACS Antenna component
-		public String componentName; 
+		public volatile String componentName; 
 		// A reference to ACS component
-		public Antenna antenna;
+		public volatile Antenna antenna;
 		// The state of the antenna
-		public AntennaStateEvent state;
+		public volatile AntennaStateEvent state;
 		// When the state has been updated
-		public long timestamp;
+		public volatile long timestamp;
+		// The state calculated from state (one of the STATE_ constants)
+		public volatile int calculatedState=STATE_SHUTDOWN;
+		// When the last event has been received (0 if never received)
+		public volatile long lastEventTime=0;
+		// true while the antenna is being read by a thread of the pool
+		private final AtomicBoolean pending = new AtomicBoolean(false);
+		
+		/**
+		 * Constructor
+		 * 
+		 * @param antennaName The name of the antenna (for example DV01)
+		 */
+		public AntennaSituation(String antennaName) {
+			this.antennaName=antennaName;
+		}
+	}
+	
+	/**
+	 * The reader of the state of one antenna executed by the pool
+	 * 
+	 * @author acaproni
+	 *
+	 */
+	private class StateReader implements Runnable {
+		
+		/**
+		 * The antenna to read
+		 */
+		private final AntennaSituation situation;
+		
+		/**
+		 * The latch counted down when the reader terminates
+		 */
+		private final CountDownLatch latch;
+		
+		/**
+		 * Constructor
+		 * 
+		 * @param situation The antenna to read
+		 * @param latch The latch counted down when the reader terminates
+		 */
+		public StateReader(AntennaSituation situation, CountDownLatch latch) {
+			this.situation=situation;
+			this.latch=latch;
+		}
+		
+		/**
+		 * @see Runnable
+		 */
+		public void run() {
+			try {
+				readAntennaState(situation, System.currentTimeMillis());
+			} finally {
+				situation.pending.set(false);
+				latch.countDown();
+			}
+		}
 	}
 	
 	// The error state calculated by reading the state and substate reuned by
@@ -97,29 +177,103 @@ public class AntennaChecker {
 	 */
 	public static final int STATE_ERROR=3;
 	
+	/**
+	 * The max number of antennas read in parallel
+	 */
+	public static final int PARALLEL_READS=8;
+	
+	/**
+	 * The max number of antennas waiting to be read
+	 */
+	private static final int MAX_PENDING_READS=256;
+	
 	// ContainerServices
 	private ContainerServices contSvc;
 	
 	// The states of the antenna read from the Master
 	//
-	// It is refreshed only it is too old
-	private HashMap<String, AntennaSituation> antennasStates=new HashMap<String, AntennaSituation>();
-	private final int EVENTS_TIME=5000; // msec time to refresh
+	// It is refreshed by the thread every EVENTS_TIME msecs
+	private final ConcurrentHashMap<String, AntennaSituation> antennasStates=new ConcurrentHashMap<String, AntennaSituation>();
+	private static final int EVENTS_TIME=5000; // msec time to refresh
+	private static final int FALLBACK_TIME=30000; // msec time to refresh when receiving events
 	
 	// The logger
 	private Logger logger;
 	
 	/**
-	 * Constructor 
+	 * The threads reading the states of the antennas
+	 */
+	private final CommandDispatcher readers = new CommandDispatcher("AntennaChecker", PARALLEL_READS, MAX_PENDING_READS);
+	
+	/**
+	 * The listeners of the changes of the states
+	 */
+	private final Vector<AntennaStateListener> listeners = new Vector<AntennaStateListener>();
+	
+	/**
+	 * The thread refreshing the states of the antennas
+	 */
+	private final Thread refresher;
+	
+	/**
+	 * Signal the thread to terminate
+	 */
+	private volatile boolean terminateThread=false;
+	
+	/**
+	 * The source of the events with the states of the antennas
+	 * (<code>null</code> if the states are only polled)
+	 */
+	private final AntennaStateEventSource eventSource;
+	
+	/**
+	 * The period (msec) of the thread polling the states:
+	 * {@link #EVENTS_TIME} or {@link #FALLBACK_TIME} if the states 
+	 * are received by events
+	 */
+	private final int refreshTime;
+	
+	/**
+	 * <code>true</code> if antennas have been added since the thread 
+	 * started the last refresh (guarded by {@link #refresher})
+	 */
+	private boolean antennasAdded=false;
+	
+	/**
+	 * Constructor of a checker that polls the states of the antennas
 	 * 
 	 * @param services ContainerServices
 	 */
 	public AntennaChecker(ContainerServices services) {
+		this(services,null);
+	}
+	
+	/**
+	 * Constructor 
+	 * 
+	 * @param services ContainerServices
+	 * @param source The source of the events with the states of the antennas;
+	 * 				if <code>null</code> the states are only polled
+	 */
+	public AntennaChecker(ContainerServices services, AntennaStateEventSource source) {
 		if (services==null) {
 			throw new IllegalArgumentException("Invalid null ContainerServices");
 		}
 		contSvc=services;
 		logger=contSvc.getLogger();
+		eventSource=source;
+		refreshTime=(source==null)?EVENTS_TIME:FALLBACK_TIME;
+		if (source!=null) {
+			source.addAntennaStateEventListener(this);
+		}
+		refresher = new Thread(new Runnable() {
+			public void run() {
+				refreshStates();
+			}
+		});
+		refresher.setName("AntennaChecker");
+		refresher.setDaemon(true);
+		refresher.start();
 	}
 	
 	/**
@@ -145,13 +299,10 @@ public class AntennaChecker {
 	 * to null;
 	 * 
 	 * @param situation The Hashmap entry for the antenna
-	 * @param name The name of the antenna
 	 */
-	private void getAntenna(AntennaSituation situation, String name) {
-		String antennaName=getAntennaName(name);
-		
+	private void getAntenna(AntennaSituation situation) {
 		// Get the component
-		String antennaComponentName="CONTROL/"+antennaName;
+		String antennaComponentName="CONTROL/"+situation.antennaName;
 		Object obj;
 		logger.log(AcsLogLevel.DEBUG,"Getting "+antennaComponentName);
 		try {
@@ -161,9 +312,9 @@ public class AntennaChecker {
 			logger.log(AcsLogLevel.ERROR,"Error getting "+antennaComponentName+": "+t.getMessage());
 			return;
 		}
+		situation.componentName=antennaComponentName;
 		try {
 			situation.antenna=AntennaHelper.narrow(obj);
-			situation.componentName=antennaComponentName;
 		} catch (Throwable t) {
 			situation.antenna=null;
 			logger.log(AcsLogLevel.ERROR,"Error narrowing "+antennaComponentName+": "+t.getMessage());
@@ -172,70 +323,173 @@ public class AntennaChecker {
 	}
 	
 	/**
-	 * Read the state of the antenna from the component if the local copy
-	 * is missing or too old
+	 * Read the state of the antenna from the component.
+	 * <P>
+	 * The component is connected if it was not yet connected.
+	 * It is executed by the threads of the pool.
 	 * 
-	 * @param name The name of the antenna
-	 * @return The state of the antenna
-	 *         null if it is not possible to get the state of the antenna 
+	 * @param situation The antenna to read
+	 * @param readTime The time when the reading started
 	 */
-	private AntennaStateEvent getAntennaState(String name) {
-		String antennaName= getAntennaName(name);
-		AntennaSituation situation = get(name);
-		if (situation==null) {
-			// The antenna does not exist in the HashMap: create a new entry
-			situation=new AntennaSituation();
-			situation.componentName=null;
-			situation.state=null;
-			situation.timestamp=0;
-			situation.antenna=null;
-		}
+	private void readAntennaState(AntennaSituation situation, long readTime) {
 		if (situation.antenna==null) {
-			getAntenna(situation,name);
+			getAntenna(situation);
 			if (situation.antenna==null) {
 				// It can happen only if there was an error getting the component
-				logger.log(AcsLogLevel.WARNING,"State info for "+name+" not found");
-				put(antennaName,situation);
-				return null;
+				logger.log(AcsLogLevel.WARNING,"State info for "+situation.antennaName+" not found");
+				updateReadState(situation,null,readTime);
+				return;
 			}
 		}
-		if (situation.state==null || situation.timestamp+EVENTS_TIME<System.currentTimeMillis()) {
-			// Need to read the value from the component
-			try {
-				situation.state=situation.antenna.getAntennaState();
-			} catch (Throwable t) {
-				situation.state=null;
-				situation.timestamp=0;
-				put(antennaName,situation);
-				logger.log(AcsLogLevel.ERROR,"Error getting the state of "+situation.componentName);
-				return null;
+		AntennaStateEvent evt;
+		try {
+			evt=situation.antenna.getAntennaState();
+		} catch (Throwable t) {
+			logger.log(AcsLogLevel.ERROR,"Error getting the state of "+situation.componentName);
+			updateReadState(situation,null,readTime);
+			return;
+		}
+		updateReadState(situation,evt,readTime);
+	}
+	
+	/**
+	 * Update the state of an antenna with the state read from the component.
+	 * <P>
+	 * The state is discarded if an event has been received while reading
+	 * because the event is more recent.
+	 * 
+	 * @param situation The antenna
+	 * @param evt The state of the antenna (<code>null</code> if it was not possible to get the state)
+	 * @param readTime The time when the reading started
+	 */
+	private void updateReadState(AntennaSituation situation, AntennaStateEvent evt, long readTime) {
+		synchronized (situation) {
+			if (situation.lastEventTime>=readTime) {
+				return;
 			}
-			situation.timestamp=System.currentTimeMillis();
+			updateState(situation,evt);
 		}
-		put(antennaName,situation);
-		return situation.state;
 	}
 	
+	/**
+	 * Update the state of an antenna and notify the listeners
+	 * if the calculated state changed
+	 * 
+	 * @param situation The antenna
+	 * @param evt The state of the antenna (<code>null</code> if it was not possible to get the state)
+	 */
+	private void updateState(AntennaSituation situation, AntennaStateEvent evt) {
+		int newState;
+		synchronized (situation) {
+			situation.state=evt;
+			situation.timestamp=(evt==null)?0:System.currentTimeMillis();
+			newState=calculateState(evt);
+			if (newState==situation.calculatedState) {
+				return;
+			}
+			int oldState=situation.calculatedState;
+			situation.calculatedState=newState;
+			notifyListeners(situation.antennaName,oldState,newState);
+		}
+	}
 	
 	/**
-	 * Return the state of the antenna calculated by its state and substate read 
-	 * from the master.
+	 * The state of an antenna has been published.
+	 * <P>
+	 * The antenna is added to the checked antennas if it was not already there.
 	 * 
-	 * Note that this state is not the state returned by the MASTER by 
-	 * the calculated state represented by one of the STATE constants
+	 * @see AntennaStateEventListener
+	 */
+	public void antennaStateEventReceived(AntennaStateEvent evt) {
+		if (evt==null || evt.antennaName==null || evt.antennaName.length()==0 || terminateThread) {
+			return;
+		}
+		String antennaName=getAntennaName(evt.antennaName);
+		AntennaSituation situation = antennasStates.get(antennaName);
+		if (situation==null) {
+			AntennaSituation newSituation = new AntennaSituation(antennaName);
+			situation=antennasStates.putIfAbsent(antennaName, newSituation);
+			if (situation==null) {
+				situation=newSituation;
+			}
+		}
+		synchronized (situation) {
+			situation.lastEventTime=System.currentTimeMillis();
+			updateState(situation,evt);
+		}
+	}
+	
+	/**
+	 * Read the states of all the antennas every {@link #refreshTime} msecs
+	 * until the checker is closed.
+	 * <P>
+	 * A new antenna wakes up the thread to read its state immediately.
+	 */
+	private void refreshStates() {
+		while (!terminateThread) {
+			long startTime=System.currentTimeMillis();
+			refreshAll();
+			long sleepTime=startTime+refreshTime-System.currentTimeMillis();
+			synchronized (refresher) {
+				if (sleepTime>0 && !antennasAdded && !terminateThread) {
+					try {
+						refresher.wait(sleepTime);
+					} catch (InterruptedException ie) {
+						continue;
+					}
+				}
+				antennasAdded=false;
+			}
+		}
+	}
+	
+	/**
+	 * Read the states of all the antennas in parallel and wait at most
+	 * {@link #EVENTS_TIME} msecs for the readers to terminate.
+	 * <P>
+	 * An antenna still being read from the previous refresh is not read again.
+	 * The antennas that published their state in the last {@link #refreshTime} msecs
+	 * are not read.
+	 */
+	private void refreshAll() {
+		Vector<AntennaSituation> toRead = new Vector<AntennaSituation>();
+		long now=System.currentTimeMillis();
+		for (AntennaSituation situation: antennasStates.values()) {
+			if (situation.lastEventTime+refreshTime>now) {
+				// Up to date
+				continue;
+			}
+			if (situation.pending.compareAndSet(false, true)) {
+				toRead.add(situation);
+			}
+		}
+		CountDownLatch latch = new CountDownLatch(toRead.size());
+		for (AntennaSituation situation: toRead) {
+			try {
+				readers.dispatch(situation.antennaName, new StateReader(situation,latch));
+			} catch (RejectedExecutionException ree) {
+				// Too many antennas: read it in the next refresh
+				situation.pending.set(false);
+				latch.countDown();
+			}
+		}
+		try {
+			latch.await(EVENTS_TIME, TimeUnit.MILLISECONDS);
+		} catch (InterruptedException ie) {
+			// The checker is closing
+		}
+	}
+	
+	/**
+	 * Calculate the state of the antenna from its state and substate
 	 * 
-	 * @param name The name of the antenna
+	 * @param evt The state of the antenna (can be <code>null</code>)
 	 * @return The calculated state of the antenna
 	 */
-	public int getState(String name) {
-		if (name==null || name.length()==0) {
-			throw new IllegalArgumentException("Invalid antenna name");
-		}
-		AntennaStateEvent evt = getAntennaState(name);
+	private static int calculateState(AntennaStateEvent evt) {
 		if (evt==null) {
 			return STATE_SHUTDOWN;
 		}
-		
 		AntennaState state = evt.newState;
 		AntennaSubstate subState=evt.newSubstate;
 		if (state==null || state==AntennaState.AntennaInaccessable || state==AntennaState.AntennaShutdown) {
@@ -252,59 +506,133 @@ public class AntennaChecker {
 	}
 	
 	/**
-	 * Release the master and all the resources
+	 * Return the state of the antenna calculated by its state and substate read 
+	 * from the master.
+	 * <P>
+	 * Note that this state is not the state returned by the MASTER by 
+	 * the calculated state represented by one of the STATE constants
+	 * <P>
+	 * The method does not block: it returns the state read by the last refresh.
+	 * If the antenna has never been requested before, it is added to the antennas
+	 * to refresh and the method returns {@link #STATE_SHUTDOWN}.
 	 * 
-	 * TODO There is a possible race here if the component is released
-	 *      when the thread is reading values from it
+	 * @param name The name of the antenna
+	 * @return The calculated state of the antenna
 	 */
-	public void close() {
-		for (String key: antennasStates.keySet()) {
-			AntennaSituation sit=get(key);
-			if (sit!=null && sit.antenna!=null && sit.componentName!=null) {
-				try {
-					contSvc.releaseComponent(sit.componentName);
-				} catch (Throwable t) {
-					logger.log(AcsLogLevel.ERROR,"Error releasing "+sit.componentName+": "+t.getMessage());
+	public int getState(String name) {
+		if (name==null || name.length()==0) {
+			throw new IllegalArgumentException("Invalid antenna name");
+		}
+		String antennaName=getAntennaName(name);
+		AntennaSituation situation = antennasStates.get(antennaName);
+		if (situation==null) {
+			if (terminateThread) {
+				return STATE_SHUTDOWN;
+			}
+			situation = new AntennaSituation(antennaName);
+			if (antennasStates.putIfAbsent(antennaName, situation)==null) {
+				// Wake up the thread to read the new antenna
+				synchronized (refresher) {
+					antennasAdded=true;
+					refresher.notifyAll();
 				}
 			}
+			return STATE_SHUTDOWN;
 		}
-		antennasStates.clear();
+		return situation.calculatedState;
 	}
 	
 	/**
-	 * Put the description of the antenna state into the HashMap.
-	 * It is here to avoid synchronizing in any place 
+	 * Add a listener of the changes of the states
 	 * 
-	 * @param antennaName The name of the antenna
-	 * @param situation The state of the antenna
+	 * @param l The listener to add
 	 */
-	private void put(String antennaName, AntennaSituation situation) {
-		if (antennaName==null || antennaName.length()==0) {
-			throw new IllegalArgumentException("Invalid antenna name");
+	public void addAntennaStateListener(AntennaStateListener l) {
+		if (l==null) {
+			throw new IllegalArgumentException("Invalid null listener");
 		}
-		if (situation==null) {
-			throw new IllegalArgumentException("Invalid null AntennaSituation");
+		synchronized (listeners) {
+			listeners.add(l);
 		}
-		String name=getAntennaName(antennaName);
-		synchronized(antennasStates) {
-			antennasStates.put(name,situation);
+	}
+	
+	/**
+	 * Remove a listener of the changes of the states
+	 * 
+	 * @param l The listener to remove
+	 * @return true if the listener has been removed
+	 */
+	public boolean removeAntennaStateListener(AntennaStateListener l) {
+		if (l==null) {
+			throw new IllegalArgumentException("Invalid null listener");
+		}
+		synchronized (listeners) {
+			return listeners.remove(l);
 		}
 	}
 	
 	/**
-	 * Get the description of the state of the given antenna
+	 * Notify the listeners about the change of the state of an antenna
 	 * 
 	 * @param antennaName The name of the antenna
-	 * @return The state of the antenna
-	 *         Can be null
+	 * @param oldState The previous state
+	 * @param newState The new state
 	 */
-	private AntennaSituation get(String antennaName) {
-		if (antennaName==null || antennaName.length()==0) {
-			throw new IllegalArgumentException("Invalid antenna name");
+	private void notifyListeners(String antennaName, int oldState, int newState) {
+		synchronized (listeners) {
+			for (AntennaStateListener l: listeners) {
+				try {
+					l.antennaStateChanged(antennaName, oldState, newState);
+				} catch (Throwable t) {
+					logger.log(AcsLogLevel.ERROR,"Error notifying the state of "+antennaName,t);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Release the master and all the resources
+	 * <P>
+	 * The components are released after the threads reading the 
+	 * states terminated.
+	 * The source of the events is not closed.
+	 */
+	public void close() {
+		if (eventSource!=null) {
+			eventSource.removeAntennaStateEventListener(this);
+		}
+		terminateThread=true;
+		refresher.interrupt();
+		// Wait for the refresher even if interrupted: the interrupt is restored
+		// at the end so that the components are released in any case
+		boolean interrupted=false;
+		boolean terminated=false;
+		while (!terminated) {
+			try {
+				refresher.join();
+				terminated=true;
+			} catch (InterruptedException ie) {
+				interrupted=true;
+			}
 		}
-		String name=getAntennaName(antennaName);
-		synchronized(antennasStates) {
-			return antennasStates.get(name);
+		if (!readers.close(EVENTS_TIME)) {
+			logger.log(AcsLogLevel.WARNING,"Some antenna is still being read while releasing the components");
+		}
+		synchronized (listeners) {
+			listeners.clear();
+		}
+		for (AntennaSituation sit: antennasStates.values()) {
+			if (sit.antenna!=null && sit.componentName!=null) {
+				try {
+					contSvc.releaseComponent(sit.componentName);
+				} catch (Throwable t) {
+					logger.log(AcsLogLevel.ERROR,"Error releasing "+sit.componentName+": "+t.getMessage());
+				}
+			}
+		}
+		antennasStates.clear();
+		if (interrupted) {
+			Thread.currentThread().interrupt();
 		}
 	}
 }
@@ -1,20 +1,46 @@
 package alma.control.gui.antennamount.chessboard;
 
+import java.util.Vector;
+import java.util.logging.Logger;
+
+import javax.swing.SwingUtilities;
+
 import alma.Control.gui.hardwaredevice.common.ControlChessboardPresentationModel;
 import alma.ControlGUIErrType.wrappers.AcsJMountGUIErrorEx;
 import alma.acs.logging.AcsLogLevel;
+import alma.common.gui.chessboard.ChessboardStatusEvent;
+import alma.common.gui.chessboard.ChessboardStatusListener;
 import alma.common.gui.chessboard.DefaultChessboardStatus;
 import alma.exec.extension.subsystemplugin.PluginContainerServices;
 
 public class AntennaPresentationModel extends
-		ControlChessboardPresentationModel {
+		ControlChessboardPresentationModel implements AntennaStateListener {
 	
 	// The objects that get antenna states from the master
-	private AntennaChecker checker;
+	private volatile AntennaChecker checker;
+	
+	// The source of the events with the states of the antennas
+	// (null if it was not possible to subscribe: the states are polled)
+	private volatile AntennaStateEventSource eventSource;
+	
+	// The logger
+	private final Logger logger;
+	
+	// The listeners of the chessboard notified as soon as the state 
+	// of an antenna changes
+	private final Vector<ChessboardStatusListener> statusListeners = new Vector<ChessboardStatusListener>();
 	
 	public AntennaPresentationModel(PluginContainerServices svc) {
 		super(svc);
-		checker = new AntennaChecker(svc);
+		logger=svc.getLogger();
+		try {
+			eventSource = new NCAntennaStateEventSource(svc);
+		} catch (Throwable t) {
+			logger.log(AcsLogLevel.WARNING,"Error subscribing to the antenna state events: polling the states",t);
+			eventSource=null;
+		}
+		checker = new AntennaChecker(svc,eventSource);
+		checker.addAntennaStateListener(this);
 	}
 	
 	/**
@@ -23,16 +49,27 @@ public class AntennaPresentationModel extends
 	 * This is the last method called
 	 */
 	public void close() {
-		checker.close();
+		AntennaChecker chk=checker;
+		if (chk==null) {
+			return;
+		}
 		checker=null;
-	}
-
-	@Override
-	protected DefaultChessboardStatus getStatusForCell(String antenna) {
-		if (checker==null) {
-			return DefaultChessboardStatus.ANTENNA_NOT_INSTALLED;
+		chk.removeAntennaStateListener(this);
+		chk.close();
+		AntennaStateEventSource source=eventSource;
+		eventSource=null;
+		if (source!=null) {
+			source.close();
 		}
-		int state = checker.getState(antenna);
+	}
+	
+	/**
+	 * Convert a state of the {@link AntennaChecker} in the status of a cell
+	 * 
+	 * @param state The state calculated by the {@link AntennaChecker}
+	 * @return The status of the cell
+	 */
+	private static DefaultChessboardStatus toCellStatus(int state) {
 		switch (state) {
 		case AntennaChecker.STATE_NORMAL: return DefaultChessboardStatus.NORMAL;
 		case AntennaChecker.STATE_SHUTDOWN: return DefaultChessboardStatus.ANTENNA_OFFLINE;
@@ -41,5 +78,83 @@ public class AntennaPresentationModel extends
 		default: return DefaultChessboardStatus.ANTENNA_OFFLINE; // Not possible 
 		}
 	}
+	
+	/**
+	 * Add a listener of the status of the cells.
+	 * <P>
+	 * The listener is also notified by {@link #antennaStateChanged(String, int, int)}
+	 * 
+	 * @see alma.common.gui.chessboard.ChessboardStatusProvider
+	 */
+	@Override
+	public void addChessboardStatusListener(ChessboardStatusListener listener) {
+		if (listener==null) {
+			throw new IllegalArgumentException("Invalid null listener");
+		}
+		super.addChessboardStatusListener(listener);
+		statusListeners.add(listener);
+	}
+	
+	/**
+	 * Remove a listener of the status of the cells
+	 * 
+	 * @see alma.common.gui.chessboard.ChessboardStatusProvider
+	 */
+	@Override
+	public void removeChessboardStatusListener(ChessboardStatusListener listener) {
+		if (listener==null) {
+			throw new IllegalArgumentException("Invalid null listener");
+		}
+		super.removeChessboardStatusListener(listener);
+		statusListeners.remove(listener);
+	}
+	
+	/**
+	 * The state of an antenna changed.
+	 * <P>
+	 * The new status is pushed to the listeners of the chessboard
+	 * so that the cell is repainted at once instead of waiting 
+	 * for the next refresh.
+	 * 
+	 * @see AntennaStateListener
+	 */
+	public void antennaStateChanged(final String antennaName, int oldState, int newState) {
+		DefaultChessboardStatus status = toCellStatus(newState);
+		logger.log(AcsLogLevel.DEBUG,"State of "+antennaName+" changed from "+toCellStatus(oldState)+" to "+status);
+		final ChessboardStatusEvent event = new ChessboardStatusEvent(this,antennaName,status,status.getDescription());
+		final ChessboardStatusListener[] listeners;
+		synchronized (statusListeners) {
+			listeners = statusListeners.toArray(new ChessboardStatusListener[statusListeners.size()]);
+		}
+		if (listeners.length==0) {
+			return;
+		}
+		SwingUtilities.invokeLater(new Runnable() {
+			public void run() {
+				for (ChessboardStatusListener l: listeners) {
+					try {
+						l.processStatusChange(event);
+					} catch (Throwable t) {
+						logger.log(AcsLogLevel.ERROR,"Error notifying the status of "+antennaName,t);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Return the status of a cell.
+	 * <P>
+	 * The state is read from the cache of the {@link AntennaChecker}
+	 * so the method never blocks on the remote components.
+	 */
+	@Override
+	protected DefaultChessboardStatus getStatusForCell(String antenna) {
+		AntennaChecker chk=checker;
+		if (chk==null) {
+			return DefaultChessboardStatus.ANTENNA_NOT_INSTALLED;
+		}
+		return toCellStatus(chk.getState(antenna));
+	}
 
 }
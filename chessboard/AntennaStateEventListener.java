@@ -0,0 +1,42 @@
+/*
+ * ALMA - Atacama Large Millimiter Array (c) European Southern Observatory, 2007
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ */
+package alma.control.gui.antennamount.chessboard;
+
+import alma.Control.AntennaStateEvent;
+
+/**
+ * The listener of the {@link AntennaStateEvent}s published when
+ * the state of an antenna changes.
+ * 
+ * @author acaproni
+ *
+ * @see AntennaStateEventSource
+ */
+public interface AntennaStateEventListener {
+	
+	/**
+	 * The state of an antenna changed
+	 * <P>
+	 * The method is executed by the thread delivering the events: 
+	 * it must return quickly.
+	 * 
+	 * @param evt The new state of the antenna
+	 */
+	public void antennaStateEventReceived(AntennaStateEvent evt);
+}
@@ -0,0 +1,54 @@
+/*
+ * ALMA - Atacama Large Millimiter Array (c) European Southern Observatory, 2007
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ */
+package alma.control.gui.antennamount.chessboard;
+
+import alma.Control.AntennaStateEvent;
+
+/**
+ * The source of the {@link AntennaStateEvent}s published when
+ * the state of an antenna changes.
+ * <P>
+ * The events are delivered to the listeners as soon as they are received
+ * so that the {@link AntennaChecker} does not need to poll the antennas.
+ * 
+ * @author acaproni
+ *
+ */
+public interface AntennaStateEventSource {
+	
+	/**
+	 * Add a listener of the events
+	 * 
+	 * @param l The listener to add
+	 */
+	public void addAntennaStateEventListener(AntennaStateEventListener l);
+	
+	/**
+	 * Remove a listener of the events
+	 * 
+	 * @param l The listener to remove
+	 * @return true if the listener has been removed
+	 */
+	public boolean removeAntennaStateEventListener(AntennaStateEventListener l);
+	
+	/**
+	 * Stop receiving events and release the resources
+	 */
+	public void close();
+}
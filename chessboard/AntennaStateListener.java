@@ -0,0 +1,41 @@
+/*
+ * ALMA - Atacama Large Millimiter Array (c) European Southern Observatory, 2007
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ */
+package alma.control.gui.antennamount.chessboard;
+
+/**
+ * The listener of the changes of the states of the antennas
+ * calculated by the {@link AntennaChecker}.
+ * <P>
+ * The listener is notified by the threads of the {@link AntennaChecker}:
+ * it must return quickly and not call the remote components.
+ * 
+ * @author acaproni
+ *
+ */
+public interface AntennaStateListener {
+	
+	/**
+	 * The calculated state of an antenna changed
+	 * 
+	 * @param antennaName The name of the antenna (for example DV01)
+	 * @param oldState The previous state (one of the <code>STATE_</code> constants of {@link AntennaChecker})
+	 * @param newState The new state (one of the <code>STATE_</code> constants of {@link AntennaChecker})
+	 */
+	public void antennaStateChanged(String antennaName, int oldState, int newState);
+}
@@ -0,0 +1,101 @@
+/*
+ * ALMA - Atacama Large Millimiter Array (c) European Southern Observatory, 2007
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ */
+package alma.control.gui.antennamount.chessboard;
+
+import java.util.Vector;
+
+import alma.Control.AntennaStateEvent;
+
+/**
+ * A source of {@link AntennaStateEvent}s that delivers the events 
+ * published in the same JVM.
+ * <P>
+ * It stands in for the notification channel when the events must be 
+ * produced locally, for example to test the chessboard without the CONTROL system.
+ * The events are delivered to the listeners by the thread that publishes them.
+ * 
+ * @author acaproni
+ *
+ * @see NCAntennaStateEventSource
+ */
+public class LocalAntennaStateEventSource implements AntennaStateEventSource {
+	
+	/**
+	 * The listeners of the events
+	 */
+	private final Vector<AntennaStateEventListener> listeners = new Vector<AntennaStateEventListener>();
+	
+	/**
+	 * <code>true</code> if the source has been closed
+	 */
+	private volatile boolean closed=false;
+	
+	/**
+	 * @see AntennaStateEventSource
+	 */
+	public void addAntennaStateEventListener(AntennaStateEventListener l) {
+		if (l==null) {
+			throw new IllegalArgumentException("Invalid null listener");
+		}
+		synchronized (listeners) {
+			listeners.add(l);
+		}
+	}
+	
+	/**
+	 * @see AntennaStateEventSource
+	 */
+	public boolean removeAntennaStateEventListener(AntennaStateEventListener l) {
+		if (l==null) {
+			throw new IllegalArgumentException("Invalid null listener");
+		}
+		synchronized (listeners) {
+			return listeners.remove(l);
+		}
+	}
+	
+	/**
+	 * Publish an event to the listeners
+	 * 
+	 * @param evt The event to publish
+	 */
+	public void publish(AntennaStateEvent evt) {
+		if (evt==null) {
+			throw new IllegalArgumentException("Invalid null event");
+		}
+		if (closed) {
+			throw new IllegalStateException("The source is closed");
+		}
+		synchronized (listeners) {
+			for (AntennaStateEventListener l: listeners) {
+				l.antennaStateEventReceived(evt);
+			}
+		}
+	}
+	
+	/**
+	 * @see AntennaStateEventSource
+	 */
+	public void close() {
+		closed=true;
+		synchronized (listeners) {
+			listeners.clear();
+		}
+	}
+}
@@ -0,0 +1,158 @@
+/*
+ * ALMA - Atacama Large Millimiter Array (c) European Southern Observatory, 2007
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ */
+package alma.control.gui.antennamount.chessboard;
+
+import java.util.Vector;
+import java.util.logging.Logger;
+
+import org.omg.CORBA.portable.IDLEntity;
+
+import alma.Control.AntennaStateEvent;
+import alma.acs.container.ContainerServices;
+import alma.acs.logging.AcsLogLevel;
+import alma.acs.nc.AcsEventSubscriber;
+import alma.acsnc.EventDescription;
+
+/**
+ * The source of the {@link AntennaStateEvent}s published by the CONTROL system
+ * in the notification channel.
+ * <P>
+ * The events are delivered to the listeners by the thread of the subscriber.
+ * 
+ * @author acaproni
+ *
+ * @see LocalAntennaStateEventSource
+ */
+public class NCAntennaStateEventSource implements AntennaStateEventSource, AcsEventSubscriber.Callback<AntennaStateEvent> {
+	
+	/**
+	 * The name of the channel where the CONTROL system publishes 
+	 * the states of the antennas
+	 */
+	public static final String CHANNEL_NAME="CONTROL_SYSTEM";
+	
+	/**
+	 * The listeners of the events
+	 */
+	private final Vector<AntennaStateEventListener> listeners = new Vector<AntennaStateEventListener>();
+	
+	/**
+	 * The subscriber to the channel
+	 */
+	private AcsEventSubscriber<IDLEntity> subscriber;
+	
+	/**
+	 * The logger
+	 */
+	private final Logger logger;
+	
+	/**
+	 * Constructor: subscribe to the channel and start receiving events
+	 * 
+	 * @param contSvc The ContainerServices
+	 * @throws Exception In case of error subscribing to the channel
+	 */
+	public NCAntennaStateEventSource(ContainerServices contSvc) throws Exception {
+		if (contSvc==null) {
+			throw new IllegalArgumentException("Invalid null ContainerServices");
+		}
+		logger=contSvc.getLogger();
+		subscriber=contSvc.createNotificationChannelSubscriber(CHANNEL_NAME, IDLEntity.class);
+		try {
+			subscriber.addSubscription(this);
+			subscriber.startReceivingEvents();
+		} catch (Exception e) {
+			subscriber.disconnect();
+			subscriber=null;
+			throw e;
+		}
+		logger.log(AcsLogLevel.DEBUG,"Receiving antenna states from "+CHANNEL_NAME);
+	}
+	
+	/**
+	 * An event has been received from the channel
+	 * 
+	 * @see AcsEventSubscriber.Callback
+	 */
+	public void receive(AntennaStateEvent evt, EventDescription eventDescrip) {
+		if (evt==null) {
+			return;
+		}
+		synchronized (listeners) {
+			for (AntennaStateEventListener l: listeners) {
+				try {
+					l.antennaStateEventReceived(evt);
+				} catch (Throwable t) {
+					logger.log(AcsLogLevel.ERROR,"Error delivering the state of "+evt.antennaName,t);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * @see AcsEventSubscriber.Callback
+	 */
+	public Class<AntennaStateEvent> getEventType() {
+		return AntennaStateEvent.class;
+	}
+	
+	/**
+	 * @see AntennaStateEventSource
+	 */
+	public void addAntennaStateEventListener(AntennaStateEventListener l) {
+		if (l==null) {
+			throw new IllegalArgumentException("Invalid null listener");
+		}
+		synchronized (listeners) {
+			listeners.add(l);
+		}
+	}
+	
+	/**
+	 * @see AntennaStateEventSource
+	 */
+	public boolean removeAntennaStateEventListener(AntennaStateEventListener l) {
+		if (l==null) {
+			throw new IllegalArgumentException("Invalid null listener");
+		}
+		synchronized (listeners) {
+			return listeners.remove(l);
+		}
+	}
+	
+	/**
+	 * Disconnect from the channel
+	 * 
+	 * @see AntennaStateEventSource
+	 */
+	public synchronized void close() {
+		synchronized (listeners) {
+			listeners.clear();
+		}
+		if (subscriber==null) {
+			return;
+		}
+		try {
+			subscriber.disconnect();
+		} catch (Throwable t) {
+			logger.log(AcsLogLevel.ERROR,"Error disconnecting from "+CHANNEL_NAME,t);
+		}
+		subscriber=null;
+	}
+}
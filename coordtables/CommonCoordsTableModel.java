@@ -30,10 +30,12 @@ import alma.control.gui.antennamount.AntennaRootPane;
 import alma.control.gui.antennamount.errortab.ErrorInfo;
 import alma.control.gui.antennamount.mount.Mount;
 import alma.control.gui.antennamount.mount.MountController;
-import alma.control.gui.antennamount.mount.ValueHolder;
+import alma.control.gui.antennamount.mount.PointingSnapshot;
+import alma.control.gui.antennamount.mount.PointingSnapshot.Coordinate;
 import alma.control.gui.antennamount.utils.AngleConverter;
 import alma.control.gui.antennamount.utils.DMSAngleConverter;
 import alma.control.gui.antennamount.utils.HMSAngleConverter;
+import alma.control.gui.antennamount.utils.RowChangeTracker;
 import alma.control.gui.antennamount.utils.ValueDisplayer;
 
 import javax.swing.table.DefaultTableModel;
@@ -109,6 +111,42 @@ public class CommonCoordsTableModel extends DefaultTableModel implements Runnabl
 		}
 	}
 	
+	/**
+	 * The angle of a coordinate of the pointing data read 
+	 * by the thread in the last iteration (see {@link CommonCoordsTableModel#frame}).
+	 * 
+	 * @author acaproni
+	 *
+	 */
+	private class FrameAngle implements AngleConverter {
+		
+		// The coordinate to show
+		private final Coordinate coord;
+		
+		// true if the angle is shown in hours/min/sec,
+		// false if it is shown in degrees/min/sec
+		private final boolean hms;
+		
+		/**
+		 * Constructor
+		 * 
+		 * @param coord The coordinate to show
+		 * @param hms true if the angle is shown in hours/min/sec
+		 */
+		public FrameAngle(Coordinate coord, boolean hms) {
+			this.coord=coord;
+			this.hms=hms;
+		}
+		
+		/**
+		 * @see AngleConverter
+		 */
+		public String getString() {
+			double rad=frame.get(coord);
+			return hms?HMSAngleConverter.format(rad):DMSAngleConverter.format(rad);
+		}
+	}
+	
 	/**
 	 * The positions of the fields read from the components
 	 * 
@@ -163,17 +201,29 @@ public class CommonCoordsTableModel extends DefaultTableModel implements Runnabl
 	protected Mount mount=null;
 	protected MountController controller=null;
 	
-	// The values of the Az/El/RA/Dec deviations
+	// The pointing data shown in the table.
 	//
-	// Until the deviations will be available in the MountController/Mount component,
-	// they are calculated by subtracting the commanded to the actual positions
+	// All the cells with coordinates show the values of the same frame, 
+	// including the deviations calculated by subtracting the commanded to 
+	// the actual positions.
 	//
-	// The values are updated by the thread 
+	// The frame is updated by the thread 
 	// @see CommonCoordsTableModel.run()
-	private ValueHolder<Double> azDeviation = new ValueHolder<Double>();
-	private ValueHolder<Double> elDeviation = new ValueHolder<Double>();
-	private ValueHolder<Double> raDeviation = new ValueHolder<Double>();
-	private ValueHolder<Double> decDeviation = new ValueHolder<Double>();
+	private volatile PointingSnapshot frame=PointingSnapshot.NOT_AVAILABLE;
+	
+	// The frame and the version of the epoch shown at the previous refresh
+	// to know if something changed
+	private PointingSnapshot lastFrame=null;
+	private long lastEpochVersion=-1;
+	
+	// Set when the cells of the table have been rebuilt
+	// (i.e. when the components changed)
+	private volatile boolean cellsChanged=true;
+	
+	/**
+	 * Notifies the table only about the rows changed by the refresh
+	 */
+	private final RowChangeTracker changeTracker = new RowChangeTracker();
 	
 	/**
 	 * The AntennaRootPane
@@ -191,7 +241,7 @@ public class CommonCoordsTableModel extends DefaultTableModel implements Runnabl
 			throw new IllegalArgumentException("The AntennaRootPane can't be null");
 		}
 		this.rootP=pane;
-		initTableHeaders(null);
+		initTableHeaders(Double.NaN);
 		setupArrayOfVals();
 	}
 	
@@ -257,6 +307,7 @@ public class CommonCoordsTableModel extends DefaultTableModel implements Runnabl
 	public void setComponents(MountController ctrl,Mount mnt) {
 		controller=ctrl;
 		mount=mnt;
+		frame=PointingSnapshot.NOT_AVAILABLE;
 		setupArrayOfVals();
 		if (controller!=null || mount!=null) {
 			startThread();
@@ -282,15 +333,18 @@ public class CommonCoordsTableModel extends DefaultTableModel implements Runnabl
 				Thread.sleep(CommonCoordsTableModel.REFRESH_TIME);
 			} catch (InterruptedException ie) {}
 			
+			boolean changed=true;
 			try {
-				refresh();
+				changed=refresh();
 			} catch (Throwable t) {
 				AcsJMountGUIErrorEx ex = new AcsJMountGUIErrorEx(t);
 				ex.setContextDescription("Error refreshing the coordinates");
 				ErrorInfo ei = new ErrorInfo("CommonCoords error","Error refreshing the coordinates",ex);
 				rootP.addError(ei);
 			}
-			this.fireTableDataChanged();
+			if (changed) {
+				changeTracker.fireChanges(this);
+			}
 		}
 		mount=null;
 		controller=null;
@@ -300,46 +354,37 @@ public class CommonCoordsTableModel extends DefaultTableModel implements Runnabl
 	
 	/**
 	 * Refresh the values
+	 * 
+	 * @return <code>true</code> if the values changed since the previous refresh
 	 */
-	private void refresh() {
+	private boolean refresh() {
 		rootP.getHeartbeatChecker().ping(thread);
-		// Setup the deviation as difference between the actual and the
-		// commanded positions
-		if (mount!=null && controller.getActualAz()!=null && controller.getActualAz().getValue()!=null && 
-				controller.getCommandAz()!=null && controller.getCommandAz().getValue()!=null) {
-			azDeviation.setValue(
-					controller.getActualAz().getValue()-controller.getCommandAz().getValue());
-		} else {
-			azDeviation.setValue(null);
-		}
-		if (mount!=null && controller.getActualEl()!=null && controller.getActualEl().getValue()!=null && 
-				controller.getCommandEl()!=null && controller.getCommandEl().getValue()!=null) {
-			elDeviation.setValue(
-					controller.getActualEl().getValue()-controller.getCommandEl().getValue());
-		} else {
-			elDeviation.setValue(null);
-		}
-		if (controller!=null && controller.getActualRA()!=null && controller.getActualRA().getValue()!=null && 
-				controller.getCommandRA()!=null && controller.getCommandRA().getValue()!=null) {
-			raDeviation.setValue(
-					controller.getActualRA().getValue()-controller.getCommandRA().getValue());
+		// Get the pointing data of the last iteration of the controller
+		PointingSnapshot newFrame;
+		long epochVersion;
+		if (controller!=null) {
+			newFrame=controller.getPointingSnapshot();
+			epochVersion=controller.getEpoch().getVersion();
 		} else {
-			raDeviation.setValue(null);
+			newFrame=PointingSnapshot.NOT_AVAILABLE;
+			epochVersion=-1;
 		}
-		if (controller!=null && controller.getActualDec()!=null && controller.getActualDec().getValue()!=null && 
-				controller.getCommandDec()!=null && controller.getCommandDec().getValue()!=null) {
-			decDeviation.setValue(
-					controller.getActualDec().getValue()-controller.getCommandDec().getValue());
-		} else {
-			decDeviation.setValue(null);
+		boolean changed = cellsChanged || newFrame!=lastFrame || epochVersion!=lastEpochVersion;
+		cellsChanged=false;
+		if (!changed) {
+			return false;
 		}
+		frame=newFrame;
+		lastFrame=newFrame;
+		lastEpochVersion=epochVersion;
 		
 		// Update RA/DEC header
-		if (controller!=null && controller.getEpoch()!=null) {
+		if (controller!=null) {
 			setRaDecHeader(controller.getEpoch().getValue());
 		} else {
-			setRaDecHeader(null);
+			setRaDecHeader(Double.NaN);
 		}
+		return true;
 	}
 	
 	/**
@@ -369,17 +414,18 @@ public class CommonCoordsTableModel extends DefaultTableModel implements Runnabl
 	 * 
 	 */
 	private void setupArrayOfVals() {
+		cellsChanged=true;
 		// Commanded
 		if (mount!=null) {
-			tableCells[CoordsRowPos.COMMANDED.ordinal()][CoordsColPos.AZ.ordinal()]= new CoordsCell(new DMSAngleConverter(controller.getCommandAz()));
-			tableCells[CoordsRowPos.COMMANDED.ordinal()][CoordsColPos.EL.ordinal()]= new CoordsCell(new DMSAngleConverter(controller.getCommandEl()));
+			tableCells[CoordsRowPos.COMMANDED.ordinal()][CoordsColPos.AZ.ordinal()]= new CoordsCell(new FrameAngle(Coordinate.COMMANDED_AZ,false));
+			tableCells[CoordsRowPos.COMMANDED.ordinal()][CoordsColPos.EL.ordinal()]= new CoordsCell(new FrameAngle(Coordinate.COMMANDED_EL,false));
 		} else {
 			tableCells[CoordsRowPos.COMMANDED.ordinal()][CoordsColPos.AZ.ordinal()]= new CoordsCell(ValueDisplayer.NOT_AVAILABLE);
 			tableCells[CoordsRowPos.COMMANDED.ordinal()][CoordsColPos.EL.ordinal()]= new CoordsCell(ValueDisplayer.NOT_AVAILABLE);
 		}
 		if (controller!=null) {
-			tableCells[CoordsRowPos.COMMANDED.ordinal()][CoordsColPos.RA.ordinal()]= new CoordsCell(new HMSAngleConverter(controller.getCommandRA())); // hms 
-			tableCells[CoordsRowPos.COMMANDED.ordinal()][CoordsColPos.DEC.ordinal()]= new CoordsCell(new DMSAngleConverter(controller.getCommandDec()));
+			tableCells[CoordsRowPos.COMMANDED.ordinal()][CoordsColPos.RA.ordinal()]= new CoordsCell(new FrameAngle(Coordinate.COMMANDED_RA,true)); // hms 
+			tableCells[CoordsRowPos.COMMANDED.ordinal()][CoordsColPos.DEC.ordinal()]= new CoordsCell(new FrameAngle(Coordinate.COMMANDED_DEC,false));
 		} else {
 			tableCells[CoordsRowPos.COMMANDED.ordinal()][CoordsColPos.RA.ordinal()]=new CoordsCell(ValueDisplayer.NOT_AVAILABLE);
 			tableCells[CoordsRowPos.COMMANDED.ordinal()][CoordsColPos.DEC.ordinal()]=new CoordsCell(ValueDisplayer.NOT_AVAILABLE);
@@ -387,15 +433,15 @@ public class CommonCoordsTableModel extends DefaultTableModel implements Runnabl
 		
 		// Actual
 		if (mount!=null) {
-			tableCells[CoordsRowPos.ACTUAL.ordinal()][CoordsColPos.AZ.ordinal()]= new CoordsCell(new DMSAngleConverter(controller.getActualAz()));
-			tableCells[CoordsRowPos.ACTUAL.ordinal()][CoordsColPos.EL.ordinal()]= new CoordsCell(new DMSAngleConverter(controller.getActualEl()));
+			tableCells[CoordsRowPos.ACTUAL.ordinal()][CoordsColPos.AZ.ordinal()]= new CoordsCell(new FrameAngle(Coordinate.ACTUAL_AZ,false));
+			tableCells[CoordsRowPos.ACTUAL.ordinal()][CoordsColPos.EL.ordinal()]= new CoordsCell(new FrameAngle(Coordinate.ACTUAL_EL,false));
 		} else {
 			tableCells[CoordsRowPos.ACTUAL.ordinal()][CoordsColPos.AZ.ordinal()]=new CoordsCell(ValueDisplayer.NOT_AVAILABLE);
 			tableCells[CoordsRowPos.ACTUAL.ordinal()][CoordsColPos.EL.ordinal()]=new CoordsCell(ValueDisplayer.NOT_AVAILABLE);
 		}
 		if (controller!=null) {
-			tableCells[CoordsRowPos.ACTUAL.ordinal()][CoordsColPos.RA.ordinal()]= new CoordsCell(new HMSAngleConverter(controller.getActualRA())); // hms
-			tableCells[CoordsRowPos.ACTUAL.ordinal()][CoordsColPos.DEC.ordinal()]= new CoordsCell(new DMSAngleConverter(controller.getActualDec()));
+			tableCells[CoordsRowPos.ACTUAL.ordinal()][CoordsColPos.RA.ordinal()]= new CoordsCell(new FrameAngle(Coordinate.ACTUAL_RA,true)); // hms
+			tableCells[CoordsRowPos.ACTUAL.ordinal()][CoordsColPos.DEC.ordinal()]= new CoordsCell(new FrameAngle(Coordinate.ACTUAL_DEC,false));
 		} else {
 			tableCells[CoordsRowPos.ACTUAL.ordinal()][CoordsColPos.RA.ordinal()]=new CoordsCell(ValueDisplayer.NOT_AVAILABLE);
 			tableCells[CoordsRowPos.ACTUAL.ordinal()][CoordsColPos.DEC.ordinal()]=new CoordsCell(ValueDisplayer.NOT_AVAILABLE);
@@ -403,16 +449,16 @@ public class CommonCoordsTableModel extends DefaultTableModel implements Runnabl
 		
 		// Deviation
 		if (mount!=null) {
-			tableCells[CoordsRowPos.DEVIATON.ordinal()][CoordsColPos.AZ.ordinal()]= new CoordsCell(new DMSAngleConverter(azDeviation));
-			tableCells[CoordsRowPos.DEVIATON.ordinal()][CoordsColPos.EL.ordinal()]= new CoordsCell(new DMSAngleConverter(elDeviation));
+			tableCells[CoordsRowPos.DEVIATON.ordinal()][CoordsColPos.AZ.ordinal()]= new CoordsCell(new FrameAngle(Coordinate.DEVIATION_AZ,false));
+			tableCells[CoordsRowPos.DEVIATON.ordinal()][CoordsColPos.EL.ordinal()]= new CoordsCell(new FrameAngle(Coordinate.DEVIATION_EL,false));
 		} else {
 			tableCells[CoordsRowPos.DEVIATON.ordinal()][CoordsColPos.AZ.ordinal()]=new CoordsCell(ValueDisplayer.NOT_AVAILABLE);
 			tableCells[CoordsRowPos.DEVIATON.ordinal()][CoordsColPos.EL.ordinal()]=new CoordsCell(ValueDisplayer.NOT_AVAILABLE);
 			
 		}
 		if (controller!=null) {
-			tableCells[CoordsRowPos.DEVIATON.ordinal()][CoordsColPos.RA.ordinal()]= new CoordsCell(new HMSAngleConverter(raDeviation)); // hms
-			tableCells[CoordsRowPos.DEVIATON.ordinal()][CoordsColPos.DEC.ordinal()]= new CoordsCell(new DMSAngleConverter(decDeviation));
+			tableCells[CoordsRowPos.DEVIATON.ordinal()][CoordsColPos.RA.ordinal()]= new CoordsCell(new FrameAngle(Coordinate.DEVIATION_RA,true)); // hms
+			tableCells[CoordsRowPos.DEVIATON.ordinal()][CoordsColPos.DEC.ordinal()]= new CoordsCell(new FrameAngle(Coordinate.DEVIATION_DEC,false));
 		} else {
 			tableCells[CoordsRowPos.DEVIATON.ordinal()][CoordsColPos.RA.ordinal()]=new CoordsCell(ValueDisplayer.NOT_AVAILABLE);
 			tableCells[CoordsRowPos.DEVIATON.ordinal()][CoordsColPos.DEC.ordinal()]=new CoordsCell(ValueDisplayer.NOT_AVAILABLE);
@@ -420,10 +466,10 @@ public class CommonCoordsTableModel extends DefaultTableModel implements Runnabl
 
 			// Offset
 		if (controller!=null) {
-			tableCells[CoordsRowPos.OFFSET.ordinal()][CoordsColPos.AZ.ordinal()]= new CoordsCell(new DMSAngleConverter(controller.getOffsetAz()));
-			tableCells[CoordsRowPos.OFFSET.ordinal()][CoordsColPos.EL.ordinal()]= new CoordsCell(new DMSAngleConverter(controller.getOffsetEl()));
-			tableCells[CoordsRowPos.OFFSET.ordinal()][CoordsColPos.RA.ordinal()]= new CoordsCell(new HMSAngleConverter(controller.getOffsetRA())); 
-			tableCells[CoordsRowPos.OFFSET.ordinal()][CoordsColPos.DEC.ordinal()]= new CoordsCell(new DMSAngleConverter(controller.getOffsetDec()));
+			tableCells[CoordsRowPos.OFFSET.ordinal()][CoordsColPos.AZ.ordinal()]= new CoordsCell(new FrameAngle(Coordinate.OFFSET_AZ,false));
+			tableCells[CoordsRowPos.OFFSET.ordinal()][CoordsColPos.EL.ordinal()]= new CoordsCell(new FrameAngle(Coordinate.OFFSET_EL,false));
+			tableCells[CoordsRowPos.OFFSET.ordinal()][CoordsColPos.RA.ordinal()]= new CoordsCell(new FrameAngle(Coordinate.OFFSET_RA,true)); 
+			tableCells[CoordsRowPos.OFFSET.ordinal()][CoordsColPos.DEC.ordinal()]= new CoordsCell(new FrameAngle(Coordinate.OFFSET_DEC,false));
 		} else {
 			tableCells[CoordsRowPos.OFFSET.ordinal()][CoordsColPos.AZ.ordinal()]= new CoordsCell(ValueDisplayer.NOT_AVAILABLE);
 			tableCells[CoordsRowPos.OFFSET.ordinal()][CoordsColPos.EL.ordinal()]= new CoordsCell(ValueDisplayer.NOT_AVAILABLE);
@@ -433,19 +479,17 @@ public class CommonCoordsTableModel extends DefaultTableModel implements Runnabl
 	}
 	
 	/**
-	 * Set the header of RA and DEC showing the epoch if it is not null
+	 * Set the header of RA and DEC showing the epoch if it is not NaN
 	 * 
 	 * @param epoch The epoch to show close to RA and DEC
-	 * 
-	 * @param epoch
 	 */
-	private void setRaDecHeader(Double epoch) {
-		if (epoch==null) {
+	private void setRaDecHeader(double epoch) {
+		if (Double.isNaN(epoch)) {
 			tableCells[CoordsRowPos.HEADER.ordinal()][CoordsColPos.RA.ordinal()] = new CoordsCell("<HTML><B>RA");
 			tableCells[CoordsRowPos.HEADER.ordinal()][CoordsColPos.DEC.ordinal()] = new CoordsCell("<HTML><B>Dec");
 			return;
 		}
-		String str = String.format("%4.1f", epoch.doubleValue());
+		String str = String.format("%4.1f", epoch);
 		tableCells[CoordsRowPos.HEADER.ordinal()][CoordsColPos.RA.ordinal()] = new CoordsCell("<HTML><B>RA ["+str+"]");
 		tableCells[CoordsRowPos.HEADER.ordinal()][CoordsColPos.DEC.ordinal()] = new CoordsCell("<HTML><B>Dec ["+str+"]");
 	}
@@ -453,11 +497,11 @@ public class CommonCoordsTableModel extends DefaultTableModel implements Runnabl
 	/**
 	 * Init the cells of the table with the titles or rows and cols
 	 * 
-	 * RA and DEC shows the epoch if it is not null
+	 * RA and DEC shows the epoch if it is not NaN
 	 * 
 	 * @param epoch The epoch to show close to RA and DEC
 	 */
-	private void initTableHeaders(Double epoch) {
+	private void initTableHeaders(double epoch) {
 		String emptyStr="";
 		
 		// Table header
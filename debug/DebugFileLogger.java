@@ -18,10 +18,23 @@
  */
 package alma.control.gui.antennamount.debug;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
-import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
 
 import alma.acs.util.IsoDateFormat;
 import alma.control.gui.antennamount.errortab.ErrorInfo;
@@ -45,14 +58,52 @@ import alma.control.gui.antennamount.errortab.ErrorInfo;
  * to stdout (<code>System.out</code>) and no further attempt to create a log file 
  * will be made.
  * <P>
- * To reduce the I/O, the length of the file is checked every {@link DebugFileLogger#FILE_LENGTH_CHECK_RATE}
- * insertions of log messages; if the size of the current file is
- * greater the {@link DebugFileLogger#MAX_LOG_FILE_SIZE} then a new file is created. 
+ * The messages are written asynchronously: <code>log</code> puts the message 
+ * with its time in a bounded queue and returns immediately. 
+ * A daemon thread drains the queue, formats the messages and writes them in batches 
+ * in the file through a {@link WritableByteChannel}.
+ * If the queue is full, the message is discarded and the number of discarded
+ * messages is written in the file as soon as possible.
+ * <P>
+ * The thread counts the bytes written in the file: when they are more then
+ * {@link DebugFileLogger#MAX_LOG_FILE_SIZE} a new file is created and the
+ * previous one is compressed (gzip) by another thread.
  * 
  * @author acaproni
  *
  */
-public class DebugFileLogger {
+public class DebugFileLogger implements Runnable {
+	
+	/**
+	 * A message in the queue
+	 * 
+	 * @author acaproni
+	 *
+	 */
+	private static class LogEntry {
+		
+		/**
+		 * The time of the message
+		 * (negative if the message is written without time)
+		 */
+		public final long time;
+		
+		/**
+		 * The message
+		 */
+		public final String msg;
+		
+		/**
+		 * Constructor
+		 * 
+		 * @param time The time of the message
+		 * @param msg The message
+		 */
+		public LogEntry(long time, String msg) {
+			this.time=time;
+			this.msg=msg;
+		}
+	}
 	
 	/**
 	 * The prefix of the name of each generated file
@@ -70,9 +121,24 @@ public class DebugFileLogger {
 	private final long MAX_LOG_FILE_SIZE=1024*1024*1024; // 1 Gb
 	
 	/**
-	 * The writer to write log messages into.
+	 * The max number of messages waiting to be written
+	 */
+	private static final int QUEUE_SIZE=8192;
+	
+	/**
+	 * The max number of messages written in one batch
 	 */
-	private PrintStream logFile=null;
+	private static final int BATCH_SIZE=512;
+	
+	/**
+	 * The size of the buffer to write in the channel
+	 */
+	private static final int BUFFER_SIZE=64*1024;
+	
+	/**
+	 * The channel to write log messages into.
+	 */
+	private WritableByteChannel logChannel=null;
 	
 	/**
 	 * The file used for output.
@@ -83,20 +149,34 @@ public class DebugFileLogger {
 	private File outF; 
 	
 	/**
-	 * The length of the file is checked when the number of inserted log
-	 * messages is greater then <code>FILE_LENGTH_CHECK_RATE</code>.
-	 * 
-	 * @see DebugFileLogger#insertionsCounter
+	 * The number of bytes written in the current file
 	 */
-	private static final int FILE_LENGTH_CHECK_RATE=500;
+	private long fileSize=0;
 	
 	/**
-	 * Count how many log messages have been inserted since the last
-	 * checking of the length of the file
-	 * 
-	 * @see DebugFileLogger#FILE_LENGTH_CHECK_RATE
+	 * The messages waiting to be written
 	 */
-	private int insertionsCounter=0;
+	private final ArrayBlockingQueue<LogEntry> queue = new ArrayBlockingQueue<LogEntry>(QUEUE_SIZE);
+	
+	/**
+	 * The number of messages discarded because the queue was full
+	 */
+	private final AtomicLong discarded = new AtomicLong(0);
+	
+	/**
+	 * The buffer to write in the channel
+	 */
+	private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+	
+	/**
+	 * The thread writing the messages in the file
+	 */
+	private final Thread thread;
+	
+	/**
+	 * Signal the thread to terminate after writing the messages in the queue
+	 */
+	private volatile boolean closed=false;
 	
 	/** 
 	 * Constructor
@@ -104,6 +184,9 @@ public class DebugFileLogger {
 	public DebugFileLogger() {
 		getNewLogfile();
 		printLogHeader();
+		thread = new Thread(this,"DebugFileLogger");
+		thread.setDaemon(true);
+		thread.start();
 	}
 	
 	/**
@@ -112,15 +195,18 @@ public class DebugFileLogger {
 	 * If an error happen while creating a log file, then
 	 * System.out is used and no further attempt to create a log
 	 * file will be made.
-	 * 
-	 * @return The newly created file for output or 
-	 * 			<code>System.out</code> in case of error
-	 */
-	private synchronized PrintStream getNewLogfile() {
-		if (logFile!=System.out && logFile!=null) {
-			logFile.flush();
-			logFile.close();
-			logFile=null;
+	 * <P>
+	 * The previous file, if any, is closed and compressed.
+	 */
+	private void getNewLogfile() {
+		if (outF!=null) {
+			try {
+				logChannel.close();
+			} catch (IOException e) {
+				System.err.println("Error closing "+outF.getName()+": "+e.getMessage());
+			}
+			compress(outF);
+			logChannel=null;
 			outF=null;
 		}
 		// Generate the file name
@@ -131,44 +217,71 @@ public class DebugFileLogger {
 		newFilename.append(fileNumber++);
 		newFilename.append(".log");
 		outF = new File(newFilename.toString());
-		OutputStream oStream;
+		fileSize=0;
 		try {
-			oStream = new FileOutputStream(outF);
+			logChannel = new FileOutputStream(outF).getChannel();
 		} catch (Throwable t) {
 			// we don't want that this class propagate an error
-			// so we simply log a message in the stderr and return null
+			// so we simply log a message in the stderr and use stdout
 			System.err.print("Error creating a file of log with name "+newFilename.toString());
 			System.err.println(": "+t.getMessage());
 			outF=null;
-			logFile=System.out;
-			return logFile;
+			logChannel=Channels.newChannel(System.out);
 		}
-		logFile = new PrintStream(oStream,true);
-		return logFile;
-	}
-	
-	private void printLogHeader() {
-		logFile.print("Mount panel debug session started at ");
-		logFile.println(IsoDateFormat.formatCurrentDate());
-		logFile.print(dumpMemory());
-		Runtime runTime = Runtime.getRuntime();
-		logFile.println("Available processors: "+runTime.availableProcessors());
-		logFile.println("*******************************************\n");
 	}
 	
 	/**
-	 * Check if the length of the output file and if it is the case
-	 * create a new file.
+	 * Compress a file in a separate thread and delete it.
 	 * 
+	 * @param file The file to compress
 	 */
-	private synchronized void checkFileSize() {
-		if (outF==null) {
-			// The process is writing in System.out
-			return;
-		}
-		if (outF.length()>MAX_LOG_FILE_SIZE) {
-			getNewLogfile();
-		}
+	private void compress(final File file) {
+		Thread compressor = new Thread(new Runnable() {
+			public void run() {
+				File gzFile = new File(file.getPath()+".gz");
+				InputStream in=null;
+				OutputStream out=null;
+				try {
+					in = new BufferedInputStream(new FileInputStream(file));
+					out = new GZIPOutputStream(new BufferedOutputStream(new FileOutputStream(gzFile)));
+					byte[] buf = new byte[BUFFER_SIZE];
+					int n;
+					while ((n=in.read(buf))>0) {
+						out.write(buf, 0, n);
+					}
+					out.close();
+					out=null;
+					in.close();
+					in=null;
+					file.delete();
+				} catch (Throwable t) {
+					System.err.println("Error compressing "+file.getName()+": "+t.getMessage());
+					gzFile.delete();
+				} finally {
+					try {
+						if (in!=null) {
+							in.close();
+						}
+						if (out!=null) {
+							out.close();
+						}
+					} catch (IOException e) {}
+				}
+			}
+		},"DebugFileCompressor");
+		compressor.setDaemon(true);
+		compressor.start();
+	}
+	
+	private void printLogHeader() {
+		StringBuilder header = new StringBuilder("Mount panel debug session started at ");
+		header.append(IsoDateFormat.formatCurrentDate());
+		header.append('\n');
+		header.append(dumpMemory());
+		Runtime runTime = Runtime.getRuntime();
+		header.append("Available processors: "+runTime.availableProcessors());
+		header.append("\n*******************************************\n\n");
+		queue.offer(new LogEntry(-1,header.toString()));
 	}
 
 	/**
@@ -194,20 +307,15 @@ public class DebugFileLogger {
 	 * Write a log message in the file.
 	 * <P>
 	 * The message is prepended by the timestamp.
+	 * <P>
+	 * The message is queued and written later: this method never blocks.
 	 */
-	public synchronized void log(String msg) {
-		if (msg==null || msg.isEmpty()) {
+	public void log(String msg) {
+		if (msg==null || msg.isEmpty() || closed) {
 			return;
 		}
-		logFile.print(IsoDateFormat.formatCurrentDate());
-		logFile.print(": ");
-		logFile.print(msg);
-		if (!msg.endsWith("\n")) {
-			logFile.println();
-		}
-		if (++insertionsCounter>FILE_LENGTH_CHECK_RATE) {
-			checkFileSize();
-			insertionsCounter=0;
+		if (!queue.offer(new LogEntry(System.currentTimeMillis(),msg))) {
+			discarded.incrementAndGet();
 		}
 	}
 	
@@ -216,7 +324,7 @@ public class DebugFileLogger {
 	 * 
 	 * @param errorInfo The error to write in the file
 	 */
-	public synchronized void log(ErrorInfo errorInfo) {
+	public void log(ErrorInfo errorInfo) {
 		if (errorInfo==null) {
 			return;
 		}
@@ -231,4 +339,100 @@ public class DebugFileLogger {
 		}
 		this.log(ret.toString());
 	}
+	
+	/**
+	 * Write the messages still in the queue and close the file.
+	 * <P>
+	 * The messages logged after closing are discarded.
+	 */
+	public void close() {
+		closed=true;
+		try {
+			thread.join(5000);
+		} catch (InterruptedException e) {}
+	}
+	
+	/**
+	 * The thread draining the queue and writing the messages 
+	 * in the file.
+	 */
+	public void run() {
+		ArrayList<LogEntry> batch = new ArrayList<LogEntry>(BATCH_SIZE);
+		while (!closed || !queue.isEmpty()) {
+			try {
+				LogEntry entry = queue.poll(500, TimeUnit.MILLISECONDS);
+				if (entry==null) {
+					continue;
+				}
+				batch.add(entry);
+			} catch (InterruptedException ie) {
+				continue;
+			}
+			queue.drainTo(batch, BATCH_SIZE-1);
+			long lost=discarded.getAndSet(0);
+			if (lost>0) {
+				batch.add(new LogEntry(System.currentTimeMillis(),lost+" debug messages discarded"));
+			}
+			try {
+				for (LogEntry entry: batch) {
+					write(entry);
+				}
+				flush();
+			} catch (IOException e) {
+				System.err.println("Error writing debug messages: "+e.getMessage());
+			}
+			batch.clear();
+			if (outF!=null && fileSize>MAX_LOG_FILE_SIZE) {
+				getNewLogfile();
+			}
+		}
+		if (outF!=null) {
+			try {
+				logChannel.close();
+			} catch (IOException e) {
+				System.err.println("Error closing the debug log: "+e.getMessage());
+			}
+		}
+	}
+	
+	/**
+	 * Format a message and put it in the buffer
+	 * 
+	 * @param entry The message to write
+	 * @throws IOException In case of error writing the buffer in the file
+	 */
+	private void write(LogEntry entry) throws IOException {
+		StringBuilder str = new StringBuilder();
+		if (entry.time>=0) {
+			str.append(IsoDateFormat.formatDate(new Date(entry.time)));
+			str.append(": ");
+		}
+		str.append(entry.msg);
+		if (entry.time>=0 && !entry.msg.endsWith("\n")) {
+			str.append('\n');
+		}
+		byte[] bytes = str.toString().getBytes();
+		int pos=0;
+		while (pos<bytes.length) {
+			if (!buffer.hasRemaining()) {
+				flush();
+			}
+			int len=Math.min(buffer.remaining(), bytes.length-pos);
+			buffer.put(bytes, pos, len);
+			pos+=len;
+		}
+	}
+	
+	/**
+	 * Write the content of the buffer in the file
+	 * 
+	 * @throws IOException In case of error writing the file
+	 */
+	private void flush() throws IOException {
+		buffer.flip();
+		while (buffer.hasRemaining()) {
+			fileSize+=logChannel.write(buffer);
+		}
+		buffer.clear();
+	}
 }
@@ -23,6 +23,7 @@ import java.text.SimpleDateFormat;
 import java.util.Collection;
 import java.util.Date;
 import java.util.Vector;
+import java.util.concurrent.atomic.AtomicLong;
 
 import alma.ACSErr.ErrorTrace;
 import alma.Control.Common.Util;
@@ -84,6 +85,14 @@ public class ErrorInfo {
 	private static final String TIME_FORMAT = "yyyy'-'MM'-'dd'T'HH':'mm':'ss'.'SSS";
 	private static final SimpleDateFormat dateFormat = new SimpleDateFormat(TIME_FORMAT);
 	
+	// The generator of the IDs of the errors
+	private static final AtomicLong idGenerator = new AtomicLong(0);
+	
+	/**
+	 * The unique identifier of this error, used as anchor in the HTML
+	 */
+	public final long id=idGenerator.incrementAndGet();
+	
 	// The short and detailed description of the error
 	public final String shortDescription;
 	public final String detailedDescription;
@@ -272,6 +281,15 @@ public class ErrorInfo {
 		return shortDescription.equals(ei.shortDescription) && detailedDescription.equals(ei.detailedDescription);
 	}
 	
+	/**
+	 * Override Object.hashCode() to be consistent with {@link #equals(Object)}
+	 * 
+	 * @see Object.hashCode()
+	 */
+	public int hashCode() {
+		return 31*shortDescription.hashCode()+detailedDescription.hashCode();
+	}
+	
 	/**
 	 * Update the time stamp of the error.
 	 */
@@ -285,7 +303,19 @@ public class ErrorInfo {
 	}
 	
 	public void addInstance() {
-		instances++;
+		addInstances(1);
+	}
+	
+	/**
+	 * Record more instances of the same error
+	 * 
+	 * @param n The number of instances to add
+	 */
+	public void addInstances(long n) {
+		if (n<=0) {
+			throw new IllegalArgumentException("Invalid number of instances "+n);
+		}
+		instances+=n;
 		updateTimestamps();
 	}
 
@@ -0,0 +1,353 @@
+/*
+ * ALMA - Atacama Large Millimiter Array (c) European Southern Observatory, 2007
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ */
+package alma.control.gui.antennamount.errortab;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Vector;
+
+/**
+ * The errors shown by the {@link ErrorTab}, the newest first.
+ * <P>
+ * The errors are stored in a ring buffer and indexed by a hash map
+ * so that
+ * <UL>
+ * 	<LI>a new error is added in constant time
+ * 	<LI>an error equal to one already in the list is found in constant time:
+ * 		the instances of the error in the list are increased by the instances
+ * 		of the new error and the
+ * 		error is moved in the newest position
+ * 	<LI>the oldest error is removed in constant time when the list is full
+ * </UL>
+ * To move an error in the newest position, its slot in the ring is left empty
+ * and a new slot is used. The ring has twice the slots of the max number
+ * of errors: when all the slots have been used, the errors are compacted
+ * at the beginning of the ring.
+ * <P>
+ * The list remembers the errors added and removed since the last
+ * {@link #mark()} so that the views can be updated incrementally.
+ * <P>
+ * This class is not thread safe.
+ * 
+ * @author acaproni
+ *
+ */
+public class ErrorList implements Iterable<ErrorInfo> {
+	
+	/**
+	 * An error stored in the ring
+	 * 
+	 * @author acaproni
+	 *
+	 */
+	private static class Entry {
+		/**
+		 * The error
+		 */
+		public final ErrorInfo error;
+		
+		/**
+		 * The position of the error in the ring
+		 * (the slot is <code>pos%slots.length</code>)
+		 */
+		public long pos;
+		
+		/**
+		 * Constructor
+		 * 
+		 * @param error The error
+		 */
+		public Entry(ErrorInfo error) {
+			this.error=error;
+		}
+	}
+	
+	/**
+	 * The max number of errors in the list
+	 */
+	private final int maxErrors;
+	
+	/**
+	 * The slots of the ring (<code>null</code> if empty)
+	 */
+	private final Entry[] slots;
+	
+	/**
+	 * The errors in the list
+	 */
+	private final HashMap<ErrorInfo, Entry> index = new HashMap<ErrorInfo, Entry>();
+	
+	/**
+	 * The position of the oldest used slot
+	 */
+	private long tail=0;
+	
+	/**
+	 * The position of the next slot to use
+	 */
+	private long head=0;
+	
+	/**
+	 * The position of the next slot to use when {@link #mark()} has been called:
+	 * the errors in this position or after it have been added or moved since then
+	 */
+	private long mark=0;
+	
+	/**
+	 * The errors removed since the last {@link #mark()}
+	 */
+	private final Vector<ErrorInfo> removed = new Vector<ErrorInfo>();
+	
+	/**
+	 * <code>true</code> if the errors removed since the last {@link #mark()}
+	 * are too many to be remembered 
+	 */
+	private boolean removedLost=false;
+	
+	/**
+	 * Constructor
+	 * 
+	 * @param maxErrors The max number of errors in the list
+	 */
+	public ErrorList(int maxErrors) {
+		if (maxErrors<=0) {
+			throw new IllegalArgumentException("Invalid max number of errors "+maxErrors);
+		}
+		this.maxErrors=maxErrors;
+		slots = new Entry[2*maxErrors];
+	}
+	
+	/**
+	 * Add an error in the newest position.
+	 * <P>
+	 * If the list already contains an error equal to the passed one, the
+	 * instances of the error in the list are increased by the instances of
+	 * the passed error and that error is moved
+	 * in the newest position.
+	 * If the list is full, the oldest error is removed.
+	 * 
+	 * @param error The error to add
+	 * @return The error in the newest position
+	 * 		(i.e. the passed error or the error equal to it already in the list)
+	 */
+	public ErrorInfo add(ErrorInfo error) {
+		if (error==null) {
+			throw new IllegalArgumentException("Invalid null error");
+		}
+		Entry entry = index.get(error);
+		if (entry!=null) {
+			entry.error.addInstances(error.getInstances()+1);
+			if (entry.pos==head-1 && entry.pos>=mark) {
+				// Already the newest error changed since the mark
+				return entry.error;
+			}
+			slots[slot(entry.pos)]=null;
+		} else {
+			entry = new Entry(error);
+			index.put(error, entry);
+			if (index.size()>maxErrors) {
+				removeOldest();
+			}
+		}
+		if (head-tail==slots.length) {
+			compact();
+		}
+		entry.pos=head++;
+		slots[slot(entry.pos)]=entry;
+		return entry.error;
+	}
+	
+	/**
+	 * Remove the oldest error
+	 */
+	private void removeOldest() {
+		while (tail<head) {
+			int s=slot(tail++);
+			Entry entry=slots[s];
+			if (entry!=null) {
+				slots[s]=null;
+				index.remove(entry.error);
+				if (!removedLost) {
+					removed.add(entry.error);
+					if (removed.size()>maxErrors) {
+						removed.clear();
+						removedLost=true;
+					}
+				}
+				return;
+			}
+		}
+	}
+	
+	/**
+	 * Move the errors in consecutive slots starting from
+	 * the oldest one, leaving the empty slots after the newest error.
+	 */
+	private void compact() {
+		long to=tail;
+		long newMark=-1;
+		for (long from=tail; from<head; from++) {
+			Entry entry=slots[slot(from)];
+			if (entry==null) {
+				continue;
+			}
+			if (from>=mark && newMark<0) {
+				newMark=to;
+			}
+			if (from!=to) {
+				slots[slot(from)]=null;
+				entry.pos=to;
+				slots[slot(to)]=entry;
+			}
+			to++;
+		}
+		head=to;
+		mark=(newMark<0)?head:newMark;
+	}
+	
+	/**
+	 * 
+	 * @param pos A position in the ring
+	 * @return The slot of the position
+	 */
+	private int slot(long pos) {
+		return (int)(pos%slots.length);
+	}
+	
+	/**
+	 * 
+	 * @return The number of errors in the list
+	 */
+	public int size() {
+		return index.size();
+	}
+	
+	/**
+	 * Remove all the errors
+	 */
+	public void clear() {
+		for (int t=0; t<slots.length; t++) {
+			slots[t]=null;
+		}
+		index.clear();
+		tail=head=mark=0;
+		removed.clear();
+		removedLost=false;
+	}
+	
+	/**
+	 * Remember the actual content of the list: the errors added, moved 
+	 * and removed from now on are returned by {@link #getChangedSinceMark()}
+	 * and {@link #getRemovedSinceMark()}.
+	 */
+	public void mark() {
+		mark=head;
+		removed.clear();
+		removedLost=false;
+	}
+	
+	/**
+	 * Return the errors added or moved in the newest position since the last
+	 * {@link #mark()}, the oldest first.
+	 * 
+	 * @return The errors added or moved since the last mark
+	 */
+	public Vector<ErrorInfo> getChangedSinceMark() {
+		Vector<ErrorInfo> ret = new Vector<ErrorInfo>();
+		for (long pos=Math.max(mark, tail); pos<head; pos++) {
+			Entry entry=slots[slot(pos)];
+			if (entry!=null) {
+				ret.add(entry.error);
+			}
+		}
+		return ret;
+	}
+	
+	/**
+	 * Return the max number of errors added or moved since the last {@link #mark()}
+	 * without building the list of such errors.
+	 * 
+	 * @return The max number of errors changed since the last mark
+	 */
+	public long countChangedSinceMark() {
+		return head-Math.max(mark, tail);
+	}
+	
+	/**
+	 * Return the errors removed since the last {@link #mark()} 
+	 * 
+	 * @return The errors removed since the last mark 
+	 * 		or <code>null</code> if they were too many to be remembered
+	 */
+	public Vector<ErrorInfo> getRemovedSinceMark() {
+		if (removedLost) {
+			return null;
+		}
+		return new Vector<ErrorInfo>(removed);
+	}
+	
+	/**
+	 * Iterate over the errors, the newest first.
+	 * <P>
+	 * The list must not be modified while iterating.
+	 * 
+	 * @see java.lang.Iterable#iterator()
+	 */
+	public Iterator<ErrorInfo> iterator() {
+		return new Iterator<ErrorInfo>() {
+			
+			/**
+			 * The position of the next error to return
+			 */
+			private long next=findNext(head-1);
+			
+			public boolean hasNext() {
+				return next>=tail;
+			}
+			
+			public ErrorInfo next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				ErrorInfo ret=slots[slot(next)].error;
+				next=findNext(next-1);
+				return ret;
+			}
+			
+			public void remove() {
+				throw new UnsupportedOperationException();
+			}
+		};
+	}
+	
+	/**
+	 * Find the first used slot, going from the newest to the oldest 
+	 * 
+	 * @param pos The position to start from
+	 * @return The position of the used slot or a position less then {@link #tail}
+	 * 		if there are no more errors
+	 */
+	private long findNext(long pos) {
+		while (pos>=tail && slots[slot(pos)]==null) {
+			pos--;
+		}
+		return pos;
+	}
+}
@@ -0,0 +1,146 @@
+/*
+ * ALMA - Atacama Large Millimiter Array (c) European Southern Observatory, 2007
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ */
+package alma.control.gui.antennamount.errortab;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The queue of the errors waiting to be shown in the {@link ErrorTab}.
+ * <P>
+ * Many threads (the threads polling the components, the threads executing
+ * the commands...) add errors in the queue and the only consumer drains
+ * the queue to show the errors. 
+ * Adding an error never blocks: the queue is lock free.
+ * <P>
+ * The queue is bounded: the errors arriving when the queue is full are
+ * discarded and counted so that the consumer can report how many errors
+ * have been lost.
+ * <P>
+ * The errors are coalesced when drained: equal errors (see {@link ErrorInfo#equals(Object)}) 
+ * become one error with the sum of the instances.
+ * 
+ * @author acaproni
+ *
+ */
+public class ErrorQueue {
+	
+	/**
+	 * The errors in the queue
+	 */
+	private final ConcurrentLinkedQueue<ErrorInfo> errors = new ConcurrentLinkedQueue<ErrorInfo>();
+	
+	/**
+	 * The number of errors in the queue 
+	 * (<code>ConcurrentLinkedQueue.size()</code> iterates over all the items)
+	 */
+	private final AtomicInteger size = new AtomicInteger(0);
+	
+	/**
+	 * The number of errors discarded since the last {@link #getAndResetDiscarded()}
+	 */
+	private final AtomicLong discarded = new AtomicLong(0);
+	
+	/**
+	 * The max number of errors in the queue
+	 */
+	private final int capacity;
+	
+	/**
+	 * Constructor
+	 * 
+	 * @param capacity The max number of errors in the queue
+	 */
+	public ErrorQueue(int capacity) {
+		if (capacity<=0) {
+			throw new IllegalArgumentException("Invalid capacity "+capacity);
+		}
+		this.capacity=capacity;
+	}
+	
+	/**
+	 * Add an error in the queue.
+	 * <P>
+	 * If the queue is full the error is discarded.
+	 * 
+	 * @param error The error to add
+	 * @return <code>true</code> if the error has been added,
+	 * 		<code>false</code> if it has been discarded
+	 */
+	public boolean offer(ErrorInfo error) {
+		if (error==null) {
+			throw new IllegalArgumentException("Invalid null error");
+		}
+		if (size.incrementAndGet()>capacity) {
+			size.decrementAndGet();
+			discarded.incrementAndGet();
+			return false;
+		}
+		errors.offer(error);
+		return true;
+	}
+	
+	/**
+	 * Remove the errors from the queue and coalesce the equal errors.
+	 * <P>
+	 * This method must be called by one thread only.
+	 * 
+	 * @param max The max number of errors to remove from the queue
+	 * @return The errors removed from the queue, the oldest first; 
+	 * 		the equal errors are returned once with the sum of the instances
+	 */
+	public Collection<ErrorInfo> drain(int max) {
+		if (max<=0) {
+			throw new IllegalArgumentException("Invalid max number of errors "+max);
+		}
+		LinkedHashMap<ErrorInfo, ErrorInfo> ret = new LinkedHashMap<ErrorInfo, ErrorInfo>();
+		ErrorInfo error;
+		for (int t=0; t<max && (error=errors.poll())!=null; t++) {
+			size.decrementAndGet();
+			ErrorInfo coalesced = ret.get(error);
+			if (coalesced==null) {
+				ret.put(error, error);
+			} else {
+				coalesced.addInstances(error.getInstances()+1);
+			}
+		}
+		return ret.values();
+	}
+	
+	/**
+	 * 
+	 * @return The number of errors in the queue
+	 */
+	public int size() {
+		return size.get();
+	}
+	
+	/**
+	 * Return the number of errors discarded because the queue was full
+	 * and reset the counter
+	 * 
+	 * @return The number of errors discarded since the previous call
+	 */
+	public long getAndResetDiscarded() {
+		return discarded.getAndSet(0);
+	}
+}
@@ -27,6 +27,7 @@ import java.io.BufferedOutputStream;
 import java.io.FileOutputStream;
 import java.io.StringReader;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Vector;
 
 import javax.swing.JButton;
@@ -40,6 +41,8 @@ import javax.swing.Timer;
 import javax.swing.event.HyperlinkEvent;
 import javax.swing.event.HyperlinkListener;
 import javax.swing.filechooser.FileNameExtensionFilter;
+import javax.swing.text.Element;
+import javax.swing.text.html.HTML;
 import javax.swing.text.html.HTMLDocument;
 import javax.swing.text.html.HTMLEditorKit;
 
@@ -67,6 +70,9 @@ import alma.control.gui.antennamount.errortab.ErrorInfo.AdditionalInfo;
  *  The refresh of the content of the HTML windows happens after a specified time
  *  interval elapsed. In fact refreshing every time an error happens causes the
  *  HTML's to flash noisy.
+ *  <P>
+ *  The summary is updated by patching only the items of the errors 
+ *  that changed since the previous refresh.
  * 
  * @author acaproni
  *
@@ -100,8 +106,8 @@ public class ErrorTab extends JPanel implements HyperlinkListener, ActionListene
 	private static final int MAX_ERROR_NUMBER = 10000;
 	
 	// The errors to show to the user
-	// Newest errors are in position 0
-	private Vector<ErrorInfo> errors = new Vector<ErrorInfo>();
+	// Newest errors are returned first
+	private final ErrorList errors = new ErrorList(MAX_ERROR_NUMBER);
 	
 	/** The refresh of the summary HTML happens only when a new error
 	 * arrives but it is limited by time also
@@ -122,6 +128,28 @@ public class ErrorTab extends JPanel implements HyperlinkListener, ActionListene
 	 */
 	private Timer refreshTimer=new Timer(REFRESH_TIME_INTERVAL,this);
 	
+	/**
+	 * The max number of errors patched in the summary HTML document:
+	 * if more errors changed since the last refresh, the document is regenerated
+	 */
+	private static final int MAX_PATCHED_ERRORS=250;
+	
+	/**
+	 * The ID of the list of errors in the summary HTML document
+	 */
+	private static final String summaryListId="ErrorSummary";
+	
+	/**
+	 * The item of each error in the summary HTML document
+	 */
+	private final HashMap<ErrorInfo, Element> summaryItems = new HashMap<ErrorInfo, Element>();
+	
+	/**
+	 * <code>true</code> if the summary HTML document must be regenerated 
+	 * at the next refresh (for example because the errors have been acknowledged)
+	 */
+	private boolean rebuildSummary=false;
+	
 	/**
 	 * Constructor
 	 */
@@ -182,65 +210,102 @@ public class ErrorTab extends JPanel implements HyperlinkListener, ActionListene
 			throw new IllegalArgumentException("Invalid null error");
 		}
 		newErrors=true;
-		while (errors.size()>=MAX_ERROR_NUMBER) {
-			errors.remove(errors.size()-1);
-		}
-		if (errors.contains(error)) {
-			int pos = errors.indexOf(error);
-			if (pos==-1) {
-				throw new IllegalStateException("The list contains an error equal to the error to add but can't find its position");
-			}
-			error = errors.remove(pos);
-			error.addInstance();
-		}
-		errors.insertElementAt(error,0);
+		error=errors.add(error);
 		if (isShowing()) {
 			error.acknowledge();
 		}
 	}
 	
 	/**
-	 * Regenerate the content of the widget with the summary 
-	 * of the errors
+	 * Update the content of the widget with the summary 
+	 * of the errors.
+	 * <P>
+	 * Only the errors added, moved or removed since the last update
+	 * are patched in the HTML document unless they are too many
+	 * or the document must be regenerated.
 	 */
 	private synchronized void updateSummaryHTML( ) {
-		StringBuilder summaryHtmlText=new StringBuilder(htmlHeader);
-		summaryHtmlText.append(htmlHeader);
 		if (errors.size()==0) {
+			StringBuilder summaryHtmlText=new StringBuilder(htmlHeader);
 			summaryHtmlText.append("<H1 align=\"center\">No errors</H1>\n");
 			summaryHtmlText.append(htmlFooter);
 			clearBtn.setEnabled(false);
 			saveBtn.setEnabled(false);
 			summaryHtmlEP.setText(summaryHtmlText.toString());
+			summaryItems.clear();
+			errors.mark();
 			return;
 		}
 		clearBtn.setEnabled(true);
 		saveBtn.setEnabled(true);
 		
-		// Summary
-		summaryHtmlText.append("<H2 align=\"left\">Summary</H2>\n");
-		summaryHtmlText.append("<OL>");
-		int anchor=0; // The internal anchors have a progressive number
-		for (ErrorInfo error: errors) {
-			summaryHtmlText.append("<LI>");
-			if (!error.hasBeenAcknowledged()) {
-				summaryHtmlText.append("<FONT color=\"red\">New </FONT>");
+		if (rebuildSummary || !patchSummaryHTML()) {
+			rebuildSummaryHTML();
+			rebuildSummary=false;
+		}
+		errors.mark();
+	}
+	
+	/**
+	 * Patch the summary HTML document with the errors
+	 * added, moved and removed since the last update.
+	 * <P>
+	 * Each error is an item of the list of the summary: the items of the removed and moved 
+	 * errors are deleted and the items of the added and moved errors are
+	 * inserted at the beginning of the list.
+	 * 
+	 * @return <code>true</code> if the document has been patched;
+	 * 		<code>false</code> if the document must be regenerated
+	 */
+	private boolean patchSummaryHTML() {
+		if (errors.countChangedSinceMark()>MAX_PATCHED_ERRORS) {
+			return false;
+		}
+		HTMLDocument doc = (HTMLDocument)summaryHtmlEP.getDocument();
+		Element list = doc.getElement(summaryListId);
+		if (list==null) {
+			return false;
+		}
+		Vector<ErrorInfo> removed = errors.getRemovedSinceMark();
+		if (removed==null) {
+			return false;
+		}
+		try {
+			for (ErrorInfo error: removed) {
+				Element item = summaryItems.remove(error);
+				if (item!=null) {
+					doc.removeElement(item);
+				}
 			}
-			if (error.getInstances()>0) {
-				summaryHtmlText.append("<B>");
-				summaryHtmlText.append(error.getInstances());
-				summaryHtmlText.append("</B> instances of ");
+			for (ErrorInfo error: errors.getChangedSinceMark()) {
+				Element item = summaryItems.remove(error);
+				if (item!=null) {
+					doc.removeElement(item);
+				}
+				doc.insertAfterStart(list, formatSummaryItem(error).toString());
+				summaryItems.put(error, list.getElement(0));
 			}
-			summaryHtmlText.append("<A href=\"#Error");
-			summaryHtmlText.append(anchor++);
-			summaryHtmlText.append("\">");
-			summaryHtmlText.append(error.shortDescription);
-			summaryHtmlText.append("</A> (");
-			summaryHtmlText.append(error.getTimestampStr());
-			summaryHtmlText.append(')');
-			summaryHtmlText.append("</LI>\n");
+		} catch (Exception e) {
+			System.out.println("Error patching the summary: "+e.getMessage());
+			e.printStackTrace();
+			return false;
 		}
-		summaryHtmlText.append("<OL>\n");
+		return true;
+	}
+	
+	/**
+	 * Regenerate the summary HTML document with all the errors
+	 */
+	private void rebuildSummaryHTML() {
+		StringBuilder summaryHtmlText=new StringBuilder(htmlHeader);
+		summaryHtmlText.append("<H2 align=\"left\">Summary</H2>\n");
+		summaryHtmlText.append("<OL id=\"");
+		summaryHtmlText.append(summaryListId);
+		summaryHtmlText.append("\">");
+		for (ErrorInfo error: errors) {
+			summaryHtmlText.append(formatSummaryItem(error));
+		}
+		summaryHtmlText.append("</OL>\n");
 		
 		summaryHtmlText.append(htmlFooter);
 		
@@ -254,6 +319,61 @@ public class ErrorTab extends JPanel implements HyperlinkListener, ActionListene
 			e.printStackTrace();
 		}
 		summaryHtmlEP.setDocument(doc);
+		
+		// Remember the item of each error to patch the document
+		summaryItems.clear();
+		Element list = doc.getElement(summaryListId);
+		if (list==null) {
+			return;
+		}
+		int t=0;
+		for (ErrorInfo error: errors) {
+			if (t>=list.getElementCount()) {
+				break;
+			}
+			Element item = list.getElement(t++);
+			if (getItemId(error).equals(item.getAttributes().getAttribute(HTML.Attribute.ID))) {
+				summaryItems.put(error, item);
+			}
+		}
+	}
+	
+	/**
+	 * Create the HTML item representing an error in the summary
+	 * 
+	 * @param error The error to format
+	 * @return The HTML item of the error
+	 */
+	private StringBuilder formatSummaryItem(ErrorInfo error) {
+		StringBuilder item = new StringBuilder("<LI id=\"");
+		item.append(getItemId(error));
+		item.append("\">");
+		if (!error.hasBeenAcknowledged()) {
+			item.append("<FONT color=\"red\">New </FONT>");
+		}
+		if (error.getInstances()>0) {
+			item.append("<B>");
+			item.append(error.getInstances());
+			item.append("</B> instances of ");
+		}
+		item.append("<A href=\"#Error");
+		item.append(error.id);
+		item.append("\">");
+		item.append(error.shortDescription);
+		item.append("</A> (");
+		item.append(error.getTimestampStr());
+		item.append(')');
+		item.append("</LI>\n");
+		return item;
+	}
+	
+	/**
+	 * 
+	 * @param error The error
+	 * @return The ID of the item of the error in the summary
+	 */
+	private static String getItemId(ErrorInfo error) {
+		return "Item"+error.id;
 	}
 	
 	/**
@@ -272,10 +392,9 @@ public class ErrorTab extends JPanel implements HyperlinkListener, ActionListene
 		detailsHtmlText.append("<H1 align=\"center\"><A name=\"BeginningOfDoc\"></A>Errors</H1>\n");
 		
 		// Details
-		int anchor=0;
 		detailsHtmlText.append("<H2 align=\"left\">Details</H2>\n");
 		for (ErrorInfo error: errors) {
-			detailsHtmlText.append(formatError(error,Integer.valueOf(anchor).toString()));
+			detailsHtmlText.append(formatError(error,Long.toString(error.id)));
 		}
 		detailsHtmlText.append(htmlFooter);
 		//detailsHtmlEP.setText(detailsHtmlText.toString());
@@ -412,6 +531,8 @@ public class ErrorTab extends JPanel implements HyperlinkListener, ActionListene
 		for (ErrorInfo error: errors) {
 			error.acknowledge();
 		}
+		// The "New" marks disappear when the summary is regenerated
+		rebuildSummary=true;
     }
 
 	/**
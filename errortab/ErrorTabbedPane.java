@@ -104,6 +104,31 @@ public class ErrorTabbedPane extends JTabbedPane implements ActionListener, TabT
 	 */
 	private static final String errorTabTitle="Error";
 	
+	/**
+	 * The max number of errors waiting to be shown
+	 */
+	private static final int MAX_QUEUED_ERRORS=1000;
+	
+	/**
+	 * The max number of errors shown at each drain of the queue
+	 */
+	private static final int MAX_ERRORS_PER_DRAIN=250;
+	
+	/**
+	 * The time (msec) between two drains of the queue
+	 */
+	private static final int DRAIN_TIME=250;
+	
+	/**
+	 * The errors waiting to be shown in the error tab
+	 */
+	private final ErrorQueue errorQueue = new ErrorQueue(MAX_QUEUED_ERRORS);
+	
+	/**
+	 * The timer to drain the queue of errors and show them in the error tab
+	 */
+	private final Timer drainTimer;
+	
 	/**
 	 * Build a new ErrorTabbedPane.
 	 * 
@@ -120,12 +145,18 @@ public class ErrorTabbedPane extends JTabbedPane implements ActionListener, TabT
 		// Set the timer to flash the title of the tab
 		flashTitleTimer= new Timer(TITLE_FLASH_TIME,this);
 		flashTitleTimer.stop();
+		// Set the timer to show the queued errors
+		drainTimer = new Timer(DRAIN_TIME,this);
+		drainTimer.start();
 	}
 	
 	/** 
 	 * Add an error to the tab.
 	 * <P>
-	 * If it is the case, the title of the error tab begins flashing.
+	 * The error is queued and shown later by the event dispatcher thread
+	 * so that this method never blocks the caller. 
+	 * If it is the case, the title of the error tab begins flashing
+	 * when the error is shown.
 	 * 
 	 * @param newError The new error to add to the tab
 	 */
@@ -133,8 +164,31 @@ public class ErrorTabbedPane extends JTabbedPane implements ActionListener, TabT
 		if (newError==null) {
 			throw new IllegalArgumentException("Invalid null error");
 		}
-		
-		errorTab.addError(newError);
+		errorQueue.offer(newError);
+	}
+	
+	/**
+	 * Show the errors in the queue.
+	 * <P>
+	 * If errors have been discarded because the queue was full, 
+	 * a new error reports how many errors have been lost.
+	 */
+	private void showQueuedErrors() {
+		long discarded=errorQueue.getAndResetDiscarded();
+		if (errorQueue.size()==0 && discarded==0) {
+			return;
+		}
+		for (ErrorInfo error: errorQueue.drain(MAX_ERRORS_PER_DRAIN)) {
+			errorTab.addError(error);
+		}
+		if (discarded>0) {
+			ErrorInfo error = new ErrorInfo("Errors discarded", "Some errors arrived too fast to be shown and have been discarded");
+			error.addAdditionalInfo(error.new AdditionalInfo("Discarded errors",Long.toString(discarded)));
+			if (discarded>1) {
+				error.addInstances(discarded-1);
+			}
+			errorTab.addError(error);
+		}
 		
 		// Check if the error tab is already present
 		if (indexOfComponent(errorTab)==-1) {
@@ -221,6 +275,10 @@ public class ErrorTabbedPane extends JTabbedPane implements ActionListener, TabT
 	 * @see import java.awt.event.ActionListener;
 	 */
 	public void actionPerformed(ActionEvent e) {
+		if (e.getSource()==drainTimer) {
+			showQueuedErrors();
+			return;
+		}
 		if (e.getSource()==flashTitleTimer) {
 			if (++currentFlash==NUMBER_OF_TITLE_FLASHES) {
 				tabTitleState(ValueState.ERROR, errorTabTitle, errorTab, false);
@@ -25,7 +25,7 @@ import alma.control.gui.antennamount.mount.IMetrology;
 import alma.control.gui.antennamount.mount.ValueHolder;
 import alma.control.gui.antennamount.utils.ValueDisplayer;
 import alma.control.gui.antennamount.utils.ValueState;
-import alma.control.gui.antennamount.utils.bit.LongArrayBit;
+import alma.control.gui.antennamount.utils.bit.IntArrayBit;
 
 /**
  * The metrology model for the Vertex with vendor specific status bits
@@ -60,11 +60,6 @@ public class AEMModel extends CommonMetrologyModel {
 		 */
 		private final int bitNum;
 		
-		/**
-		 * The actual value of the entry
-		 */
-		private final StringBuilder value = new StringBuilder(ValueDisplayer.NOT_AVAILABLE);
-		
 		/**
 		 * Constructor
 		 * 
@@ -77,30 +72,21 @@ public class AEMModel extends CommonMetrologyModel {
 			this.byteNum=byteNum;
 			this.bitNum=bitNum;
 		}
-		
-		/**
-		 * Refresh the values of the bits
-		 * 
-		 * @param bits 
-		 * @param state The ValueState
-		 */
-		public static ValueState refresh(ValueHolder<LongArrayBit> bits) {
-			if (bits==null || bits.getValue()==null) {
-				for (EquipStatus es: EquipStatus.values()) {
-					es.value.delete(0, es.value.length());
-					es.value.append(ValueDisplayer.NOT_AVAILABLE);
-				}
-				return ValueState.NORMAL;
-			}
-			LongArrayBit lab = bits.getValue();
-			ValueState ret= ValueState.NORMAL;
-			for (EquipStatus es: EquipStatus.values()) {
-				ret=ValueDisplayer.formatBit(lab.getBit(es.byteNum, es.bitNum), ret, es.value, bits);
-			}
-			return ret;
-		}
 	}
 	
+	/**
+	 * The entries of the equipment status (<code>values()</code> returns a new array each time)
+	 */
+	private static final EquipStatus[] EQUIP_ROWS=EquipStatus.values();
+	
+	/**
+	 * The values of the entries of the equipment status indexed by the ordinal of the entry
+	 * <P>
+	 * The values belong to this model so that the models of more antennas
+	 * do not overwrite each other.
+	 */
+	private final StringBuilder[] equipValues=buildRowValues(EQUIP_ROWS.length);
+	
 	/**
 	 * Constructor
 	 * 
@@ -124,7 +110,7 @@ public class AEMModel extends CommonMetrologyModel {
 	 * @return the number of rows for the vertex specific
 	 */
 	private int getVertexModelRowCount() {
-		return 1+EquipStatus.values().length;
+		return 1+EQUIP_ROWS.length;
 	}
 	
 	/**
@@ -148,27 +134,49 @@ public class AEMModel extends CommonMetrologyModel {
 				return null;
 			}
 		}
-		if (index>0 && index<=EquipStatus.values().length) {
+		if (index>0 && index<=EQUIP_ROWS.length) {
 			if (columnIndex==0) {
-				return EquipStatus.values()[index-1].title;
+				return EQUIP_ROWS[index-1].title;
 			} else {
-				return EquipStatus.values()[index-1].value.toString();
+				return equipValues[index-1].toString();
 			}
 		}
 		return null;
 	}
 
+	/**
+	 * Refresh the values of the bits of the equipment status
+	 * 
+	 * @param bits The bits of the equipment status (can be <code>null</code>)
+	 * @return The ValueState
+	 */
+	private ValueState refreshEquipStatus(ValueHolder<IntArrayBit> bits) {
+		if (bits==null || bits.getValue()==null) {
+			for (StringBuilder value: equipValues) {
+				value.delete(0, value.length());
+				value.append(ValueDisplayer.NOT_AVAILABLE);
+			}
+			return ValueState.NORMAL;
+		}
+		IntArrayBit lab = bits.getValue();
+		ValueState ret= ValueState.NORMAL;
+		for (EquipStatus es: EQUIP_ROWS) {
+			ret=ValueDisplayer.formatBit(lab.getBit(es.byteNum, es.bitNum), ret, equipValues[es.ordinal()], bits);
+		}
+		return ret;
+	}
+
 	@Override
 	protected ValueState refresh() {
 		if (metrology==null) {
-			EquipStatus.refresh(null);
-			fireTableDataChanged();
+			refreshEquipStatus(null);
+			fireChangedRows();
 			return ValueState.NORMAL;
 		}
 		ValueState ret = ValueState.NORMAL;
-		ret=ValueState.max(ret, EquipStatus.refresh(metrology.getEquipStatus()));
+		ret=ValueState.max(ret, refreshEquipStatus(metrology.getEquipStatus()));
 		ret=ValueState.max(ret, super.refresh());
-		fireTableDataChanged();
+		fireChangedRows();
 		return ret;
 	}
 
@@ -26,6 +26,7 @@
 package alma.control.gui.antennamount.metrology;
 
 import java.awt.Component;
+import java.util.Arrays;
 
 import alma.ControlGUIErrType.wrappers.AcsJMountGUIErrorEx;
 import alma.control.gui.antennamount.AntennaRootPane;
@@ -34,6 +35,7 @@ import alma.control.gui.antennamount.errortab.ErrorTabbedPane;
 import alma.control.gui.antennamount.errortab.TabTitleSetter;
 import alma.control.gui.antennamount.mount.IMetrology;
 import alma.control.gui.antennamount.mount.ValueHolder;
+import alma.control.gui.antennamount.utils.RowChangeTracker;
 import alma.control.gui.antennamount.utils.ValueDisplayer;
 import alma.control.gui.antennamount.utils.ValueDisplayer.DisplayStruct;
 import alma.control.gui.antennamount.utils.ValueState;
@@ -87,11 +89,6 @@ public abstract class CommonMetrologyModel extends AbstractTableModel {
 		 */
 		private final String title;
 		
-		/**
-		 * The value of the delta
-		 */
-		private String value=new String(ValueDisplayer.NOT_AVAILABLE);
-		
 		/**
 		 * Constructor
 		 * 
@@ -100,24 +97,6 @@ public abstract class CommonMetrologyModel extends AbstractTableModel {
 		private Deltas(String title) {
 			this.title=title;
 		}
-		
-		/**
-		 * refresh the values
-		 * 
-		 * @param vals The values read from the mount
-		 */
-		public static ValueState refresh(ValueHolder<int[]> vals) {
-			if (vals==null || vals.getValue()==null) {
-				AZ_DELTA.value=ValueDisplayer.NOT_AVAILABLE;
-				EL_DELTA.value=ValueDisplayer.NOT_AVAILABLE;
-				return ValueState.NORMAL;
-			}
-			DisplayStruct ds=ValueDisplayer.getString(""+vals.getValue()[0], vals);
-			AZ_DELTA.value=ds.state.format(ds.str);
-			ds=ValueDisplayer.getString(""+vals.getValue()[1], vals);
-			EL_DELTA.value=ds.state.format(ds.str);
-			return ds.state;
-		}
 	}
 	
 	/**
@@ -134,24 +113,6 @@ public abstract class CommonMetrologyModel extends AbstractTableModel {
 		 */
 		private final String title;
 		
-		/**
-		 * The value of the delta
-		 */
-		private String value=new String(ValueDisplayer.NOT_AVAILABLE);
-		
-		/**
-		 * refresh the value of deltaPath
-		 */
-		public static ValueState refresh(ValueHolder<Integer> val) {
-			if (val==null || val.getValue()==null) {
-				DELTAPATH.value=ValueDisplayer.NOT_AVAILABLE;
-				return ValueState.NORMAL;
-			}
-			DisplayStruct ds=ValueDisplayer.getString(""+val.getValue(), val);
-			DELTAPATH.value=ds.str;
-			return ds.state;
-		}
-		
 		/**
 		 * Constructor
 		 * 
@@ -199,30 +160,54 @@ public abstract class CommonMetrologyModel extends AbstractTableModel {
 		}
 		
 		/**
-		 * Refresh the values of the sensors
+		 * The version of the holder of the temperatures at the last refresh
+		 * (<code>-1</code> if the values were not available)
+		 */
+		private long lastVersion=-1;
+		
+		/**
+		 * The state of the temperatures at the last refresh
+		 */
+		private ValueState lastState=ValueState.NORMAL;
+		
+		/**
+		 * Refresh the values of the sensors.
+		 * <P>
+		 * The strings are formatted again only if the holder has been
+		 * updated (or its state changed) since the last refresh.
 		 * 
 		 * @param values The values to display in the table
 		 * @return the state error/ok
 		 */
 		public ValueState refresh(ValueHolder<int[]> vals) {
-			ValueState ret=ValueState.NORMAL;
+			ValueHolder.Snapshot<int[]> snap=(vals==null)?null:vals.snapshot();
+			if (snap==null || snap.value==null) {
+				if (lastVersion!=-1) {
+					for (int t=0; t<titles.length; t++) {
+						values[t]=ValueDisplayer.NOT_AVAILABLE;
+					}
+				}
+				lastVersion=-1;
+				lastState=ValueState.NORMAL;
+				return lastState;
+			}
+			ValueState state=ValueDisplayer.getString(ValueDisplayer.NOT_AVAILABLE, snap).state;
+			if (snap.version==lastVersion && state==lastState) {
+				return lastState;
+			}
 			for (int t=0; t<titles.length; t++) {
-				if (vals==null || vals.getValue()==null) {
-					values[t]=ValueDisplayer.NOT_AVAILABLE;
+				float val = snap.value[t]/100;
+				String str=null;
+				if (val>=299 || val<=-299) {
+					str = "Sensor missing or disabled";
 				} else {
-					float val = vals.getValue()[t]/100;
-					String str=null;
-					if (val>=299 || val<=-299) {
-						str = "Sensor missing or disabled";
-					} else {
-						str = String.format("%+03.2f", val);
-					}
-					DisplayStruct ds=ValueDisplayer.getString(str, vals);
-					values[t]=ds.str;
-					ret=ValueState.max(ret, ds.state);
+					str = String.format("%+03.2f", val);
 				}
+				values[t]=str;
 			}
-			return ret;
+			lastVersion=snap.version;
+			lastState=state;
+			return state;
 		}
 	}
 	
@@ -251,35 +236,63 @@ public abstract class CommonMetrologyModel extends AbstractTableModel {
 	/**
 	 *  The title of the equipment status section
 	 */
-	protected static String equipStatusTitle = "<HTML><FONT color=\"blue\"><B>Equipment status</B></FONT>";
+	protected static final String equipStatusTitle = "<HTML><FONT color=\"blue\"><B>Equipment status</B></FONT>";
 	
 	/**
 	 *  The title of the equipment status section
 	 */
-	protected static String deltasTitle = "<HTML><FONT color=\"blue\"><B>Delta correction</B></FONT>";
+	protected static final String deltasTitle = "<HTML><FONT color=\"blue\"><B>Delta correction</B></FONT>";
 	
 	/**
 	 *  The title of the equipment status section
 	 */
-	protected static String deltaPathTitle = "<HTML><FONT color=\"blue\"><B>Error in path length</B></FONT>";
+	protected static final String deltaPathTitle = "<HTML><FONT color=\"blue\"><B>Error in path length</B></FONT>";
 	
 	/**
 	 *  The title of the temperatures section
 	 */
-	protected static String tempsTitle = "<HTML><FONT color=\"blue\"><B>Temperatures</B></FONT>";
+	protected static final String tempsTitle = "<HTML><FONT color=\"blue\"><B>Temperatures</B></FONT>";
+	
+	/**
+	 * The deltas (<code>values()</code> returns a new array each time)
+	 */
+	private static final Deltas[] DELTAS=Deltas.values();
+	
+	/**
+	 * The delta paths (<code>values()</code> returns a new array each time)
+	 */
+	private static final DeltaPath[] DELTA_PATHS=DeltaPath.values();
+	
+	/**
+	 * The values of the deltas indexed by the ordinal of the {@link Deltas}
+	 * <P>
+	 * The values belong to this model so that the models of more antennas
+	 * do not overwrite each other.
+	 */
+	private final String[] deltaValues=new String[DELTAS.length];
+	
+	/**
+	 * The values of the delta paths indexed by the ordinal of the {@link DeltaPath}
+	 */
+	private final String[] deltaPathValues=new String[DELTA_PATHS.length];
 	
 	/**
 	 * The last row (zero-based) of the common part.
 	 * 
 	 * <E>Note</E>: this does not include the temps at the bottom of the table
 	 */
-	protected final int lastCommonRow=1+Deltas.values().length+DeltaPath.values().length;
+	protected final int lastCommonRow=1+DELTAS.length+DELTA_PATHS.length;
 	
 	/**
 	 * The temperature of th esensor to display in the table
 	 */
 	private final Temps temps = new Temps();
 	
+	/**
+	 * Notifies the table only about the rows changed by the refresh
+	 */
+	private final RowChangeTracker changeTracker = new RowChangeTracker();
+	
 	/**
 	 * The 	{@link AntennaRootPane} to add errors to the error tab
 	 */
@@ -294,6 +307,8 @@ public abstract class CommonMetrologyModel extends AbstractTableModel {
 		}
 		this.antennaRootPane=antennaRootPane;
 		this.metrology=metrology;
+		Arrays.fill(deltaValues, ValueDisplayer.NOT_AVAILABLE);
+		Arrays.fill(deltaPathValues, ValueDisplayer.NOT_AVAILABLE);
 	}
 
 	/**
@@ -334,9 +349,9 @@ public abstract class CommonMetrologyModel extends AbstractTableModel {
 		}
 		if (rowIndex>0 && rowIndex<3) {
 			if (columnIndex==0) {
-				return Deltas.values()[rowIndex-1].title;
+				return DELTAS[rowIndex-1].title;
 			} else {
-				return Deltas.values()[rowIndex-1].value;
+				return deltaValues[rowIndex-1];
 			}
 		}
 		// DELTAPATH
@@ -351,7 +366,7 @@ public abstract class CommonMetrologyModel extends AbstractTableModel {
 			if (columnIndex==0) {
 				return DeltaPath.DELTAPATH.title;
 			} else {
-				return DeltaPath.DELTAPATH.value;
+				return deltaPathValues[DeltaPath.DELTAPATH.ordinal()];
 			}
 		}
 		return null;
@@ -387,18 +402,75 @@ public abstract class CommonMetrologyModel extends AbstractTableModel {
 		return "?";
 	}
 	
+	/**
+	 * Refresh the values of the deltas
+	 * 
+	 * @param vals The values read from the mount
+	 */
+	private ValueState refreshDeltas(ValueHolder<int[]> vals) {
+		if (vals==null || vals.getValue()==null) {
+			deltaValues[Deltas.AZ_DELTA.ordinal()]=ValueDisplayer.NOT_AVAILABLE;
+			deltaValues[Deltas.EL_DELTA.ordinal()]=ValueDisplayer.NOT_AVAILABLE;
+			return ValueState.NORMAL;
+		}
+		DisplayStruct ds=ValueDisplayer.getString(""+vals.getValue()[0], vals);
+		deltaValues[Deltas.AZ_DELTA.ordinal()]=ds.state.format(ds.str);
+		ds=ValueDisplayer.getString(""+vals.getValue()[1], vals);
+		deltaValues[Deltas.EL_DELTA.ordinal()]=ds.state.format(ds.str);
+		return ds.state;
+	}
+	
+	/**
+	 * Refresh the value of deltaPath
+	 * 
+	 * @param val The value read from the mount
+	 */
+	private ValueState refreshDeltaPath(ValueHolder<Integer> val) {
+		if (val==null || val.getValue()==null) {
+			deltaPathValues[DeltaPath.DELTAPATH.ordinal()]=ValueDisplayer.NOT_AVAILABLE;
+			return ValueState.NORMAL;
+		}
+		DisplayStruct ds=ValueDisplayer.getString(""+val.getValue(), val);
+		deltaPathValues[DeltaPath.DELTAPATH.ordinal()]=ds.str;
+		return ds.state;
+	}
+	
 	/**
 	 * Refresh the values shown in the antenna
 	 *
 	 */
 	protected ValueState refresh() {
 		ValueState ret=ValueState.NORMAL;
-		ret=ValueState.max(ret, Deltas.refresh(metrology.getDeltas()));
-		ret=ValueState.max(ret, DeltaPath.refresh(metrology.getDeltaPath()));
+		ret=ValueState.max(ret, refreshDeltas(metrology.getDeltas()));
+		ret=ValueState.max(ret, refreshDeltaPath(metrology.getDeltaPath()));
 		ret=ValueState.max(ret, temps.refresh(metrology.getTemps()));
 		return ret;
 	}
 	
+	/**
+	 * Build the values of a section of the table, all initialized
+	 * to {@link ValueDisplayer#NOT_AVAILABLE}
+	 * 
+	 * @param rows The number of rows of the section
+	 * @return The values of the rows
+	 */
+	protected static StringBuilder[] buildRowValues(int rows) {
+		StringBuilder[] ret = new StringBuilder[rows];
+		for (int t=0; t<rows; t++) {
+			ret[t]=new StringBuilder(ValueDisplayer.NOT_AVAILABLE);
+		}
+		return ret;
+	}
+	
+	/**
+	 * Notify the table about the rows changed since the previous refresh.
+	 * <P>
+	 * Nothing is fired if no row changed.
+	 */
+	protected void fireChangedRows() {
+		changeTracker.fireChanges(this);
+	}
+	
 	/**
 	 * @see AbstractTableModel
 	 */
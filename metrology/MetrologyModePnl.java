@@ -17,7 +17,7 @@ import javax.swing.JPanel;
 import alma.control.gui.antennamount.mount.ACSComponentsManager.AntennaType;
 import alma.control.gui.antennamount.mount.IMetrology;
 import alma.control.gui.antennamount.mount.ValueHolder;
-import alma.control.gui.antennamount.utils.bit.LongArrayBit;
+import alma.control.gui.antennamount.utils.bit.IntArrayBit;
 
 /**
  * The panel to set and read the metrology mode for each type of 
@@ -175,13 +175,13 @@ public class MetrologyModePnl extends JPanel implements ActionListener {
 	 * 
 	 * @param val The new value (can be <code>null</code>)
 	 */
-	public void refresh(ValueHolder<LongArrayBit> val) {
+	public void refresh(ValueHolder<IntArrayBit> val) {
 		for (ModeSwitchWidget wdgt: modeWidgets) {
 			if (val==null ||val.getValue()==null) {
 				wdgt.setValue(null);
 				continue;
 			} 
-			LongArrayBit lab = val.getValue();
+			IntArrayBit lab = val.getValue();
 			wdgt.setValue(lab.getBit(wdgt.byteNum, wdgt.bitNum));
 		}
 	}
@@ -14,7 +14,6 @@ import javax.swing.JPanel;
 import javax.swing.SwingUtilities;
 
 import alma.control.gui.antennamount.utils.GUIConstants;
-import alma.control.gui.antennamount.utils.bit.LongBit;
 
 /**
  * The widget for one bit of the metrology mode.
@@ -19,7 +19,22 @@
 package alma.control.gui.antennamount.mount;
 
 
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Vector;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Logger;
 
 import org.omg.CORBA.Object;
@@ -62,12 +77,136 @@ import alma.JavaContainerError.wrappers.AcsJContainerServicesEx;
 
 /**
  * A class that connects and holds the Mount and the MountController
+ * <P>
+ * The connection is a pipeline of {@link ConnectionStep}s executed 
+ * asynchronously by the threads of a pool shared by all the managers
+ * (see {@link #connectComponentsAsync(String)}).
+ * The steps depend on the result of the previous one but the
+ * remote calls that are independent each other (like checking the
+ * type of the mount and getting its name) are executed in parallel
+ * by the threads of a second pool.
+ * Both the pools are bounded: the connections and the calls in excess
+ * wait for a free thread.
+ * The time spent in each step is logged and can be read with 
+ * {@link #getStepTime(ConnectionStep)}.
+ * <P>
+ * The components of more antennas can be connected at once
+ * with {@link #connectAll(ContainerServices, Collection)}.
  * 
  * @author acaproni
  *
  */
 public class ACSComponentsManager implements ComponentListener {
 	
+	/**
+	 * The steps to connect the components
+	 * 
+	 * @author acaproni
+	 *
+	 */
+	public static enum ConnectionStep {
+		ANTENNA("Antenna"), // Get the antenna and the name of the controller
+		CONTROLLER("Controller"), // Connect the controller
+		ALLOCATION("Allocation"), // Allocate the controller
+		MOUNT("Mount"), // Connect the mount
+		MOUNT_TYPE("Mount type"); // Check the type of the mount
+		
+		/**
+		 * Constructor
+		 * 
+		 * @param desc The description of the step
+		 */
+		ConnectionStep(String desc) {
+			description=desc;
+		}
+		
+		/**
+		 * The description of the step
+		 */
+		public final String description;
+	}
+	
+	/**
+	 * The factory of the named daemon threads of the pools
+	 * connecting the components
+	 * 
+	 * @author acaproni
+	 *
+	 */
+	private static class ConnectionThreadFactory implements ThreadFactory {
+		
+		/**
+		 * The name of the pool, used to name the threads
+		 */
+		private final String name;
+		
+		/**
+		 * The number of threads created so far (used for the name)
+		 */
+		private final AtomicInteger threadNumber = new AtomicInteger(0);
+		
+		/**
+		 * Constructor
+		 * 
+		 * @param name The name of the pool
+		 */
+		public ConnectionThreadFactory(String name) {
+			this.name=name;
+		}
+		
+		/**
+		 * @see ThreadFactory
+		 */
+		public Thread newThread(Runnable r) {
+			Thread t = new Thread(r,name+"-"+threadNumber.incrementAndGet());
+			t.setDaemon(true);
+			return t;
+		}
+	}
+	
+	/**
+	 * The time (secs) an idle thread of the pool waits before terminating 
+	 */
+	private static final int KEEP_ALIVE_TIME=60;
+	
+	/**
+	 * The max number of connections executed at the same time:
+	 * the other connections wait in the queue of the {@link #connectionPool}
+	 */
+	private static final int MAX_PARALLEL_CONNECTIONS=32;
+	
+	/**
+	 * The max number of remote calls executed at the same time 
+	 * by the {@link #remoteCallsPool}
+	 */
+	private static final int MAX_PARALLEL_REMOTE_CALLS=32;
+	
+	/**
+	 * The max time (secs) {@link #close()} waits for a connection in progress
+	 */
+	private static final int CLOSE_TIMEOUT=30;
+	
+	/**
+	 * The pool of threads executing the steps of the connections,
+	 * shared by all the managers 
+	 * (<code>null</code> until the first connection)
+	 * <P>
+	 * The threads of this pool wait for the remote calls executed
+	 * in parallel by the {@link #remoteCallsPool}.
+	 */
+	private static ThreadPoolExecutor connectionPool=null;
+	
+	/**
+	 * The pool of threads executing the remote calls of the 
+	 * connections in parallel, shared by all the managers 
+	 * (<code>null</code> until the first connection)
+	 * <P>
+	 * It is a different pool from the {@link #connectionPool} because
+	 * the calls never wait for other tasks so both the pools can be
+	 * bounded without deadlocks.
+	 */
+	private static ThreadPoolExecutor remoteCallsPool=null;
+	
 	/**
 	 * The IDL of the mount controller needed to get it as a dynamic component
 	 */
@@ -193,6 +332,43 @@ public class ACSComponentsManager implements ComponentListener {
 	 */
 	private Antenna antenna;
 	
+	/**
+	 * The time (msec) spent in each step of the connection
+	 */
+	private final EnumMap<ConnectionStep, Long> stepTimes = new EnumMap<ConnectionStep, Long>(ConnectionStep.class);
+	
+	/**
+	 * The connection in progress or terminated 
+	 * (<code>null</code> if the connection has never been started)
+	 */
+	private volatile Future<ACSComponentsManager> connection=null;
+	
+	/**
+	 * <code>true</code> if the manager has been closed.
+	 * <P>
+	 * A connection cannot be stopped while it waits for a CORBA call
+	 * (<code>cancel(true)</code> does not interrupt a remote call): 
+	 * the pipeline checks this flag after each step and, if the manager has 
+	 * been closed in the meanwhile, it stops and releases the components it got.
+	 * <P>
+	 * This flag and {@link #connecting} are protected by {@link #releaseLock}.
+	 */
+	private volatile boolean closed=false;
+	
+	/**
+	 * <code>true</code> while the pipeline is running.
+	 * <P>
+	 * If the manager is closed while connecting, the components 
+	 * are released by the pipeline when it terminates instead of by {@link #close()}.
+	 */
+	private boolean connecting=false;
+	
+	/**
+	 * The lock to decide who between {@link #close()} and the pipeline
+	 * releases the components
+	 */
+	private final Object releaseLock = new Object();
+	
 	public ACSComponentsManager(ContainerServices cs) {
 		if (cs==null) {
 			throw new IllegalArgumentException("Invalid null ContainerServices in constructor");
@@ -205,12 +381,67 @@ public class ACSComponentsManager implements ComponentListener {
 	}
 	
 	
+	/**
+	 * Return the pool of threads executing the connections,
+	 * building it if it does not exist.
+	 * 
+	 * @return The pool of threads executing the connections
+	 */
+	private static ThreadPoolExecutor getConnectionPool() {
+		synchronized (ACSComponentsManager.class) {
+			if (connectionPool==null) {
+				connectionPool=buildPool("ConnectComponents", MAX_PARALLEL_CONNECTIONS);
+			}
+			return connectionPool;
+		}
+	}
+	
+	/**
+	 * Return the pool of threads executing the remote calls of the connections
+	 * in parallel, building it if it does not exist.
+	 * 
+	 * @return The pool of threads executing the remote calls
+	 */
+	private static ThreadPoolExecutor getRemoteCallsPool() {
+		synchronized (ACSComponentsManager.class) {
+			if (remoteCallsPool==null) {
+				remoteCallsPool=buildPool("ConnectComponentsCall", MAX_PARALLEL_REMOTE_CALLS);
+			}
+			return remoteCallsPool;
+		}
+	}
+	
+	/**
+	 * Build a pool with a bounded number of threads.
+	 * <P>
+	 * The tasks submitted when all the threads are busy wait in the queue 
+	 * and the threads are released when idle.
+	 * 
+	 * @param name The name of the pool
+	 * @param threads The max number of threads
+	 * @return The pool
+	 */
+	private static ThreadPoolExecutor buildPool(String name, int threads) {
+		ThreadPoolExecutor pool = new ThreadPoolExecutor(
+				threads,
+				threads,
+				KEEP_ALIVE_TIME,
+				TimeUnit.SECONDS,
+				new LinkedBlockingQueue<Runnable>(),
+				new ConnectionThreadFactory(name));
+		pool.allowCoreThreadTimeOut(true);
+		return pool;
+	}
+	
 	/**
 	 * Connects the Mount and the Controller for the antenna with the
 	 * given name.
 	 * 
 	 * If the connection fails an exception is thrown.
 	 * The method connects both the components or fails. 
+	 * <P>
+	 * The method waits for the termination of the pipeline
+	 * started by {@link #connectComponentsAsync(String)}.
 	 * 
 	 * @param antennaPath The name of the antenna the Mount and the MountController
 	 *                    belong to.
@@ -219,12 +450,165 @@ public class ACSComponentsManager implements ComponentListener {
 	 * @throws AcsJException In case of error connecting the components
 	 */
 	public void connectComponents(String antennaPath) throws AcsJException {
+		getResult(connectComponentsAsync(antennaPath),"Error connecting "+antennaPath);
+	}
+	
+	/**
+	 * Start connecting the Mount and the Controller for the antenna with the
+	 * given name.
+	 * <P>
+	 * The connection is executed by the threads of a pool: the method
+	 * returns immediately.
+	 * The returned future terminates when both the components are connected 
+	 * or with the exception that made the connection fail.
+	 * 
+	 * @param antennaPath The name of the antenna the Mount and the MountController
+	 *                    belong to (for example CONTROL/DV01)
+	 * @return The future of the connection
+	 * @see #connectComponents(String)
+	 */
+	public synchronized Future<ACSComponentsManager> connectComponentsAsync(final String antennaPath) {
 		if (antennaPath==null || antennaPath.length()==0) {
 			throw new IllegalArgumentException("The name of the antenna is invalid");
 		}
+		if (closed || contSvc==null) {
+			throw new IllegalStateException("The manager has been closed");
+		}
+		if (connection!=null) {
+			throw new IllegalStateException("Connection already started");
+		}
+		connection=getConnectionPool().submit(new Callable<ACSComponentsManager>() {
+			public ACSComponentsManager call() throws Exception {
+				String threadName=Thread.currentThread().getName();
+				Thread.currentThread().setName(threadName+"["+antennaPath+"]");
+				try {
+					connectPipeline(antennaPath);
+				} finally {
+					Thread.currentThread().setName(threadName);
+				}
+				return ACSComponentsManager.this;
+			}
+		});
+		return connection;
+	}
+	
+	/**
+	 * Start connecting the components of all the given antennas at once.
+	 * <P>
+	 * A new manager is built for each antenna. 
+	 * The caller is in charge of closing the managers, including those whose 
+	 * connection failed.
+	 * 
+	 * @param cs The ContainerServices
+	 * @param antennaPaths The names of the antennas (for example CONTROL/DV01)
+	 * @return The futures of the connections, in the same order of the names
+	 */
+	public static Map<String, Future<ACSComponentsManager>> connectAll(ContainerServices cs, Collection<String> antennaPaths) {
+		if (antennaPaths==null) {
+			throw new IllegalArgumentException("Invalid null collection of antennas");
+		}
+		Map<String, Future<ACSComponentsManager>> ret = new LinkedHashMap<String, Future<ACSComponentsManager>>();
+		for (String antennaPath: antennaPaths) {
+			ACSComponentsManager manager = new ACSComponentsManager(cs);
+			ret.put(antennaPath, manager.connectComponentsAsync(antennaPath));
+		}
+		return ret;
+	}
+	
+	/**
+	 * Wait for the termination of a future.
+	 * <P>
+	 * The exceptions thrown by the future are re-thrown as they are
+	 * if they are {@link AcsJException}s or unchecked, wrapped in a 
+	 * {@link AcsJMountGUIErrorEx} otherwise.
+	 * 
+	 * @param future The future to wait for
+	 * @param errorDesc The description of the error if the future failed
+	 * @return The result of the future
+	 * @throws AcsJException If the future failed
+	 */
+	private static <T> T getResult(Future<T> future, String errorDesc) throws AcsJException {
+		try {
+			return future.get();
+		} catch (ExecutionException e) {
+			Throwable cause=e.getCause();
+			if (cause instanceof AcsJException) {
+				throw (AcsJException)cause;
+			}
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException)cause;
+			}
+			if (cause instanceof Error) {
+				throw (Error)cause;
+			}
+			AcsJMountGUIErrorEx ex = new AcsJMountGUIErrorEx(cause);
+			ex.setContextDescription(errorDesc);
+			throw ex;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			AcsJMountGUIErrorEx ex = new AcsJMountGUIErrorEx(e);
+			ex.setContextDescription(errorDesc+": interrupted");
+			throw ex;
+		}
+	}
+	
+	/**
+	 * Execute the steps to connect the components
+	 * 
+	 * @param antennaPath The name of the antenna (for example CONTROL/DV01)
+	 * @throws AcsJException In case of error connecting the components
+	 */
+	private void connectPipeline(String antennaPath) throws AcsJException {
+		synchronized (releaseLock) {
+			checkClosed();
+			connecting=true;
+		}
+		try {
+			runPipeline(antennaPath);
+		} finally {
+			synchronized (releaseLock) {
+				connecting=false;
+				if (closed) {
+					// close() has been executed while connecting
+					logger.log(AcsLogLevel.WARNING,"Manager of "+antennaPath+" closed while connecting: releasing the components");
+					releaseComponents();
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Check if the manager has been closed while connecting.
+	 * 
+	 * @throws AcsJMountGUIErrorEx If the manager has been closed
+	 */
+	private void checkClosed() throws AcsJMountGUIErrorEx {
+		if (closed) {
+			AcsJMountGUIErrorEx ex = new AcsJMountGUIErrorEx();
+			ex.setContextDescription("The manager has been closed");
+			throw ex;
+		}
+	}
+	
+	/**
+	 * The steps of the pipeline.
+	 * <P>
+	 * The connection stops as soon as the manager is closed: the components
+	 * got so far are released by {@link #connectPipeline(String)}.
+	 * 
+	 * @param antennaPath The name of the antenna (for example CONTROL/DV01)
+	 * @throws AcsJException In case of error connecting the components
+	 */
+	private void runPipeline(String antennaPath) throws AcsJException {
+		long startTime=System.currentTimeMillis();
 		
-		// Get the name of the MountComponent implement the untController from the Antenna
+		// Get the name of the antenna, for example ALMA001
 		antennaComponentName=antennaPath;
+		String[] temp = antennaComponentName.split("/");
+		antennaName=temp[temp.length-1];
+		
+		// Get the name of the MountController from the Antenna
+		long stepTime=System.currentTimeMillis();
 		getAntenna(antennaComponentName);
 		try {
 			logger.log(AcsLogLevel.DEBUG,"Getting the mount controller name from the antenna");
@@ -235,23 +619,74 @@ public class ACSComponentsManager implements ComponentListener {
 		} catch (Throwable t) {
 			AcsJInvalidControllerNameEx ex = new AcsJInvalidControllerNameEx(t);
 			throw ex;
+		} finally {
+			antenna=null;
 		}
-		antenna=null;
-		
-		// Get the name of the antenna, for example ALMA001
-		String[] temp = antennaComponentName.split("/");
-		antennaName=temp[temp.length-1];
+		stepTime=stepDone(ConnectionStep.ANTENNA,stepTime);
+		checkClosed();
 		
 		// Get the MountController
 		connectController(controllerName);
+		stepTime=stepDone(ConnectionStep.CONTROLLER,stepTime);
+		checkClosed();
 		if (controller.getStatus()!=Status.ALLOCATED) {
 			initializeController(antennaName);
 		}
+		stepTime=stepDone(ConnectionStep.ALLOCATION,stepTime);
+		checkClosed();
+		
+		// Get the mount: its name is read while checking its type
 		connectMount();
-		// Check the type of the mount
+		stepTime=stepDone(ConnectionStep.MOUNT,stepTime);
+		checkClosed();
+		Future<String> nameFuture=getRemoteCallsPool().submit(new Callable<String>() {
+			public String call() {
+				return mount.name();
+			}
+		});
 		checkMountType();
+		mountName=getResult(nameFuture,"Error getting the name of the mount");
+		stepDone(ConnectionStep.MOUNT_TYPE,stepTime);
+		logger.log(AcsLogLevel.INFO,"ACS component "+mountName+" connected");
 		
-		contSvc.registerComponentListener(this);
+		synchronized (releaseLock) {
+			// Never register the listener in a closed manager
+			checkClosed();
+			contSvc.registerComponentListener(this);
+		}
+		logger.log(AcsLogLevel.INFO,"Components of "+antennaName+" connected in "+(System.currentTimeMillis()-startTime)+" msecs "+stepTimes);
+	}
+	
+	/**
+	 * Record the time spent in a step of the connection
+	 * 
+	 * @param step The step just terminated
+	 * @param startTime The time when the step started
+	 * @return The time when the step terminated (i.e. the start time of the next step)
+	 */
+	private long stepDone(ConnectionStep step, long startTime) {
+		long now=System.currentTimeMillis();
+		synchronized (stepTimes) {
+			stepTimes.put(step, Long.valueOf(now-startTime));
+		}
+		logger.log(AcsLogLevel.DEBUG,step.description+" step of "+antennaName+" terminated in "+(now-startTime)+" msecs");
+		return now;
+	}
+	
+	/**
+	 * Return the time spent in a step of the connection
+	 * 
+	 * @param step The step
+	 * @return The time (msec) spent in the step or -1 if the step has not been executed
+	 */
+	public long getStepTime(ConnectionStep step) {
+		if (step==null) {
+			throw new IllegalArgumentException("Invalid null step");
+		}
+		synchronized (stepTimes) {
+			Long time = stepTimes.get(step);
+			return (time==null)?-1:time.longValue();
+		}
 	}
 	
 	/**
@@ -418,8 +853,8 @@ public class ACSComponentsManager implements ComponentListener {
 			obj=null;
 			throw ex;
 		}
-		mountName=mount.name();
-		logger.log(AcsLogLevel.INFO,"ACS component "+mountName+" connected");
+		// The component must be released even if mount.name() fails
+		mountName=name;
 	}
 	
 	/**
@@ -451,9 +886,48 @@ public class ACSComponentsManager implements ComponentListener {
 	 * Release the components and all the resources.
 	 * 
 	 * This method is the last one to execute.
+	 * If the connection is still in progress, it waits for its termination 
+	 * (at most {@link #CLOSE_TIMEOUT} secs) before releasing the components.
+	 * A connection that does not terminate in time is cancelled: being
+	 * blocked in a remote call, it releases the components when it terminates.
 	 */
 	public void close() {
+		Future<ACSComponentsManager> conn=connection;
+		if (conn!=null) {
+			try {
+				conn.get(CLOSE_TIMEOUT, TimeUnit.SECONDS);
+			} catch (ExecutionException e) {
+				// The connection failed: release what has been connected
+			} catch (TimeoutException e) {
+				conn.cancel(true);
+				logger.log(AcsLogLevel.WARNING,"Connection of "+antennaComponentName+" cancelled: not terminated in "+CLOSE_TIMEOUT+" secs");
+			} catch (CancellationException e) {
+				// The connection has already been cancelled
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		synchronized (releaseLock) {
+			closed=true;
+			if (connecting) {
+				// The pipeline is blocked in a remote call: it releases
+				// the components when it terminates
+				logger.log(AcsLogLevel.DEBUG,"Components of "+antennaComponentName+" will be released at the end of the connection");
+				return;
+			}
+			releaseComponents();
+		}
+	}
+	
+	/**
+	 * Release the mount and the controller.
+	 * <P>
+	 * It is executed by {@link #close()} or, if the manager has been closed
+	 * while connecting, by the pipeline when it terminates.
+	 */
+	private void releaseComponents() {
 		vertex=null;
+		vertexLLama=null;
 		alcatel=null;
 		aca=null;
                 a7m=null; 
@@ -475,6 +949,8 @@ public class ACSComponentsManager implements ComponentListener {
 		} catch (Throwable t) {
 			logger.log(AcsLogLevel.ERROR,"Error releasing controller "+controllerName,t);
 		}
+		mountName=null;
+		controllerName=null;
 		contSvc=null;
 		mountType=AntennaType.UNKNOWN;
 	}
@@ -526,44 +1002,88 @@ public class ACSComponentsManager implements ComponentListener {
 		return mountType;
 	}
 	
+	/**
+	 * Return the name of the antenna
+	 * 
+	 * @return The name of the antenna (for example DV01)
+	 * 			or <code>null</code> if not connected
+	 */
+	public String getAntennaName() {
+		return antennaName;
+	}
+	
 	/**
 	 * Check the type of the mount by trying to narrow
 	 * it to different IDL types.
+	 * <P>
+	 * The mount is narrowed to all the IDL types in parallel: the first
+	 * type that narrowed well in the order of {@link AntennaType} is used.
 	 */
 	private void checkMountType() {
 		vertex=null;
+		vertexLLama=null;
 		alcatel=null;
         aca=null; //20090827MT
         a7m=null; //20090827MT
-		try {
-			vertex=MountVertexHelper.narrow(mount);
-			mountType=AntennaType.VERTEX;
-			return;
-		} catch (Throwable t) {}
-		try {
-			vertexLLama = MountVertexLLamaHelper.narrow(mount);
-			mountType=AntennaType.VERTEX_LLAMA;
-			return;
-		} catch (Exception ex) {}
-		try {
-			alcatel=MountAEMHelper.narrow(mount);
-			mountType=AntennaType.ALCATEL;
-			return;
-		} catch (Throwable t) {}
-		try {
-		        aca=MountACAHelper.narrow(mount);
-		        mountType=AntennaType.MELCO;
-		        return;
-                } catch (Throwable t) {}
-                try {
-                        a7m=MountA7MHelper.narrow(mount);
-                        mountType=AntennaType.MELCOA7M;
-                        return;
-                } catch (Throwable t) {}
-
+        
+        // The types in the same order they are checked
+        final AntennaType[] types = new AntennaType[] {
+        		AntennaType.VERTEX,
+        		AntennaType.VERTEX_LLAMA,
+        		AntennaType.ALCATEL,
+        		AntennaType.MELCO,
+        		AntennaType.MELCOA7M
+        };
+        Vector<Future<Mount>> narrows = new Vector<Future<Mount>>(types.length);
+        for (final AntennaType type: types) {
+        	narrows.add(getRemoteCallsPool().submit(new Callable<Mount>() {
+        		public Mount call() {
+        			return narrowMount(type);
+        		}
+        	}));
+        }
+        for (int t=0; t<types.length; t++) {
+        	Mount narrowed;
+        	try {
+        		narrowed=narrows.get(t).get();
+        	} catch (InterruptedException ie) {
+        		Thread.currentThread().interrupt();
+        		break;
+        	} catch (Throwable th) {
+        		// Not of this type
+        		continue;
+        	}
+        	switch (types[t]) {
+        	case VERTEX: vertex=(MountVertex)narrowed; break;
+        	case VERTEX_LLAMA: vertexLLama=(MountVertexLLama)narrowed; break;
+        	case ALCATEL: alcatel=(MountAEM)narrowed; break;
+        	case MELCO: aca=(MountACA)narrowed; break;
+        	case MELCOA7M: a7m=(MountA7M)narrowed; break;
+        	}
+        	mountType=types[t];
+        	return;
+        }
 
 		mountType=AntennaType.UNKNOWN;
 	}
+	
+	/**
+	 * Narrow the mount to the IDL type of the given antenna type
+	 * 
+	 * @param type The type of the antenna
+	 * @return The narrowed mount
+	 * @throws org.omg.CORBA.BAD_PARAM If the mount is not of the given type
+	 */
+	private Mount narrowMount(AntennaType type) {
+		switch (type) {
+		case VERTEX: return MountVertexHelper.narrow(mount);
+		case VERTEX_LLAMA: return MountVertexLLamaHelper.narrow(mount);
+		case ALCATEL: return MountAEMHelper.narrow(mount);
+		case MELCO: return MountACAHelper.narrow(mount);
+		case MELCOA7M: return MountA7MHelper.narrow(mount);
+		default: throw new IllegalArgumentException("Unsupported antenna type "+type);
+		}
+	}
 
 	/**
 	 * Return a MountVertex mount.
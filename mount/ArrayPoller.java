@@ -0,0 +1,482 @@
+/*
+ * ALMA - Atacama Large Millimiter Array (c) European Southern Observatory, 2007
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ */
+package alma.control.gui.antennamount.mount;
+
+import java.util.Vector;
+
+import alma.acs.logging.AcsLogLevel;
+
+/**
+ * The poller that updates the status of the components of many antennas
+ * with a bounded pool of threads (array mode).
+ * <P>
+ * Without the poller, each {@link MountCommom} (i.e. each Mount and each MountController)
+ * has its own thread that sleeps between two iterations: monitoring 50 antennas
+ * needs 100 threads.
+ * The poller executes the iterations of all the registered objects
+ * (see {@link MountCommom.PollCycle}) with a fixed number of threads.
+ * <P>
+ * Each registered object has the time its next iteration is due, computed at fixed rate 
+ * with the period returned by its {@link PollPolicy}.
+ * A free thread executes the first due object after the one executed last
+ * (round-robin) so that, when the threads are not enough to keep
+ * up with the load, all the antennas are updated with the same delay instead of
+ * starving the ones added last.
+ * <P>
+ * An iteration that starts more then the deadline after the time it was due
+ * is late: it is counted in the statistics and reported as a delay of the component
+ * so that the {@link PollPolicy} of the antenna increases its period and 
+ * reduces the load on the poller.
+ * 
+ * @author acaproni
+ *
+ */
+public class ArrayPoller {
+	
+	/**
+	 * The default number of threads of the poller
+	 */
+	public static final int DEFAULT_THREADS=8;
+	
+	/**
+	 * The default max delay (msec) between the time an iteration 
+	 * is due and the time it starts
+	 */
+	public static final int DEFAULT_DEADLINE=1000;
+	
+	/**
+	 * A object polled by this poller
+	 * 
+	 * @author acaproni
+	 *
+	 */
+	private class Entry {
+		
+		/**
+		 * The object whose status is updated
+		 */
+		public final MountCommom owner;
+		
+		/**
+		 * The state of the polling of the owner
+		 */
+		public final MountCommom.PollCycle cycle;
+		
+		/**
+		 * The time (msec) the next iteration is due
+		 */
+		public long due;
+		
+		/**
+		 * The max delay (msec) between the time an iteration is due and the time it starts
+		 */
+		public int deadline;
+		
+		/**
+		 * <code>true</code> while a thread is executing an iteration of the owner
+		 */
+		public boolean running=false;
+		
+		/**
+		 * <code>true</code> if the owner has been removed while running
+		 */
+		public boolean removed=false;
+		
+		/**
+		 * Constructor
+		 * 
+		 * @param owner The object whose status is updated
+		 * @param due The time (msec) the first iteration is due
+		 */
+		public Entry(MountCommom owner, long due) {
+			this.owner=owner;
+			this.cycle=owner.new PollCycle();
+			this.due=due;
+			this.deadline=defaultDeadline;
+		}
+	}
+	
+	/**
+	 * The thread executing the iterations
+	 * 
+	 * @author acaproni
+	 *
+	 */
+	private class Worker extends Thread {
+		
+		/**
+		 * Constructor
+		 * 
+		 * @param name The name of the thread
+		 */
+		public Worker(String name) {
+			super(name);
+			setDaemon(true);
+		}
+		
+		/**
+		 * @see Thread
+		 */
+		public void run() {
+			while (!closed) {
+				Entry entry;
+				try {
+					entry=take();
+				} catch (InterruptedException ie) {
+					continue;
+				}
+				if (entry!=null) {
+					execute(entry);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * The name of the poller (used for the names of the threads)
+	 */
+	private final String name;
+	
+	/**
+	 * The objects to poll in round-robin order
+	 */
+	private final Vector<Entry> entries = new Vector<Entry>();
+	
+	/**
+	 * The position in {@link #entries} where the search for the next
+	 * due object starts
+	 */
+	private int cursor=0;
+	
+	/**
+	 * The threads executing the iterations
+	 */
+	private final Worker[] workers;
+	
+	/**
+	 * The deadline (msec) of the objects added to the poller
+	 */
+	private final int defaultDeadline;
+	
+	/**
+	 * Signal the threads to terminate
+	 */
+	private volatile boolean closed=false;
+	
+	/**
+	 * The number of iterations executed so far
+	 */
+	private long iterations=0;
+	
+	/**
+	 * The number of iterations started after their deadline
+	 */
+	private long lateIterations=0;
+	
+	/**
+	 * The max delay (msec) between the time an iteration was due and the time it started
+	 */
+	private long maxLateness=0;
+	
+	/**
+	 * Constructor
+	 * 
+	 * @param name The name of the poller (used for the names of the threads)
+	 * @param threads The number of threads
+	 * @param deadline The max delay (msec) between the time an iteration 
+	 * 				is due and the time it starts
+	 */
+	public ArrayPoller(String name, int threads, int deadline) {
+		if (name==null || name.isEmpty()) {
+			throw new IllegalArgumentException("Invalid null/empty name");
+		}
+		if (threads<=0) {
+			throw new IllegalArgumentException("Invalid number of threads "+threads);
+		}
+		if (deadline<=0) {
+			throw new IllegalArgumentException("Invalid deadline "+deadline);
+		}
+		this.name=name;
+		this.defaultDeadline=deadline;
+		workers = new Worker[threads];
+		for (int t=0; t<threads; t++) {
+			workers[t] = new Worker(name+"-"+(t+1));
+			workers[t].start();
+		}
+	}
+	
+	/**
+	 * Add an object to poll.
+	 * <P>
+	 * The first iteration is executed as soon as a thread is available.
+	 * 
+	 * @param owner The object whose status is updated
+	 */
+	public void add(MountCommom owner) {
+		if (owner==null) {
+			throw new IllegalArgumentException("Invalid null object to poll");
+		}
+		if (closed) {
+			throw new IllegalStateException("The poller "+name+" is closed");
+		}
+		Entry entry = new Entry(owner, System.currentTimeMillis());
+		synchronized (this) {
+			if (find(owner)!=null) {
+				throw new IllegalArgumentException(owner.getName()+" already polled by "+name);
+			}
+		}
+		entry.cycle.begin();
+		synchronized (this) {
+			entries.add(entry);
+			notifyAll();
+		}
+	}
+	
+	/**
+	 * Remove an object from the poller.
+	 * <P>
+	 * If an iteration of the object is running, the method waits until it terminates.
+	 * Nothing happens if the object is not polled (for example because the 
+	 * component went down).
+	 * 
+	 * @param owner The object to remove
+	 */
+	public void remove(MountCommom owner) {
+		if (owner==null) {
+			throw new IllegalArgumentException("Invalid null object to remove");
+		}
+		Entry entry;
+		synchronized (this) {
+			entry=find(owner);
+			if (entry==null) {
+				return;
+			}
+			entry.removed=true;
+			boolean interrupted=false;
+			while (entry.running) {
+				try {
+					wait();
+				} catch (InterruptedException ie) {
+					interrupted=true;
+				}
+			}
+			entries.remove(entry);
+			if (interrupted) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		entry.cycle.end();
+	}
+	
+	/**
+	 * Set the deadline of an object
+	 * 
+	 * @param owner The polled object
+	 * @param deadline The max delay (msec) between the time an iteration 
+	 * 				is due and the time it starts
+	 */
+	public synchronized void setDeadline(MountCommom owner, int deadline) {
+		if (deadline<=0) {
+			throw new IllegalArgumentException("Invalid deadline "+deadline);
+		}
+		Entry entry=find(owner);
+		if (entry==null) {
+			throw new IllegalArgumentException("Object not polled by "+name);
+		}
+		entry.deadline=deadline;
+	}
+	
+	/**
+	 * Find the entry of an object
+	 * 
+	 * @param owner The polled object
+	 * @return The entry of the object or <code>null</code> if the object is not polled
+	 */
+	private Entry find(MountCommom owner) {
+		for (Entry entry: entries) {
+			if (entry.owner==owner) {
+				return entry;
+			}
+		}
+		return null;
+	}
+	
+	/**
+	 * Wait until the iteration of an object is due.
+	 * <P>
+	 * The objects are scanned starting from the one after the object returned
+	 * last so that the objects due at the same time are executed in round-robin.
+	 * 
+	 * @return The object to execute or <code>null</code> if the poller has been closed
+	 * @throws InterruptedException If the thread has been interrupted while waiting
+	 */
+	private synchronized Entry take() throws InterruptedException {
+		while (!closed) {
+			long now=System.currentTimeMillis();
+			long nextDue=Long.MAX_VALUE;
+			int size=entries.size();
+			for (int t=0; t<size; t++) {
+				int pos=(cursor+t)%size;
+				Entry entry=entries.get(pos);
+				if (entry.running || entry.removed) {
+					continue;
+				}
+				if (entry.due<=now) {
+					cursor=(pos+1)%size;
+					entry.running=true;
+					return entry;
+				}
+				nextDue=Math.min(nextDue, entry.due);
+			}
+			if (nextDue==Long.MAX_VALUE) {
+				wait();
+			} else {
+				wait(nextDue-now);
+			}
+		}
+		return null;
+	}
+	
+	/**
+	 * Execute one iteration of an object and schedule the next one
+	 * 
+	 * @param entry The object to execute
+	 */
+	private void execute(Entry entry) {
+		long start=System.currentTimeMillis();
+		long lateness=start-entry.due;
+		boolean late=lateness>entry.deadline;
+		int period;
+		if (entry.owner.isPaused()) {
+			entry.cycle.ping();
+			period=entry.owner.getPollPolicy().getBasePeriod();
+		} else {
+			try {
+				period=entry.cycle.iterate(late);
+			} catch (Throwable t) {
+				// iterate() reports the errors itself: this should never happen
+				entry.owner.logger.log(AcsLogLevel.ERROR,"Unexpected error polling "+entry.owner.getName()+" by "+name,t);
+				period=entry.cycle.failed(t);
+			}
+		}
+		boolean terminated=false;
+		synchronized (this) {
+			entry.running=false;
+			iterations++;
+			if (late) {
+				lateIterations++;
+			}
+			maxLateness=Math.max(maxLateness, lateness);
+			if (period<0 && !entry.removed) {
+				// The component is down
+				entries.remove(entry);
+				terminated=true;
+			} else {
+				// Fixed rate without recovering the lost iterations
+				long now=System.currentTimeMillis();
+				entry.due=Math.max(entry.due+Math.max(period,0), now);
+			}
+			notifyAll();
+		}
+		if (terminated) {
+			entry.cycle.end();
+		}
+	}
+	
+	/**
+	 * Stop the threads and release the polled objects
+	 */
+	public void close() {
+		closed=true;
+		synchronized (this) {
+			notifyAll();
+		}
+		for (Worker worker: workers) {
+			worker.interrupt();
+			boolean terminated=false;
+			while (!terminated) {
+				try {
+					worker.join();
+					terminated=true;
+				} catch (InterruptedException ie) {
+					continue;
+				}
+			}
+		}
+		Vector<Entry> left;
+		synchronized (this) {
+			left = new Vector<Entry>(entries);
+			entries.clear();
+		}
+		for (Entry entry: left) {
+			entry.cycle.end();
+		}
+	}
+	
+	/**
+	 * 
+	 * @return The number of polled objects
+	 */
+	public synchronized int size() {
+		return entries.size();
+	}
+	
+	/**
+	 * 
+	 * @return The number of threads of the poller
+	 */
+	public int getThreads() {
+		return workers.length;
+	}
+	
+	/**
+	 * 
+	 * @return The number of iterations executed so far
+	 */
+	public synchronized long getIterations() {
+		return iterations;
+	}
+	
+	/**
+	 * 
+	 * @return The number of iterations started after their deadline
+	 */
+	public synchronized long getLateIterations() {
+		return lateIterations;
+	}
+	
+	/**
+	 * 
+	 * @return The max delay (msec) between the time an iteration was due 
+	 * 			and the time it started
+	 */
+	public synchronized long getMaxLateness() {
+		return maxLateness;
+	}
+	
+	/**
+	 * @see Object
+	 */
+	@Override
+	public synchronized String toString() {
+		return name+" [threads="+workers.length+", polled="+entries.size()+
+			", iterations="+iterations+", late="+lateIterations+
+			", maxLateness="+maxLateness+"ms]";
+	}
+}
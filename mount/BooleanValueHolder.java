@@ -0,0 +1,295 @@
+/*
+ * ALMA - Atacama Large Millimiter Array (c) European Southern Observatory, 2007
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ */
+package alma.control.gui.antennamount.mount;
+
+/**
+ * A {@link ValueHolder} specialized for <code>boolean</code>.
+ * <P>
+ * The value is stored as a primitive together with a flag
+ * that says if the value is available (it is the <code>null</code>
+ * of {@link ValueHolder}).
+ * <P>
+ * The fields are updated under a sequence counter like in {@link DoubleValueHolder}.
+ *
+ * @author acaproni
+ *
+ */
+public class BooleanValueHolder {
+
+	/**
+	 * The immutable state of a {@link BooleanValueHolder} at a given time.
+	 *
+	 * @author acaproni
+	 *
+	 */
+	public static final class Snapshot implements HolderSnapshot {
+
+		/**
+		 * The value read (meaningless if not available)
+		 */
+		public final boolean value;
+
+		/**
+		 * <code>true</code> if the value is available
+		 */
+		public final boolean available;
+
+		/**
+		 * The time (millisec) when the value has been read
+		 */
+		public final long time;
+
+		/**
+		 * The code of the error
+		 */
+		public final long err;
+
+		/**
+		 * The type of the error
+		 */
+		public final long type;
+
+		/**
+		 * Constructor
+		 *
+		 * @param value The value
+		 * @param available <code>true</code> if the value is available
+		 * @param time The time (millisec) when the value has been read
+		 * @param err The code of the error
+		 * @param type The type of the error
+		 */
+		public Snapshot(boolean value, boolean available, long time, long err, long type) {
+			this.value=value;
+			this.available=available;
+			this.time=time;
+			this.err=err;
+			this.type=type;
+		}
+
+		/**
+		 * @return <code>true</code> if the value is available and <code>true</code>
+		 */
+		public boolean isTrue() {
+			return available && value;
+		}
+
+		/**
+		 * @see HolderSnapshot
+		 */
+		public boolean isAvailable() {
+			return available;
+		}
+
+		/**
+		 * @see HolderSnapshot
+		 */
+		public boolean isUpToDate() {
+			return type==0 && err==0 && time!=0;
+		}
+
+		/**
+		 * @see HolderSnapshot
+		 */
+		public boolean isValid() {
+			return (System.currentTimeMillis()-time)<ValueHolder.VALIDITY_THRESHOLD;
+		}
+	}
+
+	/**
+	 * The sequence counter of the updates: it is odd while
+	 * an update is in progress
+	 */
+	private volatile long sequence=0;
+
+	/**
+	 * The value
+	 */
+	private volatile boolean value=false;
+
+	/**
+	 * <code>true</code> if the value is available
+	 */
+	private volatile boolean available=false;
+
+	/**
+	 * The time (millisec) when the value has been read
+	 */
+	private volatile long time=0;
+
+	/**
+	 * The code of the error
+	 */
+	private volatile long err=0;
+
+	/**
+	 * The type of the error
+	 */
+	private volatile long type=0;
+
+	/**
+	 * Return the actual state of the holder.
+	 * <P>
+	 * The fields of the returned object are consistent i.e.
+	 * they have been set by the same update.
+	 *
+	 * @return The actual state of the holder
+	 */
+	public Snapshot snapshot() {
+		long seq;
+		boolean v, av;
+		long tm, e, tp;
+		do {
+			seq=sequence;
+			v=value;
+			av=available;
+			tm=time;
+			e=err;
+			tp=type;
+		} while ((seq&1)!=0 || seq!=sequence);
+		return new Snapshot(v,av,tm,e,tp);
+	}
+
+	/**
+	 * The value ecapsulated in this holder
+	 *
+	 * @return The value (meaningless if not available)
+	 * @see #isAvailable()
+	 */
+	public boolean getValue() {
+		return value;
+	}
+
+	/**
+	 * @return <code>true</code> if a value is available
+	 */
+	public boolean isAvailable() {
+		return available;
+	}
+
+	/**
+	 * @return <code>true</code> if the value is available and <code>true</code>
+	 */
+	public boolean isTrue() {
+		return snapshot().isTrue();
+	}
+
+	public long getErr() {
+		return err;
+	}
+
+	public long getTime() {
+		return time;
+	}
+
+	public long getType() {
+		return type;
+	}
+
+	/**
+	 * The version is incremented each time the holder is updated
+	 * (even if the new value is equal to the old one).
+	 *
+	 * @return The version of the holder
+	 */
+	public long getVersion() {
+		return sequence>>>1;
+	}
+
+	/**
+	 * @return true if the valus has been succesfully updated
+	 */
+	public boolean isUpToDate() {
+		return snapshot().isUpToDate();
+	}
+
+	/**
+	 * Says if the object is valid, i.e. if it has been
+	 * updated less the VALIDITY_THRESHOLD msec ago
+	 *
+	 * @return true if the object is valid
+	 */
+	public boolean isValid() {
+		return (System.currentTimeMillis()-time)<ValueHolder.VALIDITY_THRESHOLD;
+	}
+
+	/**
+	 * Set the value with no error
+	 *
+	 * @param val The value to hold
+	 */
+	public void setValue(boolean val) {
+		update(val,true,System.currentTimeMillis(),0,0);
+	}
+
+	/**
+	 * Set the value of the object in case:
+	 *   - no error
+	 *   - the timestamp is produced from the source
+	 *     i.e. not generated when setting the value
+	 *
+	 * @param val The new value for the holder
+	 * @param timestamp The timestamp when the value has been generated
+	 */
+	public void setValue(boolean val, long timestamp) {
+		long now=System.currentTimeMillis();
+		update(val,true,(timestamp<=now)?timestamp:now,0,0);
+	}
+
+	/**
+	 * Set the value as not available (it is the same of
+	 * setting a <code>null</code> in a {@link ValueHolder}).
+	 */
+	public void clear() {
+		update(false,false,System.currentTimeMillis(),0,0);
+	}
+
+	/**
+	 * Set an error for this object
+	 * The value of the encapsulated object
+	 * remain untouched
+	 *
+	 * @param err
+	 * @param type
+	 */
+	public synchronized void setError(int err, int type) {
+		sequence++;
+		this.err=err;
+		this.type=type;
+		sequence++;
+	}
+
+	/**
+	 * Update all the fields of the holder.
+	 *
+	 * @param val The value
+	 * @param av <code>true</code> if the value is available
+	 * @param tm The time (millisec) when the value has been read
+	 * @param e The code of the error
+	 * @param tp The type of the error
+	 */
+	private synchronized void update(boolean val, boolean av, long tm, long e, long tp) {
+		sequence++;
+		value=val;
+		available=av;
+		time=tm;
+		err=e;
+		type=tp;
+		sequence++;
+	}
+}
@@ -0,0 +1,304 @@
+/*
+ * ALMA - Atacama Large Millimiter Array (c) European Southern Observatory, 2007
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ */
+package alma.control.gui.antennamount.mount;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The dispatcher of the asynchronous commands sent to the remote
+ * components.
+ * <P>
+ * Before the dispatcher, each command was executed by a newly created thread.
+ * The dispatcher executes the commands with a bounded pool of named daemon
+ * threads and a bounded queue of pending commands.
+ * If the queue is full, the command is rejected and the caller
+ * must notify the listeners about the failure.
+ * <P>
+ * While a command runs, the name of the worker thread is changed
+ * to the name of the command so that stack dumps and logs are still
+ * meaningful.
+ * <P>
+ * The dispatcher also collects some statistics (submitted, executed and rejected
+ * commands, queue size and the max time a command waited in the queue).
+ *
+ * @author acaproni
+ *
+ */
+public class CommandDispatcher {
+
+	/**
+	 * The factory of the named daemon threads of the pool
+	 *
+	 * @author acaproni
+	 *
+	 */
+	private class DispatcherThreadFactory implements ThreadFactory {
+
+		/**
+		 * The number of threads created so far (used for the name)
+		 */
+		private final AtomicInteger threadNumber = new AtomicInteger(0);
+
+		/**
+		 * @see ThreadFactory
+		 */
+		public Thread newThread(Runnable r) {
+			Thread t = new Thread(r,name+"-"+threadNumber.incrementAndGet());
+			t.setDaemon(true);
+			return t;
+		}
+	}
+
+	/**
+	 * A command in the queue of the executor.
+	 * <P>
+	 * It records the submission time and names the worker thread
+	 * while the command runs.
+	 *
+	 * @author acaproni
+	 *
+	 */
+	private class DispatchedCommand implements Runnable {
+
+		/**
+		 * The name of the command
+		 */
+		private final String cmdName;
+
+		/**
+		 * The command to run
+		 */
+		private final Runnable command;
+
+		/**
+		 * The time when the command has been submitted
+		 */
+		private final long submissionTime=System.currentTimeMillis();
+
+		/**
+		 * Constructor
+		 *
+		 * @param cmdName The name of the command
+		 * @param command The command to run
+		 */
+		public DispatchedCommand(String cmdName, Runnable command) {
+			this.cmdName=cmdName;
+			this.command=command;
+		}
+
+		/**
+		 * @see Runnable
+		 */
+		public void run() {
+			long waited=System.currentTimeMillis()-submissionTime;
+			long max=maxQueueTime.get();
+			while (waited>max && !maxQueueTime.compareAndSet(max, waited)) {
+				max=maxQueueTime.get();
+			}
+			Thread current = Thread.currentThread();
+			String workerName=current.getName();
+			current.setName(cmdName);
+			try {
+				command.run();
+			} finally {
+				current.setName(workerName);
+				executedCommands.incrementAndGet();
+			}
+		}
+	}
+
+	/**
+	 * The default number of threads executing commands
+	 */
+	public static final int DEFAULT_THREADS=4;
+
+	/**
+	 * The default max number of commands waiting to be executed
+	 */
+	public static final int DEFAULT_QUEUE_SIZE=128;
+
+	/**
+	 * The time (secs) an idle thread of the pool is kept alive
+	 */
+	private static final int KEEP_ALIVE_TIME=30;
+
+	/**
+	 * The name of the dispatcher, used to name the threads
+	 */
+	private final String name;
+
+	/**
+	 * The executor of the commands
+	 */
+	private final ThreadPoolExecutor executor;
+
+	/**
+	 * The number of commands submitted
+	 */
+	private final AtomicLong submittedCommands = new AtomicLong(0);
+
+	/**
+	 * The number of commands executed (with or without errors)
+	 */
+	private final AtomicLong executedCommands = new AtomicLong(0);
+
+	/**
+	 * The number of commands rejected because the queue was full
+	 */
+	private final AtomicLong rejectedCommands = new AtomicLong(0);
+
+	/**
+	 * The max time (msec) a command waited in the queue before being executed
+	 */
+	private final AtomicLong maxQueueTime = new AtomicLong(0);
+
+	/**
+	 * Constructor
+	 *
+	 * @param name The name of the dispatcher
+	 * @param threads The max number of threads executing commands
+	 * @param queueSize The max number of commands waiting to be executed
+	 */
+	public CommandDispatcher(String name, int threads, int queueSize) {
+		if (name==null || name.isEmpty()) {
+			throw new IllegalArgumentException("Invalid null/empty name");
+		}
+		if (threads<=0) {
+			throw new IllegalArgumentException("Invalid number of threads "+threads);
+		}
+		if (queueSize<=0) {
+			throw new IllegalArgumentException("Invalid queue size "+queueSize);
+		}
+		this.name=name;
+		executor = new ThreadPoolExecutor(
+				threads,
+				threads,
+				KEEP_ALIVE_TIME,
+				TimeUnit.SECONDS,
+				new ArrayBlockingQueue<Runnable>(queueSize),
+				new DispatcherThreadFactory());
+		executor.allowCoreThreadTimeOut(true);
+	}
+
+	/**
+	 * Submit a command for execution.
+	 *
+	 * @param cmdName The name of the command
+	 * @param command The command to execute
+	 * @throws RejectedExecutionException If the queue of pending commands is full
+	 */
+	public void dispatch(String cmdName, Runnable command) throws RejectedExecutionException {
+		if (cmdName==null || cmdName.isEmpty()) {
+			throw new IllegalArgumentException("Invalid null/empty command name");
+		}
+		if (command==null) {
+			throw new IllegalArgumentException("Invalid null command");
+		}
+		try {
+			executor.execute(new DispatchedCommand(cmdName, command));
+			submittedCommands.incrementAndGet();
+		} catch (RejectedExecutionException ree) {
+			rejectedCommands.incrementAndGet();
+			throw ree;
+		}
+	}
+
+	/**
+	 *
+	 * @return The number of commands waiting to be executed
+	 */
+	public int getQueueSize() {
+		return executor.getQueue().size();
+	}
+
+	/**
+	 *
+	 * @return The number of commands being executed right now
+	 */
+	public int getActiveCount() {
+		return executor.getActiveCount();
+	}
+
+	/**
+	 *
+	 * @return The number of submitted commands
+	 */
+	public long getSubmittedCount() {
+		return submittedCommands.get();
+	}
+
+	/**
+	 *
+	 * @return The number of executed commands
+	 */
+	public long getExecutedCount() {
+		return executedCommands.get();
+	}
+
+	/**
+	 *
+	 * @return The number of rejected commands
+	 */
+	public long getRejectedCount() {
+		return rejectedCommands.get();
+	}
+
+	/**
+	 *
+	 * @return The max time (msec) a command waited in the queue
+	 */
+	public long getMaxQueueTime() {
+		return maxQueueTime.get();
+	}
+
+	/**
+	 * Stop accepting commands and wait until the pending commands terminate.
+	 *
+	 * @param timeout The max time (msec) to wait for the pending commands
+	 * @return <code>true</code> if all the commands terminated in time
+	 */
+	public boolean close(long timeout) {
+		executor.shutdown();
+		try {
+			return executor.awaitTermination(timeout, TimeUnit.MILLISECONDS);
+		} catch (InterruptedException ie) {
+			Thread.currentThread().interrupt();
+			return executor.isTerminated();
+		}
+	}
+
+	/**
+	 * @return A string with the statistics of the dispatcher
+	 */
+	@Override
+	public String toString() {
+		return name+": submitted="+getSubmittedCount()+
+			", executed="+getExecutedCount()+
+			", rejected="+getRejectedCount()+
+			", queued="+getQueueSize()+
+			", running="+getActiveCount()+
+			", maxQueueTime="+getMaxQueueTime()+"ms";
+	}
+}
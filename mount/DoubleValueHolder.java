@@ -0,0 +1,287 @@
+/*
+ * ALMA - Atacama Large Millimiter Array (c) European Southern Observatory, 2007
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ */
+package alma.control.gui.antennamount.mount;
+
+/**
+ * A {@link ValueHolder} specialized for <code>double</code>.
+ * <P>
+ * The value is stored as a primitive so that updating the holder
+ * does not allocate any object: the pointing data and the encoders are updated
+ * several times per second and boxing each of them in a <code>Double</code> produced
+ * a steady amount of garbage.
+ * <P>
+ * A <code>NaN</code> value means that the value is not available
+ * (it is the <code>null</code> of {@link ValueHolder}).
+ * <P>
+ * The fields are updated under a sequence counter: the counter is odd while
+ * an update is in progress and readers retry until they read the same even counter
+ * before and after reading the fields. In this way {@link #snapshot()} returns a value
+ * and a timestamp that always belong to the same update without blocking the
+ * thread updating the value.
+ *
+ * @author acaproni
+ *
+ */
+public class DoubleValueHolder {
+
+	/**
+	 * The immutable state of a {@link DoubleValueHolder} at a given time.
+	 *
+	 * @author acaproni
+	 *
+	 */
+	public static final class Snapshot implements HolderSnapshot {
+
+		/**
+		 * The value read (<code>NaN</code> if not available)
+		 */
+		public final double value;
+
+		/**
+		 * The time (millisec) when the value has been read
+		 */
+		public final long time;
+
+		/**
+		 * The code of the error
+		 */
+		public final long err;
+
+		/**
+		 * The type of the error
+		 */
+		public final long type;
+
+		/**
+		 * Constructor
+		 *
+		 * @param value The value
+		 * @param time The time (millisec) when the value has been read
+		 * @param err The code of the error
+		 * @param type The type of the error
+		 */
+		public Snapshot(double value, long time, long err, long type) {
+			this.value=value;
+			this.time=time;
+			this.err=err;
+			this.type=type;
+		}
+
+		/**
+		 * @see HolderSnapshot
+		 */
+		public boolean isAvailable() {
+			return !Double.isNaN(value);
+		}
+
+		/**
+		 * @see HolderSnapshot
+		 */
+		public boolean isUpToDate() {
+			return type==0 && err==0 && time!=0;
+		}
+
+		/**
+		 * @see HolderSnapshot
+		 */
+		public boolean isValid() {
+			return (System.currentTimeMillis()-time)<ValueHolder.VALIDITY_THRESHOLD;
+		}
+	}
+
+	/**
+	 * The sequence counter of the updates: it is odd while
+	 * an update is in progress
+	 */
+	private volatile long sequence=0;
+
+	/**
+	 * The value (<code>NaN</code> if not available)
+	 */
+	private volatile double value=Double.NaN;
+
+	/**
+	 * The time (millisec) when the value has been read
+	 */
+	private volatile long time=0;
+
+	/**
+	 * The code of the error
+	 */
+	private volatile long err=0;
+
+	/**
+	 * The type of the error
+	 */
+	private volatile long type=0;
+
+	/**
+	 * Return the actual state of the holder.
+	 * <P>
+	 * The fields of the returned object are consistent i.e.
+	 * they have been set by the same update.
+	 *
+	 * @return The actual state of the holder
+	 */
+	public Snapshot snapshot() {
+		long seq;
+		double v;
+		long tm, e, tp;
+		do {
+			seq=sequence;
+			v=value;
+			tm=time;
+			e=err;
+			tp=type;
+		} while ((seq&1)!=0 || seq!=sequence);
+		return new Snapshot(v,tm,e,tp);
+	}
+
+	/**
+	 * The value ecapsulated in this holder
+	 *
+	 * @return The value or <code>NaN</code> if not available
+	 */
+	public double getValue() {
+		return value;
+	}
+
+	/**
+	 * @return <code>true</code> if a value is available
+	 */
+	public boolean isAvailable() {
+		return !Double.isNaN(value);
+	}
+
+	public long getErr() {
+		return err;
+	}
+
+	public long getTime() {
+		return time;
+	}
+
+	public long getType() {
+		return type;
+	}
+
+	/**
+	 * The version is incremented each time the holder is updated
+	 * (even if the new value is equal to the old one).
+	 *
+	 * @return The version of the holder
+	 */
+	public long getVersion() {
+		return sequence>>>1;
+	}
+
+	/**
+	 * @return true if the valus has been succesfully updated
+	 */
+	public boolean isUpToDate() {
+		return snapshot().isUpToDate();
+	}
+
+	/**
+	 * Says if the object is valid, i.e. if it has been
+	 * updated less the VALIDITY_THRESHOLD msec ago
+	 *
+	 * @return true if the object is valid
+	 */
+	public boolean isValid() {
+		return (System.currentTimeMillis()-time)<ValueHolder.VALIDITY_THRESHOLD;
+	}
+
+	/**
+	 * Set the value of the object
+	 *
+	 * @param val The value to hold
+	 * @param err The error go reading the value
+	 * @param type The type of the error got reading the value
+	 */
+	public void setValue(double val, int err, int type) {
+		update(val,System.currentTimeMillis(),err,type);
+	}
+
+	/**
+	 * Set the value with no error
+	 *
+	 * @param val The value to hold
+	 */
+	public void setValue(double val) {
+		update(val,System.currentTimeMillis(),0,0);
+	}
+
+	/**
+	 * Set the value of the object in case:
+	 *   - no error
+	 *   - the timestamp is produced from the source
+	 *     i.e. not generated when setting the value
+	 *
+	 * @param val The new value for the holder
+	 * @param timestamp The timestamp when the value has been generated
+	 */
+	public void setValue(double val, long timestamp) {
+		long now=System.currentTimeMillis();
+		update(val,(timestamp<=now)?timestamp:now,0,0);
+	}
+
+	/**
+	 * Set the value as not available (it is the same of
+	 * setting a <code>null</code> in a {@link ValueHolder}).
+	 */
+	public void clear() {
+		update(Double.NaN,System.currentTimeMillis(),0,0);
+	}
+
+	/**
+	 * Set an error for this object
+	 * The value of the encapsulated object
+	 * remain untouched
+	 *
+	 * @param err
+	 * @param type
+	 */
+	public synchronized void setError(int err, int type) {
+		sequence++;
+		this.err=err;
+		this.type=type;
+		sequence++;
+	}
+
+	/**
+	 * Update all the fields of the holder.
+	 * <P>
+	 * The updates are serialized so that the sequence counter is
+	 * odd only while one update is in progress.
+	 *
+	 * @param val The value
+	 * @param tm The time (millisec) when the value has been read
+	 * @param e The code of the error
+	 * @param tp The type of the error
+	 */
+	private synchronized void update(double val, long tm, long e, long tp) {
+		sequence++;
+		value=val;
+		time=tm;
+		err=e;
+		type=tp;
+		sequence++;
+	}
+}
@@ -0,0 +1,51 @@
+/*
+ * ALMA - Atacama Large Millimiter Array (c) European Southern Observatory, 2007
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ */
+package alma.control.gui.antennamount.mount;
+
+/**
+ * The state of a value read from a component at a given time,
+ * independently of the type of the value.
+ * <P>
+ * It is implemented by the snapshots of {@link ValueHolder}, {@link DoubleValueHolder}
+ * and {@link BooleanValueHolder} so that the GUI can decorate the values
+ * in the same way.
+ *
+ * @author acaproni
+ *
+ */
+public interface HolderSnapshot {
+
+	/**
+	 * @return <code>true</code> if a value is available
+	 */
+	public boolean isAvailable();
+
+	/**
+	 * @return true if the valus has been succesfully updated
+	 */
+	public boolean isUpToDate();
+
+	/**
+	 * Says if the value is valid, i.e. if it has been
+	 * updated less the VALIDITY_THRESHOLD msec ago
+	 *
+	 * @return true if the value is valid
+	 */
+	public boolean isValid();
+}
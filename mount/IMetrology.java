@@ -19,7 +19,7 @@
 package alma.control.gui.antennamount.mount;
 
 import alma.control.gui.antennamount.mount.MountCommom.UpdateError;
-import alma.control.gui.antennamount.utils.bit.LongArrayBit;
+import alma.control.gui.antennamount.utils.bit.IntArrayBit;
 
 import alma.ControlGUIErrType.wrappers.AcsJMetrologyEx;
 
@@ -28,12 +28,12 @@ public interface IMetrology {
 	/**
 	 * @return The metrology mode
 	 */
-	public ValueHolder<LongArrayBit> getMode();
+	public ValueHolder<IntArrayBit> getMode();
 	
 	/**
 	 * @return The metrology equipment status
 	 */
-	public ValueHolder<LongArrayBit> getEquipStatus();
+	public ValueHolder<IntArrayBit> getEquipStatus();
 	
 	/**
 	 * @return The metrology delta path
@@ -19,7 +19,7 @@
 package alma.control.gui.antennamount.mount;
 
 import alma.control.gui.antennamount.mount.MountCommom.UpdateError;
-import alma.control.gui.antennamount.utils.bit.LongArrayBit;
+import alma.control.gui.antennamount.utils.bit.IntArrayBit;
 
 /**
  * <code>ISubreflector</code> interface represents the subreflector returned by different types of antennas.
@@ -146,14 +146,14 @@ public interface ISubreflector {
 	 * 
 	 * @return The bytes showing the state of the limits switches 
 	 */
-	public ValueHolder<LongArrayBit> getLimits();
+	public ValueHolder<IntArrayBit> getLimits();
 	
 	/**
 	 * Return the bytes representing the status of the subreflector
 	 * 
 	 * @return The bytes showing the state of the subreflector
 	 */
-	public ValueHolder<LongArrayBit> getStatus();
+	public ValueHolder<IntArrayBit> getStatus();
 	
 	/**
 	 * Set the absolute position to the given coordinates (m)
@@ -29,7 +29,6 @@ import alma.acs.logging.AcsLogLevel;
 import alma.control.gui.antennamount.AntennaRootPane;
 import alma.control.gui.antennamount.mount.ACSComponentsManager.AntennaType;
 import alma.control.gui.antennamount.mount.MountCommom.UpdateError;
-import alma.control.gui.antennamount.utils.bit.LongArrayBit;
 import alma.control.gui.antennamount.mount.MountListenersNotifier;
 
 import alma.ControlGUIErrType.wrappers.AcsJMetrologyEx;
@@ -109,6 +108,17 @@ public class MetrologyCommon {
 		this.notifier=notifier;
 	}
 	
+	/**
+	 * Submit a command to the dispatcher of the mounts for asynchronous execution.
+	 * 
+	 * @param cmdName The name of the command
+	 * @param command The command to execute
+	 * @see MountCommom#getCommandDispatcher()
+	 */
+	protected void submitCommand(String cmdName, Runnable command) {
+		MountCommom.submitCommand(MountCommom.getCommandDispatcher(), 0, cmdName, command, notifier, logger);
+	}
+	
 	/**
 	 * refresh the values by reading from the Mount
 	 * @param errState
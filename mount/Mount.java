@@ -19,6 +19,8 @@
 
 package alma.control.gui.antennamount.mount;
 
+import java.util.Vector;
+
 import org.omg.CORBA.LongHolder;
 
 import alma.Control.HardwareDevicePackage.HwState;
@@ -32,6 +34,8 @@ import alma.Control.MountStatusData;
 import alma.acs.container.ContainerServices;
 import alma.acs.logging.AcsLogLevel;
 import alma.control.gui.antennamount.AntennaRootPane;
+import alma.control.gui.antennamount.telemetry.TelemetryChannel;
+import alma.control.gui.antennamount.telemetry.TelemetryBinder;
 
 
 /**
@@ -64,6 +68,11 @@ public abstract class Mount extends MountCommom {
 	 */
 	private final MountStatus mountStatus=new MountStatus();
 	
+	/**
+	 * The notifier of the changes of the bits of the status words
+	 */
+	private final StatusChangeNotifier statusNotifier = new StatusChangeNotifier();
+	
 	
 	///////////////////////////////////////////////////////
 	// Props read from the component 
@@ -138,6 +147,15 @@ public abstract class Mount extends MountCommom {
 	 */
 	private final String componentName;
 	
+	/**
+	 * The readers of the properties of the mount executed
+	 * after checking the state of the HW.
+	 * <P>
+	 * It contains the readers of the properties common to all the mounts
+	 * and those of the specialized type.
+	 */
+	private final Vector<PropertyReader> statusReaders;
+	
 	//
 	///////////////////////////////////////////////////////
 	
@@ -160,6 +178,7 @@ public abstract class Mount extends MountCommom {
 		mount=mountComponent;
 		mountType=type;
 		componentName=mount.name();
+		statusReaders=buildStatusReaders();
 	}
 	
 	/**
@@ -179,21 +198,148 @@ public abstract class Mount extends MountCommom {
 	}
 	
 	/**
-	 * Update the component status.
-	 * It must be defined by each specialized type in order to reads the state.
+	 * Add a reader for the properties of the specialized type of mount.
+	 * <P>
+	 * The specialized types must add the readers of their own properties 
+	 * before starting the thread.
+	 * 
+	 * @param reader The reader of the properties
+	 */
+	protected void addStatusReader(PropertyReader reader) {
+		if (reader==null) {
+			throw new IllegalArgumentException("Invalid null reader");
+		}
+		if (reader.group==null) {
+			throw new IllegalArgumentException("The reader "+reader.name+" does not belong to any group");
+		}
+		statusReaders.add(reader);
+	}
+	
+	/**
+	 * Store the words of a status word read from the component and notify
+	 * the {@link StatusChangeListener}s of the bits that changed.
+	 * 
+	 * @param status The status word
+	 * @param holder The holder of the status word
+	 * @param vals The words read from the component
+	 * @param time The timestamp of the words
+	 */
+	protected void setStatusWords(StatusWord status, ValueHolder<int[]> holder, int[] vals, long time) {
+		holder.setValue(vals, time);
+		statusNotifier.update(status, vals);
+	}
+	
+	/**
+	 * Mark a status word as not available and notify 
+	 * the {@link StatusChangeListener}s
+	 * 
+	 * @param status The status word
+	 * @param holder The holder of the status word
+	 */
+	protected void clearStatusWords(StatusWord status, ValueHolder<int[]> holder) {
+		holder.setValue(null);
+		statusNotifier.update(status, null);
+	}
+	
+	/**
+	 * Add a listener of the changes of the bits of the status words
 	 * 
-	 * @param errState
+	 * @param l The listener
 	 */
-	protected abstract void update(UpdateError errState) throws Exception;
+	public void addStatusChangeListener(StatusChangeListener l) {
+		statusNotifier.addListener(l);
+	}
+	
+	/**
+	 * Remove a listener of the changes of the bits of the status words
+	 * 
+	 * @param l The listener
+	 * @return true if the listener has been removed
+	 */
+	public boolean removeStatusChangeListener(StatusChangeListener l) {
+		return statusNotifier.removeListener(l);
+	}
+	
+	/**
+	 * Record the position of the axes, the status words and, if present,
+	 * the values of the metrology and of the subreflector.
+	 * 
+	 * @see MountCommom#addTelemetryChannels(TelemetryBinder)
+	 */
+	@Override
+	protected void addTelemetryChannels(TelemetryBinder binder) {
+		binder.addChannel(this, TelemetryChannel.AZ_ENCODER, mountStatus.getAzEncoder());
+		binder.addChannel(this, TelemetryChannel.EL_ENCODER, mountStatus.getElEncoder());
+		binder.addChannel(this, TelemetryChannel.AZ_POSITION, mountStatus.getAzPos());
+		binder.addChannel(this, TelemetryChannel.EL_POSITION, mountStatus.getElPos());
+		binder.addChannel(this, TelemetryChannel.AZ_COMMANDED, mountStatus.getCommandAz());
+		binder.addChannel(this, TelemetryChannel.EL_COMMANDED, mountStatus.getCommandEl());
+		binder.addChannel(this, TelemetryChannel.ON_TARGET, mountStatus.getOnTarget());
+		binder.addIntArrayChannel(this, TelemetryChannel.SYSTEM_STATUS, getStatus());
+		binder.addIntArrayChannel(this, TelemetryChannel.AZ_STATUS, getAzStatus());
+		binder.addIntArrayChannel(this, TelemetryChannel.EL_STATUS, getElStatus());
+		binder.addIntArrayChannel(this, TelemetryChannel.POWER_STATUS, getPowerStatus());
+		IMetrology metrology=getMetrology();
+		if (metrology!=null) {
+			binder.addIntArrayChannel(this, TelemetryChannel.METROLOGY_TEMPS, metrology.getTemps());
+			binder.addIntArrayChannel(this, TelemetryChannel.METROLOGY_DELTAS, metrology.getDeltas());
+		}
+		ISubreflector subreflector=getSubreflector();
+		if (subreflector!=null) {
+			binder.addCoordinatesChannel(this, TelemetryChannel.SUBREFLECTOR_POSITION, subreflector.getAbsPosition());
+			binder.addCoordinatesChannel(this, TelemetryChannel.SUBREFLECTOR_DELTA, subreflector.getDeltaPosition());
+			binder.addCoordinatesChannel(this, TelemetryChannel.SUBREFLECTOR_ROTATION, subreflector.getRotation());
+		}
+	}
+	
+	/**
+	 * Notify the {@link StatusChangeListener}s of the bits of the
+	 * status words set by the player that changed.
+	 * 
+	 * @see MountCommom#replayComponentStatus()
+	 */
+	@Override
+	protected void replayComponentStatus() {
+		for (StatusWord status: StatusWord.values()) {
+			ValueHolder<int[]> holder=getStatusWords(status);
+			if (holder!=null) {
+				statusNotifier.update(status, holder.getValue());
+			}
+		}
+	}
+	
+	/**
+	 * Return the holder of a status word.
+	 * <P>
+	 * The specialized classes with more status words override
+	 * this method to return their holders.
+	 * 
+	 * @param status The status word
+	 * @return The holder of the status word or <code>null</code>
+	 * 			if this mount has not such status word
+	 */
+	protected ValueHolder<int[]> getStatusWords(StatusWord status) {
+		switch (status) {
+		case SYSTEM_STATUS: return getStatus();
+		case AZ_STATUS: return getAzStatus();
+		case EL_STATUS: return getElStatus();
+		case POWER_STATUS: return getPowerStatus();
+		default: return null;
+		}
+	}
 	
 	/**
 	 * Update the status of the properties by polling the component. 
 	 * It is called by the thread.
+	 * <P>
+	 * The state of the HW is read first because there is no point in reading
+	 * the other properties if the HW is stopped.
+	 * The other properties are independent and are read by the {@link PropertyReader}s
+	 * in {@link #statusReaders}, each one with the period of its {@link PropertyGroup}.
 	 * 
 	 * @param errState The error state of execution
 	 */
 	public void updateComponentStatus(UpdateError errState) throws AcsJMountGUIErrorEx {
-		antennaRootP.getHeartbeatChecker().ping(this);
 		//	Used to check if the component is slow answering
 		long preReadTime;
 		
@@ -218,180 +364,171 @@ public abstract class Mount extends MountCommom {
 			// The hardware is stopped then there is no point in updating the values
 			return;
 		}
+		
+		readProperties(statusReaders, errState);
+	}
 	
+	/**
+	 * Build the readers of the properties common to all the mounts.
+	 * <P>
+	 * The specialized types add the readers of their properties
+	 * with {@link #addStatusReader(PropertyReader)}.
+	 * 
+	 * @return The readers of the properties
+	 */
+	private Vector<PropertyReader> buildStatusReaders() {
+		Vector<PropertyReader> readers = new Vector<PropertyReader>();
+		
 		// Mount status
-		preReadTime = System.currentTimeMillis();
-		try {
-			MountStatusData mountData=mount.getMountStatusData();
-			mountStatus.update(mountData);
-		} catch (Throwable t) {
-			mountStatus.update(null);
-			errState.addError(t);
-		}
-		if (checkDelay(preReadTime)) {
-			errState.addDelay();
-		}
-		if (terminateThread) {
-			return;
-		}
+		readers.add(new PropertyReader("MountStatusData",PropertyGroup.STATE) {
+			protected void read(UpdateError errState) {
+				try {
+					MountStatusData mountData=mount.getMountStatusData();
+					mountStatus.update(mountData);
+				} catch (Throwable t) {
+					mountStatus.update(null);
+					errState.addError(t);
+				}
+			}
+		});
 		
 		// SHUTDOWN
-		try {
-			shutdown.setValue(Boolean.valueOf(mount.inShutdownMode()));
-		}  catch (Throwable t) {
-			shutdown.setValue(null);
-			errState.addError(t);
-		}
+		readers.add(new PropertyReader("ShutdownMode",PropertyGroup.STATE) {
+			protected void read(UpdateError errState) {
+				try {
+					shutdown.setValue(Boolean.valueOf(mount.inShutdownMode()));
+				}  catch (Throwable t) {
+					shutdown.setValue(null);
+					errState.addError(t);
+				}
+			}
+		});
 		
 		// STANDBY
-		try {
-			standby.setValue(Boolean.valueOf(mount.inStandbyMode()));
-		}  catch (Throwable t) {
-			standby.setValue(null);
-			errState.addError(t);
-		}
+		readers.add(new PropertyReader("StandbyMode",PropertyGroup.STATE) {
+			protected void read(UpdateError errState) {
+				try {
+					standby.setValue(Boolean.valueOf(mount.inStandbyMode()));
+				}  catch (Throwable t) {
+					standby.setValue(null);
+					errState.addError(t);
+				}
+			}
+		});
 		
 		// MOVEABLE
-		try {
-			moveable.setValue(Boolean.valueOf(mount.isMoveable()));
-		}  catch (Throwable t) {
-			moveable.setValue(null);
-			errState.addError(t);
-		}
+		readers.add(new PropertyReader("Moveable",PropertyGroup.STATE) {
+			protected void read(UpdateError errState) {
+				try {
+					moveable.setValue(Boolean.valueOf(mount.isMoveable()));
+				}  catch (Throwable t) {
+					moveable.setValue(null);
+					errState.addError(t);
+				}
+			}
+		});
 		
 		// Axis
-		preReadTime = System.currentTimeMillis();
-		AxisModeHolder elH=new AxisModeHolder();
-		AxisModeHolder azH=new AxisModeHolder();
-		try {
-			mount.getAxisMode(azH,elH);
-			elAxisMode.setValue(elH.value);
-			azAxisMode.setValue(azH.value);
-		} catch (Throwable t) {
-			elAxisMode.setValue(null);
-			azAxisMode.setValue(null);
-			errState.addError(t);
-		}
-		if (checkDelay(preReadTime)) {
-			errState.addDelay();
-		}
-		if (terminateThread) {
-			return;
-		}
-		
-		LongHolder val=new LongHolder();
+		readers.add(new PropertyReader("AxisMode",PropertyGroup.AXIS_STATUS) {
+			protected void read(UpdateError errState) {
+				AxisModeHolder elH=new AxisModeHolder();
+				AxisModeHolder azH=new AxisModeHolder();
+				try {
+					mount.getAxisMode(azH,elH);
+					elAxisMode.setValue(elH.value);
+					azAxisMode.setValue(azH.value);
+				} catch (Throwable t) {
+					elAxisMode.setValue(null);
+					azAxisMode.setValue(null);
+					errState.addError(t);
+				}
+			}
+		});
 		
 		// AZ BRAKE
-		preReadTime = System.currentTimeMillis();
-		try {
-			BrakesStatus azBrakeState=mount.GET_AZ_BRAKE(val);
-			azBrake.setValue(azBrakeState);
-		} catch (Throwable t) {
-			azBrake.setValue(null);
-			errState.addError(t);
-		}
-		if (checkDelay(preReadTime)) {
-			errState.addDelay();
-		}
-		if (terminateThread) {
-			return;
-		}
+		readers.add(new PropertyReader("AzBrake",PropertyGroup.SETTINGS) {
+			protected void read(UpdateError errState) {
+				LongHolder val=new LongHolder();
+				try {
+					BrakesStatus azBrakeState=mount.GET_AZ_BRAKE(val);
+					azBrake.setValue(azBrakeState);
+				} catch (Throwable t) {
+					azBrake.setValue(null);
+					errState.addError(t);
+				}
+			}
+		});
 		
 		// EL BRAKE
-		preReadTime = System.currentTimeMillis();
-		try {
-			BrakesStatus elBrakeState= mount.GET_EL_BRAKE(val);
-			elBrake.setValue(elBrakeState);
-		} catch (Throwable t) {
-			elBrake.setValue(null);
-			errState.addError(t);
-		}
-		if (checkDelay(preReadTime)) {
-			errState.addDelay();
-		}
-		if (terminateThread) {
-			return;
-		}
-
+		readers.add(new PropertyReader("ElBrake",PropertyGroup.SETTINGS) {
+			protected void read(UpdateError errState) {
+				LongHolder val=new LongHolder();
+				try {
+					BrakesStatus elBrakeState= mount.GET_EL_BRAKE(val);
+					elBrake.setValue(elBrakeState);
+				} catch (Throwable t) {
+					elBrake.setValue(null);
+					errState.addError(t);
+				}
+			}
+		});
+		
 		// Local access mode
-		preReadTime = System.currentTimeMillis();
-		boolean localAccess;
-		try {
-			localAccess=mount.inLocalMode();
-			localAccessMode.setValue(localAccess);
-		}	catch (Throwable t) {
-				// Set the value as unavailable
-				localAccessMode.setValue(null);
-				errState.addError(t);
-		}
-		if (checkDelay(preReadTime)) {
-			errState.addDelay();
-		}
-		if (terminateThread) {
-			return;
-		}
+		readers.add(new PropertyReader("LocalMode",PropertyGroup.SETTINGS) {
+			protected void read(UpdateError errState) {
+				try {
+					localAccessMode.setValue(mount.inLocalMode());
+				}	catch (Throwable t) {
+					// Set the value as unavailable
+					localAccessMode.setValue(null);
+					errState.addError(t);
+				}
+			}
+		});
 		
 		// ABM pointing model
-		preReadTime = System.currentTimeMillis();
-		boolean pointingModel;
-		try {
-			pointingModel=mount.isPointingModelEnabled();
-			abmPointingModel.setValue(pointingModel);
-		}	catch (Throwable t) {
-			// Set the value as unavailable
-			abmPointingModel.setValue(null);
-			errState.addError(t);
-		}
-		if (checkDelay(preReadTime)) {
-			errState.addDelay();
-		}
-		if (terminateThread) {
-			return;
-		}
+		readers.add(new PropertyReader("PointingModel",PropertyGroup.SETTINGS) {
+			protected void read(UpdateError errState) {
+				try {
+					abmPointingModel.setValue(mount.isPointingModelEnabled());
+				}	catch (Throwable t) {
+					// Set the value as unavailable
+					abmPointingModel.setValue(null);
+					errState.addError(t);
+				}
+			}
+		});
 		
 		// ACU error
-		preReadTime = System.currentTimeMillis();
-		try {
-			LongHolder timestamp=new LongHolder();
-			int[] acuErr=mount.GET_ACU_ERROR(timestamp);
-			acuError.setValue(acuErr, timestamp.value);
-		} catch (Throwable t) {
-			acuError.setValue(null);
-			AcsJMountEx ex = new AcsJMountEx(t);
-			ex.setOperation("Error getting ACU_ERROR");
-			errState.addError(ex);
-		}
-		if (checkDelay(preReadTime)) {
-			errState.addDelay();
-		}
-		if (terminateThread) {
-			return;
-		}
+		readers.add(new PropertyReader("AcuError",PropertyGroup.STATE) {
+			protected void read(UpdateError errState) {
+				try {
+					LongHolder timestamp=new LongHolder();
+					int[] acuErr=mount.GET_ACU_ERROR(timestamp);
+					acuError.setValue(acuErr, timestamp.value);
+				} catch (Throwable t) {
+					acuError.setValue(null);
+					AcsJMountEx ex = new AcsJMountEx(t);
+					ex.setOperation("Error getting ACU_ERROR");
+					errState.addError(ex);
+				}
+			}
+		});
 		
 		// Tolerance
-		preReadTime = System.currentTimeMillis();
-		try {
-			tolerance.setValue(mount.getTolerance());
-		}	catch (Throwable t) {
-			// Set the value as unavailable
-			tolerance.setValue(null);
-			errState.addError(t);
-		}
-		if (checkDelay(preReadTime)) {
-			errState.addDelay();
-		}
-		if (terminateThread) {
-			return;
-		}
+		readers.add(new PropertyReader("Tolerance",PropertyGroup.SETTINGS) {
+			protected void read(UpdateError errState) {
+				try {
+					tolerance.setValue(mount.getTolerance());
+				}	catch (Throwable t) {
+					// Set the value as unavailable
+					tolerance.setValue(null);
+					errState.addError(t);
+				}
+			}
+		});
 		
-		// Update other component state properties
-		try {
-			update(errState);
-		} catch (Throwable t) {
-			AcsJMountGUIErrorEx ex = new AcsJMountGUIErrorEx(t);
-			ex.setContextDescription("Error updating mount state");
-			ex.setProperty("Antenna type", mountType.description);
-		}
+		return readers;
 	}
 
 	public ValueHolder<AxisMode> getAzAxisMode() {
@@ -435,9 +572,12 @@ public abstract class Mount extends MountCommom {
 		};
 		SetAzStatus setAz = new SetAzStatus();
 		setAz.uid=uid;
-		Thread t = new Thread(setAz,"Mount:setAzStatus");
-		t.setDaemon(true);
-		t.start();
+		if (mode==AxisMode.AUTONOMOUS_MODE) {
+			submitCommand(uid,"Mount:setAzStatus",setAz);
+		} else {
+			// Moving the axis to standby or shutdown stops the antenna
+			submitStopCommand(uid,"Mount:setAzStatus",setAz);
+		}
 		return uid;
 	}
 	
@@ -473,9 +613,12 @@ public abstract class Mount extends MountCommom {
 		}
 		SetElStatus setEl = new SetElStatus();
 		setEl.uid=uid;
-		Thread t = new Thread(setEl,"Mount:setElStatus");
-		t.setDaemon(true);
-		t.start();
+		if (mode==AxisMode.AUTONOMOUS_MODE) {
+			submitCommand(uid,"Mount:setElStatus",setEl);
+		} else {
+			// Moving the axis to standby or shutdown stops the antenna
+			submitStopCommand(uid,"Mount:setElStatus",setEl);
+		}
 		return uid;
 	}
 	
@@ -557,13 +700,11 @@ public abstract class Mount extends MountCommom {
 			}
 		}
 		
-		// Setup and start the thread
+		// Setup and submit the command
 		SetShutter thread = new SetShutter();
 		thread.uid = id;
 		thread.openAction = open;
-		Thread t = new Thread(thread,"Mount:setShutter");
-		t.setDaemon(true);
-		t.start();
+		submitCommand(id,"Mount:setShutter",thread);
 		return id;		
 	}
 	
@@ -595,12 +736,10 @@ public abstract class Mount extends MountCommom {
 				}
 			}
 		};
-		// Setup and start the thread
+		// Setup and submit the command
 		ClearFault thread =new ClearFault();
 		thread.uid=id;
-		Thread t = new Thread(thread,"Mount:clearFault");
-		t.setDaemon(true);
-		t.start();
+		submitCommand(id,"Mount:clearFault",thread);
 		return id;
 	}
 	
@@ -634,21 +773,19 @@ public abstract class Mount extends MountCommom {
 				}
 			}
 		};
-		// Setup and start the thread
+		// Setup and submit the command
 		SetTolerance thread =new SetTolerance();
 		thread.theTolerance=d;
 		thread.uid=id;
-		Thread t = new Thread(thread,"Mount:setTolerance");
-		t.setDaemon(true);
-		t.start();
+		submitCommand(id,"Mount:setTolerance",thread);
 		return id;
 	}
 	
-	public ValueHolder<Boolean> getAcuPointingModel() {
+	public BooleanValueHolder getAcuPointingModel() {
 		return mountStatus.getAcuPointingModel();
 	}
 	
-	public ValueHolder<Boolean> getAuxAcuPointingModel() {
+	public BooleanValueHolder getAuxAcuPointingModel() {
 		return mountStatus.getAcuAuxPointingModel();
 	}
 
@@ -706,6 +843,14 @@ public abstract class Mount extends MountCommom {
 		return componentName;
 	}
 	
+	/**
+	 * @see MountCommom#getComponentType()
+	 */
+	@Override
+	protected String getComponentType() {
+		return mountType.name();
+	}
+	
 	/**
 	 * Return the shutter
 	 * 
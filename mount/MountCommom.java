@@ -19,6 +19,10 @@
 package alma.control.gui.antennamount.mount;
 
 import java.util.Vector;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.logging.Logger;
 
 import org.omg.CORBA.OBJECT_NOT_EXIST;
@@ -32,12 +36,15 @@ import alma.acs.exceptions.AcsJException;
 import alma.acs.logging.AcsLogLevel;
 import alma.control.gui.antennamount.AntennaRootPane;
 import alma.control.gui.antennamount.errortab.ErrorInfo;
+import alma.control.gui.antennamount.telemetry.TelemetryBinder;
+import alma.control.gui.antennamount.telemetry.TelemetryPlayer;
+import alma.control.gui.antennamount.telemetry.TelemetryRecorder;
 
 /**
  * Base class for the Mount and the MountController
  * 
  * The class defines the thread to update the state of the mount.
- * Such a thread must be started by the final class
+ * Such a thread must be started by the final class (see {@link #startPolling()})
  * 
  * @author acaproni
  *
@@ -47,6 +54,9 @@ public abstract class MountCommom extends Thread {
 	/**
 	 * The object containing info about the retrieval of values from
 	 * the component in one iteration of the thread
+	 * <P>
+	 * The methods are synchronized because, in concurrent polling mode,
+	 * the properties are read (and the errors added) by several threads.
 	 * 
 	 * @author acaproni
 	 *
@@ -71,8 +81,11 @@ public abstract class MountCommom extends Thread {
 		
 		/**
 		 * The exceptions detected during the last iteration
+		 * <P>
+		 * The exceptions that are not {@link AcsJException} are wrapped
+		 * only when shown in the error tab (see {@link #dump()}).
 		 */
-		public Vector<AcsJException> exceptions = new Vector<AcsJException>();
+		private final Vector<Throwable> exceptions = new Vector<Throwable>();
 		
 		/**
 		 * Constructor
@@ -84,7 +97,7 @@ public abstract class MountCommom extends Thread {
 		/**
 		 * Reset the info to a good state (no error, no delay)
 		 */
-		public void reset() {
+		public synchronized void reset() {
 			delay=false;
 			errors=0;
 			componentDown=false;
@@ -94,7 +107,7 @@ public abstract class MountCommom extends Thread {
 		/**
 		 * Set the status as delay
 		 */
-		public void addDelay() {
+		public synchronized void addDelay() {
 			delay=true;
 		}
 		
@@ -103,7 +116,7 @@ public abstract class MountCommom extends Thread {
 		 * 
 		 * @param t The <code>AcsJException</code> of the error
 		 */
-		public void addError(AcsJException t) {
+		public synchronized void addError(AcsJException t) {
 			if (t==null) {
 				throw new IllegalArgumentException("The error can't be null!");
 			}
@@ -114,20 +127,18 @@ public abstract class MountCommom extends Thread {
 		/**
 		 * Add one more error. 
 		 * <P>
-		 * The {@link Throwable} is replaced by a {@link AcsJException} before being
-		 * added to the {@link Vector} where the descriptor of the {@link AcsJException} 
-		 * is the message of the {@link Throwable};
+		 * The {@link Throwable} will be replaced by a {@link AcsJException} 
+		 * whose descriptor is the message of the {@link Throwable}
+		 * if it has to be shown in the error tab.
 		 * 
 		 * @param t The <code>Throwable</code> of the error
 		 */
-		public void addError(Throwable t) {
+		public synchronized void addError(Throwable t) {
 			if (t==null) {
 				throw new IllegalArgumentException("The error can't be null!");
 			}
-			AcsJMountGUIErrorEx ex = new AcsJMountGUIErrorEx(t);
-			ex.setContextDescription(t.getMessage());
 			errors++;
-			exceptions.add(ex);
+			exceptions.add(t);
 			if (!componentDown) {
 				componentDown=(t instanceof OBJECT_NOT_EXIST);
 			}
@@ -137,7 +148,7 @@ public abstract class MountCommom extends Thread {
 		 * 
 		 * @return True is there are errors
 		 */
-		public boolean hasErrors() {
+		public synchronized boolean hasErrors() {
 			return errors!=0;
 		}
 		
@@ -145,28 +156,156 @@ public abstract class MountCommom extends Thread {
 		 * 
 		 * @return true in case of delay
 		 */
-		public boolean hasDelay() {
+		public synchronized boolean hasDelay() {
 			return delay;
 		}
 		
 		/**
-		 * Print on stdout a report of the errors
+		 * Log the errors and report them in the error tab.
+		 * <P>
+		 * The errors of the same iteration are reported as one error
+		 * in the error tab, with one instance for each exception:
+		 * only the first exception is shown.
 		 */
-		public void dump() {
+		public synchronized void dump() {
 			if (exceptions.isEmpty()) {
 				return;
 			}
-			ErrorInfo error;
-			for (AcsJException t: exceptions) {
-				error= new ErrorInfo("Exceptions from MountController","Got "+exceptions.size()+" (unrelated) exceptions while reading values from the MountController",t);
+			for (Throwable t: exceptions) {
 				logger.log(AcsLogLevel.ERROR,"Exception caught",t);
-				antennaRootP.addError(error);
+			}
+			ErrorInfo error= new ErrorInfo("Exceptions from MountController","Got "+exceptions.size()+" (unrelated) exceptions while reading values from the MountController",toAcsJException(exceptions.get(0)));
+			if (exceptions.size()>1) {
+				error.addInstances(exceptions.size()-1);
+			}
+			antennaRootP.addError(error);
+		}
+		
+		/**
+		 * Wrap a {@link Throwable} in a {@link AcsJException}
+		 * 
+		 * @param t The exception to wrap
+		 * @return The {@link AcsJException}
+		 */
+		private AcsJException toAcsJException(Throwable t) {
+			if (t instanceof AcsJException) {
+				return (AcsJException)t;
+			}
+			AcsJMountGUIErrorEx ex = new AcsJMountGUIErrorEx(t);
+			ex.setContextDescription(t.getMessage());
+			return ex;
+		}
+	}
+
+	/**
+	 * The reader of one or more properties of the remote component.
+	 * <P>
+	 * The readers of the properties are independent one from the other
+	 * so that they can be executed in parallel in concurrent polling mode
+	 * (see {@link MountCommom#readProperties(Vector, UpdateError)}).
+	 * 
+	 * @author acaproni
+	 *
+	 */
+	protected abstract class PropertyReader implements Runnable {
+		
+		/**
+		 * The name of the reader
+		 */
+		public final String name;
+		
+		/**
+		 * The group of the properties read by this reader 
+		 * (<code>null</code> if the reader is executed at each iteration)
+		 */
+		public final PropertyGroup group;
+		
+		/**
+		 * <code>true</code> while the reader is executing.
+		 * <P>
+		 * It avoids to submit a reader again if it did not terminate
+		 * in the previous iteration.
+		 */
+		private final AtomicBoolean pending = new AtomicBoolean(false);
+		
+		/**
+		 * The error state of the current iteration
+		 */
+		private volatile UpdateError errState;
+		
+		/**
+		 * The latch counted down when the reader terminates
+		 */
+		private volatile CountDownLatch latch;
+		
+		/**
+		 * Constructor of a reader executed at each iteration
+		 * 
+		 * @param name The name of the reader
+		 */
+		public PropertyReader(String name) {
+			this(name,null);
+		}
+		
+		/**
+		 * Constructor
+		 * 
+		 * @param name The name of the reader
+		 * @param group The group of the properties read by this reader
+		 */
+		public PropertyReader(String name, PropertyGroup group) {
+			if (name==null || name.isEmpty()) {
+				throw new IllegalArgumentException("Invalid null/empty name");
+			}
+			this.name=name;
+			this.group=group;
+		}
+		
+		/**
+		 * Read the properties.
+		 * <P>
+		 * The errors must be added to the passed {@link UpdateError}.
+		 * An exception thrown by this method is added to the errors too.
+		 * 
+		 * @param errState The error state of execution
+		 */
+		protected abstract void read(UpdateError errState) throws Exception;
+		
+		/**
+		 * Read the properties and check if the component was slow answering
+		 * 
+		 * @param errState The error state of execution
+		 */
+		public void execute(UpdateError errState) {
+			long preReadTime = System.currentTimeMillis();
+			try {
+				read(errState);
+			} catch (Throwable t) {
+				errState.addError(t);
+			}
+			if (checkDelay(preReadTime)) {
+				errState.addDelay();
+			}
+		}
+		
+		/**
+		 * Executed by the threads of the polling dispatcher
+		 * 
+		 * @see Runnable
+		 */
+		public void run() {
+			try {
+				execute(errState);
+			} finally {
+				pending.set(false);
+				latch.countDown();
 			}
 		}
 	}
 
 	/**
 	 * The ACS container services
+	 * (<code>null</code> while replaying the telemetry without ACS)
 	 */
 	protected ContainerServices acsCS;
 	
@@ -175,12 +314,6 @@ public abstract class MountCommom extends Thread {
 	 */
 	protected Logger logger;
 	
-	/**
-	 * The rate at which the values are update from the 
-	 * mount by the thread
-	 */
-	private static final int UPDATE_INTERVAL=1500;
-	
 	/**
 	 * The time number of msec to decide if the component is slow
 	 * answering
@@ -190,6 +323,19 @@ public abstract class MountCommom extends Thread {
 	 */
 	private static final int SLOW_TIME=2500;
 	
+	/**
+	 * The max time (msec) to wait for the readers of the properties 
+	 * in concurrent polling mode.
+	 * <P>
+	 * The readers that do not terminate in time are reported as delay.
+	 */
+	private static final int POLLING_DEADLINE=SLOW_TIME;
+	
+	/**
+	 * The name of the java property to enable the concurrent polling mode
+	 */
+	public static final String CONCURRENT_POLLING_PROPERTY_NAME="alma.control.gui.antennamount.concurrentPolling";
+	
 	/**
 	 * The number of attempts before deciding an error is unrecoverable
 	 * This only applies to the reading of variables (the thread)
@@ -221,26 +367,85 @@ public abstract class MountCommom extends Thread {
 	 * The AntennaRootPane to add errors and status messages
 	 */
 	protected AntennaRootPane antennaRootP;
+	
+	/**
+	 * The dispatcher executing the asynchronous commands of all the
+	 * mounts and mount controllers.
+	 * <P>
+	 * It is shared between all the instances so that the number of threads
+	 * sending commands to the remote components is bounded.
+	 */
+	private static final CommandDispatcher commandDispatcher = new CommandDispatcher(
+			"MountCommand",
+			CommandDispatcher.DEFAULT_THREADS,
+			CommandDispatcher.DEFAULT_QUEUE_SIZE);
+	
+	/**
+	 * The dispatcher executing the commands that stop the antennas.
+	 * <P>
+	 * The stop commands have their own threads so that they are executed
+	 * immediately even if all the threads of the {@link #commandDispatcher}
+	 * are busy with long commands (like stowing or pointing to a source).
+	 */
+	private static final CommandDispatcher stopDispatcher = new CommandDispatcher(
+			"MountStop",
+			2,
+			CommandDispatcher.DEFAULT_QUEUE_SIZE);
+	
+	/**
+	 * The dispatcher executing the readers of the properties
+	 * in concurrent polling mode.
+	 * <P>
+	 * It is shared between all the instances.
+	 */
+	private static final CommandDispatcher pollingDispatcher = new CommandDispatcher(
+			"MountPoller",
+			16,
+			512);
+	
+	/**
+	 * The policy defining the rate at which the values are updated
+	 * from the component by the thread.
+	 * <P>
+	 * Subclasses can customize the policy for example to read some property
+	 * at a lower rate.
+	 */
+	private volatile PollPolicy pollPolicy = new PollPolicy();
+	
+	/**
+	 * The poller shared by the antennas in array mode
+	 * (<code>null</code> if the status is updated by the thread of this object)
+	 * 
+	 * @see #startPolling()
+	 */
+	private volatile ArrayPoller arrayPoller=null;
+	
+	/**
+	 * If <code>true</code> the independent properties are read in parallel
+	 * (see {@link MountCommom#readProperties(Vector, UpdateError)})
+	 */
+	private volatile boolean concurrentPolling=Boolean.getBoolean(CONCURRENT_POLLING_PROPERTY_NAME);
 		
 	/**
 	 * Constructor.
 	 * 
-	 * @param contSvcs The ContainerServices
+	 * @param contSvcs The ContainerServices 
+	 * 			(<code>null</code> only while replaying the telemetry without ACS)
 	 * @param rootP The AntennaRootPane
 	 */
 	public MountCommom(ContainerServices contSvcs, AntennaRootPane rootP) {
 		super("MountCommon");
-		if (contSvcs==null) {
-			throw new IllegalArgumentException("Invalid null ContainerServices");
-		}
 		if (rootP==null) {
 			throw new IllegalArgumentException("Invalid null AntennaRootPane");
 		}
+		if (contSvcs==null && rootP.getTelemetryPlayer()==null) {
+			throw new IllegalArgumentException("Invalid null ContainerServices");
+		}
 		antennaRootP=rootP;
 		acsCS=contSvcs;
-		logger=acsCS.getLogger();
+		logger=(acsCS==null)?rootP.getLogger():acsCS.getLogger();
 		if (logger==null) {
-			throw new IllegalStateException("Error getting the logger from ContainerServices");
+			throw new IllegalStateException("Error getting the logger");
 		}
 		setDaemon(true);
 	}
@@ -254,14 +459,19 @@ public abstract class MountCommom extends Thread {
 		// Wait until the thread terminates before exiting
 		logger.log(AcsLogLevel.DEBUG,"Terminating thread "+getName());
 		terminateThread=true;
-		this.interrupt();
-		boolean terminated=false;
-		while (terminated==false) {
-			try {
-				this.join();
-				terminated=true;
-			} catch (InterruptedException ie) {
-				continue;
+		if (arrayPoller!=null) {
+			// Polled by the threads of the ArrayPoller
+			arrayPoller.remove(this);
+		} else {
+			this.interrupt();
+			boolean terminated=false;
+			while (terminated==false) {
+				try {
+					this.join();
+					terminated=true;
+				} catch (InterruptedException ie) {
+					continue;
+				}
 			}
 		}
 		antennaRootP.getHeartbeatChecker().unregister(this);
@@ -279,6 +489,77 @@ public abstract class MountCommom extends Thread {
 		return opUID++;
 	}
 	
+	/**
+	 * 
+	 * @return The dispatcher executing the asynchronous commands
+	 */
+	public static CommandDispatcher getCommandDispatcher() {
+		return commandDispatcher;
+	}
+	
+	/**
+	 * Submit a command to the dispatcher for asynchronous execution.
+	 * <P>
+	 * The command is in charge of notifying the listeners about its completion.
+	 * If the command is rejected by the dispatcher (i.e. too many commands 
+	 * are waiting to be executed) the listeners are notified here
+	 * with an error.
+	 * 
+	 * @param uid The unique identifier of the command
+	 * @param cmdName The name of the command
+	 * @param command The command to execute
+	 */
+	protected void submitCommand(long uid, String cmdName, Runnable command) {
+		submitCommand(commandDispatcher, uid, cmdName, command, listenersNotifier, logger);
+	}
+	
+	/**
+	 * Submit a command that stops the antenna for asynchronous execution.
+	 * <P>
+	 * The command is executed by the {@link #stopDispatcher} so that
+	 * it does not wait for the other commands to terminate. 
+	 * 
+	 * @param uid The unique identifier of the command
+	 * @param cmdName The name of the command
+	 * @param command The command to execute
+	 * @see #submitCommand(long, String, Runnable)
+	 */
+	protected void submitStopCommand(long uid, String cmdName, Runnable command) {
+		submitCommand(stopDispatcher, uid, cmdName, command, listenersNotifier, logger);
+	}
+	
+	/**
+	 * Submit a command to a dispatcher for asynchronous execution
+	 * notifying the listeners if the command is rejected.
+	 * <P>
+	 * This method is used also by the parts of the mounts (like the shutter
+	 * and the metrology) to send their commands.
+	 * 
+	 * @param dispatcher The dispatcher to execute the command
+	 * @param uid The unique identifier of the command
+	 * @param cmdName The name of the command
+	 * @param command The command to execute
+	 * @param notifier The notifier of the listeners
+	 * @param theLogger The logger
+	 */
+	static void submitCommand(
+			CommandDispatcher dispatcher,
+			long uid, 
+			String cmdName, 
+			Runnable command, 
+			MountListenersNotifier notifier, 
+			Logger theLogger) {
+		try {
+			dispatcher.dispatch(cmdName, command);
+		} catch (RejectedExecutionException ree) {
+			String msg="Command "+cmdName+" with ID="+uid+" rejected: too many pending commands";
+			AcsJMountGUIErrorEx ex = new AcsJMountGUIErrorEx(ree);
+			ex.setContextDescription(msg);
+			theLogger.log(AcsLogLevel.ERROR,msg+" ("+dispatcher+")");
+			notifier.commandExecuted(uid,cmdName,msg,ex);
+		}
+	}
+	
 	/**
 	 * Pause/Unpause the object. 
 	 * When the object is paused, it stops reading values from
@@ -290,6 +571,120 @@ public abstract class MountCommom extends Thread {
 		paused=pause;
 	}
 	
+	/**
+	 * 
+	 * @return <code>true</code> if the object is paused
+	 */
+	public boolean isPaused() {
+		return paused;
+	}
+	
+	/**
+	 * Enable/disable the concurrent polling mode.
+	 * 
+	 * @param concurrent If <code>true</code> the independent properties 
+	 * 					are read in parallel
+	 */
+	public void setConcurrentPolling(boolean concurrent) {
+		concurrentPolling=concurrent;
+	}
+	
+	/**
+	 * 
+	 * @return <code>true</code> if the concurrent polling mode is enabled
+	 */
+	public boolean isConcurrentPolling() {
+		return concurrentPolling;
+	}
+	
+	/**
+	 * 
+	 * @return The policy of the thread reading the values
+	 */
+	public PollPolicy getPollPolicy() {
+		return pollPolicy;
+	}
+	
+	/**
+	 * Set the policy of the thread reading the values
+	 * 
+	 * @param policy The new policy (not shared with other components)
+	 */
+	public void setPollPolicy(PollPolicy policy) {
+		if (policy==null) {
+			throw new IllegalArgumentException("Invalid null PollPolicy");
+		}
+		pollPolicy=policy;
+	}
+	
+	/**
+	 * Execute the passed readers of properties.
+	 * <P>
+	 * In concurrent polling mode the readers are executed in parallel by the
+	 * polling dispatcher and the method waits at most {@link #POLLING_DEADLINE} msecs
+	 * so that the time to read all the properties is bounded by the slowest 
+	 * reader instead of the sum of all of them.
+	 * A reader that did not terminate in time, or that is still running from the 
+	 * previous iteration, is reported as a delay. 
+	 * Errors reported by readers terminating after the deadline are
+	 * added to the next iteration.
+	 * <P>
+	 * Otherwise the readers are executed one after the other by the calling thread.
+	 * <P>
+	 * The readers not due in this iteration (see {@link PollPolicy#isDue(String, PropertyGroup, long)})
+	 * are skipped.
+	 * 
+	 * @param readers The readers to execute
+	 * @param errState The error state of execution
+	 */
+	protected void readProperties(Vector<PropertyReader> readers, UpdateError errState) {
+		if (readers==null) {
+			throw new IllegalArgumentException("Invalid null readers");
+		}
+		PollPolicy policy=pollPolicy;
+		long now=System.currentTimeMillis();
+		Vector<PropertyReader> dueReaders = new Vector<PropertyReader>(readers.size());
+		for (PropertyReader reader: readers) {
+			if (policy.isDue(reader.name, reader.group, now)) {
+				dueReaders.add(reader);
+			}
+		}
+		if (!concurrentPolling) {
+			for (PropertyReader reader: dueReaders) {
+				if (terminateThread) {
+					return;
+				}
+				reader.execute(errState);
+			}
+			return;
+		}
+		CountDownLatch latch = new CountDownLatch(dueReaders.size());
+		for (PropertyReader reader: dueReaders) {
+			if (!reader.pending.compareAndSet(false, true)) {
+				// Still running from the previous iteration
+				errState.addDelay();
+				latch.countDown();
+				continue;
+			}
+			reader.errState=errState;
+			reader.latch=latch;
+			try {
+				pollingDispatcher.dispatch(getName()+"."+reader.name, reader);
+			} catch (RejectedExecutionException ree) {
+				// Too many pending readers: execute in this thread
+				reader.run();
+			}
+		}
+		try {
+			if (!latch.await(POLLING_DEADLINE, TimeUnit.MILLISECONDS)) {
+				errState.addDelay();
+			}
+		} catch (InterruptedException ie) {
+			// The thread is terminating: preserve the interrupt for the caller
+			Thread.currentThread().interrupt();
+		}
+	}
+	
 	/**
 	 * Check if the completion contains an error and eventually
 	 * log a message
@@ -361,17 +756,121 @@ public abstract class MountCommom extends Thread {
 	}
 	
 	/**
-	 * The thread to update the status of the component
+	 * The state of the polling of the component carried from one iteration
+	 * to the next one.
+	 * <P>
+	 * The iterations are executed by the thread of this object or, in array mode,
+	 * by the threads of the {@link ArrayPoller}: in both cases by one thread at a time.
+	 * 
+	 * @author acaproni
+	 *
 	 */
-	public void run() {
-		listenersNotifier.notifyConnectionEstablished(getName());
-		int currentAttempt=0;
-		UpdateError errState = new UpdateError();
-		while (!terminateThread) {
-			antennaRootP.getHeartbeatChecker().ping(this);
+	class PollCycle {
+		
+		/**
+		 * The player of the telemetry (can be <code>null</code>)
+		 */
+		private final TelemetryPlayer player;
+		
+		/**
+		 * The recorder of the telemetry 
+		 * (<code>null</code> if not recording or while replaying)
+		 */
+		private final TelemetryRecorder recorder;
+		
+		/**
+		 * The player or the recorder of the telemetry (can be <code>null</code>)
+		 */
+		private final TelemetryBinder binder;
+		
+		/**
+		 * The error state of the last iteration
+		 */
+		private final UpdateError errState = new UpdateError();
+		
+		/**
+		 * The number of consecutive iterations with errors
+		 */
+		private int currentAttempt=0;
+		
+		/**
+		 * Constructor
+		 */
+		PollCycle() {
+			player=antennaRootP.getTelemetryPlayer();
+			recorder=(player==null)?antennaRootP.getTelemetryRecorder():null;
+			binder=(player!=null)?player:recorder;
+		}
+		
+		/**
+		 * Bind the telemetry and notify the listeners that the polling started.
+		 * <P>
+		 * It must be called before the first iteration.
+		 */
+		void begin() {
+			if (binder!=null) {
+				String antennaName=antennaRootP.getAntennaName();
+				if (antennaName==null) {
+					logger.log(AcsLogLevel.WARNING,"Unknown antenna of "+getComponentName()+": telemetry not bound");
+				} else {
+					binder.addOwner(MountCommom.this, antennaName, getComponentName(), getComponentType());
+					addTelemetryChannels(binder);
+				}
+			}
+			if (player!=null) {
+				player.startPlaying();
+			}
+			listenersNotifier.notifyConnectionEstablished(getName());
+		}
+		
+		/**
+		 * Release the telemetry.
+		 * <P>
+		 * It must be called after the last iteration.
+		 */
+		void end() {
+			if (binder!=null) {
+				binder.removeChannels(MountCommom.this);
+			}
+		}
+		
+		/**
+		 * Signal to the heartbeat checker that the polling is alive
+		 */
+		void ping() {
+			antennaRootP.getHeartbeatChecker().ping(MountCommom.this);
+		}
+		
+		/**
+		 * Signal to the heartbeat checker that an iteration terminated
+		 * 
+		 * @param startTime The time when the iteration started
+		 */
+		private void ping(long startTime) {
+			antennaRootP.getHeartbeatChecker().ping(MountCommom.this, System.currentTimeMillis()-startTime);
+		}
+		
+		/**
+		 * Execute one iteration: update the status of the component,
+		 * notify the listeners and report the errors.
+		 * 
+		 * @param late <code>true</code> if the iteration started later then expected
+		 * 			(it is reported as a delay of the component)
+		 * @return The period (msec) before the next iteration or
+		 * 			-1 if the component is down and the polling must terminate
+		 */
+		int iterate(boolean late) {
+			long startTime=System.currentTimeMillis();
 			errState.reset();
+			if (late) {
+				errState.addDelay();
+			}
 			try {
-				updateComponentStatus(errState);
+				if (player!=null) {
+					replayComponentStatus();
+				} else {
+					updateComponentStatus(errState);
+				}
 			} catch (OBJECT_NOT_EXIST one) {
 				// The component is down!!!
 				AcsJMountGUIErrorEx ex = new AcsJMountGUIErrorEx(one);
@@ -379,16 +878,19 @@ public abstract class MountCommom extends Thread {
 				ErrorInfo ei = new ErrorInfo("Error updating component status", "Erron in the thread updating the state of the component",ex);
 				antennaRootP.addError(ei);
 				componentDown();
-				break;
+				return -1;
 			} catch (Throwable t) {
 				AcsJMountGUIErrorEx ex = new AcsJMountGUIErrorEx(t);
 				ex.setContextDescription("Error updating component status");
 				ErrorInfo ei = new ErrorInfo("Error updating component status", "Erron in the thread updating the state of the component",ex);
 				antennaRootP.addError(ei);
 			}
+			if (recorder!=null) {
+				recorder.sample(MountCommom.this);
+			}
 			if (errState.componentDown) {
 				componentDown();
-				break;
+				return -1;
 			}
 			if (errState.hasDelay()) {
 				listenersNotifier.notifyResponseTimeSlow();
@@ -411,13 +913,105 @@ public abstract class MountCommom extends Thread {
 			} else if (currentAttempt>=NUMBER_OF_ATTEMPTS) {
 				// Do nothing: I don't want to stop in any case even if full of errors
 				currentAttempt=Integer.MIN_VALUE;
-			} 
+			}
+			ping(startTime);
+			return pollPolicy.update(errState);
+		}
+		
+		/**
+		 * Report an error that escaped {@link #iterate(boolean)} as 
+		 * an iteration terminated with errors.
+		 * 
+		 * @param t The error
+		 * @return The period (msec) before the next iteration
+		 */
+		int failed(Throwable t) {
+			AcsJMountGUIErrorEx ex = new AcsJMountGUIErrorEx(t);
+			ex.setContextDescription("Unexpected error updating component status");
+			ErrorInfo ei = new ErrorInfo("Error updating component status", "Unexpected error in the iteration updating the state of "+getName(),ex);
+			antennaRootP.addError(ei);
+			errState.addError(ex);
+			currentAttempt++;
+			if (currentAttempt < NUMBER_OF_ATTEMPTS && currentAttempt!=0) {
+				listenersNotifier.notifyTransientError();
+			} else if (currentAttempt>=NUMBER_OF_ATTEMPTS) {
+				currentAttempt=Integer.MIN_VALUE;
+			}
+			return pollPolicy.update(errState);
+		}
+	}
+	
+	/**
+	 * Start updating the status of the component.
+	 * <P>
+	 * The status is updated by the thread of this object unless the panel runs
+	 * in array mode: in that case the iterations are scheduled by the {@link ArrayPoller}
+	 * shared by all the antennas.
+	 * <P>
+	 * It must be called by the final class at the end of the constructor.
+	 */
+	protected void startPolling() {
+		ArrayPoller poller=antennaRootP.getArrayPoller();
+		if (poller==null) {
+			start();
+		} else {
+			arrayPoller=poller;
+			poller.add(this);
+		}
+	}
+	
+	/**
+	 * The thread to update the status of the component
+	 */
+	public void run() {
+		PollCycle cycle = new PollCycle();
+		cycle.begin();
+		try {
+			poll(cycle);
+		} finally {
+			cycle.end();
+		}
+	}
+	
+	/**
+	 * Update the status of the component until the thread is terminated
+	 * or the component goes down
+	 * 
+	 * @param cycle The state of the polling
+	 */
+	private void poll(PollCycle cycle) {
+		// The time when the next iteration starts
+		long nextIterationTime=System.currentTimeMillis();
+		while (!terminateThread) {
+			int period=cycle.iterate(false);
+			if (period<0) {
+				break;
+			}
+			
+			// Fixed rate: the time spent in this iteration is subtracted from the period
+			// If the iteration took longer then the period, the next one starts immediately
+			// without trying to recover the lost iterations
+			nextIterationTime+=period;
+			long now=System.currentTimeMillis();
+			if (nextIterationTime<now) {
+				nextIterationTime=now;
+			}
 			do {
 				try {
-					Thread.sleep(UPDATE_INTERVAL);
-					antennaRootP.getHeartbeatChecker().ping(this);
+					long sleepTime=nextIterationTime-System.currentTimeMillis();
+					if (paused) {
+						sleepTime=pollPolicy.getBasePeriod();
+					}
+					if (sleepTime>0) {
+						Thread.sleep(sleepTime);
+					}
+					cycle.ping();
 				} catch (InterruptedException ie) {}	
 			} while (paused && !terminateThread);
+			if (nextIterationTime<System.currentTimeMillis()) {
+				// After a pause
+				nextIterationTime=System.currentTimeMillis();
+			}
 		}
 	}
 	
@@ -450,4 +1044,40 @@ public abstract class MountCommom extends Thread {
 	 */
 	protected abstract void updateComponentStatus(UpdateError errState) throws AcsJMountGUIErrorEx;
 	
+	/**
+	 * Return the name of the component 
+	 * 
+	 * @return The name of the connected component
+	 */
+	public abstract String getComponentName();
+	
+	/**
+	 * Return the type of the component recorded with the telemetry
+	 * 
+	 * @return The type of the component
+	 * @see TelemetryBinder#addOwner(Object, String, String, String)
+	 */
+	protected abstract String getComponentType();
+	
+	/**
+	 * Bind the values to record in the telemetry or to set while replaying it.
+	 * <P>
+	 * The values are bound with this object as owner: the recorder samples them
+	 * at the end of each iteration of the thread.
+	 * <P>
+	 * The method is overridden by specialized classes: by default nothing is recorded
+	 * 
+	 * @param binder The recorder or the player of the telemetry
+	 */
+	protected void addTelemetryChannels(TelemetryBinder binder) {}
+	
+	/**
+	 * Called by the thread in place of {@link #updateComponentStatus(UpdateError)}
+	 * while replaying the telemetry.
+	 * <P>
+	 * The values are set by the {@link TelemetryPlayer}: the method is overridden 
+	 * by specialized classes to refresh what is derived from the values.
+	 */
+	protected void replayComponentStatus() {}
+	
 }
@@ -18,14 +18,17 @@
  */
 package alma.control.gui.antennamount.mount;
 
-import alma.Control.EquatorialDirection;
-import alma.Control.HorizonDirection;
-import alma.Control.Offset;
+import java.util.Vector;
+
 import alma.Control.AntModeControllerPackage.Status;
 import alma.Control.MountControllerPackage.PointingData;
 import alma.acs.container.ContainerServices;
 import alma.acs.logging.AcsLogLevel;
 import alma.control.gui.antennamount.AntennaRootPane;
+import alma.control.gui.antennamount.mount.OrderedCommandQueue.OffsetAxis;
+import alma.control.gui.antennamount.mount.PointingSnapshot.Coordinate;
+import alma.control.gui.antennamount.telemetry.TelemetryChannel;
+import alma.control.gui.antennamount.telemetry.TelemetryBinder;
 
 import alma.ControlGUIErrType.wrappers.AcsJMountGUIErrorEx;
 import alma.ControlGUIErrType.wrappers.AcsJPointingDataEx;
@@ -49,29 +52,34 @@ public final class MountController  extends MountCommom {
 	private alma.Control.MountController mountController=null;
 	
 	// AZ/EL
-	private ValueHolder<Double> actualAz = new ValueHolder<Double>();
-	private ValueHolder<Double> actualEl= new ValueHolder<Double>();
-	private ValueHolder<Double> commandAz = new ValueHolder<Double>();
-	private ValueHolder<Double> commandEl = new ValueHolder<Double>();
+	private final DoubleValueHolder actualAz = new DoubleValueHolder();
+	private final DoubleValueHolder actualEl = new DoubleValueHolder();
+	private final DoubleValueHolder commandAz = new DoubleValueHolder();
+	private final DoubleValueHolder commandEl = new DoubleValueHolder();
 	
 	// RA/DEC
-	private ValueHolder<Double> actualRA = new ValueHolder<Double>();
-	private ValueHolder<Double> actualDec = new ValueHolder<Double>();
-	private ValueHolder<Double> commandRA = new ValueHolder<Double>();
-	private ValueHolder<Double> commandDec = new ValueHolder<Double>();
+	private final DoubleValueHolder actualRA = new DoubleValueHolder();
+	private final DoubleValueHolder actualDec = new DoubleValueHolder();
+	private final DoubleValueHolder commandRA = new DoubleValueHolder();
+	private final DoubleValueHolder commandDec = new DoubleValueHolder();
 	
 	
 	
 	// Offsets
-	private ValueHolder<Double> offsetAz = new ValueHolder<Double>();
-	private ValueHolder<Double> offsetEl = new ValueHolder<Double>();
-	private ValueHolder<Double> offsetRA = new ValueHolder<Double>();
-	private ValueHolder<Double> offsetDec = new ValueHolder<Double>();
+	private final DoubleValueHolder offsetAz = new DoubleValueHolder();
+	private final DoubleValueHolder offsetEl = new DoubleValueHolder();
+	private final DoubleValueHolder offsetRA = new DoubleValueHolder();
+	private final DoubleValueHolder offsetDec = new DoubleValueHolder();
+	
+	/**
+	 * The pointing data read in the last iteration
+	 */
+	private volatile PointingSnapshot pointingSnapshot=PointingSnapshot.NOT_AVAILABLE;
 	
 	/**
 	 * JEpoch
 	 */
-	private ValueHolder<Double> epoch = new ValueHolder<Double>();
+	private final DoubleValueHolder epoch = new DoubleValueHolder();
 	
 	/**
 	 * The status (@see AntModeController)
@@ -81,12 +89,12 @@ public final class MountController  extends MountCommom {
 	/**
 	 * isStopped: <code>true</code> if the mount is stopped
 	 */
-	private ValueHolder<Boolean> isStopped = new ValueHolder<Boolean>();
+	private final BooleanValueHolder isStopped = new BooleanValueHolder();
 	
 	/**
 	 * isOnSource <code>true</code> if the mount is "on source"
 	 */
-	private ValueHolder<Boolean> isOnSource = new ValueHolder<Boolean>();
+	private final BooleanValueHolder isOnSource = new BooleanValueHolder();
 	
 	/**
 	 * The number of seconds before a tracked source sets.
@@ -103,12 +111,26 @@ public final class MountController  extends MountCommom {
 	 * </UL> 
 	 * @see <code>MountController.py</code> for further information on this method.
 	 */
-	private ValueHolder<Double>timeToSet = new ValueHolder<Double>();
+	private final DoubleValueHolder timeToSet = new DoubleValueHolder();
 	
 	/**
 	 * The name of the component
 	 */
 	private final String componentName;
+	
+	/**
+	 * The queue of the offset commands.
+	 * <P>
+	 * The offsets are sent to the component in the same order
+	 * they have been submitted and consecutive increments of the same
+	 * offset are merged in one single call.
+	 */
+	private final OrderedCommandQueue offsetsQueue;
+	
+	/**
+	 * The readers of the properties of the mount controller
+	 */
+	private final Vector<PropertyReader> statusReaders;
 
 	/**
 	 * Constructor.
@@ -123,9 +145,39 @@ public final class MountController  extends MountCommom {
 		}
 		mountController=controllerComponent;
 		componentName=mountController.name();
+		offsetsQueue = new OrderedCommandQueue(
+				"MountController.offsets", 
+				getCommandDispatcher(), 
+				new OrderedCommandQueue.OffsetIncrementer() {
+					public void incrementOffset(OffsetAxis axis, double inc) throws Exception {
+						switch (axis) {
+						case HORIZON_LONG: {
+							mountController.incrementHorizonOffsetLongAsync(inc);
+							break;
+						}
+						case HORIZON_LAT: {
+							mountController.incrementHorizonOffsetLatAsync(inc);
+							break;
+						}
+						case EQUATORIAL_LONG: {
+							mountController.incrementEquatorialOffsetLongAsync(inc);
+							break;
+						}
+						case EQUATORIAL_LAT: {
+							mountController.incrementEquatorialOffsetLatAsync(inc);
+							break;
+						}
+						}
+					}
+				}, 
+				listenersNotifier, 
+				logger);
+		statusReaders=buildStatusReaders();
+		// The pointing data is read at each iteration but the epoch changes rarely
+		getPollPolicy().setPropertyPeriod("Epoch", PollPolicy.SLOW_PERIOD);
 		setName("MountController"); // Set the name of the thread
 		rootP.getHeartbeatChecker().register(this);
-		start();
+		startPolling();
 	}
 	
 	/**
@@ -136,30 +188,31 @@ public final class MountController  extends MountCommom {
 		
 		invalidatePointingData();
 		status.setValue(null);
-		epoch.setValue(null);
+		epoch.clear();
 		
 		mountController=null;
 	}
 	
 	/**
-	 * Invalidate all the pointing data variables by setting
-	 * a <code>null</code> value
+	 * Invalidate all the pointing data variables by marking
+	 * them as not available
 	 */
 	private void invalidatePointingData() {
-		commandAz.setValue(null);
-		commandEl.setValue(null);
-		actualAz.setValue(null);
-		actualEl.setValue(null);
-		commandRA.setValue(null);
-		commandDec.setValue(null);
-		actualRA.setValue(null);
-		actualDec.setValue(null);
-		offsetAz.setValue(null);
-		offsetEl.setValue(null);
-		offsetRA.setValue(null);
-		offsetDec.setValue(null);
-		isOnSource.setValue(null);
-		isStopped.setValue(null);
+		pointingSnapshot=PointingSnapshot.NOT_AVAILABLE;
+		commandAz.clear();
+		commandEl.clear();
+		actualAz.clear();
+		actualEl.clear();
+		commandRA.clear();
+		commandDec.clear();
+		actualRA.clear();
+		actualDec.clear();
+		offsetAz.clear();
+		offsetEl.clear();
+		offsetRA.clear();
+		offsetDec.clear();
+		isOnSource.clear();
+		isStopped.clear();
 	}
 	
 	/**
@@ -194,14 +247,12 @@ public final class MountController  extends MountCommom {
 				}
 			}
 		};
-		// Setup and start the thread
+		// Setup and submit the command
 		OffsetAzELClass thread =new OffsetAzELClass();
 		thread.uid=id;
 		thread.azimOffset=offAz;
 		thread.elevOffset=offEl;
-		Thread t = new Thread(thread,"MountController.offsetAzEl");
-		t.setDaemon(true);
-		t.start();
+		offsetsQueue.submit(id,"MountController.offsetAzEl",thread);
 		return id;
 	}
 	
@@ -215,32 +266,7 @@ public final class MountController  extends MountCommom {
 	public synchronized long incrementHorOffsetLong(final double inc) {
 		// Get a unique a ID for this command
 		long id=getOpUID();
-		// Define the thread to execute the offsetAzEl
-		class IncHorOffsetLong implements Runnable {
-			public long uid;
-			public void run() {
-				String cmd = String.format("Increment horizontal offsets longitude to [%.2f]",inc);
-				//	Launch the command in a separate thread
-				logger.log(AcsLogLevel.DEBUG,cmd+" with ID="+uid);
-				try {
-					mountController.incrementHorizonOffsetLongAsync(inc);
-					logger.log(AcsLogLevel.DEBUG,cmd+" with ID="+uid+" done");
-					listenersNotifier.commandExecuted(uid,cmd,null,null);
-				} catch (Throwable t) {
-					String msg="Error "+cmd+" with ID="+uid;
-					AcsJMountGUIErrorEx ex = new AcsJMountGUIErrorEx(t);
-					ex.setContextDescription(msg);
-					logger.log(AcsLogLevel.ERROR,msg);
-					listenersNotifier.commandExecuted(uid,cmd, "Error from remote component while incrementing horizontal longitude offset",ex);
-				}
-			}
-		};
-		// Setup and start the thread
-		IncHorOffsetLong thread =new IncHorOffsetLong();
-		thread.uid=id;
-		Thread t = new Thread(thread,"MountController.incHorOffsetLong");
-		t.setDaemon(true);
-		t.start();
+		offsetsQueue.incrementOffset(OffsetAxis.HORIZON_LONG, inc, id);
 		return id;
 	}
 	
@@ -254,32 +280,7 @@ public final class MountController  extends MountCommom {
 	public synchronized long incrementHorOffsetLat(final double inc) {
 		// Get a unique a ID for this command
 		long id=getOpUID();
-		// Define the thread to execute the offsetAzEl
-		class IncHorOffsetLat implements Runnable {
-			public long uid;
-			public void run() {
-				String cmd = String.format("Increment horizontal offsets latitude to [%.2f]",inc);
-				//	Launch the command in a separate thread
-				logger.log(AcsLogLevel.DEBUG,cmd+" with ID="+uid);
-				try {
-					mountController.incrementHorizonOffsetLatAsync(inc);
-					logger.log(AcsLogLevel.DEBUG,cmd+" with ID="+uid+" done");
-					listenersNotifier.commandExecuted(uid,cmd,null,null);
-				} catch (Throwable t) {
-					String msg="Error "+cmd+" with ID="+uid;
-					AcsJMountGUIErrorEx ex = new AcsJMountGUIErrorEx(t);
-					ex.setContextDescription(msg);
-					logger.log(AcsLogLevel.ERROR,msg);
-					listenersNotifier.commandExecuted(uid,cmd, "Error from remote component while incrementing horizontal latitude offset",ex);
-				}
-			}
-		};
-		// Setup and start the thread
-		IncHorOffsetLat thread =new IncHorOffsetLat();
-		thread.uid=id;
-		Thread t = new Thread(thread,"MountController.incHorOffsetLat");
-		t.setDaemon(true);
-		t.start();
+		offsetsQueue.incrementOffset(OffsetAxis.HORIZON_LAT, inc, id);
 		return id;
 	}
 	
@@ -293,32 +294,7 @@ public final class MountController  extends MountCommom {
 	public synchronized long incrementEqOffsetLong(final double inc) {
 		// Get a unique a ID for this command
 		long id=getOpUID();
-		// Define the thread to execute the offsetAzEl
-		class IncEqOffsetLong implements Runnable {
-			public long uid;
-			public void run() {
-				String cmd = String.format("Increment equatorial offsets longitude to [%.2f]",inc);
-				//	Launch the command in a separate thread
-				logger.log(AcsLogLevel.DEBUG,cmd+" with ID="+uid);
-				try {
-					mountController.incrementEquatorialOffsetLongAsync(inc);
-					logger.log(AcsLogLevel.DEBUG,cmd+" with ID="+uid+" done");
-					listenersNotifier.commandExecuted(uid,cmd,null,null);
-				} catch (Throwable t) {
-					String msg="Error "+cmd+" with ID="+uid;
-					AcsJMountGUIErrorEx ex = new AcsJMountGUIErrorEx(t);
-					ex.setContextDescription(msg);
-					logger.log(AcsLogLevel.ERROR,msg);
-					listenersNotifier.commandExecuted(uid,cmd, "Error from remote component while incrementing equatorial longitude offset",ex);
-				}
-			}
-		};
-		// Setup and start the thread
-		IncEqOffsetLong thread =new IncEqOffsetLong();
-		thread.uid=id;
-		Thread t = new Thread(thread,"MountController.incEqOffsetLong");
-		t.setDaemon(true);
-		t.start();
+		offsetsQueue.incrementOffset(OffsetAxis.EQUATORIAL_LONG, inc, id);
 		return id;
 	}
 	
@@ -332,32 +308,7 @@ public final class MountController  extends MountCommom {
 	public synchronized long incrementEqOffsetLat(final double inc) {
 		// Get a unique a ID for this command
 		long id=getOpUID();
-		// Define the thread to execute the offsetAzEl
-		class IncEqOffsetLat implements Runnable {
-			public long uid;
-			public void run() {
-				String cmd = String.format("Increment equatorial offsets latitude to [%.2f]",inc);
-				//	Launch the command in a separate thread
-				logger.log(AcsLogLevel.DEBUG,cmd+" with ID="+uid);
-				try {
-					mountController.incrementEquatorialOffsetLatAsync(inc);
-					logger.log(AcsLogLevel.DEBUG,cmd+" with ID="+uid+" done");
-					listenersNotifier.commandExecuted(uid,cmd,null,null);
-				} catch (Throwable t) {
-					String msg="Error "+cmd+" with ID="+uid;
-					AcsJMountGUIErrorEx ex = new AcsJMountGUIErrorEx(t);
-					ex.setContextDescription(msg);
-					logger.log(AcsLogLevel.ERROR,msg);
-					listenersNotifier.commandExecuted(uid,cmd, "Error from remote component while incrementing equatorial latitude offset",ex);
-				}
-			}
-		};
-		// Setup and start the thread
-		IncEqOffsetLat thread =new IncEqOffsetLat();
-		thread.uid=id;
-		Thread t = new Thread(thread,"MountController.incEqOffsetLat");
-		t.setDaemon(true);
-		t.start();
+		offsetsQueue.incrementOffset(OffsetAxis.EQUATORIAL_LAT, inc, id);
 		return id;
 	}
 	
@@ -393,14 +344,12 @@ public final class MountController  extends MountCommom {
 				}
 			}
 		};
-		// Setup and start the thread
+		// Setup and submit the command
 		OffsetEqClass thread =new OffsetEqClass();
 		thread.uid=id;
 		thread.raOffset=offRA;
 		thread.decOffset=offDec;
-		Thread t = new Thread(thread,"MountController.offsetEquatorial");
-		t.setDaemon(true);
-		t.start();
+		offsetsQueue.submit(id,"MountController.offsetEquatorial",thread);
 		return id;
 	}
 	
@@ -457,7 +406,7 @@ public final class MountController  extends MountCommom {
 				}
 			}
 		};
-		// Setup and start the thread
+		// Setup and submit the command
 		ObjstarClass thread =new ObjstarClass();
 		thread.uid=id;
 		thread.rightA=ra;
@@ -466,9 +415,7 @@ public final class MountController  extends MountCommom {
 		thread.pm_RA=pmRA;
 		thread.pm_DEC=pmDec;
 		thread.px=parallax;
-		Thread t = new Thread(thread,"MountController.objstar");
-		t.setDaemon(true);
-		t.start();
+		submitCommand(id,"MountController.objstar",thread);
 		return id;
 	}
 	
@@ -507,103 +454,169 @@ public final class MountController  extends MountCommom {
 				}
 			}
 		};
-		// Setup and start the thread
+		// Setup and submit the command
 		ObjfixClass thread =new ObjfixClass();
 		thread.uid=id;
 		thread.azim=az;
 		thread.elev=el;
-		Thread t = new Thread(thread,"MountController.objfix");
-		t.setDaemon(true);
-		t.start();
+		submitCommand(id,"MountController.objfix",thread);
 		return id;
 	}
 	
-	public ValueHolder<Double> getCommandDec() {
+	public DoubleValueHolder getCommandDec() {
 		return commandDec;
 	}
 	
-	public ValueHolder<Double> getCommandRA() {
+	public DoubleValueHolder getCommandRA() {
 		return commandRA;
 	}
 	
-	public ValueHolder<Double> getActualRA() {
+	public DoubleValueHolder getActualRA() {
 		return actualRA;
 	}
 	
-	public ValueHolder<Double> getActualDec() {
+	public DoubleValueHolder getActualDec() {
 		return actualDec;
 	}
 	
-	public ValueHolder<Double> getOffsetAz() {
+	public DoubleValueHolder getOffsetAz() {
 		return offsetAz;
 	}
 	
-	public ValueHolder<Double> getOffsetEl() {
+	public DoubleValueHolder getOffsetEl() {
 		return offsetEl;
 	}
 	
+	/**
+	 * Record the actual, commanded and offset coordinates
+	 * 
+	 * @see MountCommom#addTelemetryChannels(TelemetryBinder)
+	 */
+	@Override
+	protected void addTelemetryChannels(TelemetryBinder binder) {
+		binder.addChannel(this, TelemetryChannel.ACTUAL_AZ, actualAz);
+		binder.addChannel(this, TelemetryChannel.ACTUAL_EL, actualEl);
+		binder.addChannel(this, TelemetryChannel.COMMAND_AZ, commandAz);
+		binder.addChannel(this, TelemetryChannel.COMMAND_EL, commandEl);
+		binder.addChannel(this, TelemetryChannel.ACTUAL_RA, actualRA);
+		binder.addChannel(this, TelemetryChannel.ACTUAL_DEC, actualDec);
+		binder.addChannel(this, TelemetryChannel.COMMAND_RA, commandRA);
+		binder.addChannel(this, TelemetryChannel.COMMAND_DEC, commandDec);
+		binder.addChannel(this, TelemetryChannel.OFFSET_AZ, offsetAz);
+		binder.addChannel(this, TelemetryChannel.OFFSET_EL, offsetEl);
+		binder.addChannel(this, TelemetryChannel.OFFSET_RA, offsetRA);
+		binder.addChannel(this, TelemetryChannel.OFFSET_DEC, offsetDec);
+		binder.addChannel(this, TelemetryChannel.ON_SOURCE, isOnSource);
+	}
+	
+	/**
+	 * Publish the pointing data set by the player in a new {@link PointingSnapshot}.
+	 * <P>
+	 * The player does not set the stopped flag: the mount is stopped
+	 * when the commanded position is not available.
+	 * 
+	 * @see MountCommom#replayComponentStatus()
+	 */
+	@Override
+	protected void replayComponentStatus() {
+		long time=actualAz.getTime();
+		if (!actualAz.isAvailable() || time<=0) {
+			pointingSnapshot=PointingSnapshot.NOT_AVAILABLE;
+			return;
+		}
+		double[] positions = new double[Coordinate.DEVIATION_AZ.ordinal()];
+		positions[Coordinate.COMMANDED_AZ.ordinal()]=commandAz.getValue();
+		positions[Coordinate.COMMANDED_EL.ordinal()]=commandEl.getValue();
+		positions[Coordinate.ACTUAL_AZ.ordinal()]=actualAz.getValue();
+		positions[Coordinate.ACTUAL_EL.ordinal()]=actualEl.getValue();
+		positions[Coordinate.COMMANDED_RA.ordinal()]=commandRA.getValue();
+		positions[Coordinate.COMMANDED_DEC.ordinal()]=commandDec.getValue();
+		positions[Coordinate.ACTUAL_RA.ordinal()]=actualRA.getValue();
+		positions[Coordinate.ACTUAL_DEC.ordinal()]=actualDec.getValue();
+		positions[Coordinate.OFFSET_AZ.ordinal()]=offsetAz.getValue();
+		positions[Coordinate.OFFSET_EL.ordinal()]=offsetEl.getValue();
+		positions[Coordinate.OFFSET_RA.ordinal()]=offsetRA.getValue();
+		positions[Coordinate.OFFSET_DEC.ordinal()]=offsetDec.getValue();
+		boolean stopped=Double.isNaN(positions[Coordinate.COMMANDED_AZ.ordinal()]);
+		pointingSnapshot = new PointingSnapshot(positions, stopped, isOnSource.isTrue(), time);
+		isStopped.setValue(stopped, time);
+	}
+	
 	/**
 	 * Update the status of the component. Called by the thread
 	 * 
 	 * @param errState The error state of execution
 	 */
 	public void updateComponentStatus(UpdateError errState) {
+		readProperties(statusReaders, errState);
+	}
+	
+	/**
+	 * Build the readers of the properties of the mount controller
+	 * 
+	 * @return The readers of the properties
+	 */
+	private Vector<PropertyReader> buildStatusReaders() {
+		Vector<PropertyReader> readers = new Vector<PropertyReader>();
 		
-		//	Used to check if the component is slow answering
-		long preReadTime;
-		
-		try {
-			updatePointingData();
-		} catch (Throwable t) {
-			errState.addError(t);
-		}
+		// Pointing data
+		readers.add(new PropertyReader("PointingData") {
+			protected void read(UpdateError errState) {
+				try {
+					updatePointingData();
+				} catch (Throwable t) {
+					errState.addError(t);
+				}
+			}
+		});
 		
 		// Status
-		preReadTime = System.currentTimeMillis();
-		try {
-			Status newStatus = mountController.getStatus();
-			status.setValue(newStatus);
-		} catch (Throwable t) {
-			status.setValue(null);
-			errState.addError(t);
-		}
-		if (checkDelay(preReadTime)) {
-			errState.addDelay();
-		}
+		readers.add(new PropertyReader("Status") {
+			protected void read(UpdateError errState) {
+				try {
+					Status newStatus = mountController.getStatus();
+					status.setValue(newStatus);
+				} catch (Throwable t) {
+					status.setValue(null);
+					errState.addError(t);
+				}
+			}
+		});
 		
 		// Epoch
-		preReadTime = System.currentTimeMillis();
-		try {
-			double ep = mountController.getEpoch();
-			epoch.setValue(Double.valueOf(ep));
-		} catch (Throwable t) {
-			epoch.setValue(null);
-			errState.addError(t);
-		}
-		if (checkDelay(preReadTime)) {
-			errState.addDelay();
-		}
+		readers.add(new PropertyReader("Epoch") {
+			protected void read(UpdateError errState) {
+				try {
+					double ep = mountController.getEpoch();
+					epoch.setValue(ep);
+				} catch (Throwable t) {
+					epoch.clear();
+					errState.addError(t);
+				}
+			}
+		});
 		
 		// timeToSet
-		preReadTime = System.currentTimeMillis();
-		try {
-			double newStatus = mountController.timeToSet();
-			/////////////////////////////////////////////
-			//// Check if the value is less the 0 ==> ERROR!
-			/////////////////////////////////////////////
-			timeToSet.setValue(newStatus);
-		} catch (Exception e) {
-			// This exception is thrown when the component
-			// is not tracking a planet.
-			// It is NOT an error
-			timeToSet.setValue(Double.NEGATIVE_INFINITY);
-		} catch (Throwable t) {
-			timeToSet.setValue(null);
-			errState.addError(t);
-		}
-		if (checkDelay(preReadTime)) {
-			errState.addDelay();
-		}
+		readers.add(new PropertyReader("TimeToSet") {
+			protected void read(UpdateError errState) {
+				try {
+					double newStatus = mountController.timeToSet();
+					/////////////////////////////////////////////
+					//// Check if the value is less the 0 ==> ERROR!
+					/////////////////////////////////////////////
+					timeToSet.setValue(newStatus);
+				} catch (Exception e) {
+					// This exception is thrown when the component
+					// is not tracking a planet.
+					// It is NOT an error
+					timeToSet.setValue(Double.NEGATIVE_INFINITY);
+				} catch (Throwable t) {
+					timeToSet.clear();
+					errState.addError(t);
+				}
+			}
+		});
+		return readers;
 	}
 	
 	/**
@@ -612,8 +625,8 @@ public final class MountController  extends MountCommom {
 	 * <code>MountController.getPointingData</code> returns all the pointing data
 	 * synchronized.
 	 * <P>
-	 * This method gets the pointing data from the <code>MountController</code> and fills
-	 * all the internal variables
+	 * This method gets the pointing data from the <code>MountController</code>, publishes
+	 * them in a new {@link PointingSnapshot} and fills all the internal variables
 	 * @throws AcsJPointingDataEx In case of error getting pointing data from the mount controller
 	 */
 	private void updatePointingData() throws AcsJPointingDataEx {
@@ -625,56 +638,43 @@ public final class MountController  extends MountCommom {
 			throw new AcsJPointingDataEx(t);
 		}
 		
-		// Commanded AZ/EL
-                HorizonDirection pointing = pData.pointing;
-		if (!pData.stopped) {
-			HorizonDirection commanded = pData.commanded;
-			commandAz.setValue(commanded.az+pointing.az , pData.timestamp);
-			commandEl.setValue(commanded.el+pointing.el, pData.timestamp);
-		} else {
-			commandAz.setValue(null);
-			commandEl.setValue(null);
-		}
-		
-		// Actual AZ/EL
-		HorizonDirection measured = pData.measured;
-		actualAz.setValue(measured.az + pointing.az, pData.timestamp);
-		actualEl.setValue(measured.el + pointing.el, pData.timestamp);
-		
-		// Commanded RA/DEC
-		if (!pData.stopped) {
-			EquatorialDirection target = pData.target;
-			commandRA.setValue(target.ra, pData.timestamp);
-			commandDec.setValue(target.dec, pData.timestamp);
-		} else {
-			commandRA.setValue(null);
-			commandDec.setValue(null);
-		}
+		PointingSnapshot frame = new PointingSnapshot(pData);
+		pointingSnapshot=frame;
 		
-		// Actual RA/DEC
-		EquatorialDirection measuredTarget = pData.measuredTarget;
-		actualRA.setValue(measuredTarget.ra, pData.timestamp);
-		actualDec.setValue(measuredTarget.dec, pData.timestamp);
-		
-		// Horizontal offsets
-		Offset hrOffsets = pData.horizon;
-		offsetAz.setValue(hrOffsets.lng, pData.timestamp);
-		offsetEl.setValue(hrOffsets.lat, pData.timestamp);
-		
-		// Equatorial offsets
-		Offset eqOffsets = pData.equatorial;
-		offsetRA.setValue(eqOffsets.lng, pData.timestamp);
-		offsetDec.setValue(eqOffsets.lat, pData.timestamp);
-		
-		isStopped.setValue(pData.stopped, pData.timestamp);
-		isOnSource.setValue(pData.onSource, pData.timestamp);
+		commandAz.setValue(frame.get(Coordinate.COMMANDED_AZ), frame.time);
+		commandEl.setValue(frame.get(Coordinate.COMMANDED_EL), frame.time);
+		actualAz.setValue(frame.get(Coordinate.ACTUAL_AZ), frame.time);
+		actualEl.setValue(frame.get(Coordinate.ACTUAL_EL), frame.time);
+		commandRA.setValue(frame.get(Coordinate.COMMANDED_RA), frame.time);
+		commandDec.setValue(frame.get(Coordinate.COMMANDED_DEC), frame.time);
+		actualRA.setValue(frame.get(Coordinate.ACTUAL_RA), frame.time);
+		actualDec.setValue(frame.get(Coordinate.ACTUAL_DEC), frame.time);
+		offsetAz.setValue(frame.get(Coordinate.OFFSET_AZ), frame.time);
+		offsetEl.setValue(frame.get(Coordinate.OFFSET_EL), frame.time);
+		offsetRA.setValue(frame.get(Coordinate.OFFSET_RA), frame.time);
+		offsetDec.setValue(frame.get(Coordinate.OFFSET_DEC), frame.time);
+		isStopped.setValue(frame.stopped, frame.time);
+		isOnSource.setValue(frame.onSource, frame.time);
 	}
 
-	public ValueHolder<Double> getOffsetDec() {
+	/**
+	 * Return the pointing data read in the last iteration.
+	 * <P>
+	 * All the values in the returned object have been read at the same time
+	 * and the deviations are already calculated.
+	 * 
+	 * @return The pointing data read in the last iteration
+	 * 			(never <code>null</code>)
+	 */
+	public PointingSnapshot getPointingSnapshot() {
+		return pointingSnapshot;
+	}
+	
+	public DoubleValueHolder getOffsetDec() {
 		return offsetDec;
 	}
 
-	public ValueHolder<Double> getOffsetRA() {
+	public DoubleValueHolder getOffsetRA() {
 		return offsetRA;
 	}
 	
@@ -710,12 +710,10 @@ public final class MountController  extends MountCommom {
 				}
 			}
 		};
-		// Setup and start the thread
+		// Setup and submit the command
 		StopTrajectory thread =new StopTrajectory();
 		thread.uid=id;
-		Thread t = new Thread(thread,"MountController.stopTrajectory");
-		t.setDaemon(true);
-		t.start();
+		submitStopCommand(id,"MountController.stopTrajectory",thread);
 		return id;
 	}
 	
@@ -759,13 +757,11 @@ public final class MountController  extends MountCommom {
 				}
 			}
 		};
-		// Setup and start the thread
+		// Setup and submit the command
 		PointToPlanet thread =new PointToPlanet();
 		thread.uid=id;
 		thread.thePlanet=planet;
-		Thread t = new Thread(thread,"MountController.setPlanet");
-		t.setDaemon(true);
-		t.start();
+		submitCommand(id,"MountController.setPlanet",thread);
 		return id;
 	}
 	
@@ -797,20 +793,18 @@ public final class MountController  extends MountCommom {
 				}
 			}
 		};
-		// Setup and start the thread
+		// Setup and submit the command
 		StopAxis thread =new StopAxis();
 		thread.uid=id;
-		Thread t = new Thread(thread,"MountController.track");
-		t.setDaemon(true);
-		t.start();
+		submitCommand(id,"MountController.track",thread);
 		return id;
 	}
 
-	public ValueHolder<Boolean> getIsStopped() {
+	public BooleanValueHolder getIsStopped() {
 		return isStopped;
 	}
 
-	public ValueHolder<Double> getEpoch() {
+	public DoubleValueHolder getEpoch() {
 		return epoch;
 	}
 
@@ -841,12 +835,10 @@ public final class MountController  extends MountCommom {
 			}
 		}
 		
-		// Setup and start the thread
+		// Setup and submit the command
 		MaintenanceStow thread = new MaintenanceStow();
 		thread.uid = id;
-		Thread t = new Thread(thread,"MountController.maintenanceStow");
-		t.setDaemon(true);
-		t.start();
+		submitCommand(id,"MountController.maintenanceStow",thread);
 		return id;		
 	}
 	
@@ -877,36 +869,34 @@ public final class MountController  extends MountCommom {
 			}
 		}
 		
-		// Setup and start the thread
+		// Setup and submit the command
 		SurvivalStow thread = new SurvivalStow();
 		thread.uid = id;
-		Thread t = new Thread(thread,"MountController.survivalStow");
-		t.setDaemon(true);
-		t.start();
+		submitCommand(id,"MountController.survivalStow",thread);
 		return id;		
 	}
 
-	public ValueHolder<Boolean> getIsOnSource() {
+	public BooleanValueHolder getIsOnSource() {
 		return isOnSource;
 	}
 
-	public ValueHolder<Double> getCommandAz() {
+	public DoubleValueHolder getCommandAz() {
 		return commandAz;
 	}
 
-	public ValueHolder<Double> getCommandEl() {
+	public DoubleValueHolder getCommandEl() {
 		return commandEl;
 	}
 
-	public ValueHolder<Double> getActualAz() {
+	public DoubleValueHolder getActualAz() {
 		return actualAz;
 	}
 
-	public ValueHolder<Double> getActualEl() {
+	public DoubleValueHolder getActualEl() {
 		return actualEl;
 	}
 
-	public ValueHolder<Double> getTimeToSet() {
+	public DoubleValueHolder getTimeToSet() {
 		return timeToSet;
 	}
 	
@@ -914,4 +904,12 @@ public final class MountController  extends MountCommom {
 		return componentName;
 	}
 	
+	/**
+	 * @see MountCommom#getComponentType()
+	 */
+	@Override
+	protected String getComponentType() {
+		return TelemetryBinder.MOUNT_CONTROLLER_TYPE;
+	}
+	
 }
@@ -36,23 +36,23 @@ public class MountStatus {
 	private MountStatusData mountData;
 	
 	// True if the mount is on target
-	private ValueHolder<Boolean> onTarget = new ValueHolder<Boolean>();
+	private final BooleanValueHolder onTarget = new BooleanValueHolder();
 	
 	// True if the ACU pointing model has been applied
-	private ValueHolder<Boolean> acuPointingModel = new ValueHolder<Boolean>();
+	private final BooleanValueHolder acuPointingModel = new BooleanValueHolder();
 	
 	// True if the ACU Aux PM has been applied
-	private ValueHolder<Boolean> acuAuxPointingModel = new ValueHolder<Boolean>();
+	private final BooleanValueHolder acuAuxPointingModel = new BooleanValueHolder();
 	
 	// AZ/EL
-	private ValueHolder<Double> commandAz = new ValueHolder<Double>();
-	private ValueHolder<Double> commandEl = new ValueHolder<Double>();
-	private ValueHolder<Double> azPos = new ValueHolder<Double>();
-	private ValueHolder<Double> elPos = new ValueHolder<Double>();
+	private final DoubleValueHolder commandAz = new DoubleValueHolder();
+	private final DoubleValueHolder commandEl = new DoubleValueHolder();
+	private final DoubleValueHolder azPos = new DoubleValueHolder();
+	private final DoubleValueHolder elPos = new DoubleValueHolder();
 	
 	// AZ/EL encoders
-	private ValueHolder<Double> azEncoder = new ValueHolder<Double>();
-	private ValueHolder<Double> elEncoder = new ValueHolder<Double>();
+	private final DoubleValueHolder azEncoder = new DoubleValueHolder();
+	private final DoubleValueHolder elEncoder = new DoubleValueHolder();
 	
 	/**
 	 * Getter method
@@ -90,86 +90,86 @@ public class MountStatus {
 	 */
 	public void update(MountStatusData newData) {
 		if (newData==null) {
-			azEncoder.setValue(null);
-			elEncoder.setValue(null);
-			commandAz.setValue(null);
-			commandEl.setValue(null);
-			azPos.setValue(null);
-			elPos.setValue(null);
-			acuPointingModel.setValue(null);
-			acuAuxPointingModel.setValue(null);
-			onTarget.setValue(null);
+			azEncoder.clear();
+			elEncoder.clear();
+			commandAz.clear();
+			commandEl.clear();
+			azPos.clear();
+			elPos.clear();
+			acuPointingModel.clear();
+			acuAuxPointingModel.clear();
+			onTarget.clear();
 			return;
 		}
 		mountData=newData;
 		if (newData.azEncoderValid) {
 			azEncoder.setValue(newData.azEncoder,newData.timestamp);
 		} else {
-			azEncoder.setValue(null);
+			azEncoder.clear();
 		}
 		if (newData.elEncoderValid) {
 			elEncoder.setValue(newData.elEncoder,newData.timestamp);
 		} else {
-			elEncoder.setValue(null);
+			elEncoder.clear();
 		}
 		if (newData.azCommandedValid) {
 			commandAz.setValue(newData.azCommanded,newData.timestamp);
 		} else {
-			commandAz.setValue(null);
+			commandAz.clear();
 		}
 		if (newData.elCommandedValid) {
 			commandEl.setValue(newData.elCommanded,newData.timestamp);
 		} else {
-			commandEl.setValue(null);
+			commandEl.clear();
 		}
 		if (newData.azPositionsValid) {
 			azPos.setValue(newData.azPosition,newData.timestamp);
 		} else {
-			azPos.setValue(null);
+			azPos.clear();
 		}
 		if (newData.elPositionsValid) {
 			elPos.setValue(newData.elPosition,newData.timestamp);
 		} else {
-			elPos.setValue(null);
+			elPos.clear();
 		}
 		acuPointingModel.setValue(newData.pointingModel, newData.timestamp);
 		acuAuxPointingModel.setValue(newData.auxPointingModel, newData.timestamp);
 		onTarget.setValue(newData.onSource, newData.timestamp);
 	}
 
-	public ValueHolder<Boolean> getAcuPointingModel() {
+	public BooleanValueHolder getAcuPointingModel() {
 		return acuPointingModel;
 	}
 	
-	public ValueHolder<Double> getAzEncoder() {
+	public DoubleValueHolder getAzEncoder() {
 		return azEncoder;
 	}
 
-	public ValueHolder<Double> getAzPos() {
+	public DoubleValueHolder getAzPos() {
 		return azPos;
 	}
 
-	public ValueHolder<Double> getCommandAz() {
+	public DoubleValueHolder getCommandAz() {
 		return commandAz;
 	}
 
-	public ValueHolder<Double> getCommandEl() {
+	public DoubleValueHolder getCommandEl() {
 		return commandEl;
 	}
 
-	public ValueHolder<Double> getElEncoder() {
+	public DoubleValueHolder getElEncoder() {
 		return elEncoder;
 	}
 
-	public ValueHolder<Double> getElPos() {
+	public DoubleValueHolder getElPos() {
 		return elPos;
 	}
 
-	public ValueHolder<Boolean> getOnTarget() {
+	public BooleanValueHolder getOnTarget() {
 		return onTarget;
 	}
 
-	public ValueHolder<Boolean> getAcuAuxPointingModel() {
+	public BooleanValueHolder getAcuAuxPointingModel() {
 		return acuAuxPointingModel;
 	}
 	
@@ -0,0 +1,399 @@
+/*
+ * ALMA - Atacama Large Millimiter Array (c) European Southern Observatory, 2007
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ */
+package alma.control.gui.antennamount.mount;
+
+import java.util.LinkedList;
+import java.util.Vector;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.logging.Logger;
+
+import alma.ControlGUIErrType.wrappers.AcsJMountGUIErrorEx;
+import alma.acs.logging.AcsLogLevel;
+
+/**
+ * A queue of commands executed one after the other in the same order
+ * they have been submitted.
+ * <P>
+ * The commands are executed by the {@link CommandDispatcher} but only one
+ * command of the queue runs at a given time so that, for example, the offsets
+ * arrive to the remote component in the same order the user pressed the buttons.
+ * <P>
+ * Consecutive increments of the same offset that are still waiting to be executed
+ * are merged in one single remote call.
+ * All the merged commands keep their own identifier i.e. the listeners are notified
+ * once for each submitted command.
+ *
+ * @author acaproni
+ *
+ */
+public class OrderedCommandQueue {
+
+	/**
+	 * The offsets that can be incremented
+	 *
+	 * @author acaproni
+	 *
+	 */
+	public enum OffsetAxis {
+		HORIZON_LONG("horizontal offsets longitude","horizontal longitude offset"),
+		HORIZON_LAT("horizontal offsets latitude","horizontal latitude offset"),
+		EQUATORIAL_LONG("equatorial offsets longitude","equatorial longitude offset"),
+		EQUATORIAL_LAT("equatorial offsets latitude","equatorial latitude offset");
+
+		/**
+		 * The description of the offset in the command
+		 */
+		public final String description;
+
+		/**
+		 * The description of the offset in the error messages
+		 */
+		public final String errorDescription;
+
+		/**
+		 * Constructor
+		 *
+		 * @param desc The description of the offset in the command
+		 * @param errDesc The description of the offset in the error messages
+		 */
+		private OffsetAxis(String desc, String errDesc) {
+			description=desc;
+			errorDescription=errDesc;
+		}
+	}
+
+	/**
+	 * The object that sends the increment of an offset to
+	 * the remote component
+	 *
+	 * @author acaproni
+	 *
+	 */
+	public interface OffsetIncrementer {
+		/**
+		 * Increment the offset of the given axis
+		 *
+		 * @param axis The offset to increment
+		 * @param inc The increment
+		 * @throws Exception In case of error from the remote component
+		 */
+		public void incrementOffset(OffsetAxis axis, double inc) throws Exception;
+	}
+
+	/**
+	 * A command in the queue.
+	 * <P>
+	 * It is an increment of an offset (possibly merging several increments)
+	 * or a generic command that notifies the listeners by itself.
+	 *
+	 * @author acaproni
+	 *
+	 */
+	private static class QueuedCommand {
+
+		/**
+		 * The offset to increment (<code>null</code> for generic commands)
+		 */
+		public final OffsetAxis axis;
+
+		/**
+		 * The total increment of the merged commands
+		 */
+		public double increment;
+
+		/**
+		 * The IDs of the merged commands
+		 */
+		public final Vector<Long> uids = new Vector<Long>();
+
+		/**
+		 * The description of each of the merged commands
+		 */
+		public final Vector<String> cmds = new Vector<String>();
+
+		/**
+		 * The generic command (<code>null</code> for increments)
+		 */
+		public final Runnable command;
+
+		/**
+		 * Constructor of an increment
+		 *
+		 * @param axis The offset to increment
+		 * @param inc The increment
+		 * @param uid The ID of the command
+		 * @param cmd The description of the command
+		 */
+		public QueuedCommand(OffsetAxis axis, double inc, long uid, String cmd) {
+			this.axis=axis;
+			this.command=null;
+			increment=inc;
+			uids.add(uid);
+			cmds.add(cmd);
+		}
+
+		/**
+		 * Constructor of a generic command
+		 *
+		 * @param uid The ID of the command
+		 * @param cmdName The name of the command
+		 * @param command The command to execute
+		 */
+		public QueuedCommand(long uid, String cmdName, Runnable command) {
+			this.axis=null;
+			this.command=command;
+			uids.add(uid);
+			cmds.add(cmdName);
+		}
+	}
+
+	/**
+	 * The name of the queue used to name the commands in the dispatcher
+	 */
+	private final String name;
+
+	/**
+	 * The commands waiting to be executed
+	 */
+	private final LinkedList<QueuedCommand> pending = new LinkedList<QueuedCommand>();
+
+	/**
+	 * <code>true</code> if a task draining the queue has been submitted
+	 * to the dispatcher and is still running
+	 */
+	private boolean draining=false;
+
+	/**
+	 * The dispatcher that executes the commands
+	 */
+	private final CommandDispatcher dispatcher;
+
+	/**
+	 * The object sending the increments to the component
+	 */
+	private final OffsetIncrementer incrementer;
+
+	/**
+	 * Notifies the listeners about the execution of the commands
+	 */
+	private final MountListenersNotifier listenersNotifier;
+
+	/**
+	 * The logger
+	 */
+	private final Logger logger;
+
+	/**
+	 * The number of remote calls saved by merging increments
+	 */
+	private long mergedCommands=0;
+
+	/**
+	 * The task draining the queue in the dispatcher
+	 */
+	private final Runnable drainer = new Runnable() {
+		public void run() {
+			QueuedCommand cmd;
+			while ((cmd=next())!=null) {
+				execute(cmd);
+			}
+		}
+	};
+
+	/**
+	 * Constructor
+	 *
+	 * @param name The name of the queue
+	 * @param dispatcher The dispatcher executing the commands
+	 * @param incrementer The object sending the increments to the component
+	 * @param notifier Notifies the listeners about the execution of the commands
+	 * @param logger The logger
+	 */
+	public OrderedCommandQueue(
+			String name,
+			CommandDispatcher dispatcher,
+			OffsetIncrementer incrementer,
+			MountListenersNotifier notifier,
+			Logger logger) {
+		if (name==null || name.isEmpty()) {
+			throw new IllegalArgumentException("Invalid null/empty name");
+		}
+		if (dispatcher==null) {
+			throw new IllegalArgumentException("Invalid null dispatcher");
+		}
+		if (incrementer==null) {
+			throw new IllegalArgumentException("Invalid null incrementer");
+		}
+		if (notifier==null) {
+			throw new IllegalArgumentException("Invalid null notifier");
+		}
+		if (logger==null) {
+			throw new IllegalArgumentException("Invalid null logger");
+		}
+		this.name=name;
+		this.dispatcher=dispatcher;
+		this.incrementer=incrementer;
+		this.listenersNotifier=notifier;
+		this.logger=logger;
+	}
+
+	/**
+	 * Queue an increment of an offset.
+	 * <P>
+	 * If the last command in the queue is an increment of the same offset,
+	 * the new increment is merged with it.
+	 *
+	 * @param axis The offset to increment
+	 * @param inc The increment
+	 * @param uid The ID of the command
+	 */
+	public synchronized void incrementOffset(OffsetAxis axis, double inc, long uid) {
+		if (axis==null) {
+			throw new IllegalArgumentException("Invalid null axis");
+		}
+		String cmd = String.format("Increment "+axis.description+" to [%.2f]",inc);
+		logger.log(AcsLogLevel.DEBUG,cmd+" with ID="+uid+" queued");
+		QueuedCommand last = pending.isEmpty()?null:pending.getLast();
+		if (last!=null && last.axis==axis) {
+			last.increment+=inc;
+			last.uids.add(uid);
+			last.cmds.add(cmd);
+			mergedCommands++;
+			return;
+		}
+		pending.add(new QueuedCommand(axis, inc, uid, cmd));
+		startDraining();
+	}
+
+	/**
+	 * Queue a generic command.
+	 * <P>
+	 * The command is executed after all the commands already in the queue
+	 * and must notify the listeners by itself.
+	 *
+	 * @param uid The ID of the command
+	 * @param cmdName The name of the command
+	 * @param command The command to execute
+	 */
+	public synchronized void submit(long uid, String cmdName, Runnable command) {
+		if (command==null) {
+			throw new IllegalArgumentException("Invalid null command");
+		}
+		pending.add(new QueuedCommand(uid, cmdName, command));
+		startDraining();
+	}
+
+	/**
+	 *
+	 * @return The number of commands waiting to be executed
+	 */
+	public synchronized int size() {
+		return pending.size();
+	}
+
+	/**
+	 *
+	 * @return The number of remote calls saved by merging increments
+	 */
+	public synchronized long getMergedCommands() {
+		return mergedCommands;
+	}
+
+	/**
+	 * Submit the task draining the queue to the dispatcher,
+	 * if it is not already running.
+	 * <P>
+	 * If the dispatcher rejects the task, all the commands in the queue
+	 * fail.
+	 */
+	private void startDraining() {
+		if (draining) {
+			return;
+		}
+		try {
+			dispatcher.dispatch(name, drainer);
+			draining=true;
+		} catch (RejectedExecutionException ree) {
+			String msg="Command rejected: too many pending commands";
+			logger.log(AcsLogLevel.ERROR,name+": "+msg+" ("+dispatcher+")");
+			for (QueuedCommand cmd: pending) {
+				for (int t=0; t<cmd.uids.size(); t++) {
+					AcsJMountGUIErrorEx ex = new AcsJMountGUIErrorEx(ree);
+					ex.setContextDescription(msg);
+					listenersNotifier.commandExecuted(cmd.uids.get(t),cmd.cmds.get(t),msg,ex);
+				}
+			}
+			pending.clear();
+		}
+	}
+
+	/**
+	 * Get the next command to execute.
+	 * <P>
+	 * The command is removed from the queue so that no other increment
+	 * can be merged with it.
+	 *
+	 * @return The next command to execute or <code>null</code> if the queue
+	 * 			is empty (in this case the draining terminates)
+	 */
+	private synchronized QueuedCommand next() {
+		QueuedCommand ret = pending.poll();
+		if (ret==null) {
+			draining=false;
+		}
+		return ret;
+	}
+
+	/**
+	 * Execute a command and, for increments, notify the listeners
+	 * once for each merged command.
+	 *
+	 * @param cmd The command to execute
+	 */
+	private void execute(QueuedCommand cmd) {
+		if (cmd.command!=null) {
+			try {
+				cmd.command.run();
+			} catch (Throwable t) {
+				// The command notifies the listeners by itself
+				logger.log(AcsLogLevel.ERROR,"Error executing "+cmd.cmds.get(0)+" with ID="+cmd.uids.get(0),t);
+			}
+			return;
+		}
+		String cmdStr = String.format("Increment "+cmd.axis.description+" of [%.2f] (%d merged commands)",cmd.increment,cmd.uids.size());
+		logger.log(AcsLogLevel.DEBUG,cmdStr+" with IDs="+cmd.uids);
+		AcsJMountGUIErrorEx ex=null;
+		try {
+			incrementer.incrementOffset(cmd.axis, cmd.increment);
+			logger.log(AcsLogLevel.DEBUG,cmdStr+" with IDs="+cmd.uids+" done");
+		} catch (Throwable t) {
+			String msg="Error "+cmdStr+" with IDs="+cmd.uids;
+			ex = new AcsJMountGUIErrorEx(t);
+			ex.setContextDescription(msg);
+			logger.log(AcsLogLevel.ERROR,msg);
+		}
+		for (int t=0; t<cmd.uids.size(); t++) {
+			if (ex==null) {
+				listenersNotifier.commandExecuted(cmd.uids.get(t),cmd.cmds.get(t),null,null);
+			} else {
+				listenersNotifier.commandExecuted(cmd.uids.get(t),cmd.cmds.get(t), "Error from remote component while incrementing "+cmd.axis.errorDescription,ex);
+			}
+		}
+	}
+}
@@ -0,0 +1,245 @@
+/*
+ * ALMA - Atacama Large Millimiter Array (c) European Southern Observatory, 2007
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ */
+package alma.control.gui.antennamount.mount;
+
+import alma.Control.EquatorialDirection;
+import alma.Control.HorizonDirection;
+import alma.Control.MountControllerPackage.PointingData;
+
+/**
+ * The pointing data read from the <code>MountController</code> in one iteration
+ * of the thread.
+ * <P>
+ * <code>MountController.getPointingData</code> returns all the pointing data
+ * synchronized: a <code>PointingSnapshot</code> keeps them together so that
+ * the views show positions, offsets and deviations of the same cycle instead of
+ * mixing values read in different iterations.
+ * <P>
+ * The object is immutable and published by the {@link MountController} at each
+ * iteration (see {@link MountController#getPointingSnapshot()}).
+ * The deviations are calculated once, when the object is built, by subtracting
+ * the commanded to the actual positions.
+ * <P>
+ * A value not available is <code>NaN</code>: this happens for the commanded
+ * positions (and the deviations) when the mount is stopped.
+ *
+ * @author acaproni
+ *
+ */
+public final class PointingSnapshot implements HolderSnapshot {
+
+	/**
+	 * The coordinates in the snapshot
+	 *
+	 * @author acaproni
+	 *
+	 */
+	public enum Coordinate {
+		COMMANDED_AZ,
+		COMMANDED_EL,
+		ACTUAL_AZ,
+		ACTUAL_EL,
+		COMMANDED_RA,
+		COMMANDED_DEC,
+		ACTUAL_RA,
+		ACTUAL_DEC,
+		OFFSET_AZ,
+		OFFSET_EL,
+		OFFSET_RA,
+		OFFSET_DEC,
+		DEVIATION_AZ,
+		DEVIATION_EL,
+		DEVIATION_RA,
+		DEVIATION_DEC;
+	}
+
+	/**
+	 * The snapshot used when the pointing data are not available
+	 */
+	public static final PointingSnapshot NOT_AVAILABLE = new PointingSnapshot();
+
+	/**
+	 * The values of the coordinates (radians) indexed by
+	 * the ordinal of {@link Coordinate}
+	 */
+	private final double[] values = new double[Coordinate.values().length];
+
+	/**
+	 * <code>true</code> if the mount is stopped
+	 */
+	public final boolean stopped;
+
+	/**
+	 * <code>true</code> if the mount is on source
+	 */
+	public final boolean onSource;
+
+	/**
+	 * The time (millisec) when the pointing data have been produced
+	 * (0 if not available)
+	 */
+	public final long time;
+
+	/**
+	 * Build the snapshot of not available data
+	 */
+	private PointingSnapshot() {
+		for (int t=0; t<values.length; t++) {
+			values[t]=Double.NaN;
+		}
+		stopped=false;
+		onSource=false;
+		time=0;
+	}
+
+	/**
+	 * Build the snapshot from the pointing data read from
+	 * the <code>MountController</code>.
+	 *
+	 * @param pData The pointing data
+	 */
+	public PointingSnapshot(PointingData pData) {
+		if (pData==null) {
+			throw new IllegalArgumentException("Invalid null PointingData");
+		}
+		long now=System.currentTimeMillis();
+		time=(pData.timestamp<=now)?pData.timestamp:now;
+		stopped=pData.stopped;
+		onSource=pData.onSource;
+
+		// Commanded AZ/EL
+		HorizonDirection pointing = pData.pointing;
+		if (!pData.stopped) {
+			HorizonDirection commanded = pData.commanded;
+			set(Coordinate.COMMANDED_AZ, commanded.az+pointing.az);
+			set(Coordinate.COMMANDED_EL, commanded.el+pointing.el);
+		} else {
+			set(Coordinate.COMMANDED_AZ, Double.NaN);
+			set(Coordinate.COMMANDED_EL, Double.NaN);
+		}
+
+		// Actual AZ/EL
+		HorizonDirection measured = pData.measured;
+		set(Coordinate.ACTUAL_AZ, measured.az+pointing.az);
+		set(Coordinate.ACTUAL_EL, measured.el+pointing.el);
+
+		// Commanded RA/DEC
+		if (!pData.stopped) {
+			EquatorialDirection target = pData.target;
+			set(Coordinate.COMMANDED_RA, target.ra);
+			set(Coordinate.COMMANDED_DEC, target.dec);
+		} else {
+			set(Coordinate.COMMANDED_RA, Double.NaN);
+			set(Coordinate.COMMANDED_DEC, Double.NaN);
+		}
+
+		// Actual RA/DEC
+		EquatorialDirection measuredTarget = pData.measuredTarget;
+		set(Coordinate.ACTUAL_RA, measuredTarget.ra);
+		set(Coordinate.ACTUAL_DEC, measuredTarget.dec);
+
+		// Horizontal and equatorial offsets
+		set(Coordinate.OFFSET_AZ, pData.horizon.lng);
+		set(Coordinate.OFFSET_EL, pData.horizon.lat);
+		set(Coordinate.OFFSET_RA, pData.equatorial.lng);
+		set(Coordinate.OFFSET_DEC, pData.equatorial.lat);
+
+		calculateDeviations();
+	}
+
+	/**
+	 * Build the snapshot from values already read, for example
+	 * those set by the <code>TelemetryPlayer</code>.
+	 * <P>
+	 * The deviations are calculated from the positions.
+	 *
+	 * @param positions The positions and the offsets (radians) indexed by the
+	 * 			ordinal of {@link Coordinate}, from {@link Coordinate#COMMANDED_AZ}
+	 * 			to {@link Coordinate#OFFSET_DEC}
+	 * @param stopped <code>true</code> if the mount is stopped
+	 * @param onSource <code>true</code> if the mount is on source
+	 * @param time The time (millisec) when the values have been produced
+	 */
+	public PointingSnapshot(double[] positions, boolean stopped, boolean onSource, long time) {
+		if (positions==null || positions.length!=Coordinate.DEVIATION_AZ.ordinal()) {
+			throw new IllegalArgumentException("Invalid array of positions");
+		}
+		if (time<=0) {
+			throw new IllegalArgumentException("Invalid time "+time);
+		}
+		System.arraycopy(positions, 0, values, 0, positions.length);
+		this.stopped=stopped;
+		this.onSource=onSource;
+		this.time=time;
+		calculateDeviations();
+	}
+
+	/**
+	 * Calculate the deviations from the actual and commanded positions
+	 * (NaN if the commanded position is not available)
+	 */
+	private void calculateDeviations() {
+		set(Coordinate.DEVIATION_AZ, get(Coordinate.ACTUAL_AZ)-get(Coordinate.COMMANDED_AZ));
+		set(Coordinate.DEVIATION_EL, get(Coordinate.ACTUAL_EL)-get(Coordinate.COMMANDED_EL));
+		set(Coordinate.DEVIATION_RA, get(Coordinate.ACTUAL_RA)-get(Coordinate.COMMANDED_RA));
+		set(Coordinate.DEVIATION_DEC, get(Coordinate.ACTUAL_DEC)-get(Coordinate.COMMANDED_DEC));
+	}
+
+	/**
+	 * Set the value of a coordinate
+	 *
+	 * @param coord The coordinate
+	 * @param val The value (radians)
+	 */
+	private void set(Coordinate coord, double val) {
+		values[coord.ordinal()]=val;
+	}
+
+	/**
+	 * Get the value of a coordinate
+	 *
+	 * @param coord The coordinate
+	 * @return The value (radians) of the coordinate or <code>NaN</code>
+	 * 			if not available
+	 */
+	public double get(Coordinate coord) {
+		return values[coord.ordinal()];
+	}
+
+	/**
+	 * @see HolderSnapshot
+	 */
+	public boolean isAvailable() {
+		return time!=0;
+	}
+
+	/**
+	 * @see HolderSnapshot
+	 */
+	public boolean isUpToDate() {
+		return time!=0;
+	}
+
+	/**
+	 * @see HolderSnapshot
+	 */
+	public boolean isValid() {
+		return (System.currentTimeMillis()-time)<ValueHolder.VALIDITY_THRESHOLD;
+	}
+}
@@ -0,0 +1,243 @@
+/*
+ * ALMA - Atacama Large Millimiter Array (c) European Southern Observatory, 2007
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ */
+package alma.control.gui.antennamount.mount;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+
+import alma.control.gui.antennamount.mount.MountCommom.UpdateError;
+
+/**
+ * The policy of the thread polling the properties of a component.
+ * <P>
+ * The thread runs at a fixed rate: the time spent reading the properties
+ * is subtracted from the sleep so that the period does not drift.
+ * <P>
+ * When an iteration is late or the component is slow answering or down 
+ * (see {@link UpdateError}), the period is increased by {@link #backoffFactor} 
+ * up to {@link #maxPeriod} to reduce the load on the component.
+ * The period goes back to the {@link #basePeriod} in the same way as soon as the
+ * iterations terminate in time.
+ * Other errors (like a property that can't be read) do not change the period 
+ * because reading less often does not help.
+ * <P>
+ * Each property (i.e. each {@link MountCommom.PropertyReader}) can be read with a period
+ * longer then the period of the thread.
+ * The period of a property is the period of its {@link PropertyGroup} unless
+ * a period has been explicitly set for the property.
+ * The periods of the properties are in wall-clock time so they do not
+ * slow down when the period of the thread is increased:
+ * a property is read by the first iteration after its period elapsed.
+ * <P>
+ * The policy records the time each property has been read so it must not be 
+ * shared between components.
+ *
+ * @author acaproni
+ *
+ */
+public class PollPolicy {
+
+	/**
+	 * The default period (msec) of the thread
+	 */
+	public static final int DEFAULT_PERIOD=1500;
+
+	/**
+	 * The default max period (msec) of the thread
+	 */
+	public static final int DEFAULT_MAX_PERIOD=12000;
+
+	/**
+	 * The period (msec) suggested for the properties that change rarely
+	 */
+	public static final int SLOW_PERIOD=6000;
+
+	/**
+	 * The default factor to increase/decrease the period
+	 */
+	public static final int DEFAULT_BACKOFF_FACTOR=2;
+
+	/**
+	 * The period (msec) of the thread when there are no errors
+	 */
+	private final int basePeriod;
+
+	/**
+	 * The max period (msec) of the thread
+	 */
+	private final int maxPeriod;
+
+	/**
+	 * The factor to increase/decrease the period
+	 */
+	private final int backoffFactor;
+
+	/**
+	 * The actual period (msec) of the thread
+	 */
+	private int period;
+
+	/**
+	 * For each property, the period (msec) between two reads
+	 * <P>
+	 * The properties not in the map are read with the period of their group
+	 */
+	private final HashMap<String, Integer> propertyPeriods = new HashMap<String, Integer>();
+
+	/**
+	 * For each group of properties, the period (msec) between two reads
+	 */
+	private final EnumMap<PropertyGroup, Integer> groupPeriods = new EnumMap<PropertyGroup, Integer>(PropertyGroup.class);
+	
+	/**
+	 * For each property, the time of the last read
+	 */
+	private final HashMap<String, Long> lastReads = new HashMap<String, Long>();
+
+	/**
+	 * Build a policy with the default values
+	 */
+	public PollPolicy() {
+		this(DEFAULT_PERIOD,DEFAULT_MAX_PERIOD,DEFAULT_BACKOFF_FACTOR);
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param basePeriod The period (msec) of the thread when there are no errors
+	 * @param maxPeriod The max period (msec) of the thread
+	 * @param backoffFactor The factor to increase/decrease the period
+	 */
+	public PollPolicy(int basePeriod, int maxPeriod, int backoffFactor) {
+		if (basePeriod<=0) {
+			throw new IllegalArgumentException("Invalid period "+basePeriod);
+		}
+		if (maxPeriod<basePeriod) {
+			throw new IllegalArgumentException("The max period "+maxPeriod+" is less then the period "+basePeriod);
+		}
+		if (backoffFactor<1) {
+			throw new IllegalArgumentException("Invalid backoff factor "+backoffFactor);
+		}
+		this.basePeriod=basePeriod;
+		this.maxPeriod=maxPeriod;
+		this.backoffFactor=backoffFactor;
+		this.period=basePeriod;
+		for (PropertyGroup group: PropertyGroup.values()) {
+			setGroupPeriod(group, group.defaultPeriod);
+		}
+	}
+
+	/**
+	 * Set the period of all the properties of a group.
+	 *
+	 * @param group The group of properties
+	 * @param msecs The period (msec)
+	 */
+	public synchronized void setGroupPeriod(PropertyGroup group, int msecs) {
+		if (group==null) {
+			throw new IllegalArgumentException("Invalid null group");
+		}
+		if (msecs<=0) {
+			throw new IllegalArgumentException("Invalid period "+msecs);
+		}
+		groupPeriods.put(group, Integer.valueOf(msecs));
+	}
+
+	/**
+	 * Set the period of a property.
+	 *
+	 * @param name The name of the property (i.e. of the {@link MountCommom.PropertyReader})
+	 * @param msecs The period (msec)
+	 */
+	public synchronized void setPropertyPeriod(String name, int msecs) {
+		if (name==null || name.isEmpty()) {
+			throw new IllegalArgumentException("Invalid null/empty property name");
+		}
+		if (msecs<=0) {
+			throw new IllegalArgumentException("Invalid period "+msecs);
+		}
+		propertyPeriods.put(name, Integer.valueOf(msecs));
+	}
+
+	/**
+	 * Check if a property must be read at the given time.
+	 * <P>
+	 * A property is due if its period elapsed since the last read.
+	 * Half of the base period is tolerated to compensate the jitter of the 
+	 * iterations of the thread, so that a property is not postponed 
+	 * to the next iteration for a few msecs.
+	 * <P>
+	 * If the property is due, the passed time is recorded as the time of its read.
+	 *
+	 * @param name The name of the property (i.e. of the {@link MountCommom.PropertyReader})
+	 * @param group The group of the property (can be <code>null</code>)
+	 * @param now The actual time (msec)
+	 * @return <code>true</code> if the property must be read
+	 */
+	public synchronized boolean isDue(String name, PropertyGroup group, long now) {
+		Integer msecs = propertyPeriods.get(name);
+		if (msecs==null && group!=null) {
+			msecs=groupPeriods.get(group);
+		}
+		if (msecs==null) {
+			return true;
+		}
+		Long lastRead=lastReads.get(name);
+		if (lastRead!=null && now-lastRead.longValue()<msecs.intValue()-basePeriod/2) {
+			return false;
+		}
+		lastReads.put(name, Long.valueOf(now));
+		return true;
+	}
+
+	/**
+	 * Update the period of the thread depending on the outcome
+	 * of the last iteration.
+	 * <P>
+	 * The period is increased only if the iteration was late or
+	 * the component was slow answering or down.
+	 *
+	 * @param errState The error state of the last iteration
+	 * @return The period (msec) of the thread
+	 */
+	public synchronized int update(UpdateError errState) {
+		if (errState.hasDelay() || errState.componentDown) {
+			period=Math.min(period*backoffFactor, maxPeriod);
+		} else {
+			period=Math.max(period/backoffFactor, basePeriod);
+		}
+		return period;
+	}
+
+	/**
+	 *
+	 * @return The actual period (msec) of the thread
+	 */
+	public synchronized int getPeriod() {
+		return period;
+	}
+
+	/**
+	 *
+	 * @return The period (msec) of the thread when there are no errors
+	 */
+	public int getBasePeriod() {
+		return basePeriod;
+	}
+}
@@ -0,0 +1,59 @@
+/*
+ * ALMA - Atacama Large Millimiter Array (c) European Southern Observatory, 2007
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ */
+package alma.control.gui.antennamount.mount;
+
+/**
+ * The groups of properties read from the components.
+ * <P>
+ * All the properties of a group are read with the same period.
+ * The default period of each group depends on how often
+ * its properties change: the axes status and the positions
+ * are read at each iteration, while the other status words
+ * and the settings are read less often.
+ * <P>
+ * The period of a group can be changed in the {@link PollPolicy}.
+ *
+ * @author acaproni
+ *
+ */
+public enum PropertyGroup {
+	STATE(PollPolicy.DEFAULT_PERIOD),
+	AXIS_STATUS(PollPolicy.DEFAULT_PERIOD),
+	SUBREFLECTOR(PollPolicy.DEFAULT_PERIOD),
+	SYSTEM_STATUS(3000),
+	METROLOGY(PollPolicy.SLOW_PERIOD),
+	SHUTTER(PollPolicy.SLOW_PERIOD),
+	POWER_STATUS(PollPolicy.SLOW_PERIOD),
+	SETTINGS(PollPolicy.SLOW_PERIOD);
+
+	/**
+	 * The default period (msec) to read the properties
+	 * of the group
+	 */
+	public final int defaultPeriod;
+
+	/**
+	 * Constructor
+	 *
+	 * @param period The default period (msec) to read the properties
+	 */
+	private PropertyGroup(int period) {
+		defaultPeriod=period;
+	}
+}
@@ -0,0 +1,169 @@
+/*
+ * ALMA - Atacama Large Millimiter Array (c) European Southern Observatory, 2007
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ */
+package alma.control.gui.antennamount.mount;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+import alma.ControlGUIErrType.wrappers.AcsJMountGUIErrorEx;
+import alma.ControlGUIErrType.wrappers.AcsJUnsupportedAntennaTypeEx;
+import alma.control.gui.antennamount.AntennaRootPane;
+import alma.control.gui.antennamount.mount.ACSComponentsManager.AntennaType;
+import alma.control.gui.antennamount.mount.a7m.MountA7M;
+import alma.control.gui.antennamount.mount.aca.MountACA;
+import alma.control.gui.antennamount.mount.aem.MountAEM;
+import alma.control.gui.antennamount.mount.vertex.MountVertex;
+import alma.control.gui.antennamount.mount.vertexLLama.MountVertexLLama;
+import alma.control.gui.antennamount.telemetry.TelemetryBinder;
+import alma.control.gui.antennamount.telemetry.TelemetryStream;
+
+/**
+ * Build the Mount and the MountController of a recorded antenna
+ * to replay its telemetry without ACS.
+ * <P>
+ * While replaying, the values of the holders are set by the 
+ * {@link alma.control.gui.antennamount.telemetry.TelemetryPlayer} and 
+ * the components are never read: the Mount and the MountController are built 
+ * on stand-ins of the IDL interfaces of the components that return the recorded name of the
+ * component and reject all the other calls (for example the commands sent by 
+ * the user) with an {@link UnsupportedOperationException}.
+ * <P>
+ * The stand-ins are built with the same type of mount of the recorded one so 
+ * that the panels show the same views they show while connected to the components.
+ * 
+ * @author acaproni
+ *
+ */
+public class ReplayComponentsFactory {
+	
+	/**
+	 * The handler of the calls to a stand-in
+	 * 
+	 * @author acaproni
+	 *
+	 */
+	private static class StandInHandler implements InvocationHandler {
+		
+		/**
+		 * The recorded name of the component
+		 */
+		private final String componentName;
+		
+		/**
+		 * Constructor 
+		 * 
+		 * @param componentName The recorded name of the component
+		 */
+		public StandInHandler(String componentName) {
+			this.componentName=componentName;
+		}
+		
+		/**
+		 * @see InvocationHandler#invoke(Object, Method, Object[])
+		 */
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			String methodName=method.getName();
+			int argsNum=(args==null)?0:args.length;
+			if (methodName.equals("name") && argsNum==0) {
+				return componentName;
+			}
+			if (methodName.equals("toString") && argsNum==0) {
+				return "Replay of "+componentName;
+			}
+			if (methodName.equals("hashCode") && argsNum==0) {
+				return Integer.valueOf(System.identityHashCode(proxy));
+			}
+			if (methodName.equals("equals") && argsNum==1) {
+				return Boolean.valueOf(proxy==args[0]);
+			}
+			throw new UnsupportedOperationException(componentName+"."+methodName+" not available while replaying");
+		}
+	}
+	
+	/**
+	 * Build the stand-in of a component
+	 * 
+	 * @param idlInterface The IDL interface of the component
+	 * @param componentName The recorded name of the component
+	 * @return The stand-in of the component
+	 */
+	private static <T> T buildStandIn(Class<T> idlInterface, String componentName) {
+		Object proxy = Proxy.newProxyInstance(
+				idlInterface.getClassLoader(), 
+				new Class<?>[] { idlInterface }, 
+				new StandInHandler(componentName));
+		return idlInterface.cast(proxy);
+	}
+	
+	/**
+	 * Build the Mount of the type of a recorded stream
+	 * 
+	 * @param stream The recorded stream of the mount
+	 * @param rootP The AntennaRootPane
+	 * @return The mount 
+	 * @throws AcsJUnsupportedAntennaTypeEx If the type of the recorded mount is not supported
+	 */
+	public static Mount buildMount(TelemetryStream stream, AntennaRootPane rootP) throws AcsJUnsupportedAntennaTypeEx {
+		if (stream==null) {
+			throw new IllegalArgumentException("Invalid null stream");
+		}
+		if (rootP==null) {
+			throw new IllegalArgumentException("Invalid null AntennaRootPane");
+		}
+		AntennaType type;
+		try {
+			type=AntennaType.valueOf(stream.getComponentType());
+		} catch (IllegalArgumentException e) {
+			throw new AcsJUnsupportedAntennaTypeEx(e);
+		}
+		String name=stream.getComponentName();
+		switch (type) {
+		case VERTEX: return new MountVertex(buildStandIn(alma.Control.MountVertex.class, name),type,null,rootP);
+		case VERTEX_LLAMA: return new MountVertexLLama(buildStandIn(alma.Control.MountVertexLLama.class, name),type,null,rootP);
+		case ALCATEL: return new MountAEM(buildStandIn(alma.Control.MountAEM.class, name),type,null,rootP);
+		case MELCO: return new MountACA(buildStandIn(alma.Control.MountACA.class, name),type,null,rootP);
+		case MELCOA7M: return new MountA7M(buildStandIn(alma.Control.MountA7M.class, name),type,null,rootP);
+		default: throw new AcsJUnsupportedAntennaTypeEx();
+		}
+	}
+	
+	/**
+	 * Build the MountController of a recorded stream
+	 * 
+	 * @param stream The recorded stream of the MountController
+	 * @param rootP The AntennaRootPane
+	 * @return The MountController
+	 * @throws AcsJMountGUIErrorEx If the stream is not the one of a MountController
+	 */
+	public static MountController buildController(TelemetryStream stream, AntennaRootPane rootP) throws AcsJMountGUIErrorEx {
+		if (stream==null) {
+			throw new IllegalArgumentException("Invalid null stream");
+		}
+		if (rootP==null) {
+			throw new IllegalArgumentException("Invalid null AntennaRootPane");
+		}
+		if (!TelemetryBinder.MOUNT_CONTROLLER_TYPE.equals(stream.getComponentType())) {
+			AcsJMountGUIErrorEx ex = new AcsJMountGUIErrorEx();
+			ex.setContextDescription(stream.getComponentName()+" is not a MountController");
+			throw ex;
+		}
+		return new MountController(buildStandIn(alma.Control.MountController.class, stream.getComponentName()),null,rootP);
+	}
+}
@@ -98,6 +98,17 @@ public abstract class ShutterCommon  {
 	 */
 	public abstract void setShutter(final Action action);
 	
+	/**
+	 * Submit a command to the dispatcher of the mounts for asynchronous execution.
+	 * 
+	 * @param cmdName The name of the command
+	 * @param command The command to execute
+	 * @see MountCommom#getCommandDispatcher()
+	 */
+	protected void submitCommand(String cmdName, Runnable command) {
+		MountCommom.submitCommand(MountCommom.getCommandDispatcher(), 0, cmdName, command, listenersNotifier, logger);
+	}
+	
 	/**
 	 * 
 	 * @return The {@link ValueHolder} of the shutter used to format the string
@@ -0,0 +1,55 @@
+/*
+ * ALMA - Atacama Large Millimiter Array (c) European Southern Observatory, 2007
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ */
+package alma.control.gui.antennamount.mount;
+
+/**
+ * The listener of the changes of the bits of the status words.
+ * <P>
+ * The listener is notified only for the bits whose value differs from
+ * the previous read of the same status word: the current value of all the bits
+ * is available in the {@link ValueHolder} of the status word.
+ * <P>
+ * The methods are executed by the thread of the mount, before reading the
+ * next property: they must return quickly.
+ *
+ * @author acaproni
+ * @see StatusChangeNotifier
+ */
+public interface StatusChangeListener {
+
+	/**
+	 * A bit of a status word changed
+	 *
+	 * @param status The status word
+	 * @param word The index of the word in the array
+	 * @param bit The index of the bit in the word
+	 * @param value The new value of the bit
+	 */
+	public void statusBitChanged(StatusWord status, int word, int bit, boolean value);
+
+	/**
+	 * The status word can't be read anymore (or its number of words changed).
+	 * <P>
+	 * When the status word is read again, the listener is notified of
+	 * all the bits that are set.
+	 *
+	 * @param status The status word
+	 */
+	public void statusUnavailable(StatusWord status);
+}
@@ -0,0 +1,150 @@
+/*
+ * ALMA - Atacama Large Millimiter Array (c) European Southern Observatory, 2007
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ */
+package alma.control.gui.antennamount.mount;
+
+import java.util.EnumMap;
+import java.util.Vector;
+
+/**
+ * Notify the listeners of the bits of the status words that changed.
+ * <P>
+ * Each new array of words is compared with the previous one with a XOR
+ * and only the bits that toggled are sent to the {@link StatusChangeListener}s
+ * so that nothing is notified while the words do not change.
+ * <P>
+ * After a status word becomes unavailable, the previous words are considered
+ * all zeros: when the status word is read again, the listeners are notified
+ * of all the bits that are set.
+ *
+ * @author acaproni
+ *
+ */
+public class StatusChangeNotifier {
+
+	/**
+	 * The listeners
+	 */
+	private final Vector<StatusChangeListener> listeners = new Vector<StatusChangeListener>();
+
+	/**
+	 * The words notified for each status word
+	 * (not in the map if the status word is not available)
+	 */
+	private final EnumMap<StatusWord, int[]> previousWords = new EnumMap<StatusWord, int[]>(StatusWord.class);
+
+	/**
+	 * The number of bits notified so far
+	 */
+	private long notifiedBits=0;
+
+	/**
+	 * Add a listener
+	 *
+	 * @param l The listener to add
+	 */
+	public synchronized void addListener(StatusChangeListener l) {
+		if (l==null) {
+			throw new IllegalArgumentException("Invalid null listener");
+		}
+		listeners.add(l);
+	}
+
+	/**
+	 * Remove a listener
+	 *
+	 * @param l The listener to remove
+	 * @return true if the listener has been removed
+	 */
+	public synchronized boolean removeListener(StatusChangeListener l) {
+		if (l==null) {
+			throw new IllegalArgumentException("Invalid null listener");
+		}
+		return listeners.remove(l);
+	}
+
+	/**
+	 * Remove all the listeners
+	 */
+	public synchronized void clearListeners() {
+		listeners.clear();
+	}
+
+	/**
+	 * Compare the new words of a status word with the previous ones
+	 * and notify the listeners of the bits that changed.
+	 * <P>
+	 * The array is not copied: the arrays returned by the components
+	 * are never modified.
+	 *
+	 * @param status The status word
+	 * @param words The new words (<code>null</code> if the status word is not available)
+	 */
+	public synchronized void update(StatusWord status, int[] words) {
+		if (status==null) {
+			throw new IllegalArgumentException("Invalid null status word");
+		}
+		int[] previous = previousWords.get(status);
+		if (words==null) {
+			if (previous!=null) {
+				previousWords.remove(status);
+				notifyUnavailable(status);
+			}
+			return;
+		}
+		if (previous!=null && previous.length!=words.length) {
+			notifyUnavailable(status);
+			previous=null;
+		}
+		previousWords.put(status, words);
+		if (words==previous || listeners.isEmpty()) {
+			return;
+		}
+		for (int w=0; w<words.length; w++) {
+			int changed=(previous==null)?words[w]:words[w]^previous[w];
+			while (changed!=0) {
+				int bit=Integer.numberOfTrailingZeros(changed);
+				changed&=changed-1;
+				boolean value=((words[w]>>>bit)&1)!=0;
+				for (StatusChangeListener l: listeners) {
+					l.statusBitChanged(status, w, bit, value);
+				}
+				notifiedBits++;
+			}
+		}
+	}
+
+	/**
+	 * Notify the listeners that a status word is not available
+	 *
+	 * @param status The status word
+	 */
+	private void notifyUnavailable(StatusWord status) {
+		for (StatusChangeListener l: listeners) {
+			l.statusUnavailable(status);
+		}
+	}
+
+	/**
+	 *
+	 * @return The number of bits notified so far
+	 */
+	public synchronized long getNotifiedBits() {
+		return notifiedBits;
+	}
+}
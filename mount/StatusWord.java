@@ -0,0 +1,52 @@
+/*
+ * ALMA - Atacama Large Millimiter Array (c) European Southern Observatory, 2007
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ */
+package alma.control.gui.antennamount.mount;
+
+/**
+ * The status words read from the ACU.
+ * <P>
+ * Each status word is an array of int returned by the component
+ * and stored in a {@link ValueHolder}.
+ *
+ * @author acaproni
+ *
+ */
+public enum StatusWord {
+	SYSTEM_STATUS("GET_SYSTEM_STATUS"),
+	SYSTEM_STATUS_2("GET_SYSTEM_STATUS_2"),
+	AZ_STATUS("GET_AZ_STATUS"),
+	AZ_STATUS_2("GET_AZ_STATUS_2"),
+	EL_STATUS("GET_EL_STATUS"),
+	EL_STATUS_2("GET_EL_STATUS_2"),
+	POWER_STATUS("GET_POWER_STATUS");
+
+	/**
+	 * The name of the monitor point in the ICD
+	 */
+	public final String icdName;
+
+	/**
+	 * Constructor
+	 *
+	 * @param icdName The name of the monitor point in the ICD
+	 */
+	private StatusWord(String icdName) {
+		this.icdName=icdName;
+	}
+}
@@ -18,6 +18,7 @@
  */
 package alma.control.gui.antennamount.mount;
 
+import java.util.concurrent.RejectedExecutionException;
 import java.util.logging.Logger;
 
 import org.omg.CORBA.LongHolder;
@@ -29,7 +30,7 @@ import alma.control.gui.antennamount.errortab.ErrorInfo;
 import alma.control.gui.antennamount.mount.ACSComponentsManager.AntennaType;
 import alma.control.gui.antennamount.mount.ISubreflector.Coordinates;
 import alma.control.gui.antennamount.mount.MountCommom.UpdateError;
-import alma.control.gui.antennamount.utils.bit.LongArrayBit;
+import alma.control.gui.antennamount.utils.bit.IntArrayBit;
 
 /**
  * A common class for the subreflector implementation of ISubreflector.
@@ -59,12 +60,12 @@ public abstract class SubreflectorCommon implements ISubreflector {
 	/**
 	 * Limits
 	 */
-	protected ValueHolder<LongArrayBit> limits=new ValueHolder<LongArrayBit>();
+	protected ValueHolder<IntArrayBit> limits=new ValueHolder<IntArrayBit>();
 	
 	/**
 	 * State
 	 */
-	protected ValueHolder<LongArrayBit> state=new ValueHolder<LongArrayBit>();
+	protected ValueHolder<IntArrayBit> state=new ValueHolder<IntArrayBit>();
 	
 	/**
 	 * The AntennaRootPane to add errors and status messages
@@ -111,6 +112,30 @@ public abstract class SubreflectorCommon implements ISubreflector {
 		this.antennaRootP=rootP;		
 	}
 	
+	/**
+	 * Submit a command to the dispatcher of the mounts for asynchronous execution.
+	 * <P>
+	 * The commands report their errors in the error tab: if the dispatcher 
+	 * rejects the command, the error is reported in the same way.
+	 * 
+	 * @param cmdName The name of the command
+	 * @param command The command to execute
+	 * @see MountCommom#getCommandDispatcher()
+	 */
+	protected void submitCommand(String cmdName, Runnable command) {
+		try {
+			MountCommom.getCommandDispatcher().dispatch(cmdName, command);
+		} catch (RejectedExecutionException ree) {
+			String msg="Command "+cmdName+" rejected: too many pending commands";
+			AcsJSubreflectorEx ex = new AcsJSubreflectorEx(ree);
+			ex.setAntennatype(antennaType.description);
+			ex.setOperation(msg);
+			ErrorInfo error = new ErrorInfo("Subreflector command rejected", msg, ex);
+			antennaRootP.addError(error);
+			logger.log(AcsLogLevel.ERROR, msg+" ("+MountCommom.getCommandDispatcher()+")");
+		}
+	}
+	
 	/**
 	 * @see ISubreflector
 	 */
@@ -118,7 +143,7 @@ public abstract class SubreflectorCommon implements ISubreflector {
 		if (pos==null) {
 			throw new IllegalArgumentException("Position can't be null");
 		}
-		class SetPosition extends Thread {
+		class SetPosition implements Runnable {
 			public void run() {
 				logger.log(AcsLogLevel.DEBUG, "Setting subref pos to ["+pos.x+", "+pos.y+", "+pos.z+"]");
 				try {
@@ -134,10 +159,7 @@ public abstract class SubreflectorCommon implements ISubreflector {
 				}
 			}
 		}
-		SetPosition thread = new SetPosition();
-		thread.setDaemon(true);
-		thread.setName("ACASubreflector.setAbsPosition");
-		thread.start();
+		submitCommand("ACASubreflector.setAbsPosition", new SetPosition());
 	}
 
 	/**
@@ -147,7 +169,7 @@ public abstract class SubreflectorCommon implements ISubreflector {
 		if (delta==null) {
 			throw new IllegalArgumentException("Delta can't be null");
 		}
-		class SetDelta extends Thread {
+		class SetDelta implements Runnable {
 			public void run() {
 				logger.log(AcsLogLevel.DEBUG, "Setting subref delta to ["+delta.x+", "+delta.y+", "+delta.z+"]");
 				try {
@@ -163,17 +185,14 @@ public abstract class SubreflectorCommon implements ISubreflector {
 				}
 			}
 		}
-		SetDelta thread = new SetDelta();
-		thread.setDaemon(true);
-		thread.setName("ACASubreflector.setDeltaPosition");
-		thread.start();
+		submitCommand("ACASubreflector.setDeltaPosition", new SetDelta());
 	}
 
 	/**
 	 * @see ISubreflector
 	 */
 	public void setRotation(final int tip, final int tilt, final int rotation) {
-		class SetRotation extends Thread {
+		class SetRotation implements Runnable {
 			public void run() {
 				logger.log(AcsLogLevel.DEBUG, "Setting subref rotation to ["+tip+", "+tilt+", "+rotation+"]");
 				try {
@@ -193,10 +212,7 @@ public abstract class SubreflectorCommon implements ISubreflector {
 				}
 			}
 		}
-		SetRotation thread = new SetRotation();
-		thread.setDaemon(true);
-		thread.setName("ACASubreflector.setRotation");
-		thread.start();
+		submitCommand("ACASubreflector.setRotation", new SetRotation());
 	}
 	
 	/**
@@ -204,7 +220,7 @@ public abstract class SubreflectorCommon implements ISubreflector {
 	 * and clear the delta
 	 */
 	public void zeroDelta() {
-		class ZeroDelta extends Thread {
+		class ZeroDelta implements Runnable {
 			public void run() {
 				logger.log(AcsLogLevel.DEBUG, "Resetting delta");
 				try {
@@ -220,10 +236,7 @@ public abstract class SubreflectorCommon implements ISubreflector {
 				}
 			}
 		}
-		Thread thread = new ZeroDelta();
-		thread.setDaemon(true);
-		thread.setName("ACASubreflector.ZeroDelta");
-		thread.start();
+		submitCommand("ACASubreflector.ZeroDelta", new ZeroDelta());
 	}
 	
 	/**
@@ -299,7 +312,7 @@ public abstract class SubreflectorCommon implements ISubreflector {
 	/**
 	 * @see ISubreflector
 	 */
-	public ValueHolder<LongArrayBit> getLimits() {
+	public ValueHolder<IntArrayBit> getLimits() {
 		return limits;
 	}
 
@@ -317,7 +330,7 @@ public abstract class SubreflectorCommon implements ISubreflector {
 	/**
 	 * @see ISubreflector
 	 */
-	public ValueHolder<LongArrayBit> getStatus() {
+	public ValueHolder<IntArrayBit> getStatus() {
 		return state;
 	}
 	
@@ -25,49 +25,147 @@
 
 package alma.control.gui.antennamount.mount;
 
+import java.util.concurrent.atomic.AtomicReference;
+
 /**
  * A class that encapsulate a value read throw a CORBA call
  * 
  * Together with the value itself, there are a few fields to
  * undertsand when the value has been read and if it is reliable
  * (for example if there was an error reading the value etc etc)
+ * <P>
+ * The value, its timestamp and the error are stored together in an immutable
+ * {@link Snapshot} published through an {@link AtomicReference}: readers never
+ * block the thread updating the values and {@link #snapshot()} returns a value
+ * and a timestamp that always belong to the same update.
  */
 public class ValueHolder<T> {
+	
+	/**
+	 * The immutable state of a {@link ValueHolder} at a given time.
+	 * <P>
+	 * Use a snapshot when more then one field is needed (for example the value 
+	 * and its timestamp) to be sure they are consistent.
+	 *
+	 * @param <T> The type of the value
+	 */
+	public static final class Snapshot<T> implements HolderSnapshot {
+		
+		/**
+		 * The value read (can be <code>null</code>)
+		 */
+		public final T value;
+		
+		/**
+		 * The time (millisec) when the value has been read
+		 */
+		public final long time;
+		
+		/**
+		 * The code of the error
+		 */
+		public final long err;
+		
+		/**
+		 * The type of the error
+		 */
+		public final long type;
+		
+		/**
+		 * The version of the holder i.e. the number of updates
+		 * when the snapshot has been taken
+		 */
+		public final long version;
+		
+		/**
+		 * Constructor
+		 * 
+		 * @param value The value
+		 * @param time The time (millisec) when the value has been read
+		 * @param err The code of the error
+		 * @param type The type of the error
+		 * @param version The version of the holder
+		 */
+		public Snapshot(T value, long time, long err, long type, long version) {
+			this.value=value;
+			this.time=time;
+			this.err=err;
+			this.type=type;
+			this.version=version;
+		}
+		
+		/**
+		 * @see HolderSnapshot
+		 */
+		public boolean isAvailable() {
+			return value!=null;
+		}
+		
+		/**
+		 * @return true if the valus has been succesfully updated
+		 */
+		public boolean isUpToDate() {
+			return type==0 && err==0 && time!=0;
+		}
+		
+		/**
+		 * Says if the object is valid, i.e. if it has been
+		 * updated less the VALIDITY_THRESHOLD msec ago
+		 * 
+		 * @return true if the object is valid
+		 */
+		public boolean isValid() {
+			long tm = System.currentTimeMillis();
+			return (tm-time)<VALIDITY_THRESHOLD; 
+		}
+	}
+	
 	// The time in millisec to consider the value as "old"
 	// If the value has been generated more then VALIDITY_THRESHOLD
 	// msec ago it is too old to be considered valid
-	private static int VALIDITY_THRESHOLD = 10000;
+	static final int VALIDITY_THRESHOLD = 10000;
 	
-	// The value read 
-	protected T value=null;
-
-	// The time (millisec) when the value has been read
-	private long time;
-	
-	// The code of the error
-	private long err;
-	
-	// The type of the error
-	private long type;
+	// The actual state of the holder
+	private final AtomicReference<Snapshot<T>> state = new AtomicReference<Snapshot<T>>(new Snapshot<T>(null,0,0,0,0));
 
 	public ValueHolder() {
-		value=null;
-		err=0;
-		type=0;
-		time=0;
 	}
 	
+	/**
+	 * Return the actual state of the holder.
+	 * <P>
+	 * The fields of the returned object are consistent i.e.
+	 * they have been set by the same update.
+	 * 
+	 * @return The actual state of the holder
+	 */
+	public Snapshot<T> snapshot() {
+		return state.get();
+	}
 	
-	public synchronized long getErr() {
-		return err;
+	public long getErr() {
+		return state.get().err;
 	}
 
-	public synchronized long getTime() {
-		return time;
+	public long getTime() {
+		return state.get().time;
 	}
 
-	public synchronized long getType() {
-		return type;
+	public long getType() {
+		return state.get().type;
+	}
+	
+	/**
+	 * The version is incremented each time the holder is updated
+	 * (even if the new value is equal to the old one).
+	 * <P>
+	 * It allows to know if a holder has been updated since the last time
+	 * it was read without comparing the values.
+	 * 
+	 * @return The version of the holder
+	 */
+	public long getVersion() {
+		return state.get().version;
 	}
 	
 	/**
@@ -76,15 +174,15 @@ public class ValueHolder<T> {
 	 * 
 	 * @return The value ecapsulated in this holder
 	 */
-	public synchronized T getValue() {
-		return value;
+	public T getValue() {
+		return state.get().value;
 	}
 	
 	/**
 	 * @return true if the valus has been succesfully updated
 	 */
-	public synchronized boolean isUpToDate() {
-		return type==0 && err==0 && time!=0;
+	public boolean isUpToDate() {
+		return state.get().isUpToDate();
 	}
 	
 	/**
@@ -93,9 +191,8 @@ public class ValueHolder<T> {
 	 * 
 	 * @return true if the object is valid
 	 */
-	public synchronized boolean isValid() {
-		long tm = System.currentTimeMillis();
-		return (tm-time)<VALIDITY_THRESHOLD; 
+	public boolean isValid() {
+		return state.get().isValid();
 	}
 	
 	/**
@@ -105,10 +202,8 @@ public class ValueHolder<T> {
 	 * @param err The error go reading the value
 	 * @param type The type of the error got reading the value
 	 */
-	public synchronized void setValue(T obj, int err, int type) {
-		setValue(obj);
-		this.err=err;
-		this.type=type;
+	public void setValue(T obj, int err, int type) {
+		publish(obj,System.currentTimeMillis(),err,type);
 	}
 	
 	/**
@@ -116,11 +211,8 @@ public class ValueHolder<T> {
 	 * 
 	 * @param obj The object to hold
 	 */
-	public synchronized void setValue(T obj) {
-		time = System.currentTimeMillis();
-		err=0;
-		type=0;
-		value=obj;
+	public void setValue(T obj) {
+		publish(obj,System.currentTimeMillis(),0,0);
 	}
 
 	/**
@@ -132,15 +224,9 @@ public class ValueHolder<T> {
 	 * @param obj The new value for the holder
 	 * @param timestamp The timestamp when the value has been generated
 	 */
-	public synchronized void setValue(T obj, long timestamp) {
-		if (timestamp<=System.currentTimeMillis()) {
-			time=timestamp;
-		} else {
-			time=System.currentTimeMillis();
-		}
-		err=0;
-		type=0;
-		value=obj;
+	public void setValue(T obj, long timestamp) {
+		long now=System.currentTimeMillis();
+		publish(obj,(timestamp<=now)?timestamp:now,0,0);
 	}
 	
 	/**
@@ -151,8 +237,25 @@ public class ValueHolder<T> {
 	 * @param err
 	 * @param type
 	 */
-	public synchronized void setError(int err, int type) {
-		this.err=err;
-		this.type=type;
+	public void setError(int err, int type) {
+		Snapshot<T> old;
+		do {
+			old=state.get();
+		} while (!state.compareAndSet(old, new Snapshot<T>(old.value,old.time,err,type,old.version+1)));
+	}
+	
+	/**
+	 * Publish a new snapshot with the next version
+	 * 
+	 * @param obj The value
+	 * @param time The time (millisec) when the value has been read
+	 * @param err The code of the error
+	 * @param type The type of the error
+	 */
+	private void publish(T obj, long time, long err, long type) {
+		Snapshot<T> old;
+		do {
+			old=state.get();
+		} while (!state.compareAndSet(old, new Snapshot<T>(obj,time,err,type,old.version+1)));
 	}
 }
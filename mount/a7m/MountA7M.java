@@ -27,7 +27,11 @@ import alma.control.gui.antennamount.mount.IMetrology;
 import alma.control.gui.antennamount.mount.ShutterCommon;
 import alma.control.gui.antennamount.mount.ISubreflector;
 import alma.control.gui.antennamount.mount.Mount;
+import alma.control.gui.antennamount.mount.PropertyGroup;
+import alma.control.gui.antennamount.mount.StatusWord;
 import alma.control.gui.antennamount.mount.ValueHolder;
+import alma.control.gui.antennamount.telemetry.TelemetryChannel;
+import alma.control.gui.antennamount.telemetry.TelemetryBinder;
 import alma.control.gui.antennamount.mount.a7m.Metrology;
 
 /**
@@ -157,131 +161,151 @@ byte 0 (uint8): Error code:
 		subreflector = new A7MSubreflector(mnt,antennaRootP,logger);
 		metrology = new Metrology(a7m, logger,listenersNotifier);
 		
+		addStatusReaders();
+		
 		// Start the thread to update the state of the mount
 		setName("MountA7M");
 		rootP.getHeartbeatChecker().register(this);
-		start();
+		startPolling();
 	}
 		
 	/**
-	 * Update the status of the component. Called by the thread
-	 * 
-	 * @param errState The error state of execution
+	 * Add the readers of the properties of this mount.
+	 * <P>
+	 * The status words that change rarely are read with a longer period
+	 * (see {@link PropertyGroup}).
 	 */
-	public void update(UpdateError errState) throws Exception {
-		antennaRootP.getHeartbeatChecker().ping(this);
-		
-		// Used to check if the component is slow answering
-		long preReadTime;
-		
+	private void addStatusReaders() {
 		// System status
-		LongHolder time=new LongHolder();
-		
-		preReadTime = System.currentTimeMillis();
-		try {
-			int vals[]=a7m.GET_SYSTEM_STATUS(time);
-			status.setValue(vals, time.value);
-		} catch (Throwable t) {
-			status.setValue(null);
-			errState.addError(t);
-		}
-		try {
-			int vals[]=a7m.GET_SYSTEM_STATUS_2(time);
-			status2.setValue(vals, time.value);
-		} catch (Throwable t) {
-			status2.setValue(null);
-			errState.addError(t);
-		}
-		if (checkDelay(preReadTime)) {
-			errState.addDelay();
-		}
-		if (terminateThread) {
-			return;
-		}
+		addStatusReader(new PropertyReader("SystemStatus",PropertyGroup.SYSTEM_STATUS) {
+			protected void read(UpdateError errState) {
+				LongHolder time=new LongHolder();
+				try {
+					int vals[]=a7m.GET_SYSTEM_STATUS(time);
+					setStatusWords(StatusWord.SYSTEM_STATUS, status, vals, time.value);
+				} catch (Throwable t) {
+					clearStatusWords(StatusWord.SYSTEM_STATUS, status);
+					errState.addError(t);
+				}
+				try {
+					int vals[]=a7m.GET_SYSTEM_STATUS_2(time);
+					setStatusWords(StatusWord.SYSTEM_STATUS_2, status2, vals, time.value);
+				} catch (Throwable t) {
+					clearStatusWords(StatusWord.SYSTEM_STATUS_2, status2);
+					errState.addError(t);
+				}
+			}
+		});
 		
 		// EL status
-		preReadTime = System.currentTimeMillis();
-		try {
-			int vals[]=a7m.GET_EL_STATUS(time);
-			elStatus.setValue(vals, time.value);
-		} catch (Throwable t) {
-			elStatus.setValue(null);
-			errState.addError(t);
-		}
-		try {
-			int vals[]=a7m.GET_EL_STATUS_2(time);
-			elStatus2.setValue(vals, time.value);
-		} catch (Throwable t) {
-			elStatus2.setValue(null);
-			errState.addError(t);
-		}
-		if (checkDelay(preReadTime)) {
-			errState.addDelay();
-		}
-		if (terminateThread) {
-			return;
-		}
+		addStatusReader(new PropertyReader("ElStatus",PropertyGroup.AXIS_STATUS) {
+			protected void read(UpdateError errState) {
+				LongHolder time=new LongHolder();
+				try {
+					int vals[]=a7m.GET_EL_STATUS(time);
+					setStatusWords(StatusWord.EL_STATUS, elStatus, vals, time.value);
+				} catch (Throwable t) {
+					clearStatusWords(StatusWord.EL_STATUS, elStatus);
+					errState.addError(t);
+				}
+				try {
+					int vals[]=a7m.GET_EL_STATUS_2(time);
+					setStatusWords(StatusWord.EL_STATUS_2, elStatus2, vals, time.value);
+				} catch (Throwable t) {
+					clearStatusWords(StatusWord.EL_STATUS_2, elStatus2);
+					errState.addError(t);
+				}
+			}
+		});
 		
 		// AZ status
-		preReadTime = System.currentTimeMillis();
-		try {
-			int vals[]=a7m.GET_AZ_STATUS(time);
-			azStatus.setValue(vals, time.value);
-		} catch (Throwable t) {
-			azStatus.setValue(null);
-			errState.addError(t);
-		}
-		try {
-			int vals[]=a7m.GET_AZ_STATUS_2(time);
-			azStatus2.setValue(vals, time.value);
-		} catch (Throwable t) {
-			azStatus2.setValue(null);
-			errState.addError(t);
-		}
-		if (checkDelay(preReadTime)) {
-			errState.addDelay();
-		}
-		if (terminateThread) {
-			return;
-		}
+		addStatusReader(new PropertyReader("AzStatus",PropertyGroup.AXIS_STATUS) {
+			protected void read(UpdateError errState) {
+				LongHolder time=new LongHolder();
+				try {
+					int vals[]=a7m.GET_AZ_STATUS(time);
+					setStatusWords(StatusWord.AZ_STATUS, azStatus, vals, time.value);
+				} catch (Throwable t) {
+					clearStatusWords(StatusWord.AZ_STATUS, azStatus);
+					errState.addError(t);
+				}
+				try {
+					int vals[]=a7m.GET_AZ_STATUS_2(time);
+					setStatusWords(StatusWord.AZ_STATUS_2, azStatus2, vals, time.value);
+				} catch (Throwable t) {
+					clearStatusWords(StatusWord.AZ_STATUS_2, azStatus2);
+					errState.addError(t);
+				}
+			}
+		});
 		
 		// Shutter
-		preReadTime = System.currentTimeMillis();
-		try {
-			Integer status=a7m.GET_SHUTTER(time);
-			shutter.updateStatus(status, time.value);
-		} catch (Throwable t) {
-			shutter.updateStatus(null,0L);
-			errState.addError(t);
-		}
-		if (checkDelay(preReadTime)) {
-			errState.addDelay();
-		}
-		if (terminateThread) {
-			return;
-		}
+		addStatusReader(new PropertyReader("Shutter",PropertyGroup.SHUTTER) {
+			protected void read(UpdateError errState) {
+				LongHolder time=new LongHolder();
+				try {
+					Integer status=a7m.GET_SHUTTER(time);
+					shutter.updateStatus(status, time.value);
+				} catch (Throwable t) {
+					shutter.updateStatus(null,0L);
+					errState.addError(t);
+				}
+			}
+		});
 		
 		// Power status
-		preReadTime = System.currentTimeMillis();
-		try {
-			int vals[]=a7m.GET_POWER_STATUS(time);
-			powerStatus.setValue(vals, time.value);
-		} catch (Throwable t) {
-			powerStatus.setValue(null);
-			errState.addError(t);
-		}
-		if (checkDelay(preReadTime)) {
-			errState.addDelay();
-		}
-		if (terminateThread) {
-			return;
-		}
+		addStatusReader(new PropertyReader("PowerStatus",PropertyGroup.POWER_STATUS) {
+			protected void read(UpdateError errState) {
+				LongHolder time=new LongHolder();
+				try {
+					int vals[]=a7m.GET_POWER_STATUS(time);
+					setStatusWords(StatusWord.POWER_STATUS, powerStatus, vals, time.value);
+				} catch (Throwable t) {
+					clearStatusWords(StatusWord.POWER_STATUS, powerStatus);
+					errState.addError(t);
+				}
+			}
+		});
 		
 		// Subreflector
-		subreflector.refresh(errState);
+		addStatusReader(new PropertyReader("Subreflector",PropertyGroup.SUBREFLECTOR) {
+			protected void read(UpdateError errState) {
+				subreflector.refresh(errState);
+			}
+		});
 		
 		// Metrology
-		metrology.refresh(errState);
+		addStatusReader(new PropertyReader("Metrology",PropertyGroup.METROLOGY) {
+			protected void read(UpdateError errState) {
+				metrology.refresh(errState);
+			}
+		});
+	}
+	
+	/**
+	 * Record also the second word of each status
+	 * 
+	 * @see Mount#addTelemetryChannels(TelemetryBinder)
+	 */
+	@Override
+	protected void addTelemetryChannels(TelemetryBinder binder) {
+		super.addTelemetryChannels(binder);
+		binder.addIntArrayChannel(this, TelemetryChannel.SYSTEM_STATUS_2, status2);
+		binder.addIntArrayChannel(this, TelemetryChannel.AZ_STATUS_2, azStatus2);
+		binder.addIntArrayChannel(this, TelemetryChannel.EL_STATUS_2, elStatus2);
+	}
+	
+	/**
+	 * @see Mount#getStatusWords(StatusWord)
+	 */
+	@Override
+	protected ValueHolder<int[]> getStatusWords(StatusWord statusWord) {
+		switch (statusWord) {
+		case SYSTEM_STATUS_2: return status2;
+		case AZ_STATUS_2: return azStatus2;
+		case EL_STATUS_2: return elStatus2;
+		default: return super.getStatusWords(statusWord);
+		}
 	}
 	
 	public ValueHolder<int[]> getStatus() {
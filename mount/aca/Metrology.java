@@ -29,7 +29,7 @@ import alma.control.gui.antennamount.mount.ValueHolder;
 import alma.control.gui.antennamount.mount.ACSComponentsManager.AntennaType;
 import alma.control.gui.antennamount.mount.MountCommom.UpdateError;
 import alma.control.gui.antennamount.mount.MountListenersNotifier;
-import alma.control.gui.antennamount.utils.bit.LongArrayBit;
+import alma.control.gui.antennamount.utils.bit.IntArrayBit;
 
 import alma.ControlGUIErrType.wrappers.AcsJMetrologyEx;
 
@@ -54,12 +54,12 @@ public class Metrology extends MetrologyCommon implements IMetrology {
 	/**
      * Metrology mode
      */
-    protected final ValueHolder<LongArrayBit> metrMode = new ValueHolder<LongArrayBit>();
+    protected final ValueHolder<IntArrayBit> metrMode = new ValueHolder<IntArrayBit>();
 
 	/**
 	 * Metrology equipment status
 	 */
-	protected ValueHolder<LongArrayBit> equipStatus = new ValueHolder<LongArrayBit>();
+	protected ValueHolder<IntArrayBit> equipStatus = new ValueHolder<IntArrayBit>();
 	
 	/**
 	 * Constructor
@@ -84,7 +84,7 @@ public class Metrology extends MetrologyCommon implements IMetrology {
 		if (mode==null || mode.length!=4) {
 			throw new IllegalArgumentException("Invalide metrology mode");
 		}
-		Thread t = new Thread(new Runnable() {
+		submitCommand("Vertex:setMetrMode",new Runnable() {
 			public void run() {
 				String modeStr="["+mode[0]+", "+mode[1]+", "+mode[2]+", "+mode[3]+"]";
 				try {
@@ -99,9 +99,6 @@ public class Metrology extends MetrologyCommon implements IMetrology {
 				}
 			}
 		});
-		t.setDaemon(true);
-		t.setName("Vertex:setMetrMode");
-		t.start();
 	}
 	
 	/**
@@ -119,11 +116,7 @@ public class Metrology extends MetrologyCommon implements IMetrology {
 		try {
 			vals=mount.GET_METR_EQUIP_STATUS(time);
 			if (vals!=null && vals.length==8) {
-				Long[] longs = new Long[vals.length];
-				for (int t=0; t<vals.length; t++) {
-					longs[t]=Long.valueOf(vals[t]);
-				}
-				equipStatus.setValue(new LongArrayBit(longs),time.value);
+				equipStatus.setValue(new IntArrayBit(vals),time.value);
 			} else {
 				AcsJMetrologyEx ex = new AcsJMetrologyEx();
 				ex.setAntennatype(antennaType.description);
@@ -139,11 +132,7 @@ public class Metrology extends MetrologyCommon implements IMetrology {
 		try {
 			vals=mount.GET_METR_MODE(time);
 			if (vals!=null && vals.length==4) {
-				Long[] longs = new Long[vals.length];
-				for (int t=0; t<vals.length; t++) {
-					longs[t]=Long.valueOf(vals[t]);
-				}
-				metrMode.setValue(new LongArrayBit(longs),time.value);
+				metrMode.setValue(new IntArrayBit(vals),time.value);
 			} else {
 				AcsJMetrologyEx ex = new AcsJMetrologyEx();
 				ex.setAntennatype(antennaType.description);
@@ -161,14 +150,14 @@ public class Metrology extends MetrologyCommon implements IMetrology {
 	 * 
 	 * @see IMetrology
 	 */
-	public ValueHolder<LongArrayBit> getEquipStatus() {
+	public ValueHolder<IntArrayBit> getEquipStatus() {
 		return equipStatus;
 	}
 	
 	/**
      * @see IMetrology
      */
-    public ValueHolder<LongArrayBit> getMode() {
+    public ValueHolder<IntArrayBit> getMode() {
             return metrMode;
     }
 
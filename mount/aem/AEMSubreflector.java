@@ -35,7 +35,7 @@ import alma.control.gui.antennamount.mount.ValueHolder;
 import alma.control.gui.antennamount.mount.ACSComponentsManager.AntennaType;
 import alma.control.gui.antennamount.mount.ISubreflector.Coordinates;
 import alma.control.gui.antennamount.mount.MountCommom.UpdateError;
-import alma.control.gui.antennamount.utils.bit.LongArrayBit;
+import alma.control.gui.antennamount.utils.bit.IntArrayBit;
 
 /**
  * The AEM prototype subreflector
@@ -87,11 +87,7 @@ public class AEMSubreflector extends SubreflectorCommon implements ISubreflector
 				ex.setOperation("Wrong number of bytes received from component while getting subreflector limits");
 				throw ex;
 			}
-			Long[] longs = new Long[vals.length];
-			for (int t=0; t<vals.length; t++) {
-				longs[t]=Long.valueOf(vals[t]);
-			}
-			limits.setValue(new LongArrayBit(longs), time.value);
+			limits.setValue(new IntArrayBit(vals), time.value);
 		}  catch (Throwable t) {
 			limits.setValue(null);
 			errState.addError(t);
@@ -106,11 +102,7 @@ public class AEMSubreflector extends SubreflectorCommon implements ISubreflector
 				ex.setOperation("Wrong number of bytes received from component while getting subreflector limits");
 				throw ex;
 			}
-			Long[] longs = new Long[vals.length];
-			for (int t=0; t<vals.length; t++) {
-				longs[t]=Long.valueOf(vals[t]);
-			}
-			state.setValue(new LongArrayBit(longs), time.value);
+			state.setValue(new IntArrayBit(vals), time.value);
 		}  catch (Throwable t) {
 			state.setValue(null);
 			errState.addError(t);
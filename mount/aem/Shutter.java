@@ -30,7 +30,7 @@ import alma.control.gui.antennamount.mount.ShutterCommon;
 import alma.control.gui.antennamount.mount.ValueHolder;
 import alma.control.gui.antennamount.mount.ACSComponentsManager.AntennaType;
 import alma.control.gui.antennamount.utils.ValueDisplayer;
-import alma.control.gui.antennamount.utils.bit.LongBit;
+import alma.control.gui.antennamount.utils.bit.IntArrayBit;
 
 public class Shutter extends ShutterCommon {
 	
@@ -88,10 +88,10 @@ public class Shutter extends ShutterCommon {
 					ValueDisplayer.NOT_AVAILABLE
 			};
 		}
-		LongBit bits = new LongBit(Long.valueOf(status.longValue()));
+		int bits = status.intValue();
 		Vector<String> ret = new Vector<String>();
 		for (int t=0; t<7; t++) {
-			if (bits.getBit(t)) {
+			if (IntArrayBit.isBitSet(bits,t)) {
 				ret.add(stateDescriptors[t]);
 			}
 		}
@@ -108,8 +108,8 @@ public class Shutter extends ShutterCommon {
 		if (status==null) {
 			return false;
 		}
-		LongBit bits = new LongBit(Long.valueOf(status.longValue()));
-		return bits.getBit(1);
+		int bits = status.intValue();
+		return IntArrayBit.isBitSet(bits,1);
 	}
 
 	/**
@@ -120,8 +120,8 @@ public class Shutter extends ShutterCommon {
 		if (status==null) {
 			return false;
 		}
-		LongBit bits = new LongBit(Long.valueOf(status.longValue()));
-		return !bits.getBit(4) && !bits.getBit(5) && !bits.getBit(6) && !bits.getBit(7);
+		int bits = status.intValue();
+		return !IntArrayBit.isBitSet(bits,4) && !IntArrayBit.isBitSet(bits,5) && !IntArrayBit.isBitSet(bits,6) && !IntArrayBit.isBitSet(bits,7);
 	}
 
 	/**
@@ -132,8 +132,8 @@ public class Shutter extends ShutterCommon {
 		if (status==null) {
 			return false;
 		}
-		LongBit bits = new LongBit(Long.valueOf(status.longValue()));
-		return bits.getBit(0);
+		int bits = status.intValue();
+		return IntArrayBit.isBitSet(bits,0);
 	}
 
 	/**
@@ -148,7 +148,7 @@ public class Shutter extends ShutterCommon {
 		}
 		
 		
-		Thread t = new Thread(new Runnable() {
+		submitCommand("AEM:setShutter",new Runnable() {
 			public void run() {
 				ShutterMode newMode = null;
 				switch (action) {
@@ -183,9 +183,6 @@ public class Shutter extends ShutterCommon {
 				}
 			}
 		});
-		t.setDaemon(true);
-		t.setName("AEM:setShutter");
-		t.start();
 
 	}
 
@@ -28,6 +28,8 @@ import alma.control.gui.antennamount.mount.MetrologyCommon;
 import alma.control.gui.antennamount.mount.ShutterCommon;
 import alma.control.gui.antennamount.mount.ISubreflector;
 import alma.control.gui.antennamount.mount.Mount;
+import alma.control.gui.antennamount.mount.PropertyGroup;
+import alma.control.gui.antennamount.mount.StatusWord;
 import alma.control.gui.antennamount.mount.ValueHolder;
 
 /**
@@ -121,109 +123,104 @@ public final class MountVertex extends Mount {
 		subreflector = new VertexSubreflector(mnt,antennaRootP,logger);
 		metrology = new Metrology(vertex, logger,listenersNotifier);
 		
+		addStatusReaders();
+		
 		// Start the thread to update the state of the mount
 		setName("MountVertex");
 		rootP.getHeartbeatChecker().register(this);
-		start();
+		startPolling();
 	}
 		
 	/**
-	 * Update the status of the component. Called by the thread
-	 * 
-	 * @param errState The error state of execution
+	 * Add the readers of the properties of this mount.
+	 * <P>
+	 * The status words that change rarely are read with a longer period
+	 * (see {@link PropertyGroup}).
 	 */
-	public void update(UpdateError errState) throws Exception {
-		antennaRootP.getHeartbeatChecker().ping(this);
-		// Used to check if the component is slow answering
-		long preReadTime;
-		
+	private void addStatusReaders() {
 		// System status
-		LongHolder time=new LongHolder();
-		
-		preReadTime = System.currentTimeMillis();
-		try {
-			int vals[]=vertex.GET_SYSTEM_STATUS(time);
-			status.setValue(vals, time.value);
-		} catch (Throwable t) {
-			status.setValue(null);
-			errState.addError(t);
-		}
-		if (checkDelay(preReadTime)) {
-			errState.addDelay();
-		}
-		if (terminateThread) {
-			return;
-		}
+		addStatusReader(new PropertyReader("SystemStatus",PropertyGroup.SYSTEM_STATUS) {
+			protected void read(UpdateError errState) {
+				LongHolder time=new LongHolder();
+				try {
+					int vals[]=vertex.GET_SYSTEM_STATUS(time);
+					setStatusWords(StatusWord.SYSTEM_STATUS, status, vals, time.value);
+				} catch (Throwable t) {
+					clearStatusWords(StatusWord.SYSTEM_STATUS, status);
+					errState.addError(t);
+				}
+			}
+		});
 		
 		// EL status
-		preReadTime = System.currentTimeMillis();
-		try {
-			int vals[]=vertex.GET_EL_STATUS(time);
-			elStatus.setValue(vals, time.value);
-		} catch (Throwable t) {
-			elStatus.setValue(null);
-			errState.addError(t);
-		}
-		if (checkDelay(preReadTime)) {
-			errState.addDelay();
-		}
-		if (terminateThread) {
-			return;
-		}
+		addStatusReader(new PropertyReader("ElStatus",PropertyGroup.AXIS_STATUS) {
+			protected void read(UpdateError errState) {
+				LongHolder time=new LongHolder();
+				try {
+					int vals[]=vertex.GET_EL_STATUS(time);
+					setStatusWords(StatusWord.EL_STATUS, elStatus, vals, time.value);
+				} catch (Throwable t) {
+					clearStatusWords(StatusWord.EL_STATUS, elStatus);
+					errState.addError(t);
+				}
+			}
+		});
 		
 		// AZ status
-		preReadTime = System.currentTimeMillis();
-		try {
-			int vals[]=vertex.GET_AZ_STATUS(time);
-			azStatus.setValue(vals, time.value);
-		} catch (Throwable t) {
-			azStatus.setValue(null);
-			errState.addError(t);
-		}
-		if (checkDelay(preReadTime)) {
-			errState.addDelay();
-		}
-		if (terminateThread) {
-			return;
-		}
+		addStatusReader(new PropertyReader("AzStatus",PropertyGroup.AXIS_STATUS) {
+			protected void read(UpdateError errState) {
+				LongHolder time=new LongHolder();
+				try {
+					int vals[]=vertex.GET_AZ_STATUS(time);
+					setStatusWords(StatusWord.AZ_STATUS, azStatus, vals, time.value);
+				} catch (Throwable t) {
+					clearStatusWords(StatusWord.AZ_STATUS, azStatus);
+					errState.addError(t);
+				}
+			}
+		});
 		
 		// Shutter
-		preReadTime = System.currentTimeMillis();
-		try {
-			Integer status=vertex.GET_SHUTTER(time);
-			shutter.updateStatus(status, time.value);
-		} catch (Throwable t) {
-			shutter.updateStatus(null,0L);
-			errState.addError(t);
-		}
-		if (checkDelay(preReadTime)) {
-			errState.addDelay();
-		}
-		if (terminateThread) {
-			return;
-		}
+		addStatusReader(new PropertyReader("Shutter",PropertyGroup.SHUTTER) {
+			protected void read(UpdateError errState) {
+				LongHolder time=new LongHolder();
+				try {
+					Integer status=vertex.GET_SHUTTER(time);
+					shutter.updateStatus(status, time.value);
+				} catch (Throwable t) {
+					shutter.updateStatus(null,0L);
+					errState.addError(t);
+				}
+			}
+		});
 		
 		// Power status
-		preReadTime = System.currentTimeMillis();
-		try {
-			int vals[]=vertex.GET_POWER_STATUS(time);
-			powerStatus.setValue(vals, time.value);
-		} catch (Throwable t) {
-			powerStatus.setValue(null);
-			errState.addError(t);
-		}
-		if (checkDelay(preReadTime)) {
-			errState.addDelay();
-		}
-		if (terminateThread) {
-			return;
-		}
-
+		addStatusReader(new PropertyReader("PowerStatus",PropertyGroup.POWER_STATUS) {
+			protected void read(UpdateError errState) {
+				LongHolder time=new LongHolder();
+				try {
+					int vals[]=vertex.GET_POWER_STATUS(time);
+					setStatusWords(StatusWord.POWER_STATUS, powerStatus, vals, time.value);
+				} catch (Throwable t) {
+					clearStatusWords(StatusWord.POWER_STATUS, powerStatus);
+					errState.addError(t);
+				}
+			}
+		});
+		
 		// Subreflector
-		subreflector.refresh(errState);
+		addStatusReader(new PropertyReader("Subreflector",PropertyGroup.SUBREFLECTOR) {
+			protected void read(UpdateError errState) {
+				subreflector.refresh(errState);
+			}
+		});
 		
 		// Metrology
-		metrology.refresh(errState);
+		addStatusReader(new PropertyReader("Metrology",PropertyGroup.METROLOGY) {
+			protected void read(UpdateError errState) {
+				metrology.refresh(errState);
+			}
+		});
 	}
 	
 	public ValueHolder<int[]> getStatus() {
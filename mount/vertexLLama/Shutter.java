@@ -31,7 +31,7 @@ import alma.control.gui.antennamount.mount.ShutterCommon;
 import alma.control.gui.antennamount.mount.ValueHolder;
 import alma.control.gui.antennamount.mount.ACSComponentsManager.AntennaType;
 import alma.control.gui.antennamount.utils.ValueDisplayer;
-import alma.control.gui.antennamount.utils.bit.LongBit;
+import alma.control.gui.antennamount.utils.bit.IntArrayBit;
 
 public class Shutter extends ShutterCommon {
 	
@@ -85,10 +85,10 @@ public class Shutter extends ShutterCommon {
 					ValueDisplayer.NOT_AVAILABLE
 			};
 		}
-		LongBit bits = new LongBit(Long.valueOf(status.longValue()));
+		int bits = status.intValue();
 		Vector<String> ret = new Vector<String>();
 		for (int t=0; t<4; t++) {
-			if (bits.getBit(t)) {
+			if (IntArrayBit.isBitSet(bits,t)) {
 				ret.add(stateDescriptors[t]);
 			}
 		}
@@ -105,8 +105,8 @@ public class Shutter extends ShutterCommon {
 		if (status==null) {
 			return false;
 		}
-		LongBit bits = new LongBit(Long.valueOf(status.longValue()));
-		return bits.getBit(1);
+		int bits = status.intValue();
+		return IntArrayBit.isBitSet(bits,1);
 	}
 
 	/**
@@ -117,8 +117,8 @@ public class Shutter extends ShutterCommon {
 		if (status==null) {
 			return false;
 		}
-		LongBit bits = new LongBit(Long.valueOf(status.longValue()));
-		return !bits.getBit(3);
+		int bits = status.intValue();
+		return !IntArrayBit.isBitSet(bits,3);
 	}
 
 	/**
@@ -129,8 +129,8 @@ public class Shutter extends ShutterCommon {
 		if (status==null) {
 			return false;
 		}
-		LongBit bits = new LongBit(Long.valueOf(status.longValue()));
-		return bits.getBit(0);
+		int bits = status.intValue();
+		return IntArrayBit.isBitSet(bits,0);
 	}
 
 	/**
@@ -145,7 +145,7 @@ public class Shutter extends ShutterCommon {
 		}
 		
 		
-		Thread t = new Thread(new Runnable() {
+		submitCommand("Vertex:setShutter",new Runnable() {
 			public void run() {
 				ShutterMode newMode = null;
 				switch (action) {
@@ -180,9 +180,6 @@ public class Shutter extends ShutterCommon {
 				}
 			}
 		});
-		t.setDaemon(true);
-		t.setName("Vertex:setShutter");
-		t.start();
 		
 	}
 	
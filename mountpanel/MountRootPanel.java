@@ -105,6 +105,7 @@ public class MountRootPanel extends AntennaRootPane implements ActionListener {
 	protected void initialize() {
 		super.initialize();
 		mountPnl=new AntennaMountPanel(this);
+		addArrayOverviewTab();
 		
 		// Add the stop button on the left side of the table of coordinates
 		
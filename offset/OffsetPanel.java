@@ -176,7 +176,11 @@ public class OffsetPanel extends JPanel implements ActionListener {
 		if (controller==null) {
 			return;
 		}
-		Double elOffset=controller.getOffsetEl().getValue();
+		double elOffset=controller.getOffsetEl().getValue();
+		if (Double.isNaN(elOffset)) {
+			// The other offset is not available
+			return;
+		}
 		controller.offsetAzEl(0,elOffset);
 	}
 	
@@ -188,7 +192,11 @@ public class OffsetPanel extends JPanel implements ActionListener {
 		if (controller==null) {
 			return;
 		}
-		Double azOffset=controller.getOffsetAz().getValue();
+		double azOffset=controller.getOffsetAz().getValue();
+		if (Double.isNaN(azOffset)) {
+			// The other offset is not available
+			return;
+		}
 		controller.offsetAzEl(azOffset,0);
 	}
 	
@@ -200,7 +208,11 @@ public class OffsetPanel extends JPanel implements ActionListener {
 		if (controller==null) {
 			return;
 		}
-		Double decOffset=controller.getOffsetDec().getValue();
+		double decOffset=controller.getOffsetDec().getValue();
+		if (Double.isNaN(decOffset)) {
+			// The other offset is not available
+			return;
+		}
 		controller.offsetEquatorial(0,decOffset);
 	}
 	
@@ -212,7 +224,11 @@ public class OffsetPanel extends JPanel implements ActionListener {
 		if (controller==null) {
 			return;
 		}
-		Double raOffset=controller.getOffsetRA().getValue();
+		double raOffset=controller.getOffsetRA().getValue();
+		if (Double.isNaN(raOffset)) {
+			// The other offset is not available
+			return;
+		}
 		controller.offsetEquatorial(raOffset,0);
 	}
 	
@@ -66,6 +66,7 @@ public class StatusRootPanel extends AntennaRootPane {
 	protected void initialize() {
 		super.initialize();
 		trackingPnl = new AntennaTrackingPanel(this);
+		addArrayOverviewTab();
 		getContentPane().add(trackingPnl,BorderLayout.CENTER);
 		setPreferredSize(new Dimension(600,350));
 	}
@@ -24,7 +24,7 @@ import alma.control.gui.antennamount.mount.aca.MountACA;
 import alma.control.gui.antennamount.mount.a7m.MountA7M;
 import alma.control.gui.antennamount.utils.ValueDisplayer;
 import alma.control.gui.antennamount.utils.ValueState;
-import alma.control.gui.antennamount.utils.bit.LongArrayBit;
+import alma.control.gui.antennamount.utils.bit.IntArrayBit;
 
 public class ACASubrefModel extends CommonStatusModel {
 	
@@ -99,25 +99,6 @@ public class ACASubrefModel extends CommonStatusModel {
 		 * The tile of the row
 		 */
 		public final String title;
-		
-		/**
-		 * The value of the row
-		 */
-		public final StringBuilder value = new StringBuilder(ValueDisplayer.NOT_AVAILABLE);
-		
-		/**
-		 * Set all the values as not available
-		 */
-		public static void setNotAvailable() {
-			for (VPSStatus state: VPSStatus.values()) {
-				if (state.value.length()>0) {
-					state.value.delete(0, state.value.length());
-				}
-				if (state!=TITLE) {
-					state.value.append(ValueDisplayer.NOT_AVAILABLE);
-				}
-			}
-		}
 	}
 	
 	/**
@@ -203,27 +184,28 @@ public class ACASubrefModel extends CommonStatusModel {
 		 * The tile of the row
 		 */
 		public final String title;
-		
-		/**
-		 * The value of the row
-		 */
-		public final StringBuilder value = new StringBuilder(ValueDisplayer.NOT_AVAILABLE);
-		
-		/**
-		 * Set all the values as not available
-		 */
-		public static void setNotAvailable() {
-			for (VPSLimits limit: VPSLimits.values()) {
-				if (limit.value.length()>0) {
-					limit.value.delete(0, limit.value.length());
-				}
-				if (limit!=TITLE) {
-					limit.value.append(ValueDisplayer.NOT_AVAILABLE);
-				}
-			}
-		}
 	}
 	
+	/**
+	 * The rows of the status (<code>values()</code> returns a new array each time)
+	 */
+	private static final VPSStatus[] STATUS_ROWS=VPSStatus.values();
+	
+	/**
+	 * The rows of the limits
+	 */
+	private static final VPSLimits[] LIMIT_ROWS=VPSLimits.values();
+	
+	/**
+	 * The values of the rows of the status, indexed by the ordinal of the row
+	 */
+	private final StringBuilder[] statusValues=buildRowValues(STATUS_ROWS.length);
+	
+	/**
+	 * The values of the rows of the limits, indexed by the ordinal of the row
+	 */
+	private final StringBuilder[] limitValues=buildRowValues(LIMIT_ROWS.length);
+	
 	/**
 	 * Constructor 
 	 * 
@@ -246,26 +228,44 @@ public class ACASubrefModel extends CommonStatusModel {
 	}
 	
 	public int getRowCount() {
-		return VPSStatus.values().length+VPSLimits.values().length;
+		return STATUS_ROWS.length+LIMIT_ROWS.length;
 	}
 
 	
 	public Object getValueAt(int rowIndex, int columnIndex) {
 		if (columnIndex==0) {
-			if (rowIndex<VPSStatus.values().length) {
-				return VPSStatus.values()[rowIndex].title;
+			if (rowIndex<STATUS_ROWS.length) {
+				return STATUS_ROWS[rowIndex].title;
 			} else {
-				return VPSLimits.values()[rowIndex-VPSStatus.values().length].title;
+				return LIMIT_ROWS[rowIndex-STATUS_ROWS.length].title;
 			}
 		} else {
-			if (rowIndex<VPSStatus.values().length) {
-				return VPSStatus.values()[rowIndex].value;
+			if (rowIndex<STATUS_ROWS.length) {
+				return statusValues[rowIndex];
 			} else {
-				return VPSLimits.values()[rowIndex-VPSStatus.values().length].value;
+				return limitValues[rowIndex-STATUS_ROWS.length];
 			}
 		}
 	}
 	
+	/**
+	 * 
+	 * @param row A row of the status
+	 * @return The value of the row
+	 */
+	private StringBuilder value(VPSStatus row) {
+		return statusValues[row.ordinal()];
+	}
+	
+	/**
+	 * 
+	 * @param row A row of the limits
+	 * @return The value of the row
+	 */
+	private StringBuilder value(VPSLimits row) {
+		return limitValues[row.ordinal()];
+	}
+	
 	/**
 	 * Update the limits from the component
 	 * 
@@ -273,12 +273,12 @@ public class ACASubrefModel extends CommonStatusModel {
 	 */
 	protected ValueState refreshLimits() {
 		if (mount==null) {
-			VPSLimits.setNotAvailable();
+			setNotAvailable(limitValues);
 			return ValueState.NORMAL;
 		}
-		ValueHolder<LongArrayBit> limits = mount.getSubreflector().getLimits();
+		ValueHolder<IntArrayBit> limits = mount.getSubreflector().getLimits();
 		if (limits==null || limits.getValue()==null) {
-			VPSLimits.setNotAvailable();
+			setNotAvailable(limitValues);
 			return ValueState.ERROR;
 		}
 		
@@ -286,51 +286,51 @@ public class ACASubrefModel extends CommonStatusModel {
 		ValueState ret = ValueState.NORMAL;
 		
 		// Byte 0
-		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(0,0), ret, VPSLimits.XAXIS_POS_SOFT_LIMIT.value , limits);
-		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(0,1), ret, VPSLimits.XAXIS_NEG_SOFT_LIMIT.value , limits);
-		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(0,4), ret, VPSLimits.LINK1_POSLIMIT.value , limits);
-		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(0,5), ret, VPSLimits.LINK1_NEGLIMIT.value , limits);
-		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(0,6), ret, VPSLimits.LINK1_OUTOFRANGE.value , limits);
+		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(0,0), ret, value(VPSLimits.XAXIS_POS_SOFT_LIMIT) , limits);
+		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(0,1), ret, value(VPSLimits.XAXIS_NEG_SOFT_LIMIT) , limits);
+		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(0,4), ret, value(VPSLimits.LINK1_POSLIMIT) , limits);
+		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(0,5), ret, value(VPSLimits.LINK1_NEGLIMIT) , limits);
+		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(0,6), ret, value(VPSLimits.LINK1_OUTOFRANGE) , limits);
 		
 		// Byte 1
-		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(1,0), ret, VPSLimits.YAXIS_POS_SOFT_LIMIT.value , limits);
-		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(1,1), ret, VPSLimits.YAXIS_NEG_SOFT_LIMIT.value , limits);
-		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(1,4), ret, VPSLimits.LINK2_POSLIMIT.value , limits);
-		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(1,5), ret, VPSLimits.LINK2_NEGLIMIT.value , limits);
-		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(1,6), ret, VPSLimits.LINK2_OUTOFRANGE.value , limits);
+		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(1,0), ret, value(VPSLimits.YAXIS_POS_SOFT_LIMIT) , limits);
+		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(1,1), ret, value(VPSLimits.YAXIS_NEG_SOFT_LIMIT) , limits);
+		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(1,4), ret, value(VPSLimits.LINK2_POSLIMIT) , limits);
+		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(1,5), ret, value(VPSLimits.LINK2_NEGLIMIT) , limits);
+		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(1,6), ret, value(VPSLimits.LINK2_OUTOFRANGE) , limits);
 		
 		// Byte2
-		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(2,0), ret, VPSLimits.ZAXIS_POS_SOFT_LIMIT.value , limits);
-		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(2,1), ret, VPSLimits.ZAXIS_NEG_SOFT_LIMIT.value , limits);
-		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(2,4), ret, VPSLimits.LINK3_POSLIMIT.value , limits);
-		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(2,5), ret, VPSLimits.LINK3_NEGLIMIT.value , limits);
-		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(2,6), ret, VPSLimits.LINK3_OUTOFRANGE.value , limits);
+		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(2,0), ret, value(VPSLimits.ZAXIS_POS_SOFT_LIMIT) , limits);
+		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(2,1), ret, value(VPSLimits.ZAXIS_NEG_SOFT_LIMIT) , limits);
+		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(2,4), ret, value(VPSLimits.LINK3_POSLIMIT) , limits);
+		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(2,5), ret, value(VPSLimits.LINK3_NEGLIMIT) , limits);
+		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(2,6), ret, value(VPSLimits.LINK3_OUTOFRANGE) , limits);
 		
 		// Byte 3
-		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(3,0), ret, VPSLimits.THETAX_POS_SOFT_LIMIT.value , limits);
-		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(3,1), ret, VPSLimits.THETAX_NEG_SOFT_LIMIT.value , limits);
-		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(3,4), ret, VPSLimits.LINK4_POSLIMIT.value , limits);
-		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(3,5), ret, VPSLimits.LINK4_NEGLIMIT.value , limits);
-		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(3,6), ret, VPSLimits.LINK4_OUTOFRANGE.value , limits);
+		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(3,0), ret, value(VPSLimits.THETAX_POS_SOFT_LIMIT) , limits);
+		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(3,1), ret, value(VPSLimits.THETAX_NEG_SOFT_LIMIT) , limits);
+		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(3,4), ret, value(VPSLimits.LINK4_POSLIMIT) , limits);
+		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(3,5), ret, value(VPSLimits.LINK4_NEGLIMIT) , limits);
+		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(3,6), ret, value(VPSLimits.LINK4_OUTOFRANGE) , limits);
 		
 		// Byte 4
-		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(4,0), ret, VPSLimits.THETAY_POS_SOFT_LIMIT.value , limits);
-		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(4,1), ret, VPSLimits.THETAY_NEG_SOFT_LIMIT.value , limits);
-		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(4,4), ret, VPSLimits.LINK5_POSLIMIT.value , limits);
-		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(4,5), ret, VPSLimits.LINK5_NEGLIMIT.value , limits);
-		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(4,6), ret, VPSLimits.LINK5_OUTOFRANGE.value , limits);
+		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(4,0), ret, value(VPSLimits.THETAY_POS_SOFT_LIMIT) , limits);
+		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(4,1), ret, value(VPSLimits.THETAY_NEG_SOFT_LIMIT) , limits);
+		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(4,4), ret, value(VPSLimits.LINK5_POSLIMIT) , limits);
+		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(4,5), ret, value(VPSLimits.LINK5_NEGLIMIT) , limits);
+		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(4,6), ret, value(VPSLimits.LINK5_OUTOFRANGE) , limits);
 		
 		// Byte 5
-		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(5,0), ret, VPSLimits.THETAZ_POS_SOFT_LIMIT.value , limits);
-		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(5,1), ret, VPSLimits.THETAZ_NEG_SOFT_LIMIT.value , limits);
-		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(5,4), ret, VPSLimits.LINK6_POSLIMIT.value , limits);
-		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(5,5), ret, VPSLimits.LINK6_NEGLIMIT.value , limits);
-		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(5,6), ret, VPSLimits.LINK6_OUTOFRANGE.value , limits);
+		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(5,0), ret, value(VPSLimits.THETAZ_POS_SOFT_LIMIT) , limits);
+		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(5,1), ret, value(VPSLimits.THETAZ_NEG_SOFT_LIMIT) , limits);
+		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(5,4), ret, value(VPSLimits.LINK6_POSLIMIT) , limits);
+		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(5,5), ret, value(VPSLimits.LINK6_NEGLIMIT) , limits);
+		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(5,6), ret, value(VPSLimits.LINK6_OUTOFRANGE) , limits);
 		
 		// Byte 6
-		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(6,0), ret, VPSLimits.COLLISION_INSIDE.value , limits);
-		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(6,1), ret, VPSLimits.COLLISION_OUTSIDE.value , limits);
-		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(6,2), ret, VPSLimits.COLLISION_DISABLED.value , limits);
+		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(6,0), ret, value(VPSLimits.COLLISION_INSIDE) , limits);
+		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(6,1), ret, value(VPSLimits.COLLISION_OUTSIDE) , limits);
+		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(6,2), ret, value(VPSLimits.COLLISION_DISABLED) , limits);
 		
 		return ret;
 	}
@@ -342,12 +342,12 @@ public class ACASubrefModel extends CommonStatusModel {
 	 */
 	protected ValueState refreshState() {
 		if (mount==null) {
-			VPSStatus.setNotAvailable();
+			setNotAvailable(statusValues);
 			return ValueState.NORMAL;
 		}
-		ValueHolder<LongArrayBit> status = mount.getSubreflector().getStatus();
+		ValueHolder<IntArrayBit> status = mount.getSubreflector().getStatus();
 		if (status==null || status.getValue()==null) {
-			VPSStatus.setNotAvailable();
+			setNotAvailable(statusValues);
 			return ValueState.ERROR;
 		}
 		
@@ -355,51 +355,51 @@ public class ACASubrefModel extends CommonStatusModel {
 		ValueState ret = ValueState.NORMAL;
 		
 		// Byte 0
-		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(0,0), ret, VPSStatus.LINK1_BRAKE_FASTEN.value , status);
-		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(0,1), ret, VPSStatus.LINK2_BRAKE_FASTEN.value , status);
-		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(0,2), ret, VPSStatus.LINK3_BRAKE_FASTEN.value , status);
-		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(0,3), ret, VPSStatus.LINK4_BRAKE_FASTEN.value , status);
-		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(0,4), ret, VPSStatus.LINK5_BRAKE_FASTEN.value , status);
-		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(0,5), ret, VPSStatus.LINK6_BRAKE_FASTEN.value , status);
+		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(0,0), ret, value(VPSStatus.LINK1_BRAKE_FASTEN) , status);
+		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(0,1), ret, value(VPSStatus.LINK2_BRAKE_FASTEN) , status);
+		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(0,2), ret, value(VPSStatus.LINK3_BRAKE_FASTEN) , status);
+		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(0,3), ret, value(VPSStatus.LINK4_BRAKE_FASTEN) , status);
+		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(0,4), ret, value(VPSStatus.LINK5_BRAKE_FASTEN) , status);
+		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(0,5), ret, value(VPSStatus.LINK6_BRAKE_FASTEN) , status);
 		
 		// Byte 1
-		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(1,0), ret, VPSStatus.LINK1_DPA_ALARM.value , status);
-		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(1,1), ret, VPSStatus.LINK2_DPA_ALARM.value , status);
-		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(1,2), ret, VPSStatus.LINK3_DPA_ALARM.value , status);
-		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(1,3), ret, VPSStatus.LINK4_DPA_ALARM.value , status);
-		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(1,4), ret, VPSStatus.LINK5_DPA_ALARM.value , status);
-		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(1,5), ret, VPSStatus.LINK6_DPA_ALARM.value , status);
+		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(1,0), ret, value(VPSStatus.LINK1_DPA_ALARM) , status);
+		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(1,1), ret, value(VPSStatus.LINK2_DPA_ALARM) , status);
+		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(1,2), ret, value(VPSStatus.LINK3_DPA_ALARM) , status);
+		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(1,3), ret, value(VPSStatus.LINK4_DPA_ALARM) , status);
+		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(1,4), ret, value(VPSStatus.LINK5_DPA_ALARM) , status);
+		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(1,5), ret, value(VPSStatus.LINK6_DPA_ALARM) , status);
 		
 		// Byte 2
-		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(2,0), ret, VPSStatus.BRAKE_POWER_FAIL.value , status);
-		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(2,1), ret, VPSStatus.DPA_CB_OFF.value , status);
-		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(2,2), ret, VPSStatus.DPA_COND_OFF.value , status);
+		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(2,0), ret, value(VPSStatus.BRAKE_POWER_FAIL) , status);
+		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(2,1), ret, value(VPSStatus.DPA_CB_OFF) , status);
+		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(2,2), ret, value(VPSStatus.DPA_COND_OFF) , status);
 		
 		// Byte 3
-		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(3,0), ret, VPSStatus.ACU2SUBREF_LINE_DISCON.value , status);
-		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(3,1), ret, VPSStatus.SUBREF2ACU_LINE_DISCON.value , status);
-		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(3,2), ret, VPSStatus.SUBREF_CONT_FAULT.value , status);
-		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(3,3), ret, VPSStatus.SUBREF_AD_CONV_FAIL.value , status);
-		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(3,4), ret, VPSStatus.SUBREF_CLOCK_FAULT.value , status);
+		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(3,0), ret, value(VPSStatus.ACU2SUBREF_LINE_DISCON) , status);
+		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(3,1), ret, value(VPSStatus.SUBREF2ACU_LINE_DISCON) , status);
+		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(3,2), ret, value(VPSStatus.SUBREF_CONT_FAULT) , status);
+		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(3,3), ret, value(VPSStatus.SUBREF_AD_CONV_FAIL) , status);
+		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(3,4), ret, value(VPSStatus.SUBREF_CLOCK_FAULT) , status);
 		
 		// Byte 4
-		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(4,0), ret, VPSStatus.LINK1_ENCODER_DISABLED.value , status);
-		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(4,1), ret, VPSStatus.LINK2_ENCODER_DISABLED.value , status);
-		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(4,2), ret, VPSStatus.LINK3_ENCODER_DISABLED.value , status);
-		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(4,3), ret, VPSStatus.LINK4_ENCODER_DISABLED.value , status);
-		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(4,4), ret, VPSStatus.LINK5_ENCODER_DISABLED.value , status);
-		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(4,5), ret, VPSStatus.LINK6_ENCODER_DISABLED.value , status);
+		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(4,0), ret, value(VPSStatus.LINK1_ENCODER_DISABLED) , status);
+		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(4,1), ret, value(VPSStatus.LINK2_ENCODER_DISABLED) , status);
+		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(4,2), ret, value(VPSStatus.LINK3_ENCODER_DISABLED) , status);
+		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(4,3), ret, value(VPSStatus.LINK4_ENCODER_DISABLED) , status);
+		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(4,4), ret, value(VPSStatus.LINK5_ENCODER_DISABLED) , status);
+		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(4,5), ret, value(VPSStatus.LINK6_ENCODER_DISABLED) , status);
 
 		// Byte 5
-		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(5,0), ret, VPSStatus.LINK1_DRIVE_ON_TO.value , status);
-		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(5,1), ret, VPSStatus.LINK2_DRIVE_ON_TO.value , status);
-		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(5,2), ret, VPSStatus.LINK3_DRIVE_ON_TO.value , status);
-		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(5,3), ret, VPSStatus.LINK4_DRIVE_ON_TO.value , status);
-		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(5,4), ret, VPSStatus.LINK5_DRIVE_ON_TO.value , status);
-		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(5,5), ret, VPSStatus.LINK6_DRIVE_ON_TO.value , status);
+		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(5,0), ret, value(VPSStatus.LINK1_DRIVE_ON_TO) , status);
+		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(5,1), ret, value(VPSStatus.LINK2_DRIVE_ON_TO) , status);
+		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(5,2), ret, value(VPSStatus.LINK3_DRIVE_ON_TO) , status);
+		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(5,3), ret, value(VPSStatus.LINK4_DRIVE_ON_TO) , status);
+		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(5,4), ret, value(VPSStatus.LINK5_DRIVE_ON_TO) , status);
+		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(5,5), ret, value(VPSStatus.LINK6_DRIVE_ON_TO) , status);
 		
  		// Byte 5 bit 6 is reserved
-		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(5,7), ret, VPSStatus.LINK_RESET_TO.value , status);
+		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(5,7), ret, value(VPSStatus.LINK_RESET_TO) , status);
 		
 		return ret;
 	}
@@ -23,7 +23,7 @@ import alma.control.gui.antennamount.mount.ValueHolder;
 import alma.control.gui.antennamount.mount.aem.MountAEM;
 import alma.control.gui.antennamount.utils.ValueDisplayer;
 import alma.control.gui.antennamount.utils.ValueState;
-import alma.control.gui.antennamount.utils.bit.LongArrayBit;
+import alma.control.gui.antennamount.utils.bit.IntArrayBit;
 
 public class AEMSubrefModel extends CommonStatusModel {
 	
@@ -86,25 +86,6 @@ public class AEMSubrefModel extends CommonStatusModel {
 		 * The tile of the row
 		 */
 		public final String title;
-		
-		/**
-		 * The value of the row
-		 */
-		public final StringBuilder value = new StringBuilder(ValueDisplayer.NOT_AVAILABLE);
-		
-		/**
-		 * Set all the values as not available
-		 */
-		public static void setNotAvailable() {
-			for (SubrefStatus state: SubrefStatus.values()) {
-				if (state.value.length()>0) {
-					state.value.delete(0, state.value.length());
-				}
-				if (state!=TITLE) {
-					state.value.append(ValueDisplayer.NOT_AVAILABLE);
-				}
-			}
-		}
 	}
 	
 	/**
@@ -147,27 +128,28 @@ public class AEMSubrefModel extends CommonStatusModel {
 		 * The tile of the row
 		 */
 		public final String title;
-		
-		/**
-		 * The value of the row
-		 */
-		public final StringBuilder value = new StringBuilder(ValueDisplayer.NOT_AVAILABLE);
-		
-		/**
-		 * Set all the values as not available
-		 */
-		public static void setNotAvailable() {
-			for (SubrefLimits limit: SubrefLimits.values()) {
-				if (limit.value.length()>0) {
-					limit.value.delete(0, limit.value.length());
-				}
-				if (limit!=TITLE) {
-					limit.value.append(ValueDisplayer.NOT_AVAILABLE);
-				}
-			}
-		}
 	}
 	
+	/**
+	 * The rows of the status (<code>values()</code> returns a new array each time)
+	 */
+	private static final SubrefStatus[] STATUS_ROWS=SubrefStatus.values();
+	
+	/**
+	 * The rows of the limits
+	 */
+	private static final SubrefLimits[] LIMIT_ROWS=SubrefLimits.values();
+	
+	/**
+	 * The values of the rows of the status, indexed by the ordinal of the row
+	 */
+	private final StringBuilder[] statusValues=buildRowValues(STATUS_ROWS.length);
+	
+	/**
+	 * The values of the rows of the limits, indexed by the ordinal of the row
+	 */
+	private final StringBuilder[] limitValues=buildRowValues(LIMIT_ROWS.length);
+	
 	/**
 	 * Constructor 
 	 * 
@@ -184,26 +166,44 @@ public class AEMSubrefModel extends CommonStatusModel {
 	}
 	
 	public int getRowCount() {
-		return SubrefStatus.values().length+SubrefLimits.values().length;
+		return STATUS_ROWS.length+LIMIT_ROWS.length;
 	}
 
 	
 	public Object getValueAt(int rowIndex, int columnIndex) {
 		if (columnIndex==0) {
-			if (rowIndex<SubrefStatus.values().length) {
-				return SubrefStatus.values()[rowIndex].title;
+			if (rowIndex<STATUS_ROWS.length) {
+				return STATUS_ROWS[rowIndex].title;
 			} else {
-				return SubrefLimits.values()[rowIndex-SubrefStatus.values().length].title;
+				return LIMIT_ROWS[rowIndex-STATUS_ROWS.length].title;
 			}
 		} else {
-			if (rowIndex<SubrefStatus.values().length) {
-				return SubrefStatus.values()[rowIndex].value;
+			if (rowIndex<STATUS_ROWS.length) {
+				return statusValues[rowIndex];
 			} else {
-				return SubrefLimits.values()[rowIndex-SubrefStatus.values().length].value;
+				return limitValues[rowIndex-STATUS_ROWS.length];
 			}
 		}
 	}
 	
+	/**
+	 * 
+	 * @param row A row of the status
+	 * @return The value of the row
+	 */
+	private StringBuilder value(SubrefStatus row) {
+		return statusValues[row.ordinal()];
+	}
+	
+	/**
+	 * 
+	 * @param row A row of the limits
+	 * @return The value of the row
+	 */
+	private StringBuilder value(SubrefLimits row) {
+		return limitValues[row.ordinal()];
+	}
+	
 	/**
 	 * Update the limits from the component
 	 * 
@@ -211,12 +211,12 @@ public class AEMSubrefModel extends CommonStatusModel {
 	 */
 	protected ValueState refreshLimits() {
 		if (mount==null) {
-			SubrefLimits.setNotAvailable();
+			setNotAvailable(limitValues);
 			return ValueState.NORMAL;
 		}
-		ValueHolder<LongArrayBit> limits = mount.getSubreflector().getLimits();
+		ValueHolder<IntArrayBit> limits = mount.getSubreflector().getLimits();
 		if (limits==null || limits.getValue()==null) {
-			SubrefLimits.setNotAvailable();
+			setNotAvailable(limitValues);
 			return ValueState.ERROR;
 		}
 		
@@ -224,22 +224,22 @@ public class AEMSubrefModel extends CommonStatusModel {
 		ValueState ret = ValueState.NORMAL;
 		
 		// Byte 0
-		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(0,0), ret, SubrefLimits.XUP_SW_LIMIT.value , limits);
-		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(0,1), ret, SubrefLimits.XLOW_SW_LIMIT.value , limits);
-		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(0,2), ret, SubrefLimits.XUP_SW_ROTLIMIT.value , limits);
-		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(0,3), ret, SubrefLimits.XLOW_SW_ROTLIMIT.value , limits);
+		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(0,0), ret, value(SubrefLimits.XUP_SW_LIMIT) , limits);
+		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(0,1), ret, value(SubrefLimits.XLOW_SW_LIMIT) , limits);
+		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(0,2), ret, value(SubrefLimits.XUP_SW_ROTLIMIT) , limits);
+		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(0,3), ret, value(SubrefLimits.XLOW_SW_ROTLIMIT) , limits);
 		
 		// Byte 1
-		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(1,0), ret, SubrefLimits.YUP_SW_LIMIT.value , limits);
-		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(1,1), ret, SubrefLimits.YLOW_SW_LIMIT.value , limits);
-		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(1,2), ret, SubrefLimits.YUP_SW_ROTLIMIT.value , limits);
-		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(1,3), ret, SubrefLimits.YLOW_SW_ROTLIMIT.value , limits);
+		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(1,0), ret, value(SubrefLimits.YUP_SW_LIMIT) , limits);
+		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(1,1), ret, value(SubrefLimits.YLOW_SW_LIMIT) , limits);
+		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(1,2), ret, value(SubrefLimits.YUP_SW_ROTLIMIT) , limits);
+		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(1,3), ret, value(SubrefLimits.YLOW_SW_ROTLIMIT) , limits);
 		
 		// Byte2
-		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(2,0), ret, SubrefLimits.ZUP_SW_LIMIT.value , limits);
-		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(2,1), ret, SubrefLimits.ZLOW_SW_LIMIT.value , limits);
-		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(2,2), ret, SubrefLimits.ZUP_SW_ROTLIMIT.value , limits);
-		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(2,3), ret, SubrefLimits.ZLOW_SW_ROTLIMIT.value , limits);
+		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(2,0), ret, value(SubrefLimits.ZUP_SW_LIMIT) , limits);
+		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(2,1), ret, value(SubrefLimits.ZLOW_SW_LIMIT) , limits);
+		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(2,2), ret, value(SubrefLimits.ZUP_SW_ROTLIMIT) , limits);
+		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(2,3), ret, value(SubrefLimits.ZLOW_SW_ROTLIMIT) , limits);
 		
 		return ret;
 	}
@@ -251,12 +251,12 @@ public class AEMSubrefModel extends CommonStatusModel {
 	 */
 	protected ValueState refreshState() {
 		if (mount==null) {
-			SubrefStatus.setNotAvailable();
+			setNotAvailable(statusValues);
 			return ValueState.NORMAL;
 		}
-		ValueHolder<LongArrayBit> status = mount.getSubreflector().getStatus();
+		ValueHolder<IntArrayBit> status = mount.getSubreflector().getStatus();
 		if (status==null || status.getValue()==null) {
-			SubrefStatus.setNotAvailable();
+			setNotAvailable(statusValues);
 			return ValueState.ERROR;
 		}
 		
@@ -264,38 +264,38 @@ public class AEMSubrefModel extends CommonStatusModel {
 		ValueState ret = ValueState.NORMAL;
 		
 		// Byte 0
-		ret=ValueDisplayer.formatStatusBitInverse(status.getValue().getBit(0,0), ret, SubrefStatus.PWR_MONITOR.value , status);
-		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(0,1), ret, SubrefStatus.OVER_RUN.value , status);
-		ret=ValueDisplayer.formatStatusBitInverse(status.getValue().getBit(0,2), ret, SubrefStatus.INITED.value , status);
-		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(0,3), ret, SubrefStatus.INITIALIZING.value , status);
-		ret=ValueDisplayer.formatStatusBitInverse(status.getValue().getBit(0,4), ret, SubrefStatus.SERVO_STATE.value , status);
-		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(0,5), ret, SubrefStatus.CONN_FAULT.value , status);
-		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(0,6), ret, SubrefStatus.SM_OVERRIDE.value , status);
+		ret=ValueDisplayer.formatStatusBitInverse(status.getValue().getBit(0,0), ret, value(SubrefStatus.PWR_MONITOR) , status);
+		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(0,1), ret, value(SubrefStatus.OVER_RUN) , status);
+		ret=ValueDisplayer.formatStatusBitInverse(status.getValue().getBit(0,2), ret, value(SubrefStatus.INITED) , status);
+		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(0,3), ret, value(SubrefStatus.INITIALIZING) , status);
+		ret=ValueDisplayer.formatStatusBitInverse(status.getValue().getBit(0,4), ret, value(SubrefStatus.SERVO_STATE) , status);
+		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(0,5), ret, value(SubrefStatus.CONN_FAULT) , status);
+		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(0,6), ret, value(SubrefStatus.SM_OVERRIDE) , status);
 	
 		// Byte 1
-		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(1,0), ret, SubrefStatus.STRUT1_MOTION.value , status);
-		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(1,1), ret, SubrefStatus.STRUT2_MOTION.value , status);
-		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(1,2), ret, SubrefStatus.STRUT3_MOTION.value , status);
-		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(1,3), ret, SubrefStatus.STRUT4_MOTION.value , status);
-		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(1,4), ret, SubrefStatus.STRUT5_MOTION.value , status);
-		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(1,5), ret, SubrefStatus.STRUT6_MOTION.value , status);
+		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(1,0), ret, value(SubrefStatus.STRUT1_MOTION) , status);
+		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(1,1), ret, value(SubrefStatus.STRUT2_MOTION) , status);
+		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(1,2), ret, value(SubrefStatus.STRUT3_MOTION) , status);
+		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(1,3), ret, value(SubrefStatus.STRUT4_MOTION) , status);
+		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(1,4), ret, value(SubrefStatus.STRUT5_MOTION) , status);
+		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(1,5), ret, value(SubrefStatus.STRUT6_MOTION) , status);
 		
 		// Byte 2
-		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(2,0), ret, SubrefStatus.STRUT1_CTR_ERR.value , status);
-		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(2,1), ret, SubrefStatus.STRUT2_CTR_ERR.value , status);
-		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(2,2), ret, SubrefStatus.STRUT3_CTR_ERR.value , status);
-		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(2,3), ret, SubrefStatus.STRUT4_CTR_ERR.value , status);
-		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(2,4), ret, SubrefStatus.STRUT5_CTR_ERR.value , status);
-		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(2,5), ret, SubrefStatus.STRUT6_CTR_ERR.value , status);
+		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(2,0), ret, value(SubrefStatus.STRUT1_CTR_ERR) , status);
+		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(2,1), ret, value(SubrefStatus.STRUT2_CTR_ERR) , status);
+		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(2,2), ret, value(SubrefStatus.STRUT3_CTR_ERR) , status);
+		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(2,3), ret, value(SubrefStatus.STRUT4_CTR_ERR) , status);
+		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(2,4), ret, value(SubrefStatus.STRUT5_CTR_ERR) , status);
+		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(2,5), ret, value(SubrefStatus.STRUT6_CTR_ERR) , status);
 		
 		// Byte 3
-		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(3,0), ret, SubrefStatus.HEXAPOD_TEMP_MONITOR.value , status);
-		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(3,1), ret, SubrefStatus.ACT1_OVERTEMP.value , status);
-		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(3,2), ret, SubrefStatus.ACT2_OVERTEMP.value , status);
-		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(3,3), ret, SubrefStatus.ACT3_OVERTEMP.value , status);
-		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(3,4), ret, SubrefStatus.ACT4_OVERTEMP.value , status);
-		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(3,5), ret, SubrefStatus.ACT5_OVERTEMP.value , status);
-		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(3,5), ret, SubrefStatus.ACT6_OVERTEMP.value , status);
+		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(3,0), ret, value(SubrefStatus.HEXAPOD_TEMP_MONITOR) , status);
+		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(3,1), ret, value(SubrefStatus.ACT1_OVERTEMP) , status);
+		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(3,2), ret, value(SubrefStatus.ACT2_OVERTEMP) , status);
+		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(3,3), ret, value(SubrefStatus.ACT3_OVERTEMP) , status);
+		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(3,4), ret, value(SubrefStatus.ACT4_OVERTEMP) , status);
+		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(3,5), ret, value(SubrefStatus.ACT5_OVERTEMP) , status);
+		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(3,5), ret, value(SubrefStatus.ACT6_OVERTEMP) , status);
 		
 		return ret;
 	}
@@ -20,6 +20,7 @@ package alma.control.gui.antennamount.subreflectorpanel;
 
 import javax.swing.table.AbstractTableModel;
 
+import alma.control.gui.antennamount.utils.RowChangeTracker;
 import alma.control.gui.antennamount.utils.ValueDisplayer;
 import alma.control.gui.antennamount.utils.ValueState;
 
@@ -31,6 +32,11 @@ import alma.control.gui.antennamount.utils.ValueState;
  */
 public class CommonStatusModel extends AbstractTableModel {
 	
+	/**
+	 * Notifies the table only about the rows changed by the refresh
+	 */
+	private final RowChangeTracker changeTracker = new RowChangeTracker();
+	
 	/**
 	 * @see AbstractTableModel
 	 */
@@ -89,6 +95,52 @@ public class CommonStatusModel extends AbstractTableModel {
 		return ValueState.NORMAL;
 	}
 	
+	/**
+	 * Build the values of a group of rows.
+	 * <P>
+	 * The values belong to the instance of the model so that the tables of 
+	 * different antennas do not share their content.
+	 * The first row of each group is the title of the group and its value is always empty.
+	 * 
+	 * @param rows The number of rows of the group (including the title)
+	 * @return The values of the rows, all not available
+	 */
+	protected static StringBuilder[] buildRowValues(int rows) {
+		StringBuilder[] ret = new StringBuilder[rows];
+		for (int t=0; t<rows; t++) {
+			ret[t] = new StringBuilder();
+		}
+		setNotAvailable(ret);
+		return ret;
+	}
+	
+	/**
+	 * Set all the values of a group of rows as not available
+	 * (the value of the title is left empty).
+	 * 
+	 * @param values The values of the rows
+	 * @see #buildRowValues(int)
+	 */
+	protected static void setNotAvailable(StringBuilder[] values) {
+		for (int t=0; t<values.length; t++) {
+			if (values[t].length()>0) {
+				values[t].delete(0, values[t].length());
+			}
+			if (t>0) {
+				values[t].append(ValueDisplayer.NOT_AVAILABLE);
+			}
+		}
+	}
+	
+	/**
+	 * Notify the table about the rows changed since the previous refresh.
+	 * <P>
+	 * Nothing is fired if no row changed.
+	 */
+	public void fireChangedRows() {
+		changeTracker.fireChanges(this);
+	}
+	
 	
 
 }
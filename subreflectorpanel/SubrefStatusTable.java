@@ -97,7 +97,7 @@ public class SubrefStatusTable extends JTable {
 	public ValueState refresh() {
 		ValueState a=model.refreshLimits();
 		ValueState b=model.refreshState();
-		model.fireTableDataChanged();
+		model.fireChangedRows();
 		return ValueState.max(a, b);
 	}
 }
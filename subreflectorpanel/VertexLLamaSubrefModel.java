@@ -24,7 +24,7 @@ import alma.control.gui.antennamount.mount.ValueHolder;
 import alma.control.gui.antennamount.mount.vertexLLama.MountVertexLLama;
 import alma.control.gui.antennamount.utils.ValueDisplayer;
 import alma.control.gui.antennamount.utils.ValueState;
-import alma.control.gui.antennamount.utils.bit.LongArrayBit;
+import alma.control.gui.antennamount.utils.bit.IntArrayBit;
 
 public class VertexLLamaSubrefModel extends CommonStatusModel {
 	
@@ -77,32 +77,12 @@ public class VertexLLamaSubrefModel extends CommonStatusModel {
 		 */
 		private VPSStatus(String title) {
 			this.title=title;
-			this.value.append(ValueDisplayer.NOT_AVAILABLE);
 		}
 		
 		/**
 		 * The tile of the row
 		 */
 		public final String title;
-		
-		/**
-		 * The value of the row
-		 */
-		public final StringBuilder value=new StringBuilder();
-		
-		/**
-		 * Set all the values as not available
-		 */
-		public static void setNotAvailable() {
-			for (VPSStatus state: VPSStatus.values()) {
-				if (state.value.length()>0) {
-					state.value.delete(0, state.value.length());
-				}
-				if (state!=TITLE) {
-					state.value.append(ValueDisplayer.NOT_AVAILABLE);
-				}
-			}
-		}
 	}
 	
 	/**
@@ -173,38 +153,34 @@ public class VertexLLamaSubrefModel extends CommonStatusModel {
 		 */
 		private VPSLimits(String title) {
 			this.title=title;
-			this.value.append(ValueDisplayer.NOT_AVAILABLE);
 		}
 		
 		/**
 		 * The tile of the row
 		 */
 		public final String title;
-		
-		/**
-		 * The value of the row
-		 */
-		public final StringBuilder value=new StringBuilder();
-		
-		
-		
-		/**
-		 * Set all the values as not available
-		 */
-		public static void setNotAvailable() {
-			for (VPSLimits limit: VPSLimits.values()) {
-				if (limit.value.length()>0) {
-					limit.value.delete(0, limit.value.length());
-				}
-				if (limit!=TITLE) {
-					limit.value.append(ValueDisplayer.NOT_AVAILABLE);
-				}
-			}
-		}
-		
-		
 	}
 	
+	/**
+	 * The rows of the status (<code>values()</code> returns a new array each time)
+	 */
+	private static final VPSStatus[] STATUS_ROWS=VPSStatus.values();
+	
+	/**
+	 * The rows of the limits
+	 */
+	private static final VPSLimits[] LIMIT_ROWS=VPSLimits.values();
+	
+	/**
+	 * The values of the rows of the status, indexed by the ordinal of the row
+	 */
+	private final StringBuilder[] statusValues=buildRowValues(STATUS_ROWS.length);
+	
+	/**
+	 * The values of the rows of the limits, indexed by the ordinal of the row
+	 */
+	private final StringBuilder[] limitValues=buildRowValues(LIMIT_ROWS.length);
+	
 	/**
 	 * Constructor 
 	 * 
@@ -221,26 +197,44 @@ public class VertexLLamaSubrefModel extends CommonStatusModel {
 	}
 	
 	public int getRowCount() {
-		return VPSStatus.values().length+VPSLimits.values().length;
+		return STATUS_ROWS.length+LIMIT_ROWS.length;
 	}
 
 	
 	public Object getValueAt(int rowIndex, int columnIndex) {
 		if (columnIndex==0) {
-			if (rowIndex<VPSStatus.values().length) {
-				return VPSStatus.values()[rowIndex].title;
+			if (rowIndex<STATUS_ROWS.length) {
+				return STATUS_ROWS[rowIndex].title;
 			} else {
-				return VPSLimits.values()[rowIndex-VPSStatus.values().length].title;
+				return LIMIT_ROWS[rowIndex-STATUS_ROWS.length].title;
 			}
 		} else {
-			if (rowIndex<VPSStatus.values().length) {
-				return VPSStatus.values()[rowIndex].value;
+			if (rowIndex<STATUS_ROWS.length) {
+				return statusValues[rowIndex];
 			} else {
-				return VPSLimits.values()[rowIndex-VPSStatus.values().length].value;
+				return limitValues[rowIndex-STATUS_ROWS.length];
 			}
 		}
 	}
 	
+	/**
+	 * 
+	 * @param row A row of the status
+	 * @return The value of the row
+	 */
+	private StringBuilder value(VPSStatus row) {
+		return statusValues[row.ordinal()];
+	}
+	
+	/**
+	 * 
+	 * @param row A row of the limits
+	 * @return The value of the row
+	 */
+	private StringBuilder value(VPSLimits row) {
+		return limitValues[row.ordinal()];
+	}
+	
 	/**
 	 * Update the limits from the component
 	 * 
@@ -248,12 +242,12 @@ public class VertexLLamaSubrefModel extends CommonStatusModel {
 	 */
 	protected ValueState refreshLimits() {
 		if (mount==null) {
-			VPSLimits.setNotAvailable();
+			setNotAvailable(limitValues);
 			return ValueState.NORMAL;
 		}
-		ValueHolder<LongArrayBit> limits = mount.getSubreflector().getLimits();
+		ValueHolder<IntArrayBit> limits = mount.getSubreflector().getLimits();
 		if (limits==null || limits.getValue()==null) {
-			VPSLimits.setNotAvailable();
+			setNotAvailable(limitValues);
 			return ValueState.ERROR;
 		}
 		
@@ -261,56 +255,56 @@ public class VertexLLamaSubrefModel extends CommonStatusModel {
 		ValueState ret = ValueState.NORMAL;
 		
 		// Byte 0
-		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(0,0), ret, VPSLimits.ACT1_NEGLIMIT.value , limits);
-		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(0,1), ret, VPSLimits.ACT2_NEGLIMIT.value , limits);
-		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(0,2), ret, VPSLimits.ACT3_NEGLIMIT.value , limits);
-		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(0,3), ret, VPSLimits.ACT4_NEGLIMIT.value , limits);
-		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(0,4), ret, VPSLimits.ACT5_NEGLIMIT.value , limits);
-		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(0,5), ret, VPSLimits.ACT6_NEGLIMIT.value , limits);
+		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(0,0), ret, value(VPSLimits.ACT1_NEGLIMIT) , limits);
+		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(0,1), ret, value(VPSLimits.ACT2_NEGLIMIT) , limits);
+		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(0,2), ret, value(VPSLimits.ACT3_NEGLIMIT) , limits);
+		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(0,3), ret, value(VPSLimits.ACT4_NEGLIMIT) , limits);
+		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(0,4), ret, value(VPSLimits.ACT5_NEGLIMIT) , limits);
+		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(0,5), ret, value(VPSLimits.ACT6_NEGLIMIT) , limits);
 		
 		// Byte 1
-		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(1,0), ret, VPSLimits.ACT1_POSLIMIT.value , limits);
-		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(1,1), ret, VPSLimits.ACT2_POSLIMIT.value , limits);
-		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(1,2), ret, VPSLimits.ACT3_POSLIMIT.value , limits);
-		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(1,3), ret, VPSLimits.ACT4_POSLIMIT.value , limits);
-		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(1,4), ret, VPSLimits.ACT5_POSLIMIT.value , limits);
-		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(1,5), ret, VPSLimits.ACT6_POSLIMIT.value , limits);
+		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(1,0), ret, value(VPSLimits.ACT1_POSLIMIT) , limits);
+		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(1,1), ret, value(VPSLimits.ACT2_POSLIMIT) , limits);
+		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(1,2), ret, value(VPSLimits.ACT3_POSLIMIT) , limits);
+		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(1,3), ret, value(VPSLimits.ACT4_POSLIMIT) , limits);
+		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(1,4), ret, value(VPSLimits.ACT5_POSLIMIT) , limits);
+		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(1,5), ret, value(VPSLimits.ACT6_POSLIMIT) , limits);
 		
 		// Byte2
-		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(2,0), ret, VPSLimits.HEX_X_NEGLIMIT.value , limits);
-		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(2,1), ret, VPSLimits.HEX_X_POSLIMIT.value , limits);
-		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(2,2), ret, VPSLimits.HEX_Y_NEGLIMIT.value , limits);
-		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(2,3), ret, VPSLimits.HEX_Y_POSLIMIT.value , limits);
-		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(2,4), ret, VPSLimits.HEX_Z_NEGLIMIT.value , limits);
-		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(2,5), ret, VPSLimits.HEX_Z_POSLIMIT.value , limits);
+		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(2,0), ret, value(VPSLimits.HEX_X_NEGLIMIT) , limits);
+		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(2,1), ret, value(VPSLimits.HEX_X_POSLIMIT) , limits);
+		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(2,2), ret, value(VPSLimits.HEX_Y_NEGLIMIT) , limits);
+		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(2,3), ret, value(VPSLimits.HEX_Y_POSLIMIT) , limits);
+		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(2,4), ret, value(VPSLimits.HEX_Z_NEGLIMIT) , limits);
+		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(2,5), ret, value(VPSLimits.HEX_Z_POSLIMIT) , limits);
 		
 		// Byte 3
-		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(3,0), ret, VPSLimits.HEX_X_NEGTLIMIT.value , limits);
-		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(3,1), ret, VPSLimits.HEX_X_POSTLIMIT.value , limits);
-		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(3,2), ret, VPSLimits.HEX_Y_NEGTLIMIT.value , limits);
-		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(3,3), ret, VPSLimits.HEX_Y_POSTLIMIT.value , limits);
-		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(3,4), ret, VPSLimits.HEX_Z_NEGTLIMIT.value , limits);
-		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(3,5), ret, VPSLimits.HEX_Z_POSTLIMIT.value , limits);
+		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(3,0), ret, value(VPSLimits.HEX_X_NEGTLIMIT) , limits);
+		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(3,1), ret, value(VPSLimits.HEX_X_POSTLIMIT) , limits);
+		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(3,2), ret, value(VPSLimits.HEX_Y_NEGTLIMIT) , limits);
+		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(3,3), ret, value(VPSLimits.HEX_Y_POSTLIMIT) , limits);
+		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(3,4), ret, value(VPSLimits.HEX_Z_NEGTLIMIT) , limits);
+		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(3,5), ret, value(VPSLimits.HEX_Z_POSTLIMIT) , limits);
 		
 		// Byte 4
-		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(4,0), ret, VPSLimits.HEX_VERT_COLLISION1.value , limits);
-		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(4,1), ret, VPSLimits.HEX_VERT_COLLISION2.value , limits);
-		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(4,2), ret, VPSLimits.HEX_VERT_COLLISION3.value , limits);
-		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(4,3), ret, VPSLimits.HEX_VERT_COLLISION4.value , limits);
-		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(4,4), ret, VPSLimits.HEX_VERT_COLLISION5.value , limits);
-		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(4,5), ret, VPSLimits.HEX_VERT_COLLISION6.value , limits);
-		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(4,6), ret, VPSLimits.HEX_VERT_COLLISION7.value , limits);
-		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(4,7), ret, VPSLimits.HEX_VERT_COLLISION8.value , limits);
+		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(4,0), ret, value(VPSLimits.HEX_VERT_COLLISION1) , limits);
+		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(4,1), ret, value(VPSLimits.HEX_VERT_COLLISION2) , limits);
+		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(4,2), ret, value(VPSLimits.HEX_VERT_COLLISION3) , limits);
+		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(4,3), ret, value(VPSLimits.HEX_VERT_COLLISION4) , limits);
+		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(4,4), ret, value(VPSLimits.HEX_VERT_COLLISION5) , limits);
+		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(4,5), ret, value(VPSLimits.HEX_VERT_COLLISION6) , limits);
+		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(4,6), ret, value(VPSLimits.HEX_VERT_COLLISION7) , limits);
+		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(4,7), ret, value(VPSLimits.HEX_VERT_COLLISION8) , limits);
 		
 		// Byte 5
-		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(5,0), ret, VPSLimits.HEX_HR_COLLISION1.value , limits);
-		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(5,1), ret, VPSLimits.HEX_HR_COLLISION2.value , limits);
-		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(5,2), ret, VPSLimits.HEX_HR_COLLISION3.value , limits);
-		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(5,3), ret, VPSLimits.HEX_HR_COLLISION4.value , limits);
-		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(5,4), ret, VPSLimits.HEX_HR_COLLISION5.value , limits);
-		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(5,5), ret, VPSLimits.HEX_HR_COLLISION6.value , limits);
-		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(5,6), ret, VPSLimits.HEX_HR_COLLISION7.value , limits);
-		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(5,7), ret, VPSLimits.HEX_HR_COLLISION8.value , limits);
+		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(5,0), ret, value(VPSLimits.HEX_HR_COLLISION1) , limits);
+		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(5,1), ret, value(VPSLimits.HEX_HR_COLLISION2) , limits);
+		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(5,2), ret, value(VPSLimits.HEX_HR_COLLISION3) , limits);
+		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(5,3), ret, value(VPSLimits.HEX_HR_COLLISION4) , limits);
+		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(5,4), ret, value(VPSLimits.HEX_HR_COLLISION5) , limits);
+		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(5,5), ret, value(VPSLimits.HEX_HR_COLLISION6) , limits);
+		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(5,6), ret, value(VPSLimits.HEX_HR_COLLISION7) , limits);
+		ret=ValueDisplayer.formatStatusBit(limits.getValue().getBit(5,7), ret, value(VPSLimits.HEX_HR_COLLISION8) , limits);
 		
 		return ret;
 	}
@@ -322,12 +316,12 @@ public class VertexLLamaSubrefModel extends CommonStatusModel {
 	 */
 	protected ValueState refreshState() {
 		if (mount==null) {
-			VPSStatus.setNotAvailable();
+			setNotAvailable(statusValues);
 			return ValueState.NORMAL;
 		}
-		ValueHolder<LongArrayBit> status = mount.getSubreflector().getStatus();
+		ValueHolder<IntArrayBit> status = mount.getSubreflector().getStatus();
 		if (status==null || status.getValue()==null) {
-			VPSStatus.setNotAvailable();
+			setNotAvailable(statusValues);
 			return ValueState.ERROR;
 		}
 		
@@ -336,33 +330,33 @@ public class VertexLLamaSubrefModel extends CommonStatusModel {
 		
 		// Byte0
 		// Byte 1
-		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(1,0), ret, VPSStatus.AMPACT1_OVERTEMP.value , status);
-		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(1,1), ret, VPSStatus.AMPACT2_OVERTEMP.value , status);
-		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(1,2), ret, VPSStatus.AMPACT3_OVERTEMP.value , status);
-		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(1,3), ret, VPSStatus.AMPACT4_OVERTEMP.value , status);
-		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(1,4), ret, VPSStatus.AMPACT5_OVERTEMP.value , status);
-		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(1,5), ret, VPSStatus.AMPACT6_OVERTEMP.value , status);
+		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(1,0), ret, value(VPSStatus.AMPACT1_OVERTEMP) , status);
+		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(1,1), ret, value(VPSStatus.AMPACT2_OVERTEMP) , status);
+		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(1,2), ret, value(VPSStatus.AMPACT3_OVERTEMP) , status);
+		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(1,3), ret, value(VPSStatus.AMPACT4_OVERTEMP) , status);
+		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(1,4), ret, value(VPSStatus.AMPACT5_OVERTEMP) , status);
+		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(1,5), ret, value(VPSStatus.AMPACT6_OVERTEMP) , status);
 
 		// Byte 2
-		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(2,0), ret, VPSStatus.ACT1_NOTMOVE.value , status);
-		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(2,1), ret, VPSStatus.ACT2_NOTMOVE.value , status);
-		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(2,2), ret, VPSStatus.ACT3_NOTMOVE.value , status);
-		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(2,3), ret, VPSStatus.ACT4_NOTMOVE.value , status);
-		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(2,4), ret, VPSStatus.ACT5_NOTMOVE.value , status);
-		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(2,5), ret, VPSStatus.ACT6_NOTMOVE.value , status);
+		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(2,0), ret, value(VPSStatus.ACT1_NOTMOVE) , status);
+		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(2,1), ret, value(VPSStatus.ACT2_NOTMOVE) , status);
+		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(2,2), ret, value(VPSStatus.ACT3_NOTMOVE) , status);
+		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(2,3), ret, value(VPSStatus.ACT4_NOTMOVE) , status);
+		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(2,4), ret, value(VPSStatus.ACT5_NOTMOVE) , status);
+		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(2,5), ret, value(VPSStatus.ACT6_NOTMOVE) , status);
 		
 		// Byte 3
-		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(3,0), ret, VPSStatus.ACT1_NOTINITED.value , status);
-		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(3,1), ret, VPSStatus.ACT2_NOTINITED.value , status);
-		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(3,2), ret, VPSStatus.ACT3_NOTINITED.value , status);
-		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(3,3), ret, VPSStatus.ACT4_NOTINITED.value , status);
-		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(3,4), ret, VPSStatus.ACT5_NOTINITED.value , status);
-		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(3,5), ret, VPSStatus.ACT6_NOTINITED.value , status);
+		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(3,0), ret, value(VPSStatus.ACT1_NOTINITED) , status);
+		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(3,1), ret, value(VPSStatus.ACT2_NOTINITED) , status);
+		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(3,2), ret, value(VPSStatus.ACT3_NOTINITED) , status);
+		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(3,3), ret, value(VPSStatus.ACT4_NOTINITED) , status);
+		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(3,4), ret, value(VPSStatus.ACT5_NOTINITED) , status);
+		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(3,5), ret, value(VPSStatus.ACT6_NOTINITED) , status);
 		
 		// Byte 4
-		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(4,0), ret, VPSStatus.PS_FAILURE.value , status);
-		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(4,1), ret, VPSStatus.CAN_FAULT.value , status);
-		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(4,2), ret, VPSStatus.TEMPERATURE_LOW.value , status);
+		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(4,0), ret, value(VPSStatus.PS_FAILURE) , status);
+		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(4,1), ret, value(VPSStatus.CAN_FAULT) , status);
+		ret=ValueDisplayer.formatStatusBit(status.getValue().getBit(4,2), ret, value(VPSStatus.TEMPERATURE_LOW) , status);
 		
 		return ret;
 	}
@@ -0,0 +1,108 @@
+/*
+ * ALMA - Atacama Large Millimiter Array (c) European Southern Observatory, 2007
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ */
+package alma.control.gui.antennamount.telemetry;
+
+import alma.control.gui.antennamount.mount.BooleanValueHolder;
+import alma.control.gui.antennamount.mount.DoubleValueHolder;
+import alma.control.gui.antennamount.mount.ISubreflector.Coordinates;
+import alma.control.gui.antennamount.mount.ValueHolder;
+
+/**
+ * Bind the {@link ValueHolder}s to the {@link TelemetryChannel}s.
+ * <P>
+ * The {@link TelemetryRecorder} records the values of the bound holders
+ * and the {@link TelemetryPlayer} sets the holders with the recorded values.
+ * <P>
+ * The holders are bound on behalf of an owner (usually the thread
+ * that polls the component) so that all the holders of the owner
+ * can be released at once.
+ * Before binding its holders, the owner declares the antenna and the component
+ * they belong to with {@link #addOwner(Object, String, String, String)}:
+ * the values of each component are recorded and replayed separately.
+ * The <code>null</code> holders are ignored.
+ * 
+ * @author acaproni
+ *
+ */
+public interface TelemetryBinder {
+	
+	/**
+	 * The type of the MountController
+	 * 
+	 * @see #addOwner(Object, String, String, String)
+	 */
+	public static final String MOUNT_CONTROLLER_TYPE="MountController";
+	
+	/**
+	 * Declare the component whose holders are bound by an owner.
+	 * <P>
+	 * It must be called before binding the holders of the owner.
+	 * 
+	 * @param owner The owner of the holders
+	 * @param antennaName The name of the antenna (for example DV01)
+	 * @param componentName The name of the component (for example CONTROL/DV01/Mount)
+	 * @param componentType The type of the component (the name of the 
+	 * 			{@link alma.control.gui.antennamount.mount.ACSComponentsManager.AntennaType}
+	 * 			of a mount or {@link #MOUNT_CONTROLLER_TYPE})
+	 */
+	public void addOwner(Object owner, String antennaName, String componentName, String componentType);
+	
+	/**
+	 * Bind a {@link DoubleValueHolder}
+	 * 
+	 * @param owner The owner of the holder
+	 * @param channel The channel
+	 * @param holder The holder (ignored if <code>null</code>)
+	 */
+	public void addChannel(Object owner, TelemetryChannel channel, DoubleValueHolder holder);
+	
+	/**
+	 * Bind a {@link BooleanValueHolder}
+	 * 
+	 * @param owner The owner of the holder
+	 * @param channel The channel
+	 * @param holder The holder (ignored if <code>null</code>)
+	 */
+	public void addChannel(Object owner, TelemetryChannel channel, BooleanValueHolder holder);
+	
+	/**
+	 * Bind a {@link ValueHolder} of an array of int
+	 * 
+	 * @param owner The owner of the holder
+	 * @param channel The channel
+	 * @param holder The holder (ignored if <code>null</code>)
+	 */
+	public void addIntArrayChannel(Object owner, TelemetryChannel channel, ValueHolder<int[]> holder);
+	
+	/**
+	 * Bind a {@link ValueHolder} of {@link Coordinates}
+	 * 
+	 * @param owner The owner of the holder
+	 * @param channel The channel
+	 * @param holder The holder (ignored if <code>null</code>)
+	 */
+	public void addCoordinatesChannel(Object owner, TelemetryChannel channel, ValueHolder<Coordinates> holder);
+	
+	/**
+	 * Release all the holders bound by an owner
+	 * 
+	 * @param owner The owner of the holders
+	 */
+	public void removeChannels(Object owner);
+}
@@ -0,0 +1,131 @@
+/*
+ * ALMA - Atacama Large Millimiter Array (c) European Southern Observatory, 2007
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ */
+package alma.control.gui.antennamount.telemetry;
+
+import alma.control.gui.antennamount.mount.StatusWord;
+
+/**
+ * The properties recorded by the {@link TelemetryRecorder}.
+ * <P>
+ * Each channel is identified in the files by its ID: the IDs
+ * must never change so that the files recorded by older versions 
+ * of the panel can be read.
+ * 
+ * @author acaproni
+ *
+ */
+public enum TelemetryChannel {
+	// Mount status data
+	AZ_ENCODER(1),
+	EL_ENCODER(2),
+	AZ_POSITION(3),
+	EL_POSITION(4),
+	AZ_COMMANDED(5),
+	EL_COMMANDED(6),
+	ON_TARGET(7),
+	
+	// Status words
+	SYSTEM_STATUS(20),
+	SYSTEM_STATUS_2(21),
+	AZ_STATUS(22),
+	AZ_STATUS_2(23),
+	EL_STATUS(24),
+	EL_STATUS_2(25),
+	POWER_STATUS(26),
+	
+	// Metrology
+	METROLOGY_TEMPS(40),
+	METROLOGY_DELTAS(41),
+	
+	// Subreflector
+	SUBREFLECTOR_POSITION(50),
+	SUBREFLECTOR_DELTA(51),
+	SUBREFLECTOR_ROTATION(52),
+	
+	// Mount controller
+	ACTUAL_AZ(60),
+	ACTUAL_EL(61),
+	COMMAND_AZ(62),
+	COMMAND_EL(63),
+	ACTUAL_RA(64),
+	ACTUAL_DEC(65),
+	COMMAND_RA(66),
+	COMMAND_DEC(67),
+	OFFSET_AZ(68),
+	OFFSET_EL(69),
+	OFFSET_RA(70),
+	OFFSET_DEC(71),
+	ON_SOURCE(72);
+	
+	/**
+	 * The ID of the channel in the files
+	 */
+	public final short id;
+	
+	/**
+	 * The channels indexed by ID
+	 */
+	private static final TelemetryChannel[] byId;
+	
+	static {
+		int max=0;
+		for (TelemetryChannel channel: values()) {
+			max=Math.max(max, channel.id);
+		}
+		byId = new TelemetryChannel[max+1];
+		for (TelemetryChannel channel: values()) {
+			byId[channel.id]=channel;
+		}
+	}
+	
+	/**
+	 * Constructor
+	 * 
+	 * @param id The ID of the channel in the files
+	 */
+	private TelemetryChannel(int id) {
+		this.id=(short)id;
+	}
+	
+	/**
+	 * Return the channel with the given ID
+	 * 
+	 * @param id The ID of the channel
+	 * @return The channel or <code>null</code> if there is no channel with such ID
+	 */
+	public static TelemetryChannel fromId(int id) {
+		if (id<0 || id>=byId.length) {
+			return null;
+		}
+		return byId[id];
+	}
+	
+	/**
+	 * Return the channel of a status word
+	 * 
+	 * @param status The status word
+	 * @return The channel of the status word
+	 */
+	public static TelemetryChannel fromStatusWord(StatusWord status) {
+		if (status==null) {
+			throw new IllegalArgumentException("Invalid null status word");
+		}
+		return valueOf(status.name());
+	}
+}
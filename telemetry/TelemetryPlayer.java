@@ -0,0 +1,564 @@
+/*
+ * ALMA - Atacama Large Millimiter Array (c) European Southern Observatory, 2007
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ */
+package alma.control.gui.antennamount.telemetry;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Vector;
+import java.util.logging.Logger;
+
+import alma.acs.logging.AcsLogLevel;
+
+import alma.control.gui.antennamount.mount.BooleanValueHolder;
+import alma.control.gui.antennamount.mount.DoubleValueHolder;
+import alma.control.gui.antennamount.mount.ISubreflector.Coordinates;
+import alma.control.gui.antennamount.mount.ValueHolder;
+
+/**
+ * Replay the telemetry recorded by the {@link TelemetryRecorder}
+ * by setting the values of the records in the bound holders.
+ * <P>
+ * The records are replayed with the same timing they have been recorded
+ * divided by the speed: with a speed of 10 one minute of telemetry
+ * is replayed in 6 seconds. With a speed of {@link Double#POSITIVE_INFINITY} 
+ * the records are replayed as fast as possible.
+ * <P>
+ * The holders are set with the time of the replay (not with the recorded time)
+ * so that the panels do not consider the values too old.
+ * <P>
+ * The thread starts reading the records when {@link #startPlaying()} is called
+ * the first time and terminates at the end of the last segment.
+ * <P>
+ * Only the records of the antenna of the first owner added 
+ * (see {@link #addOwner(Object, String, String, String)}) are replayed,
+ * optionally only those of a session, 
+ * and each record is set in the holders of its component:
+ * the owners of other antennas are ignored.
+ * The records of the components are merged by time by the {@link TelemetryReader}.
+ * When no record has been recorded for more than {@link #MAX_GAP} msecs 
+ * (for example between two sessions) the replay continues immediately
+ * with the next record instead of waiting for the gap.
+ * The records of a channel without holders are discarded.
+ * <P>
+ * The lag is the delay between the time a record should have been replayed
+ * and the time it has been effectively replayed: a lag that grows 
+ * means that the holders and the listeners of the holders do not keep up
+ * with the speed of the replay.
+ * 
+ * @author acaproni
+ *
+ */
+public class TelemetryPlayer extends Thread implements TelemetryBinder {
+	
+	/**
+	 * A holder bound to a channel
+	 * 
+	 * @author acaproni
+	 *
+	 */
+	private abstract static class Target {
+		
+		/**
+		 * The owner of the holder
+		 */
+		public final Object owner;
+		
+		/**
+		 * Constructor
+		 * 
+		 * @param owner The owner of the holder
+		 */
+		public Target(Object owner) {
+			if (owner==null) {
+				throw new IllegalArgumentException("Invalid null owner");
+			}
+			this.owner=owner;
+		}
+		
+		/**
+		 * Set the holder with the value of the current record of the reader
+		 * 
+		 * @param reader The reader 
+		 * @param time The time to set in the holder
+		 */
+		public abstract void set(TelemetryReader reader, long time);
+	}
+	
+	/**
+	 * A {@link DoubleValueHolder} bound to a channel
+	 * 
+	 * @author acaproni
+	 *
+	 */
+	private static class DoubleTarget extends Target {
+		private final DoubleValueHolder holder;
+		
+		public DoubleTarget(Object owner, DoubleValueHolder holder) {
+			super(owner);
+			this.holder=holder;
+		}
+		
+		public void set(TelemetryReader reader, long time) {
+			if (reader.getKind()==TelemetryRecorder.DOUBLE) {
+				holder.setValue(reader.getDouble(), time);
+			} else {
+				holder.clear();
+			}
+		}
+	}
+	
+	/**
+	 * A {@link BooleanValueHolder} bound to a channel
+	 * 
+	 * @author acaproni
+	 *
+	 */
+	private static class BooleanTarget extends Target {
+		private final BooleanValueHolder holder;
+		
+		public BooleanTarget(Object owner, BooleanValueHolder holder) {
+			super(owner);
+			this.holder=holder;
+		}
+		
+		public void set(TelemetryReader reader, long time) {
+			if (reader.getKind()==TelemetryRecorder.BOOLEAN) {
+				holder.setValue(reader.getBoolean(), time);
+			} else {
+				holder.clear();
+			}
+		}
+	}
+	
+	/**
+	 * A {@link ValueHolder} of an array of int bound to a channel
+	 * 
+	 * @author acaproni
+	 *
+	 */
+	private static class IntArrayTarget extends Target {
+		private final ValueHolder<int[]> holder;
+		
+		public IntArrayTarget(Object owner, ValueHolder<int[]> holder) {
+			super(owner);
+			this.holder=holder;
+		}
+		
+		public void set(TelemetryReader reader, long time) {
+			if (reader.getKind()==TelemetryRecorder.INT_ARRAY) {
+				holder.setValue(reader.getIntArray(), time);
+			} else {
+				holder.setValue(null, time);
+			}
+		}
+	}
+	
+	/**
+	 * A {@link ValueHolder} of {@link Coordinates} bound to a channel
+	 * 
+	 * @author acaproni
+	 *
+	 */
+	private static class CoordinatesTarget extends Target {
+		private final ValueHolder<Coordinates> holder;
+		
+		public CoordinatesTarget(Object owner, ValueHolder<Coordinates> holder) {
+			super(owner);
+			this.holder=holder;
+		}
+		
+		public void set(TelemetryReader reader, long time) {
+			double[] vals=reader.getDoubleArray();
+			if (reader.getKind()==TelemetryRecorder.DOUBLE_ARRAY && vals.length==3) {
+				holder.setValue(new Coordinates(vals[0],vals[1],vals[2]), time);
+			} else {
+				holder.setValue(null, time);
+			}
+		}
+	}
+	
+	/**
+	 * The streams recorded in the folder
+	 */
+	private final List<TelemetryStream> streams;
+	
+	/**
+	 * The antenna to replay 
+	 * (<code>null</code> until the first owner is added)
+	 */
+	private String antennaName=null;
+	
+	/**
+	 * The name of the component of each owner
+	 */
+	private final HashMap<Object, String> owners = new HashMap<Object, String>();
+	
+	/**
+	 * The max time (msec) between two recorded records replayed with 
+	 * their timing: a longer gap is skipped.
+	 * <P>
+	 * The recorder writes at least a record every {@link TelemetryRecorder#KEEPALIVE_TIME}
+	 * while a component is polled.
+	 */
+	public static final long MAX_GAP=2*TelemetryRecorder.KEEPALIVE_TIME;
+	
+	/**
+	 * The speed of the replay
+	 */
+	private final double speed;
+	
+	/**
+	 * The session to replay (<code>null</code> to replay all the sessions)
+	 */
+	private final String session;
+	
+	/**
+	 * The logger
+	 */
+	private final Logger logger;
+	
+	/**
+	 * The holders bound to each channel of each component
+	 */
+	private final HashMap<String, EnumMap<TelemetryChannel, Vector<Target>>> targets = new HashMap<String, EnumMap<TelemetryChannel,Vector<Target>>>();
+	
+	/**
+	 * Signal the thread to terminate
+	 */
+	private volatile boolean terminateThread=false;
+	
+	/**
+	 * The number of records replayed so far
+	 */
+	private volatile long playedRecords=0;
+	
+	/**
+	 * The max lag (msec) of the records replayed so far
+	 */
+	private volatile long maxLag=0;
+	
+	/**
+	 * The time when the replay started (0 if not yet started)
+	 */
+	private volatile long startTime=0;
+	
+	/**
+	 * The time when the replay terminated (0 if not yet terminated)
+	 */
+	private volatile long endTime=0;
+	
+	/**
+	 * Constructor
+	 * 
+	 * @param folder The folder with the segments to replay
+	 * @param speed The speed of the replay (1 to replay in real time)
+	 * @param session The session to replay (<code>null</code> to replay all the sessions)
+	 * @param logger The logger
+	 * @throws IllegalArgumentException If the folder contains no telemetry or
+	 * 			the segments cannot be read
+	 */
+	public TelemetryPlayer(File folder, double speed, String session, Logger logger) {
+		super("TelemetryPlayer");
+		if (Double.isNaN(speed) || speed<=0) {
+			throw new IllegalArgumentException("Invalid speed "+speed);
+		}
+		if (logger==null) {
+			throw new IllegalArgumentException("Invalid null logger");
+		}
+		this.logger=logger;
+		try {
+			streams=TelemetryReader.listStreams(folder);
+		} catch (IOException e) {
+			throw new IllegalArgumentException("Error reading the telemetry in "+folder.getPath()+": "+e.getMessage(), e);
+		}
+		if (TelemetryReader.selectStreams(streams, null, session).isEmpty()) {
+			throw new IllegalArgumentException("No telemetry in "+folder.getPath()+((session==null)?"":" for session "+session));
+		}
+		this.speed=speed;
+		this.session=session;
+		setDaemon(true);
+	}
+	
+	/**
+	 * Start the replay if it has not yet been started
+	 */
+	public synchronized void startPlaying() {
+		if (getState()==Thread.State.NEW) {
+			start();
+		}
+	}
+	
+	/**
+	 * 
+	 * @return The session to replay (<code>null</code> if all the sessions are replayed)
+	 */
+	public String getSession() {
+		return session;
+	}
+	
+	/**
+	 * 
+	 * @return The streams recorded in the folder
+	 */
+	public List<TelemetryStream> getStreams() {
+		return streams;
+	}
+	
+	/**
+	 * Set the antenna to replay if not yet set and bind the owner to its component.
+	 * <P>
+	 * The owners of other antennas are ignored.
+	 * 
+	 * @see TelemetryBinder#addOwner(Object, String, String, String)
+	 */
+	public synchronized void addOwner(Object owner, String antenna, String componentName, String componentType) {
+		if (owner==null) {
+			throw new IllegalArgumentException("Invalid null owner");
+		}
+		if (antenna==null || antenna.length()==0) {
+			throw new IllegalArgumentException("Invalid antenna name "+antenna);
+		}
+		if (componentName==null || componentName.length()==0) {
+			throw new IllegalArgumentException("Invalid component name "+componentName);
+		}
+		if (antennaName==null) {
+			antennaName=antenna;
+		}
+		if (antennaName.equals(antenna)) {
+			owners.put(owner, componentName);
+		}
+	}
+	
+	/**
+	 * Bind a target to a channel of the component of its owner
+	 * 
+	 * @param channel The channel
+	 * @param target The target
+	 */
+	private synchronized void addTarget(TelemetryChannel channel, Target target) {
+		if (channel==null) {
+			throw new IllegalArgumentException("Invalid null channel");
+		}
+		String componentName=owners.get(target.owner);
+		if (componentName==null) {
+			// Owner of another antenna 
+			return;
+		}
+		EnumMap<TelemetryChannel, Vector<Target>> componentTargets = targets.get(componentName);
+		if (componentTargets==null) {
+			componentTargets = new EnumMap<TelemetryChannel, Vector<Target>>(TelemetryChannel.class);
+			targets.put(componentName, componentTargets);
+		}
+		Vector<Target> channelTargets = componentTargets.get(channel);
+		if (channelTargets==null) {
+			channelTargets = new Vector<Target>();
+			componentTargets.put(channel, channelTargets);
+		}
+		channelTargets.add(target);
+	}
+	
+	/**
+	 * @see TelemetryBinder#addChannel(Object, TelemetryChannel, DoubleValueHolder)
+	 */
+	public void addChannel(Object owner, TelemetryChannel channel, DoubleValueHolder holder) {
+		if (holder!=null) {
+			addTarget(channel, new DoubleTarget(owner, holder));
+		}
+	}
+	
+	/**
+	 * @see TelemetryBinder#addChannel(Object, TelemetryChannel, BooleanValueHolder)
+	 */
+	public void addChannel(Object owner, TelemetryChannel channel, BooleanValueHolder holder) {
+		if (holder!=null) {
+			addTarget(channel, new BooleanTarget(owner, holder));
+		}
+	}
+	
+	/**
+	 * @see TelemetryBinder#addIntArrayChannel(Object, TelemetryChannel, ValueHolder)
+	 */
+	public void addIntArrayChannel(Object owner, TelemetryChannel channel, ValueHolder<int[]> holder) {
+		if (holder!=null) {
+			addTarget(channel, new IntArrayTarget(owner, holder));
+		}
+	}
+	
+	/**
+	 * @see TelemetryBinder#addCoordinatesChannel(Object, TelemetryChannel, ValueHolder)
+	 */
+	public void addCoordinatesChannel(Object owner, TelemetryChannel channel, ValueHolder<Coordinates> holder) {
+		if (holder!=null) {
+			addTarget(channel, new CoordinatesTarget(owner, holder));
+		}
+	}
+	
+	/**
+	 * @see TelemetryBinder#removeChannels(Object)
+	 */
+	public synchronized void removeChannels(Object owner) {
+		String componentName=owners.remove(owner);
+		EnumMap<TelemetryChannel, Vector<Target>> componentTargets=(componentName==null)?null:targets.get(componentName);
+		if (componentTargets==null) {
+			return;
+		}
+		for (Vector<Target> channelTargets: componentTargets.values()) {
+			synchronized (channelTargets) {
+				Iterator<Target> iter = channelTargets.iterator();
+				while (iter.hasNext()) {
+					if (iter.next().owner==owner) {
+						iter.remove();
+					}
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Replay the records
+	 */
+	public void run() {
+		startTime=System.currentTimeMillis();
+		// The replay time of timelineRecordTime: the records are due
+		// relative to this pair that moves forward when a gap is skipped 
+		long timelineStart=startTime;
+		long timelineRecordTime=0;
+		long lastRecordTime=0;
+		boolean first=true;
+		TelemetryReader reader;
+		synchronized (this) {
+			reader = new TelemetryReader(TelemetryReader.selectStreams(streams, antennaName, session));
+		}
+		try {
+			while (!terminateThread && reader.next()) {
+				long now=System.currentTimeMillis();
+				if (first || reader.getTime()-lastRecordTime>MAX_GAP) {
+					// Nothing recorded in the gap: replay this record now
+					if (!first) {
+						logger.log(AcsLogLevel.DEBUG,"Telemetry replay: skipped "+(reader.getTime()-lastRecordTime)+" msecs without records");
+					}
+					timelineStart=now;
+					timelineRecordTime=reader.getTime();
+					first=false;
+				}
+				lastRecordTime=Math.max(lastRecordTime, reader.getTime());
+				if (!Double.isInfinite(speed)) {
+					long due=timelineStart+(long)((reader.getTime()-timelineRecordTime)/speed);
+					if (due>now) {
+						try {
+							Thread.sleep(due-now);
+						} catch (InterruptedException ie) {
+							if (terminateThread) {
+								break;
+							}
+						}
+						now=System.currentTimeMillis();
+					}
+					maxLag=Math.max(maxLag, now-due);
+				}
+				Vector<Target> channelTargets=null;
+				synchronized (this) {
+					EnumMap<TelemetryChannel, Vector<Target>> componentTargets=targets.get(reader.getComponentName());
+					if (componentTargets!=null) {
+						channelTargets=componentTargets.get(reader.getChannel());
+					}
+				}
+				if (channelTargets!=null) {
+					synchronized (channelTargets) {
+						for (Target target: channelTargets) {
+							target.set(reader, now);
+						}
+					}
+				}
+				playedRecords++;
+			}
+		} catch (IOException e) {
+			logger.log(AcsLogLevel.ERROR,"Error replaying the telemetry",e);
+		} finally {
+			reader.close();
+			endTime=System.currentTimeMillis();
+		}
+		logger.log(AcsLogLevel.INFO,"Telemetry replay terminated: "+playedRecords+" records in "+(endTime-startTime)+" msecs, max lag "+maxLag+" msecs");
+	}
+	
+	/**
+	 * Stop the replay and wait the termination of the thread.
+	 * <P>
+	 * If the calling thread is interrupted while waiting, it keeps waiting 
+	 * and its interrupted state is restored before returning.
+	 */
+	public void close() {
+		terminateThread=true;
+		interrupt();
+		boolean terminated=false;
+		boolean interrupted=false;
+		while (!terminated) {
+			try {
+				join();
+				terminated=true;
+			} catch (InterruptedException ie) {
+				interrupted=true;
+			}
+		}
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+	
+	/**
+	 * 
+	 * @return The number of records replayed so far
+	 */
+	public long getPlayedRecords() {
+		return playedRecords;
+	}
+	
+	/**
+	 * 
+	 * @return The max lag (msec) of the records replayed so far
+	 */
+	public long getMaxLag() {
+		return maxLag;
+	}
+	
+	/**
+	 * 
+	 * @return The number of records replayed per second
+	 */
+	public double getThroughput() {
+		long start=startTime;
+		if (start==0) {
+			return 0;
+		}
+		long end=(endTime==0)?System.currentTimeMillis():endTime;
+		return (end==start)?0:playedRecords*1000.0/(end-start);
+	}
+	
+	/**
+	 * 
+	 * @return The speed of the replay
+	 */
+	public double getSpeed() {
+		return speed;
+	}
+}
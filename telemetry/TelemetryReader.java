@@ -0,0 +1,575 @@
+/*
+ * ALMA - Atacama Large Millimiter Array (c) European Southern Observatory, 2007
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ */
+package alma.control.gui.antennamount.telemetry;
+
+import java.io.File;
+import java.io.FileFilter;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Vector;
+
+/**
+ * Read the records of the segments written by the {@link TelemetryRecorder}.
+ * <P>
+ * The reader is a cursor: {@link #next()} moves to the next record
+ * whose fields are then returned by the getters.
+ * The records of the channels unknown to this version of the panel
+ * are skipped.
+ * <P>
+ * The segments of a folder are grouped in streams, one for each component
+ * and session, by reading their headers (see {@link #listStreams(File)}).
+ * The reader reads the records of the streams passed in the constructor 
+ * and tells the antenna and the component of each record.
+ * The segments of a stream are read in the order they have been written and
+ * the records of the streams are merged by time so that the streams recorded 
+ * at the same time (for example the mount and the controller of an antenna)
+ * are read together.
+ * Each segment is mapped in memory while being read.
+ * 
+ * @author acaproni
+ *
+ */
+public class TelemetryReader {
+	
+	/**
+	 * The header of a segment
+	 * 
+	 * @author acaproni
+	 *
+	 */
+	private static class Header {
+		public final int number;
+		public final String antennaName;
+		public final String componentName;
+		public final String componentType;
+		public final String session;
+		
+		public Header(int number, String antennaName, String componentName, String componentType, String session) {
+			this.number=number;
+			this.antennaName=antennaName;
+			this.componentName=componentName;
+			this.componentType=componentType;
+			this.session=session;
+		}
+	}
+	
+	/**
+	 * Read the records of the segments of a stream
+	 * 
+	 * @author acaproni
+	 *
+	 */
+	private static class StreamCursor {
+		
+		/**
+		 * The stream to read
+		 */
+		public final TelemetryStream stream;
+		
+		/**
+		 * The position of the stream in the reader
+		 * (orders the records with the same time)
+		 */
+		public final int index;
+		
+		/**
+		 * The segments to read
+		 */
+		private final File[] segments;
+		
+		/**
+		 * The index in {@link #segments} of the next segment to read
+		 */
+		private int nextSegment=0;
+		
+		/**
+		 * The segment being read
+		 * (<code>null</code> before the first record and at the end)
+		 */
+		private MappedByteBuffer segment=null;
+		
+		/**
+		 * The kind of the current record
+		 */
+		private byte kind;
+		
+		/**
+		 * The channel of the current record
+		 */
+		private TelemetryChannel channel;
+		
+		/**
+		 * The time of the current record
+		 */
+		private long time;
+		
+		/**
+		 * The value of the current record of kind {@link TelemetryRecorder#DOUBLE}
+		 */
+		private double doubleValue;
+		
+		/**
+		 * The value of the current record of kind {@link TelemetryRecorder#BOOLEAN}
+		 */
+		private boolean booleanValue;
+		
+		/**
+		 * The value of the current record of kind {@link TelemetryRecorder#INT_ARRAY}
+		 */
+		private int[] intArrayValue;
+		
+		/**
+		 * The value of the current record of kind {@link TelemetryRecorder#DOUBLE_ARRAY}
+		 */
+		private double[] doubleArrayValue;
+		
+		/**
+		 * Constructor
+		 * 
+		 * @param stream The stream to read
+		 * @param index The position of the stream in the reader
+		 */
+		public StreamCursor(TelemetryStream stream, int index) {
+			if (stream==null) {
+				throw new IllegalArgumentException("Invalid null stream");
+			}
+			this.stream=stream;
+			this.index=index;
+			segments=stream.getSegments();
+		}
+		
+		/**
+		 * Move to the next record of the stream
+		 * 
+		 * @return <code>true</code> if there is a record;
+		 * 		<code>false</code> at the end of the last segment
+		 * @throws IOException In case of error reading a segment
+		 */
+		public boolean next() throws IOException {
+			while (true) {
+				if (segment==null || segment.remaining()<TelemetryRecorder.RECORD_HEADER_SIZE || segment.get(segment.position())==TelemetryRecorder.END) {
+					if (!openNextSegment()) {
+						return false;
+					}
+					continue;
+				}
+				kind=segment.get();
+				short id=segment.getShort();
+				time=segment.getLong();
+				readPayload();
+				channel=TelemetryChannel.fromId(id);
+				if (channel!=null) {
+					return true;
+				}
+			}
+		}
+		
+		/**
+		 * Read the payload of the current record
+		 * 
+		 * @throws IOException If the kind of record is unknown
+		 */
+		private void readPayload() throws IOException {
+			switch (kind) {
+			case TelemetryRecorder.DOUBLE: {
+				doubleValue=segment.getDouble();
+				break;
+			}
+			case TelemetryRecorder.BOOLEAN: {
+				booleanValue=segment.get()!=0;
+				break;
+			}
+			case TelemetryRecorder.INT_ARRAY: {
+				// The arrays are stored in the holders: a new array for each record
+				intArrayValue = new int[segment.getShort()];
+				for (int t=0; t<intArrayValue.length; t++) {
+					intArrayValue[t]=segment.getInt();
+				}
+				break;
+			}
+			case TelemetryRecorder.DOUBLE_ARRAY: {
+				doubleArrayValue = new double[segment.getShort()];
+				for (int t=0; t<doubleArrayValue.length; t++) {
+					doubleArrayValue[t]=segment.getDouble();
+				}
+				break;
+			}
+			case TelemetryRecorder.NOT_AVAILABLE: {
+				break;
+			}
+			default: {
+				throw new IOException("Unknown kind of record "+kind+" in "+segments[nextSegment-1].getPath());
+			}
+			}
+		}
+		
+		/**
+		 * Map the next segment and check its header
+		 * 
+		 * @return <code>false</code> if there are no more segments
+		 * @throws IOException In case of error mapping the segment or if
+		 * 			the segment does not belong to the stream
+		 */
+		private boolean openNextSegment() throws IOException {
+			segment=null;
+			if (nextSegment>=segments.length) {
+				return false;
+			}
+			File file=segments[nextSegment++];
+			MappedByteBuffer buffer=map(file);
+			Header header=readHeader(buffer, file);
+			if (!stream.isStreamOf(header.componentName, header.session)) {
+				throw new IOException(file.getPath()+" does not belong to the stream of "+stream.getComponentName());
+			}
+			segment=buffer;
+			return true;
+		}
+		
+		/**
+		 * Release the segment being read
+		 */
+		public void close() {
+			segment=null;
+			nextSegment=segments.length;
+		}
+	}
+	
+	/**
+	 * The cursors of the streams to read
+	 */
+	private final StreamCursor[] cursors;
+	
+	/**
+	 * The cursors with a record to read, ordered by the time of their record
+	 */
+	private final PriorityQueue<StreamCursor> queue;
+	
+	/**
+	 * <code>true</code> if the first record of each stream has been read
+	 */
+	private boolean started=false;
+	
+	/**
+	 * The cursor of the current record
+	 * (<code>null</code> before the first record and at the end)
+	 */
+	private StreamCursor current=null;
+	
+	/**
+	 * Constructor
+	 * 
+	 * @param streams The streams to read
+	 */
+	public TelemetryReader(Collection<TelemetryStream> streams) {
+		if (streams==null) {
+			throw new IllegalArgumentException("Invalid null streams");
+		}
+		cursors = new StreamCursor[streams.size()];
+		int t=0;
+		for (TelemetryStream stream: streams) {
+			cursors[t] = new StreamCursor(stream,t);
+			t++;
+		}
+		queue = new PriorityQueue<StreamCursor>(Math.max(1, cursors.length), new Comparator<StreamCursor>() {
+			public int compare(StreamCursor c1, StreamCursor c2) {
+				if (c1.time!=c2.time) {
+					return (c1.time<c2.time)?-1:1;
+				}
+				return c1.index-c2.index;
+			}
+		});
+	}
+	
+	/**
+	 * Constructor
+	 * 
+	 * @param folder The folder with the segments to read
+	 * @param antennaName The name of the antenna whose records must be read
+	 * 			(<code>null</code> to read the records of all the antennas)
+	 * @param session The session whose records must be read
+	 * 			(<code>null</code> to read the records of all the sessions)
+	 * @throws IOException In case of error reading the headers of the segments
+	 */
+	public TelemetryReader(File folder, String antennaName, String session) throws IOException {
+		this(selectStreams(listStreams(folder), antennaName, session));
+	}
+	
+	/**
+	 * List the streams of the segments in a folder.
+	 * <P>
+	 * The header of each segment is read to know the antenna, the component
+	 * and the session it belongs to.
+	 * 
+	 * @param folder The folder with the segments
+	 * @return The streams ordered by session and component
+	 * @throws IOException In case of error reading a segment or if
+	 * 			a segment has not been written by the {@link TelemetryRecorder}
+	 */
+	public static List<TelemetryStream> listStreams(File folder) throws IOException {
+		if (folder==null) {
+			throw new IllegalArgumentException("Invalid null folder");
+		}
+		if (!folder.isDirectory()) {
+			throw new IllegalArgumentException(folder.getPath()+" is not a folder");
+		}
+		File[] files=folder.listFiles(new FileFilter() {
+			public boolean accept(File f) {
+				return f.isFile() && f.getName().endsWith(TelemetryRecorder.EXTENSION);
+			}
+		});
+		Vector<TelemetryStream> streams = new Vector<TelemetryStream>();
+		if (files==null) {
+			return streams;
+		}
+		for (File file: files) {
+			Header header=readHeader(map(file), file);
+			TelemetryStream stream=null;
+			for (TelemetryStream s: streams) {
+				if (s.isStreamOf(header.componentName, header.session)) {
+					stream=s;
+					break;
+				}
+			}
+			if (stream==null) {
+				stream = new TelemetryStream(header.antennaName, header.componentName, header.componentType, header.session);
+				streams.add(stream);
+			}
+			stream.addSegment(header.number, file);
+		}
+		Collections.sort(streams, new Comparator<TelemetryStream>() {
+			public int compare(TelemetryStream s1, TelemetryStream s2) {
+				int ret=s1.getSession().compareTo(s2.getSession());
+				return (ret!=0)?ret:s1.getComponentName().compareTo(s2.getComponentName());
+			}
+		});
+		return streams;
+	}
+	
+	/**
+	 * Select the streams of an antenna in a session
+	 * 
+	 * @param streams The streams
+	 * @param antennaName The name of the antenna
+	 * 			(<code>null</code> to select the streams of all the antennas)
+	 * @param session The session
+	 * 			(<code>null</code> to select the streams of all the sessions)
+	 * @return The selected streams
+	 */
+	public static List<TelemetryStream> selectStreams(Collection<TelemetryStream> streams, String antennaName, String session) {
+		if (streams==null) {
+			throw new IllegalArgumentException("Invalid null streams");
+		}
+		Vector<TelemetryStream> ret = new Vector<TelemetryStream>();
+		for (TelemetryStream stream: streams) {
+			if ((antennaName==null || antennaName.equals(stream.getAntennaName())) &&
+					(session==null || session.equals(stream.getSession()))) {
+				ret.add(stream);
+			}
+		}
+		return ret;
+	}
+	
+	/**
+	 * Map a segment in memory
+	 * 
+	 * @param file The file of the segment
+	 * @return The mapped segment
+	 * @throws IOException In case of error mapping the file
+	 */
+	private static MappedByteBuffer map(File file) throws IOException {
+		RandomAccessFile raf = new RandomAccessFile(file, "r");
+		try {
+			return raf.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, raf.length());
+		} finally {
+			raf.close();
+		}
+	}
+	
+	/**
+	 * Read and check the header of a segment.
+	 * <P>
+	 * At the end the position of the buffer is the first record.
+	 * 
+	 * @param segment The segment
+	 * @param file The file of the segment
+	 * @return The header
+	 * @throws IOException If the segment has not been written by the {@link TelemetryRecorder}
+	 */
+	private static Header readHeader(MappedByteBuffer segment, File file) throws IOException {
+		if (segment.remaining()<TelemetryRecorder.HEADER_SIZE || segment.getInt()!=TelemetryRecorder.MAGIC) {
+			throw new IOException(file.getPath()+" is not a telemetry file");
+		}
+		short version=segment.getShort();
+		if (version!=TelemetryRecorder.FORMAT_VERSION) {
+			throw new IOException("Unsupported version "+version+" of "+file.getPath());
+		}
+		// Creation time of the segment
+		segment.getLong();
+		int number=segment.getInt();
+		String antennaName=getString(segment, file);
+		String componentName=getString(segment, file);
+		String componentType=getString(segment, file);
+		String session=getString(segment, file);
+		return new Header(number, antennaName, componentName, componentType, session);
+	}
+	
+	/**
+	 * Read a string of the header of a segment
+	 * 
+	 * @param segment The segment
+	 * @param file The file of the segment
+	 * @return The string
+	 * @throws IOException If the header is truncated
+	 */
+	private static String getString(MappedByteBuffer segment, File file) throws IOException {
+		if (segment.remaining()<2) {
+			throw new IOException("Truncated header in "+file.getPath());
+		}
+		int len=segment.getShort();
+		if (len<0 || segment.remaining()<len) {
+			throw new IOException("Truncated header in "+file.getPath());
+		}
+		byte[] bytes = new byte[len];
+		segment.get(bytes);
+		return new String(bytes, "UTF-8");
+	}
+	
+	/**
+	 * Move to the next record
+	 * 
+	 * The next record is the oldest among the next records of the streams.
+	 * 
+	 * @return <code>true</code> if there is a record;
+	 * 		<code>false</code> at the end of all the streams
+	 * @throws IOException In case of error reading a segment
+	 */
+	public boolean next() throws IOException {
+		if (!started) {
+			started=true;
+			for (StreamCursor cursor: cursors) {
+				if (cursor.next()) {
+					queue.add(cursor);
+				}
+			}
+		} else if (current!=null && current.next()) {
+			queue.add(current);
+		}
+		current=queue.poll();
+		return current!=null;
+	}
+	
+	/**
+	 * 
+	 * @return The name of the antenna of the current record
+	 */
+	public String getAntennaName() {
+		return current.stream.getAntennaName();
+	}
+	
+	/**
+	 * 
+	 * @return The name of the component of the current record
+	 */
+	public String getComponentName() {
+		return current.stream.getComponentName();
+	}
+	
+	/**
+	 * 
+	 * @return The kind of the current record
+	 */
+	public byte getKind() {
+		return current.kind;
+	}
+	
+	/**
+	 * 
+	 * @return The channel of the current record
+	 */
+	public TelemetryChannel getChannel() {
+		return current.channel;
+	}
+	
+	/**
+	 * 
+	 * @return The time of the current record
+	 */
+	public long getTime() {
+		return current.time;
+	}
+	
+	/**
+	 * 
+	 * @return <code>true</code> if the value of the current record is available
+	 */
+	public boolean isAvailable() {
+		return current.kind!=TelemetryRecorder.NOT_AVAILABLE;
+	}
+	
+	/**
+	 * 
+	 * @return The value of the current record of kind {@link TelemetryRecorder#DOUBLE}
+	 */
+	public double getDouble() {
+		return current.doubleValue;
+	}
+	
+	/**
+	 * 
+	 * @return The value of the current record of kind {@link TelemetryRecorder#BOOLEAN}
+	 */
+	public boolean getBoolean() {
+		return current.booleanValue;
+	}
+	
+	/**
+	 * 
+	 * @return The value of the current record of kind {@link TelemetryRecorder#INT_ARRAY}
+	 */
+	public int[] getIntArray() {
+		return current.intArrayValue;
+	}
+	
+	/**
+	 * 
+	 * @return The value of the current record of kind {@link TelemetryRecorder#DOUBLE_ARRAY}
+	 */
+	public double[] getDoubleArray() {
+		return current.doubleArrayValue;
+	}
+	
+	/**
+	 * Release the segments being read
+	 */
+	public void close() {
+		for (StreamCursor cursor: cursors) {
+			cursor.close();
+		}
+		queue.clear();
+		current=null;
+		started=true;
+	}
+}
@@ -0,0 +1,711 @@
+/*
+ * ALMA - Atacama Large Millimiter Array (c) European Southern Observatory, 2007
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ */
+package alma.control.gui.antennamount.telemetry;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UnsupportedEncodingException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Vector;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import alma.acs.util.IsoDateFormat;
+import alma.control.gui.antennamount.mount.BooleanValueHolder;
+import alma.control.gui.antennamount.mount.DoubleValueHolder;
+import alma.control.gui.antennamount.mount.ISubreflector.Coordinates;
+import alma.control.gui.antennamount.mount.ValueHolder;
+
+/**
+ * Record the values polled from the components in binary files.
+ * <P>
+ * The threads polling the components declare their component with 
+ * {@link #addOwner(Object, String, String, String)}, register the {@link ValueHolder}s 
+ * to record (the channels) and call {@link #sample(Object)} at the end of each
+ * iteration: the values of the holders updated since the previous sample are 
+ * appended to the current segment of the stream of the component.
+ * Each component has its own stream of segments so that the records of 
+ * different antennas and components, even if written in the same folder 
+ * by several panels, are never mixed.
+ * To save space, a value equal to the last recorded one is recorded again only 
+ * after {@link #KEEPALIVE_TIME} msec so that the replayed values never look too old.
+ * <P>
+ * The segments are files of {@link #SEGMENT_SIZE} bytes mapped in memory:
+ * writing a record does not need any system call.
+ * The name of each segment is {@link #filePrefix}_antenna_component_session_N.tlm where
+ * session is the time when this object has been created followed by a number 
+ * unique in the JVM, and N the progressive number of the segment in the stream.
+ * The stream of a component that reconnects continues with the next number.
+ * The part of the file after the last record is filled with zeros 
+ * (i.e. {@link #END} records).
+ * <P>
+ * A segment starts with {@link #MAGIC}, {@link #FORMAT_VERSION}, the time
+ * of its creation and its progressive number followed by the names of the antenna
+ * and of the component, the type of the component and the session, each one
+ * written as a <code>short</code> length followed by its UTF-8 bytes.
+ * Each record is made of:
+ * <UL>
+ * 	<LI>the kind of record (<code>byte</code>)
+ * 	<LI>the ID of the {@link TelemetryChannel} (<code>short</code>)
+ * 	<LI>the time of the value (<code>long</code>)
+ * 	<LI>the payload, depending on the kind: a <code>double</code>, a <code>boolean</code>
+ * 		as one byte, an array of <code>int</code> or of <code>double</code> preceded by
+ * 		its length as <code>short</code> or nothing for the not available values
+ * </UL>
+ * 
+ * @author acaproni
+ *
+ */
+public class TelemetryRecorder implements TelemetryBinder {
+	
+	/**
+	 * The first int of each segment
+	 */
+	public static final int MAGIC=0x544C4D31; // TLM1
+	
+	/**
+	 * The version of the format of the segments
+	 */
+	public static final short FORMAT_VERSION=2;
+	
+	/**
+	 * The size of the fixed part of the header of a segment
+	 * (the strings follow)
+	 */
+	public static final int HEADER_SIZE=4+2+8+4;
+	
+	/**
+	 * The size of a record without payload
+	 */
+	public static final int RECORD_HEADER_SIZE=1+2+8;
+	
+	/**
+	 * The extension of the segments
+	 */
+	public static final String EXTENSION=".tlm";
+	
+	// The kinds of records
+	public static final byte END=0;
+	public static final byte DOUBLE=1;
+	public static final byte BOOLEAN=2;
+	public static final byte INT_ARRAY=3;
+	public static final byte DOUBLE_ARRAY=4;
+	public static final byte NOT_AVAILABLE=5;
+	
+	/**
+	 * The size of each segment
+	 */
+	public static final int SEGMENT_SIZE=16*1024*1024;
+	
+	/**
+	 * The max time (msec) between two records of the same value
+	 */
+	public static final long KEEPALIVE_TIME=5000;
+	
+	/**
+	 * The source of the values of a channel
+	 * 
+	 * @author acaproni
+	 *
+	 */
+	private abstract class Source {
+		
+		/**
+		 * The object that registered the channel
+		 */
+		public final Object owner;
+		
+		/**
+		 * The stream to write the records into
+		 */
+		protected final Stream stream;
+		
+		/**
+		 * The channel
+		 */
+		public final TelemetryChannel channel;
+		
+		/**
+		 * The version of the holder in the last sample
+		 */
+		protected long lastVersion=-1;
+		
+		/**
+		 * The time of the last recorded value
+		 */
+		protected long lastRecordTime=Long.MIN_VALUE;
+		
+		/**
+		 * Constructor
+		 * 
+		 * @param stream The stream of the object that registered the channel
+		 * @param channel The channel
+		 */
+		public Source(Stream stream, TelemetryChannel channel) {
+			if (stream==null) {
+				throw new IllegalArgumentException("Invalid null stream");
+			}
+			if (channel==null) {
+				throw new IllegalArgumentException("Invalid null channel");
+			}
+			this.stream=stream;
+			this.owner=stream.owner;
+			this.channel=channel;
+		}
+		
+		/**
+		 * Check if a value must be recorded
+		 * 
+		 * @param version The version of the holder
+		 * @param time The time of the value
+		 * @param changed <code>true</code> if the value differs from the last recorded
+		 * @return <code>true</code> if the value must be recorded
+		 */
+		protected boolean mustRecord(long version, long time, boolean changed) {
+			if (version==lastVersion) {
+				return false;
+			}
+			lastVersion=version;
+			if (!changed && time-lastRecordTime<KEEPALIVE_TIME) {
+				return false;
+			}
+			lastRecordTime=time;
+			return true;
+		}
+		
+		/**
+		 * Record the value of the holder if it has been updated
+		 * 
+		 * @throws IOException In case of error creating a new segment
+		 */
+		public abstract void sample() throws IOException;
+	}
+	
+	/**
+	 * The source of a {@link DoubleValueHolder}
+	 * 
+	 * @author acaproni
+	 *
+	 */
+	private class DoubleSource extends Source {
+		private final DoubleValueHolder holder;
+		private double lastValue=Double.NaN;
+		
+		public DoubleSource(Stream stream, TelemetryChannel channel, DoubleValueHolder holder) {
+			super(stream,channel);
+			if (holder==null) {
+				throw new IllegalArgumentException("Invalid null holder");
+			}
+			this.holder=holder;
+		}
+		
+		public void sample() throws IOException {
+			long version=holder.getVersion();
+			DoubleValueHolder.Snapshot snap=holder.snapshot();
+			boolean changed=Double.doubleToLongBits(snap.value)!=Double.doubleToLongBits(lastValue);
+			if (!mustRecord(version, snap.time, changed)) {
+				return;
+			}
+			lastValue=snap.value;
+			if (Double.isNaN(snap.value)) {
+				stream.writeHeader(NOT_AVAILABLE, channel, snap.time, 0);
+			} else {
+				stream.writeHeader(DOUBLE, channel, snap.time, 8);
+				stream.segment.putDouble(snap.value);
+			}
+		}
+	}
+	
+	/**
+	 * The source of a {@link BooleanValueHolder}
+	 * 
+	 * @author acaproni
+	 *
+	 */
+	private class BooleanSource extends Source {
+		private final BooleanValueHolder holder;
+		private boolean lastAvailable=false;
+		private boolean lastValue=false;
+		
+		public BooleanSource(Stream stream, TelemetryChannel channel, BooleanValueHolder holder) {
+			super(stream,channel);
+			if (holder==null) {
+				throw new IllegalArgumentException("Invalid null holder");
+			}
+			this.holder=holder;
+		}
+		
+		public void sample() throws IOException {
+			long version=holder.getVersion();
+			BooleanValueHolder.Snapshot snap=holder.snapshot();
+			boolean changed=snap.available!=lastAvailable || snap.value!=lastValue;
+			if (!mustRecord(version, snap.time, changed)) {
+				return;
+			}
+			lastAvailable=snap.available;
+			lastValue=snap.value;
+			if (!snap.available) {
+				stream.writeHeader(NOT_AVAILABLE, channel, snap.time, 0);
+			} else {
+				stream.writeHeader(BOOLEAN, channel, snap.time, 1);
+				stream.segment.put(snap.value?(byte)1:(byte)0);
+			}
+		}
+	}
+	
+	/**
+	 * The source of a {@link ValueHolder} of an array of int
+	 * 
+	 * @author acaproni
+	 *
+	 */
+	private class IntArraySource extends Source {
+		private final ValueHolder<int[]> holder;
+		private int[] lastValue=null;
+		
+		public IntArraySource(Stream stream, TelemetryChannel channel, ValueHolder<int[]> holder) {
+			super(stream,channel);
+			if (holder==null) {
+				throw new IllegalArgumentException("Invalid null holder");
+			}
+			this.holder=holder;
+		}
+		
+		public void sample() throws IOException {
+			ValueHolder.Snapshot<int[]> snap=holder.snapshot();
+			int[] vals=snap.value;
+			boolean changed=vals!=lastValue && !Arrays.equals(vals, lastValue);
+			if (!mustRecord(snap.version, snap.time, changed)) {
+				return;
+			}
+			lastValue=vals;
+			if (vals==null) {
+				stream.writeHeader(NOT_AVAILABLE, channel, snap.time, 0);
+			} else {
+				int len=Math.min(vals.length, Short.MAX_VALUE);
+				stream.writeHeader(INT_ARRAY, channel, snap.time, 2+4*len);
+				stream.segment.putShort((short)len);
+				for (int t=0; t<len; t++) {
+					stream.segment.putInt(vals[t]);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * The source of a {@link ValueHolder} of {@link Coordinates}
+	 * recorded as an array of 3 double
+	 * 
+	 * @author acaproni
+	 *
+	 */
+	private class CoordinatesSource extends Source {
+		private final ValueHolder<Coordinates> holder;
+		private Coordinates lastValue=null;
+		
+		public CoordinatesSource(Stream stream, TelemetryChannel channel, ValueHolder<Coordinates> holder) {
+			super(stream,channel);
+			if (holder==null) {
+				throw new IllegalArgumentException("Invalid null holder");
+			}
+			this.holder=holder;
+		}
+		
+		public void sample() throws IOException {
+			ValueHolder.Snapshot<Coordinates> snap=holder.snapshot();
+			Coordinates coords=snap.value;
+			boolean changed=(coords==null)?lastValue!=null:!coords.equals(lastValue);
+			if (!mustRecord(snap.version, snap.time, changed)) {
+				return;
+			}
+			lastValue=coords;
+			if (coords==null) {
+				stream.writeHeader(NOT_AVAILABLE, channel, snap.time, 0);
+			} else {
+				stream.writeHeader(DOUBLE_ARRAY, channel, snap.time, 2+3*8);
+				stream.segment.putShort((short)3);
+				stream.segment.putDouble(coords.x.doubleValue());
+				stream.segment.putDouble(coords.y.doubleValue());
+				stream.segment.putDouble(coords.z.doubleValue());
+			}
+		}
+	}
+	
+	/**
+	 * The sequence of segments of the records of a component
+	 * 
+	 * @author acaproni
+	 *
+	 */
+	private class Stream {
+		
+		/**
+		 * The object that polls the component
+		 */
+		public final Object owner;
+		
+		/**
+		 * The name of the antenna
+		 */
+		public final String antennaName;
+		
+		/**
+		 * The name of the component
+		 */
+		public final String componentName;
+		
+		/**
+		 * The type of the component
+		 */
+		public final String componentType;
+		
+		/**
+		 * The progressive number of the next segment
+		 */
+		private int segmentNumber;
+		
+		/**
+		 * The segment to write the records into
+		 * (<code>null</code> before the first record or after closing)
+		 */
+		private MappedByteBuffer segment=null;
+		
+		/**
+		 * Constructor
+		 * 
+		 * @param owner The object that polls the component
+		 * @param antennaName The name of the antenna
+		 * @param componentName The name of the component
+		 * @param componentType The type of the component
+		 */
+		public Stream(Object owner, String antennaName, String componentName, String componentType) {
+			if (owner==null) {
+				throw new IllegalArgumentException("Invalid null owner");
+			}
+			if (antennaName==null || antennaName.length()==0) {
+				throw new IllegalArgumentException("Invalid antenna name "+antennaName);
+			}
+			if (componentName==null || componentName.length()==0) {
+				throw new IllegalArgumentException("Invalid component name "+componentName);
+			}
+			if (componentType==null || componentType.length()==0) {
+				throw new IllegalArgumentException("Invalid component type "+componentType);
+			}
+			this.owner=owner;
+			this.antennaName=antennaName;
+			this.componentName=componentName;
+			this.componentType=componentType;
+			Integer number=segmentNumbers.get(componentName);
+			segmentNumber=(number==null)?0:number.intValue();
+		}
+		
+		/**
+		 * Write the header of a record, creating a new segment 
+		 * if there is no room for the record in the current one.
+		 * 
+		 * @param kind The kind of record
+		 * @param channel The channel
+		 * @param time The time of the value
+		 * @param payloadSize The size of the payload that the caller writes after the header
+		 * @throws IOException In case of error creating a new segment
+		 */
+		public void writeHeader(byte kind, TelemetryChannel channel, long time, int payloadSize) throws IOException {
+			if (segment==null || segment.remaining()<RECORD_HEADER_SIZE+payloadSize) {
+				newSegment();
+			}
+			segment.put(kind);
+			segment.putShort(channel.id);
+			segment.putLong(time);
+			records++;
+		}
+		
+		/**
+		 * Create and map a new segment
+		 * 
+		 * @throws IOException In case of error creating the segment
+		 */
+		private void newSegment() throws IOException {
+			StringBuilder name = new StringBuilder(filePrefix);
+			name.append('_');
+			name.append(toFileName(antennaName));
+			name.append('_');
+			name.append(toFileName(componentName));
+			name.append('_');
+			name.append(session);
+			name.append('_');
+			name.append(segmentNumber);
+			name.append(EXTENSION);
+			RandomAccessFile file = new RandomAccessFile(new File(folder,name.toString()), "rw");
+			try {
+				segment=file.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, SEGMENT_SIZE);
+			} finally {
+				// The mapping remains valid after closing the file
+				file.close();
+			}
+			segment.putInt(MAGIC);
+			segment.putShort(FORMAT_VERSION);
+			segment.putLong(System.currentTimeMillis());
+			segment.putInt(segmentNumber++);
+			segmentNumbers.put(componentName, Integer.valueOf(segmentNumber));
+			putString(antennaName);
+			putString(componentName);
+			putString(componentType);
+			putString(session);
+		}
+		
+		/**
+		 * Write a string in the header of the segment
+		 * 
+		 * @param str The string to write
+		 * @throws UnsupportedEncodingException Never thrown: UTF-8 is always supported
+		 */
+		private void putString(String str) throws UnsupportedEncodingException {
+			byte[] bytes=str.getBytes("UTF-8");
+			segment.putShort((short)bytes.length);
+			segment.put(bytes);
+		}
+		
+		/**
+		 * Flush the current segment on disk
+		 */
+		public void close() {
+			if (segment!=null) {
+				segment.force();
+				segment=null;
+			}
+		}
+	}
+	
+	/**
+	 * The counter to build the sessions of the recorders
+	 */
+	private static final AtomicInteger recordersCounter = new AtomicInteger(0);
+	
+	/**
+	 * The folder to write the segments into
+	 */
+	private final File folder;
+	
+	/**
+	 * The prefix of the name of the segments
+	 */
+	private final String filePrefix="mountPanelTelemetry";
+	
+	/**
+	 * The session of the streams of this recorder: the time when this object 
+	 * has been created followed by a number unique in the JVM
+	 */
+	private final String session=IsoDateFormat.formatCurrentDate()+"-"+recordersCounter.incrementAndGet();
+	
+	/**
+	 * The progressive number of the next segment of each component
+	 */
+	private final HashMap<String, Integer> segmentNumbers = new HashMap<String, Integer>();
+	
+	/**
+	 * The streams of the components
+	 */
+	private final Vector<Stream> streams = new Vector<Stream>();
+	
+	/**
+	 * The registered channels
+	 */
+	private final Vector<Source> sources = new Vector<Source>();
+	
+	/**
+	 * The number of records written so far
+	 */
+	private long records=0;
+	
+	/**
+	 * <code>true</code> if the recorder has been closed or
+	 * an error prevented to create a segment
+	 */
+	private boolean closed=false;
+	
+	/**
+	 * Constructor
+	 * 
+	 * @param folder The folder to write the segments into
+	 */
+	public TelemetryRecorder(File folder) {
+		if (folder==null) {
+			throw new IllegalArgumentException("Invalid null folder");
+		}
+		if (!folder.isDirectory()) {
+			throw new IllegalArgumentException(folder.getPath()+" is not a folder");
+		}
+		this.folder=folder;
+	}
+	
+	/**
+	 * Replace the chars that cannot be part of the name of a segment.
+	 * <P>
+	 * '_' is replaced as well because it separates the parts of the name.
+	 * 
+	 * @param name The name of the antenna or of the component
+	 * @return The name to use in the name of the segments
+	 */
+	private static String toFileName(String name) {
+		StringBuilder ret = new StringBuilder(name.length());
+		for (int t=0; t<name.length(); t++) {
+			char c=name.charAt(t);
+			if (Character.isLetterOrDigit(c) || c=='-' || c=='.') {
+				ret.append(c);
+			} else {
+				ret.append('-');
+			}
+		}
+		return ret.toString();
+	}
+	
+	/**
+	 * Return the stream of an owner
+	 * 
+	 * @param owner The owner
+	 * @return The stream of the owner
+	 */
+	private Stream getStream(Object owner) {
+		for (Stream stream: streams) {
+			if (stream.owner==owner) {
+				return stream;
+			}
+		}
+		throw new IllegalArgumentException("The component of the owner has not been added");
+	}
+	
+	/**
+	 * @see TelemetryBinder#addOwner(Object, String, String, String)
+	 */
+	public synchronized void addOwner(Object owner, String antennaName, String componentName, String componentType) {
+		for (Stream stream: streams) {
+			if (stream.owner==owner) {
+				throw new IllegalArgumentException("Owner of "+componentName+" already added");
+			}
+		}
+		streams.add(new Stream(owner, antennaName, componentName, componentType));
+	}
+	
+	/**
+	 * @see TelemetryBinder#addChannel(Object, TelemetryChannel, DoubleValueHolder)
+	 */
+	public synchronized void addChannel(Object owner, TelemetryChannel channel, DoubleValueHolder holder) {
+		if (holder!=null) {
+			sources.add(new DoubleSource(getStream(owner), channel, holder));
+		}
+	}
+	
+	/**
+	 * @see TelemetryBinder#addChannel(Object, TelemetryChannel, BooleanValueHolder)
+	 */
+	public synchronized void addChannel(Object owner, TelemetryChannel channel, BooleanValueHolder holder) {
+		if (holder!=null) {
+			sources.add(new BooleanSource(getStream(owner), channel, holder));
+		}
+	}
+	
+	/**
+	 * @see TelemetryBinder#addIntArrayChannel(Object, TelemetryChannel, ValueHolder)
+	 */
+	public synchronized void addIntArrayChannel(Object owner, TelemetryChannel channel, ValueHolder<int[]> holder) {
+		if (holder!=null) {
+			sources.add(new IntArraySource(getStream(owner), channel, holder));
+		}
+	}
+	
+	/**
+	 * @see TelemetryBinder#addCoordinatesChannel(Object, TelemetryChannel, ValueHolder)
+	 */
+	public synchronized void addCoordinatesChannel(Object owner, TelemetryChannel channel, ValueHolder<Coordinates> holder) {
+		if (holder!=null) {
+			sources.add(new CoordinatesSource(getStream(owner), channel, holder));
+		}
+	}
+	
+	/**
+	 * Release the channels of the owner and close its stream
+	 * 
+	 * @see TelemetryBinder#removeChannels(Object)
+	 */
+	public synchronized void removeChannels(Object owner) {
+		Iterator<Source> iter = sources.iterator();
+		while (iter.hasNext()) {
+			if (iter.next().owner==owner) {
+				iter.remove();
+			}
+		}
+		Iterator<Stream> streamsIter = streams.iterator();
+		while (streamsIter.hasNext()) {
+			Stream stream=streamsIter.next();
+			if (stream.owner==owner) {
+				stream.close();
+				streamsIter.remove();
+			}
+		}
+	}
+	
+	/**
+	 * Record the values of the channels of an owner updated
+	 * since the previous sample.
+	 * 
+	 * @param owner The owner of the channels
+	 */
+	public synchronized void sample(Object owner) {
+		if (closed) {
+			return;
+		}
+		try {
+			for (Source source: sources) {
+				if (source.owner==owner) {
+					source.sample();
+				}
+			}
+		} catch (IOException e) {
+			System.err.println("Error recording telemetry: "+e.getMessage()+". Telemetry recording disabled.");
+			closed=true;
+			for (Stream stream: streams) {
+				stream.segment=null;
+			}
+		}
+	}
+	
+	/**
+	 * 
+	 * @return The number of records written so far
+	 */
+	public synchronized long getRecords() {
+		return records;
+	}
+	
+	/**
+	 * Stop recording and flush the current segments on disk
+	 */
+	public synchronized void close() {
+		closed=true;
+		sources.clear();
+		for (Stream stream: streams) {
+			stream.close();
+		}
+		streams.clear();
+	}
+}
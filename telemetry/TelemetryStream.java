@@ -0,0 +1,162 @@
+/*
+ * ALMA - Atacama Large Millimiter Array (c) European Southern Observatory, 2007
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ */
+package alma.control.gui.antennamount.telemetry;
+
+import java.io.File;
+import java.util.Collection;
+import java.util.TreeMap;
+
+/**
+ * The segments recorded for a component in a session.
+ * <P>
+ * The streams of a folder are listed by {@link TelemetryReader#listStreams(File)}
+ * out of the headers of the segments.
+ * 
+ * @author acaproni
+ *
+ */
+public class TelemetryStream {
+	
+	/**
+	 * The name of the antenna
+	 */
+	private final String antennaName;
+	
+	/**
+	 * The name of the component
+	 */
+	private final String componentName;
+	
+	/**
+	 * The type of the component
+	 * 
+	 * @see TelemetryBinder#addOwner(Object, String, String, String)
+	 */
+	private final String componentType;
+	
+	/**
+	 * The session of the stream
+	 */
+	private final String session;
+	
+	/**
+	 * The segments of the stream ordered by their progressive number
+	 */
+	private final TreeMap<Integer, File> segments = new TreeMap<Integer, File>();
+	
+	/**
+	 * Constructor
+	 * 
+	 * @param antennaName The name of the antenna
+	 * @param componentName The name of the component
+	 * @param componentType The type of the component
+	 * @param session The session of the stream
+	 */
+	public TelemetryStream(String antennaName, String componentName, String componentType, String session) {
+		if (antennaName==null) {
+			throw new IllegalArgumentException("Invalid null antenna name");
+		}
+		if (componentName==null) {
+			throw new IllegalArgumentException("Invalid null component name");
+		}
+		if (componentType==null) {
+			throw new IllegalArgumentException("Invalid null component type");
+		}
+		if (session==null) {
+			throw new IllegalArgumentException("Invalid null session");
+		}
+		this.antennaName=antennaName;
+		this.componentName=componentName;
+		this.componentType=componentType;
+		this.session=session;
+	}
+	
+	/**
+	 * Add a segment to the stream
+	 * 
+	 * @param number The progressive number of the segment
+	 * @param segment The file of the segment
+	 */
+	void addSegment(int number, File segment) {
+		if (segment==null) {
+			throw new IllegalArgumentException("Invalid null segment");
+		}
+		segments.put(Integer.valueOf(number), segment);
+	}
+	
+	/**
+	 * Check if the stream is the one of the given component and session
+	 * 
+	 * @param compName The name of the component
+	 * @param sessionName The session
+	 * @return <code>true</code> if the stream is the one of the component in the session
+	 */
+	boolean isStreamOf(String compName, String sessionName) {
+		return componentName.equals(compName) && session.equals(sessionName);
+	}
+	
+	/**
+	 * 
+	 * @return The segments of the stream in the order they have been written
+	 */
+	public File[] getSegments() {
+		Collection<File> files=segments.values();
+		return files.toArray(new File[files.size()]);
+	}
+	
+	/**
+	 * 
+	 * @return The name of the antenna
+	 */
+	public String getAntennaName() {
+		return antennaName;
+	}
+	
+	/**
+	 * 
+	 * @return The name of the component
+	 */
+	public String getComponentName() {
+		return componentName;
+	}
+	
+	/**
+	 * 
+	 * @return The type of the component
+	 */
+	public String getComponentType() {
+		return componentType;
+	}
+	
+	/**
+	 * 
+	 * @return The session of the stream
+	 */
+	public String getSession() {
+		return session;
+	}
+	
+	/**
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return componentName+" ("+componentType+") of "+antennaName+" in session "+session+": "+segments.size()+" segments";
+	}
+}
@@ -21,6 +21,7 @@ package alma.control.gui.antennamount.toolbar;
 import javax.swing.SwingUtilities;
 
 import alma.control.gui.antennamount.AntennaRootPane;
+import alma.control.gui.antennamount.mount.BooleanValueHolder;
 import alma.control.gui.antennamount.mount.ValueHolder;
 
 /**
@@ -30,6 +31,12 @@ import alma.control.gui.antennamount.mount.ValueHolder;
  */
 public class BooleanWidget extends ValueWidget<Boolean> {
 	
+	/**
+	 * The value mapped in the widget when it is stored as a primitive
+	 * (in this case {@link ValueWidget#value} is <code>null</code>)
+	 */
+	private BooleanValueHolder booleanValue=null;
+	
 	/**
 	 * Constructor
 	 * 
@@ -42,23 +49,59 @@ public class BooleanWidget extends ValueWidget<Boolean> {
 		super(value, description, hasIcon, rootP);
 	}
 
+	/**
+	 * Set the value used to display data in the widget
+	 * 
+	 * @param value
+	 */
+	@Override
+	public void setValue(ValueHolder<Boolean> value) {
+		synchronized (this) {
+			this.booleanValue=null;
+			this.value=value;
+		}
+	}
+	
+	/**
+	 * Set the value used to display data in the widget
+	 * when the value is stored as a primitive
+	 * 
+	 * @param value
+	 */
+	public void setValue(BooleanValueHolder value) {
+		synchronized (this) {
+			this.booleanValue=value;
+			this.value=null;
+		}
+	}
+	
+	/**
+	 * 
+	 * @return The value shown by the widget or 
+	 * 			<code>null</code> if not available
+	 */
+	private synchronized Boolean getActualValue() {
+		if (booleanValue!=null) {
+			BooleanValueHolder.Snapshot snap = booleanValue.snapshot();
+			return snap.available?Boolean.valueOf(snap.value):null;
+		}
+		return (value==null)?null:value.getValue();
+	}
+	
 	/**
 	 * Refresh the icon depending on the content of the value
 	 * 
 	 * @see ToolbarWidget
 	 */
 	public void refreshIcon() {
-		final ValueHolder<Boolean> temp;
-		synchronized (this) { 
-			temp= value;
-		}
-		if (temp==null || temp.getValue()==null) {
+		final Boolean temp=getActualValue();
+		if (temp==null) {
 			super.refreshIcon();
 			return;
 		}
 		SwingUtilities.invokeLater(new Runnable() {
 			public void run() {
-				if (temp.getValue()==Boolean.TRUE) {
+				if (temp==Boolean.TRUE) {
 					label.setIcon(WidgetIcon.OK.icon);
 				} else {
 					label.setIcon(WidgetIcon.ERROR.icon);
@@ -73,17 +116,14 @@ public class BooleanWidget extends ValueWidget<Boolean> {
 	 * @see ToolbarWidget
 	 */
 	public void refresh() {
-		final ValueHolder<Boolean> temp;
-		synchronized (this) { 
-			temp= value;
-		}
-		if (temp==null || temp.getValue()==null) {
+		final Boolean temp=getActualValue();
+		if (temp==null) {
 			super.refresh();
 			return;
 		}
 		SwingUtilities.invokeLater(new Runnable() {
 			public void run() {
-				if (temp.getValue()==Boolean.TRUE) {
+				if (temp==Boolean.TRUE) {
 					label.setText(description+"Yes");
 				} else {
 					label.setText("<HTML>"+description+"<FONT color=\"red\"><B>NO");
@@ -6,7 +6,8 @@ import java.util.Date;
 import javax.swing.SwingUtilities;
 
 import alma.control.gui.antennamount.AntennaRootPane;
-import alma.control.gui.antennamount.mount.ValueHolder;
+import alma.control.gui.antennamount.mount.BooleanValueHolder;
+import alma.control.gui.antennamount.mount.DoubleValueHolder;
 
 /**
  * <code>TimeToSetWidget</code> shows the number of seconds before
@@ -26,13 +27,13 @@ public class TimeToSetWidget extends ToolbarWidget {
 	/**
 	 * The timeToSet read from the <code>MountController</code>
 	 */
-	public ValueHolder<Double> timeToSet=null;
+	public DoubleValueHolder timeToSet=null;
 	
 	/**
 	 * The boolean read from the <code>MountController</code> to know if the
 	 * telescope is tracking
 	 */
-	public ValueHolder<Boolean> onSource=null;
+	public BooleanValueHolder onSource=null;
 
 	/**
 	 * Constructor
@@ -53,7 +54,7 @@ public class TimeToSetWidget extends ToolbarWidget {
 	 * @param timeToSet The <code>timeToSet</code> property of <code>MountController</code>
 	 * @param onSource The <code>OnSource</code> property of <code>MountController</code>
 	 */
-	public void setValues(ValueHolder<Double> timeToSet, ValueHolder<Boolean> onSource) {
+	public void setValues(DoubleValueHolder timeToSet, BooleanValueHolder onSource) {
 		this.timeToSet=timeToSet;
 		this.onSource=onSource;
 	}
@@ -64,9 +65,9 @@ public class TimeToSetWidget extends ToolbarWidget {
 			setVisible(false);
 			return;
 		}
-		Boolean onS=onSource.getValue();
-		Double time=timeToSet.getValue();
-		if (onS==null || time==null || onS==Boolean.FALSE) {
+		boolean onS=onSource.isTrue();
+		double time=timeToSet.getValue();
+		if (!onS || Double.isNaN(time)) {
 			setVisible(false);
 			return;
 		} 
@@ -77,7 +78,7 @@ public class TimeToSetWidget extends ToolbarWidget {
 		} else if (time<0) {
 			str="Not tracking a source";
 		} else {
-			long seconds = time.longValue();
+			long seconds = (long)time;
 			Calendar cal = Calendar.getInstance();
 			cal.setTimeInMillis(seconds*1000);
 			str=String.format("Source sets in %1$02d:%2$02d:%3$02d", 
@@ -27,8 +27,10 @@ import javax.swing.JPanel;
 import alma.ControlGUIErrType.wrappers.AcsJMountGUIErrorEx;
 import alma.control.gui.antennamount.AntennaRootPane;
 import alma.control.gui.antennamount.errortab.ErrorInfo;
+import alma.control.gui.antennamount.mount.BooleanValueHolder;
 import alma.control.gui.antennamount.mount.Mount;
 import alma.control.gui.antennamount.mount.MountController;
+import alma.control.gui.antennamount.mount.ValueHolder;
 
 /**
  * The status bar in the upper side of the window.
@@ -187,8 +189,8 @@ public class Toolbar extends JPanel implements Runnable {
     	} else {
     		azBrake.setValue(null);
     		elBrake.setValue(null);
-    		inPosition.setValue(null);
-    		abmPM.setValue(null);
+    		inPosition.setValue((BooleanValueHolder)null);
+    		abmPM.setValue((ValueHolder<Boolean>)null);
     		shutter.setShutter(null);
     		timeToSetWidget.setValues(null,null);
     	}
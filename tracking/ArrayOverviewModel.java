@@ -0,0 +1,228 @@
+/*
+ * ALMA - Atacama Large Millimiter Array (c) European Southern Observatory, 2007
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ */
+package alma.control.gui.antennamount.tracking;
+
+import java.util.Vector;
+
+import javax.swing.table.AbstractTableModel;
+
+import alma.control.gui.antennamount.utils.RowChangeTracker;
+import alma.control.gui.antennamount.utils.ValueDisplayer;
+import alma.control.gui.antennamount.utils.ValueState;
+
+/**
+ * The model of the table with the overview of the antennas monitored in array mode.
+ * <P>
+ * The table has one row for each antenna with the most important rows of its
+ * {@link CommonStatusModel} (see {@link CommonStatusModel#getOverviewTitles()}).
+ * The name of the antenna is shown with the color of the state of the antenna.
+ * <P>
+ * The values are not read from the components: they are copied from the
+ * {@link CommonStatusModel}s of the antennas that are refreshed by their own threads.
+ * The thread of this model only notifies the table about the rows changed
+ * since the previous refresh.
+ * 
+ * @author acaproni
+ *
+ */
+public class ArrayOverviewModel extends AbstractTableModel implements Runnable {
+	
+	/**
+	 * An antenna shown in the table
+	 * 
+	 * @author acaproni
+	 *
+	 */
+	private static class AntennaRow {
+		
+		/**
+		 * The name of the antenna
+		 */
+		public final String name;
+		
+		/**
+		 * The model with the status of the antenna
+		 */
+		public final CommonStatusModel model;
+		
+		/**
+		 * Constructor
+		 * 
+		 * @param name The name of the antenna
+		 * @param model The model with the status of the antenna
+		 */
+		public AntennaRow(String name, CommonStatusModel model) {
+			this.name=name;
+			this.model=model;
+		}
+	}
+	
+	/**
+	 * The interval for the refresh (msecs)
+	 */
+	private static final int REFRESH_TIME = 1500;
+	
+	/**
+	 * The titles of the columns after the name of the antenna
+	 */
+	private static final String[] overviewTitles = CommonStatusModel.getOverviewTitles();
+	
+	/**
+	 * The antennas, ordered by name
+	 */
+	private final Vector<AntennaRow> antennas = new Vector<AntennaRow>();
+	
+	/**
+	 * Notifies the table only about the rows changed by the refresh
+	 */
+	private final RowChangeTracker changeTracker = new RowChangeTracker();
+	
+	/**
+	 * The thread to refresh the table
+	 */
+	private final Thread thread;
+	
+	/**
+	 * Signal the thread to terminate
+	 */
+	private volatile boolean terminateThread=false;
+	
+	/**
+	 * Constructor
+	 */
+	public ArrayOverviewModel() {
+		super();
+		thread = new Thread(this);
+		thread.setDaemon(true);
+		thread.setName("ArrayOverviewModel");
+		thread.start();
+	}
+	
+	/**
+	 * Add an antenna to the table.
+	 * <P>
+	 * If the model is already in the table, its name is updated.
+	 * 
+	 * @param name The name of the antenna
+	 * @param model The model with the status of the antenna
+	 */
+	public void add(String name, CommonStatusModel model) {
+		if (model==null) {
+			throw new IllegalArgumentException("Invalid null CommonStatusModel");
+		}
+		if (name==null || name.isEmpty()) {
+			name=ValueDisplayer.NOT_AVAILABLE;
+		}
+		synchronized (antennas) {
+			remove(model);
+			int pos=0;
+			while (pos<antennas.size() && antennas.get(pos).name.compareTo(name)<=0) {
+				pos++;
+			}
+			antennas.add(pos, new AntennaRow(name, model));
+		}
+	}
+	
+	/**
+	 * Remove an antenna from the table
+	 * 
+	 * @param model The model with the status of the antenna
+	 */
+	public void remove(CommonStatusModel model) {
+		synchronized (antennas) {
+			for (int t=0; t<antennas.size(); t++) {
+				if (antennas.get(t).model==model) {
+					antennas.remove(t);
+					return;
+				}
+			}
+		}
+	}
+	
+	/**
+	 * @see AbstractTableModel
+	 */
+	public int getRowCount() {
+		return antennas.size();
+	}
+	
+	/**
+	 * @see AbstractTableModel
+	 */
+	public int getColumnCount() {
+		return 1+overviewTitles.length;
+	}
+	
+	/**
+	 * @see AbstractTableModel
+	 */
+	@Override
+	public String getColumnName(int columnIndex) {
+		if (columnIndex==0) {
+			return "<HTML><B>Antenna";
+		} else {
+			return "<HTML><B>"+overviewTitles[columnIndex-1];
+		}
+	}
+	
+	/**
+	 * @see AbstractTableModel
+	 */
+	public Object getValueAt(int rowIndex, int columnIndex) {
+		AntennaRow row;
+		synchronized (antennas) {
+			if (rowIndex<0 || rowIndex>=antennas.size()) {
+				return null;
+			}
+			row=antennas.get(rowIndex);
+		}
+		if (columnIndex==0) {
+			ValueState state=row.model.getState();
+			return ValueDisplayer.render(row.name, state);
+		}
+		return row.model.getOverviewValue(columnIndex-1);
+	}
+	
+	/**
+	 * The thread to notify the table about the rows that changed
+	 */
+	public void run() {
+		while (!terminateThread) {
+			try {
+				Thread.sleep(REFRESH_TIME);
+			} catch (InterruptedException ie) {
+				continue;
+			}
+			synchronized (antennas) {
+				changeTracker.fireChanges(this);
+			}
+		}
+	}
+	
+	/**
+	 * Stop the thread and release the antennas
+	 */
+	public void close() {
+		terminateThread=true;
+		thread.interrupt();
+		synchronized (antennas) {
+			antennas.clear();
+		}
+	}
+}
@@ -0,0 +1,51 @@
+/*
+ * ALMA - Atacama Large Millimiter Array (c) European Southern Observatory, 2007
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ */
+package alma.control.gui.antennamount.tracking;
+
+import alma.control.gui.antennamount.utils.GUIConstants;
+
+import javax.swing.JTable;
+
+/**
+ * The compact table with one row for each antenna monitored in array mode.
+ * 
+ * @author acaproni
+ *
+ * @see ArrayOverviewModel
+ */
+public class ArrayOverviewTable extends JTable {
+	
+	/**
+	 * Constructor
+	 * 
+	 * @param model The model of the table 
+	 * 			(shared by all the panels running in array mode)
+	 */
+	public ArrayOverviewTable(ArrayOverviewModel model) {
+		super();
+		if (model==null) {
+			throw new IllegalArgumentException("Invalid null ArrayOverviewModel");
+		}
+		setModel(model);
+		setBackground(GUIConstants.tableBackgroundColor);
+		setRowSelectionAllowed(false);
+		setColumnSelectionAllowed(false);
+		setCellSelectionEnabled(false);
+	}
+}
@@ -29,10 +29,12 @@ import alma.control.gui.antennamount.errortab.ErrorInfo;
 import alma.control.gui.antennamount.errortab.ErrorTabbedPane;
 import alma.control.gui.antennamount.errortab.TabTitleSetter;
 import alma.control.gui.antennamount.mount.ShutterCommon;
+import alma.control.gui.antennamount.mount.BooleanValueHolder;
 import alma.control.gui.antennamount.mount.Mount;
 import alma.control.gui.antennamount.mount.MountController;
 import alma.control.gui.antennamount.mount.ValueHolder;
 import alma.control.gui.antennamount.tolerancepanel.TolerancePanel;
+import alma.control.gui.antennamount.utils.RowChangeTracker;
 import alma.control.gui.antennamount.utils.ValueDisplayer;
 import alma.control.gui.antennamount.utils.ValueState;
 import alma.control.gui.antennamount.utils.ValueDisplayer.DisplayStruct;
@@ -74,7 +76,6 @@ public class CommonStatusModel extends AbstractTableModel implements Runnable {
 		AUX_ACU_POINTING_MODEL("Aux ACU pointing model");
 		
 		public final String title;
-		public final StringBuilder value = new StringBuilder();
 		
 		/**
 		 * Constructor
@@ -84,23 +85,36 @@ public class CommonStatusModel extends AbstractTableModel implements Runnable {
 		private StatusTableRow(String rowTitle) {
 			title=rowTitle;
 		}
-		
-		/**
-		 * Shortcut to set a string the value field
-		 *  
-		 * @param val The string to set in the value property
-		 */
-		public void setValue(String val) {
-			if (val==null) {
-				val="";
-			}
-			if (value.length()>0) {
-				value.delete(0, value.length());
-			}
-			value.append(val);
-		}
 	}
 	
+	/**
+	 * The rows of the table (<code>values()</code> returns a new array each time)
+	 */
+	private static final StatusTableRow[] ROWS=StatusTableRow.values();
+	
+	/**
+	 * The rows summarized in the overview of the array
+	 * 
+	 * @see ArrayOverviewModel
+	 */
+	private static final StatusTableRow[] OVERVIEW_ROWS = {
+		StatusTableRow.ANTENNA_TYPE,
+		StatusTableRow.STATUS,
+		StatusTableRow.HWSTATUS,
+		StatusTableRow.ACCESS_MODE,
+		StatusTableRow.IN_POSITION,
+		StatusTableRow.ACU_ERROR,
+		StatusTableRow.SHUTTER
+	};
+	
+	/**
+	 * The values of the rows, indexed by the ordinal of the {@link StatusTableRow}.
+	 * <P>
+	 * The values belong to this instance so that the models of 
+	 * different antennas do not share their content.
+	 */
+	private final String[] rowValues = new String[ROWS.length];
+	
 	// The detailed status view for the connected antenna
 	private MountInterface detailedStatusView=null;
 	
@@ -120,6 +134,11 @@ public class CommonStatusModel extends AbstractTableModel implements Runnable {
      */
     private static final int REFRESH_TIME = 1500;
     
+    /**
+     * Notifies the table only about the rows changed by the refresh
+     */
+    private final RowChangeTracker changeTracker = new RowChangeTracker();
+    
     /**
      * The Az brakes
      */
@@ -148,17 +167,17 @@ public class CommonStatusModel extends AbstractTableModel implements Runnable {
     /**
      * The boolean to know if the mount is on target
      */
-    private ValueHolder<Boolean> onTarget = null;
+    private BooleanValueHolder onTarget = null;
     
     /**
      * The boolean for the ACS pointing model
      */
-    private ValueHolder<Boolean> acuPointingModel = null;
+    private BooleanValueHolder acuPointingModel = null;
     
     /**
      * The boolean for the ACS pointing model
      */
-    private ValueHolder<Boolean> auxAcuPointingModel = null;
+    private BooleanValueHolder auxAcuPointingModel = null;
     
     /**
      * The ABM pointing model
@@ -207,22 +226,31 @@ public class CommonStatusModel extends AbstractTableModel implements Runnable {
 	 */
 	private AntennaRootPane antennaRootPane;
 	
+	/**
+	 * The state of the antenna at the last refresh
+	 */
+	private volatile ValueState state=ValueState.NORMAL;
+	
+	/**
+	 * The overview of the array this model is shown in
+	 * (<code>null</code> if not in array mode or not connected)
+	 */
+	private ArrayOverviewModel overview=null;
+	
 	public CommonStatusModel(AntennaRootPane antennaRootPane) {
 		super();
 		if (antennaRootPane==null) {
 			throw new IllegalArgumentException("The AntennaRootPane can't be null");
 		}
 		this.antennaRootPane=antennaRootPane;
-		for (StatusTableRow str: StatusTableRow.values()) {
-			str.setValue(ValueDisplayer.NOT_AVAILABLE);
-		}
+		setAllRows(ValueDisplayer.NOT_AVAILABLE);
 	}
 
 	public int getRowCount() {
 		if (detailedStatusView==null) {
-			return StatusTableRow.values().length;
+			return ROWS.length;
 		} else {
-			return StatusTableRow.values().length+detailedStatusView.getRowCount();
+			return ROWS.length+detailedStatusView.getRowCount();
 		}
 	}
 
@@ -235,14 +263,35 @@ public class CommonStatusModel extends AbstractTableModel implements Runnable {
 	 */
 	@Override
 	public Object getValueAt(int rowIndex, int columnIndex) {
-		if (rowIndex<StatusTableRow.values().length) {
+		if (rowIndex<ROWS.length) {
 			if (columnIndex==0) {
-				return StatusTableRow.values()[rowIndex].title;
+				return ROWS[rowIndex].title;
 			} else {
-				return StatusTableRow.values()[rowIndex].value.toString();
+				return rowValues[rowIndex];
 			}
 		} else {
-			return detailedStatusView.getValueAt(rowIndex-StatusTableRow.values().length,columnIndex);
+			return detailedStatusView.getValueAt(rowIndex-ROWS.length,columnIndex);
+		}
+	}
+	
+	/**
+	 * Set the value of a row
+	 * 
+	 * @param row The row
+	 * @param val The value of the row (<code>null</code> means empty)
+	 */
+	private void setRow(StatusTableRow row, String val) {
+		rowValues[row.ordinal()]=(val==null)?"":val;
+	}
+	
+	/**
+	 * Set all the rows to the same value
+	 * 
+	 * @param val The value of the rows
+	 */
+	private void setAllRows(String val) {
+		for (int t=0; t<rowValues.length; t++) {
+			rowValues[t]=val;
 		}
 	}
 	
@@ -252,9 +301,7 @@ public class CommonStatusModel extends AbstractTableModel implements Runnable {
 	 */
 	public ValueState refresh() {
 		if (mount==null) {
-			for (StatusTableRow str: StatusTableRow.values()) {
-				str.setValue(ValueDisplayer.NOT_AVAILABLE);
-			}
+			setAllRows(ValueDisplayer.NOT_AVAILABLE);
 			fireTableDataChanged();
 			return ValueState.NORMAL;
 		}
@@ -263,33 +310,35 @@ public class CommonStatusModel extends AbstractTableModel implements Runnable {
 		DisplayStruct dStruct;
 		
 		// HW state
-		if (hwState!=null && hwState.getValue()!=null) {
-			dStruct=ValueDisplayer.getString(hwState.getValue().toString(), hwState);
-			if (hwState.getValue()==HwState.Stop) {
+		ValueHolder.Snapshot<HwState> hwStateSnap=(hwState==null)?null:hwState.snapshot();
+		if (hwStateSnap!=null && hwStateSnap.value!=null) {
+			dStruct=ValueDisplayer.getString(hwStateSnap.value.toString(), hwStateSnap);
+			if (hwStateSnap.value==HwState.Stop) {
 				// The hardware is stopped
-				StatusTableRow.HWSTATUS.setValue(ValueDisplayer.errorColor+dStruct.str+ValueState.htmlCloser);
+				setRow(StatusTableRow.HWSTATUS, ValueDisplayer.render(dStruct.str,ValueState.ERROR));
 				ret=ValueState.ERROR;
 			} else {
-				StatusTableRow.HWSTATUS.setValue(dStruct.state.htmlHeader+dStruct.str+ValueState.htmlCloser);
+				setRow(StatusTableRow.HWSTATUS, ValueDisplayer.render(dStruct.str,dStruct.state));
 				ret = ValueState.max(ret, dStruct.state);
 			}
 		} else {
 			ret=ValueState.ERROR;
-			StatusTableRow.HWSTATUS.setValue(ValueDisplayer.RED_NOT_AVAILABLE);
+			setRow(StatusTableRow.HWSTATUS, ValueDisplayer.RED_NOT_AVAILABLE);
 		}
 		
 		// AZ BRAKE
-		if (azBrake!=null && azBrake.getValue()!=null) {
-			if (azBrake.getValue()==BrakesStatus.BRAKE_ENGAGED) {
-				dStruct=ValueDisplayer.getString("Engaged", azBrake);
+		ValueHolder.Snapshot<BrakesStatus> azBrakeSnap=(azBrake==null)?null:azBrake.snapshot();
+		if (azBrakeSnap!=null && azBrakeSnap.value!=null) {
+			if (azBrakeSnap.value==BrakesStatus.BRAKE_ENGAGED) {
+				dStruct=ValueDisplayer.getString("Engaged", azBrakeSnap);
 			} else {
-				dStruct=ValueDisplayer.getString("Disengaged", azBrake);
+				dStruct=ValueDisplayer.getString("Disengaged", azBrakeSnap);
 			}
-			StatusTableRow.AZ_BRAKE.setValue(dStruct.state.htmlHeader+dStruct.str+ValueState.htmlCloser);
+			setRow(StatusTableRow.AZ_BRAKE, ValueDisplayer.render(dStruct.str,dStruct.state));
 			ret = ValueState.max(ret, dStruct.state);
 		} else {
 			ret=ValueState.ERROR;
-			StatusTableRow.AZ_BRAKE.setValue(ValueDisplayer.RED_NOT_AVAILABLE);
+			setRow(StatusTableRow.AZ_BRAKE, ValueDisplayer.RED_NOT_AVAILABLE);
 		}
 		
 		if (terminateThread) {
@@ -297,17 +346,18 @@ public class CommonStatusModel extends AbstractTableModel implements Runnable {
 		}
 		
 		// EL BRAKE
-		if (elBrake!=null && elBrake.getValue()!=null) {
-			if (elBrake.getValue()==BrakesStatus.BRAKE_ENGAGED) {
-				dStruct=ValueDisplayer.getString("Engaged",elBrake);
+		ValueHolder.Snapshot<BrakesStatus> elBrakeSnap=(elBrake==null)?null:elBrake.snapshot();
+		if (elBrakeSnap!=null && elBrakeSnap.value!=null) {
+			if (elBrakeSnap.value==BrakesStatus.BRAKE_ENGAGED) {
+				dStruct=ValueDisplayer.getString("Engaged",elBrakeSnap);
 			} else {
-				dStruct=ValueDisplayer.getString("Disengaged",elBrake);
+				dStruct=ValueDisplayer.getString("Disengaged",elBrakeSnap);
 			}
-			StatusTableRow.EL_BRAKE.setValue(dStruct.state.htmlHeader+dStruct.str+ValueState.htmlCloser);
+			setRow(StatusTableRow.EL_BRAKE, ValueDisplayer.render(dStruct.str,dStruct.state));
 			ret = ValueState.max(ret, dStruct.state);
 		} else {
 			ret=ValueState.ERROR;
-			StatusTableRow.EL_BRAKE.setValue(ValueDisplayer.RED_NOT_AVAILABLE);
+			setRow(StatusTableRow.EL_BRAKE, ValueDisplayer.RED_NOT_AVAILABLE);
 		}
 		
 		if (terminateThread) {
@@ -315,17 +365,18 @@ public class CommonStatusModel extends AbstractTableModel implements Runnable {
 		}
 		
 		// LOCAL ACCESS MODE
-		if (localAccessMode!=null && localAccessMode.getValue()!=null) {
-			if (localAccessMode.getValue()==Boolean.TRUE) {
-				dStruct=ValueDisplayer.getString("Local",localAccessMode);
+		ValueHolder.Snapshot<Boolean> localAccessSnap=(localAccessMode==null)?null:localAccessMode.snapshot();
+		if (localAccessSnap!=null && localAccessSnap.value!=null) {
+			if (localAccessSnap.value==Boolean.TRUE) {
+				dStruct=ValueDisplayer.getString("Local",localAccessSnap);
 			} else {
-				dStruct=ValueDisplayer.getString("Remote",localAccessMode);
+				dStruct=ValueDisplayer.getString("Remote",localAccessSnap);
 			}
-			StatusTableRow.ACCESS_MODE.setValue(dStruct.state.htmlHeader+dStruct.str+ValueState.htmlCloser);
+			setRow(StatusTableRow.ACCESS_MODE, ValueDisplayer.render(dStruct.str,dStruct.state));
 			ret = ValueState.max(ret, dStruct.state);
 		} else {
 			ret=ValueState.ERROR;
-			StatusTableRow.ACCESS_MODE.setValue(ValueDisplayer.RED_NOT_AVAILABLE);
+			setRow(StatusTableRow.ACCESS_MODE, ValueDisplayer.RED_NOT_AVAILABLE);
 		}
 		
 		if (terminateThread) {
@@ -334,22 +385,23 @@ public class CommonStatusModel extends AbstractTableModel implements Runnable {
 		
 		// ACU ERROR
 		dStruct=updateACUError(detailedStatusView);
-		StatusTableRow.ACU_ERROR.setValue(dStruct.state.htmlHeader+dStruct.str+ValueState.htmlCloser);
+		setRow(StatusTableRow.ACU_ERROR, ValueDisplayer.render(dStruct.str,dStruct.state));
 		ret=ValueState.max(ret, dStruct.state);
 		
 		
 		// On target
-		if (onTarget!=null) {
-			if (onTarget.getValue()==Boolean.TRUE) {
-				dStruct=ValueDisplayer.getString("On target",onTarget);
+		BooleanValueHolder.Snapshot onTargetSnap=(onTarget==null)?null:onTarget.snapshot();
+		if (onTargetSnap!=null) {
+			if (onTargetSnap.isTrue()) {
+				dStruct=ValueDisplayer.getString("On target",onTargetSnap);
 			} else {
-				dStruct=ValueDisplayer.getString("NOT on target",onTarget);
+				dStruct=ValueDisplayer.getString("NOT on target",onTargetSnap);
 			}
-			StatusTableRow.IN_POSITION.setValue(dStruct.state.htmlHeader+dStruct.str+ValueState.htmlCloser);
+			setRow(StatusTableRow.IN_POSITION, ValueDisplayer.render(dStruct.str,dStruct.state));
 			ret = ValueState.max(ret, dStruct.state);
 		} else {
 			ret=ValueState.ERROR;
-			StatusTableRow.IN_POSITION.setValue(ValueDisplayer.RED_NOT_AVAILABLE);
+			setRow(StatusTableRow.IN_POSITION, ValueDisplayer.RED_NOT_AVAILABLE);
 		}
 		
 		if (terminateThread) {
@@ -357,17 +409,18 @@ public class CommonStatusModel extends AbstractTableModel implements Runnable {
 		}
 		
 		// The ACU pointing model
-		if (acuPointingModel!=null) {
-			if (acuPointingModel.getValue()==Boolean.TRUE) {
-				dStruct=ValueDisplayer.getString("Applied",acuPointingModel);
+		BooleanValueHolder.Snapshot acuPMSnap=(acuPointingModel==null)?null:acuPointingModel.snapshot();
+		if (acuPMSnap!=null) {
+			if (acuPMSnap.isTrue()) {
+				dStruct=ValueDisplayer.getString("Applied",acuPMSnap);
 			} else {
-				dStruct=ValueDisplayer.getString("NOT applied",acuPointingModel);
+				dStruct=ValueDisplayer.getString("NOT applied",acuPMSnap);
 			}
-			StatusTableRow.ACU_POINTING_MODEL.setValue(dStruct.state.htmlHeader+dStruct.str+ValueState.htmlCloser);
+			setRow(StatusTableRow.ACU_POINTING_MODEL, ValueDisplayer.render(dStruct.str,dStruct.state));
 			ret = ValueState.max(ret, dStruct.state);
 		} else {
 			ret=ValueState.ERROR;
-			StatusTableRow.ACU_POINTING_MODEL.setValue(ValueDisplayer.RED_NOT_AVAILABLE);
+			setRow(StatusTableRow.ACU_POINTING_MODEL, ValueDisplayer.RED_NOT_AVAILABLE);
 		}
 		
 		if (terminateThread) {
@@ -375,17 +428,18 @@ public class CommonStatusModel extends AbstractTableModel implements Runnable {
 		}
 		
 		// The AUX ACU pointing model
-		if (auxAcuPointingModel!=null) {
-			if (acuPointingModel.getValue()==Boolean.TRUE) {
-				dStruct=ValueDisplayer.getString("Applied",acuPointingModel);
+		BooleanValueHolder.Snapshot auxAcuPMSnap=(auxAcuPointingModel==null)?null:auxAcuPointingModel.snapshot();
+		if (auxAcuPMSnap!=null) {
+			if (auxAcuPMSnap.isTrue()) {
+				dStruct=ValueDisplayer.getString("Applied",auxAcuPMSnap);
 			} else {
-				dStruct=ValueDisplayer.getString("NOT applied",acuPointingModel);
+				dStruct=ValueDisplayer.getString("NOT applied",auxAcuPMSnap);
 			}
-			StatusTableRow.AUX_ACU_POINTING_MODEL.setValue(dStruct.state.htmlHeader+dStruct.str+ValueState.htmlCloser);
+			setRow(StatusTableRow.AUX_ACU_POINTING_MODEL, ValueDisplayer.render(dStruct.str,dStruct.state));
 			ret = ValueState.max(ret, dStruct.state);
 		} else {
 			ret=ValueState.ERROR;
-			StatusTableRow.AUX_ACU_POINTING_MODEL.setValue(ValueDisplayer.RED_NOT_AVAILABLE);
+			setRow(StatusTableRow.AUX_ACU_POINTING_MODEL, ValueDisplayer.RED_NOT_AVAILABLE);
 		}
 		
 		if (terminateThread) {
@@ -399,11 +453,11 @@ public class CommonStatusModel extends AbstractTableModel implements Runnable {
 			} else {
 				dStruct=ValueDisplayer.getString("NOT applied",abmPointingModel);
 			}
-			StatusTableRow.ABM_POINTING_MODEL.setValue(dStruct.state.htmlHeader+dStruct.str+ValueState.htmlCloser);
+			setRow(StatusTableRow.ABM_POINTING_MODEL, ValueDisplayer.render(dStruct.str,dStruct.state));
 			ret = ValueState.max(ret, dStruct.state);
 		} else {
 			ret=ValueState.ERROR;
-			StatusTableRow.ABM_POINTING_MODEL.setValue(ValueDisplayer.RED_NOT_AVAILABLE);
+			setRow(StatusTableRow.ABM_POINTING_MODEL, ValueDisplayer.RED_NOT_AVAILABLE);
 		}
 		
 		if (terminateThread) {
@@ -411,13 +465,14 @@ public class CommonStatusModel extends AbstractTableModel implements Runnable {
 		}
 		
 		// The tolerance
-		if (tolerance==null || tolerance.getValue()==null) {
+		ValueHolder.Snapshot<Double> toleranceSnap=(tolerance==null)?null:tolerance.snapshot();
+		if (toleranceSnap==null || toleranceSnap.value==null) {
 			ret=ValueState.ERROR;
-			StatusTableRow.TOLERANCE.setValue(ValueDisplayer.RED_NOT_AVAILABLE);
+			setRow(StatusTableRow.TOLERANCE, ValueDisplayer.RED_NOT_AVAILABLE);
 		} else {
-			String newActVal=String.format("%02.2f", (double)(((double)1/TolerancePanel.CONVERSION_FACTOR))*tolerance.getValue());
-			dStruct=ValueDisplayer.getString(newActVal, tolerance);
-			StatusTableRow.TOLERANCE.setValue(dStruct.state.htmlHeader+dStruct.str+ValueState.htmlCloser);
+			String newActVal=String.format("%02.2f", (double)(((double)1/TolerancePanel.CONVERSION_FACTOR))*toleranceSnap.value);
+			dStruct=ValueDisplayer.getString(newActVal, toleranceSnap);
+			setRow(StatusTableRow.TOLERANCE, ValueDisplayer.render(dStruct.str,dStruct.state));
 			ret = ValueState.max(ret, dStruct.state);
 		}
 		
@@ -439,28 +494,29 @@ public class CommonStatusModel extends AbstractTableModel implements Runnable {
 				str.append("Wrong value from mount component");
 			}
 			dStruct=ValueDisplayer.getString(str.toString(),(ValueHolder<?>)shutter.getShutterValueHolder());
-			StatusTableRow.SHUTTER.setValue(dStruct.state.htmlHeader+dStruct.str+ValueState.htmlCloser);
+			setRow(StatusTableRow.SHUTTER, ValueDisplayer.render(dStruct.str,dStruct.state));
 			ret = ValueState.max(ret, dStruct.state);
 		} else {
 			ret=ValueState.ERROR;
-			StatusTableRow.SHUTTER.setValue(ValueDisplayer.RED_NOT_AVAILABLE);
+			setRow(StatusTableRow.SHUTTER, ValueDisplayer.RED_NOT_AVAILABLE);
 		}
 		
 		// The status
-		if (status!=null && status.getValue()!=null) {
-			dStruct=ValueDisplayer.getString(status.getValue().toString(), status);
+		ValueHolder.Snapshot<Status> statusSnap=(status==null)?null:status.snapshot();
+		if (statusSnap!=null && statusSnap.value!=null) {
+			dStruct=ValueDisplayer.getString(statusSnap.value.toString(), statusSnap);
 			if (
-					status.getValue()==Status.ERROR ||
-					status.getValue()==Status.UNINITIALIZED) {
-				StatusTableRow.STATUS.setValue(ValueDisplayer.errorColor+dStruct.str+ValueState.htmlCloser);
+					statusSnap.value==Status.ERROR ||
+					statusSnap.value==Status.UNINITIALIZED) {
+				setRow(StatusTableRow.STATUS, ValueDisplayer.render(dStruct.str,ValueState.ERROR));
 				ret=ValueState.ERROR;
 			} else {
-				StatusTableRow.STATUS.setValue(dStruct.state.htmlHeader+dStruct.str+ValueState.htmlCloser);
+				setRow(StatusTableRow.STATUS, ValueDisplayer.render(dStruct.str,dStruct.state));
 				ret = ValueState.max(ret, dStruct.state);
 			}
 		} else {
 			ret=ValueState.ERROR;
-			StatusTableRow.STATUS.setValue(ValueDisplayer.RED_NOT_AVAILABLE);
+			setRow(StatusTableRow.STATUS, ValueDisplayer.RED_NOT_AVAILABLE);
 		}
 		
 		// Refresh the antenna specific status
@@ -484,12 +540,12 @@ public class CommonStatusModel extends AbstractTableModel implements Runnable {
 			ret.str=ValueDisplayer.NOT_AVAILABLE;
 			return ret;
 		}
-		if (acuError==null || acuError.getValue()==null) {
+		int[] vals= (acuError==null)?null:acuError.getValue();
+		if (vals==null) {
 			ret.state=ValueState.ERROR;
 			ret.str=ValueDisplayer.NOT_AVAILABLE;
 			return ret;
 		}
-		int[] vals= acuError.getValue();
 		if (vals.length==0 ||vals[0]==0) {
 			// No error!
 			ret.str=mnt.getAcuErrorDescription(0,0);
@@ -513,9 +569,7 @@ public class CommonStatusModel extends AbstractTableModel implements Runnable {
 	 *
 	 */
 	private void updateError() {
-		for (StatusTableRow stw: StatusTableRow.values()) {
-			stw.setValue(ValueDisplayer.RED_NOT_AVAILABLE);
-		}
+		setAllRows(ValueDisplayer.RED_NOT_AVAILABLE);
 		if (detailedStatusView!=null) {
 			detailedStatusView.updateError();
 		}
@@ -543,12 +597,11 @@ public class CommonStatusModel extends AbstractTableModel implements Runnable {
 	 * Set the description of the antenna in rowValues[0]
 	 */
 	private ValueState setAntennaType() {
-		StatusTableRow.ANTENNA_TYPE.value.delete(0, StatusTableRow.ANTENNA_TYPE.value.length());
 		if (mount==null) {
-			StatusTableRow.ANTENNA_TYPE.value.append(ValueDisplayer.NOT_AVAILABLE);
+			setRow(StatusTableRow.ANTENNA_TYPE, ValueDisplayer.NOT_AVAILABLE);
 			return ValueState.NORMAL;
 		}
-		StatusTableRow.ANTENNA_TYPE.value.append(mount.getMountType().toString());
+		setRow(StatusTableRow.ANTENNA_TYPE, mount.getMountType().toString());
 		
 		switch (mount.getMountType()) {
 		case VERTEX: {
@@ -572,6 +625,7 @@ public class CommonStatusModel extends AbstractTableModel implements Runnable {
 			return ValueState.ERROR;
 		}
 		}
+		detailedStatusView.attach(mount);
 		return ValueState.NORMAL;
 	}
 	
@@ -581,6 +635,9 @@ public class CommonStatusModel extends AbstractTableModel implements Runnable {
 	 * @param mnt The mount (can be null)
 	 */
 	public void setComponents(MountController ctr, Mount mnt) {
+		if (mount!=null && detailedStatusView!=null) {
+			detailedStatusView.detach(mount);
+		}
 		controller=ctr;
 		mount=mnt;
 		
@@ -609,12 +666,21 @@ public class CommonStatusModel extends AbstractTableModel implements Runnable {
 			thread.setName("CommonStatusModel");
 			antennaRootPane.getHeartbeatChecker().register(thread);
 			thread.start();
+			
+			overview=antennaRootPane.getArrayOverview();
+			if (overview!=null) {
+				overview.add(antennaRootPane.getAntennaName(), this);
+			}
 		} else {
 			// Stop the thread
 			terminateThread=true;
 			if (thread!=null) {
 				thread.interrupt();
 			}
+			if (overview!=null) {
+				overview.remove(this);
+				overview=null;
+			}
 			azBrake=null;
 			elBrake=null;
 			localAccessMode=null;
@@ -653,14 +719,46 @@ public class CommonStatusModel extends AbstractTableModel implements Runnable {
 				antennaRootPane.addError(error);
 				continue;
 			}
+			state=st;
 			titleSetter.tabTitleState(st,"Status",errorTabComponent,false);
-			fireTableDataChanged();
+			changeTracker.fireChanges(this);
 		}
 		updateError();
 		antennaRootPane.getHeartbeatChecker().unregister(thread);
 		thread=null;
 	}
 	
+	/**
+	 * 
+	 * @return The titles of the rows summarized in the overview of the array
+	 */
+	static String[] getOverviewTitles() {
+		String[] ret = new String[OVERVIEW_ROWS.length];
+		for (int t=0; t<ret.length; t++) {
+			ret[t]=OVERVIEW_ROWS[t].title;
+		}
+		return ret;
+	}
+	
+	/**
+	 * Return the value of a row summarized in the overview of the array
+	 * 
+	 * @param pos The position of the row in the overview 
+	 * @return The value of the row
+	 * @see #getOverviewTitles()
+	 */
+	String getOverviewValue(int pos) {
+		return rowValues[OVERVIEW_ROWS[pos].ordinal()];
+	}
+	
+	/**
+	 * 
+	 * @return The state of the antenna at the last refresh
+	 */
+	public ValueState getState() {
+		return state;
+	}
+	
 	/**
 	 * Set the tab title setter (it is informed about the situation of the items
 	 * to display warnings and errs in the tab title).
@@ -20,11 +20,12 @@
 package alma.control.gui.antennamount.tracking;
 
 import alma.control.gui.antennamount.mount.Mount;
-import alma.control.gui.antennamount.mount.ValueHolder;
+import alma.control.gui.antennamount.mount.StatusWord;
 import alma.control.gui.antennamount.mount.a7m.MountA7M;
-import alma.control.gui.antennamount.utils.ValueDisplayer;
 import alma.control.gui.antennamount.utils.ValueState;
-import alma.control.gui.antennamount.utils.bit.LongArrayBit;
+import alma.control.gui.antennamount.utils.bit.StatusBitTable;
+import alma.control.gui.antennamount.utils.bit.StatusWordDecoder;
+import alma.control.gui.antennamount.utils.bit.StatusBitTable.Polarity;
 //import java.io.PrintStream;
 
 /**
@@ -170,8 +171,6 @@ public class MountA7MStatus extends MountDetails implements MountInterface {
  
 		public final String title;
 		
-		public final StringBuilder value = new StringBuilder(); 
-		
 		private SysStatus(String title) {
 			this.title=title;
 		}
@@ -299,8 +298,6 @@ public class MountA7MStatus extends MountDetails implements MountInterface {
 
 		public final String title;
 		
-		public final StringBuilder value = new StringBuilder(); 
-		
 		private ElStatus(String title) {
 			this.title=title;
 		}
@@ -445,8 +442,6 @@ public class MountA7MStatus extends MountDetails implements MountInterface {
  
 		public final String title;
 		
-		public final StringBuilder value = new StringBuilder(); 
-		
 		private AzStatus(String title) {
 			this.title=title;
 		}
@@ -483,14 +478,403 @@ public class MountA7MStatus extends MountDetails implements MountInterface {
 		
 		public final String title;
 		
-		public final StringBuilder value = new StringBuilder(); 
-		
 		private PowerStatus(String title) {
 			this.title=title;
 		}
 	}
 
 	
+	/**
+	 * The bits of GET_SYSTEM_STATUS
+	 */
+	private static final StatusBitTable SYSTEM_STATUS_BITS = new StatusBitTable.Builder(8)
+		// Byte 0
+		.add(0,0,SysStatus.SAFE_SWITCH)
+		.add(0,1,SysStatus.STAIRWAY_INTERLOCK)
+		.add(0,2,SysStatus.HANDLING_INTERLOCK)
+		.add(0,3,SysStatus.SMOKE_ALARM)
+		.add(0,4,SysStatus.ACU_FAULT)
+		.add(0,5,SysStatus.SURVIVAL_FOR_MISSING_COMMANDS)
+		.add(0,6,SysStatus.SURVIVAL_FOR_MISSING_TIMING)
+		.add(0,7,SysStatus.TIMING_PULSE)
+
+		// Byte 1
+		.add(1,0,SysStatus.RCV_CABIN_SAFETY)
+		.add(1,1,SysStatus.ANT_BASE_SAFETY)
+		.add(1,2,SysStatus.VERANDA_EQUIP_FREE)
+		.add(1,3,SysStatus.LADDER_SWITCH)
+		.add(1,4,SysStatus.TRANSP_INTLK)
+		.add(1,5,SysStatus.TRANSP_INTLK_EXCPT_AZ)
+
+		// Byte 2
+		.add(2,0,SysStatus.RCV_CABIN_DOOR_OPEN)
+		.add(2,1,SysStatus.CNTR_CABIN_DOOR_OPEN)
+		.add(2,2,SysStatus.ANT_BASE_DOOR_OPEN)
+		//20091002MT  Bits 3-5 of byte 2 have been removed.
+		.add(2,6,SysStatus.YOKE_L_HATCH_OPEN)
+		.add(2,7,SysStatus.YOKE_R_HATCH_OPEN)
+
+		// Byte 3
+		.add(3,0,SysStatus.AZ_HNDL_INTLK)
+		.add(3,1,SysStatus.EL_HNDL_INTLK)
+		.add(3,2,SysStatus.AZ_STOW_HNDL_INTLK)
+		.add(3,3,SysStatus.EL_STOW_HNDL_INTLK)
+		.add(3,4,SysStatus.SHUTTER_HNDL_INTLK)
+
+		// Byte 4
+		.add(4,0,SysStatus.AZ_STOW_TO)
+		.add(4,1,SysStatus.AZ_STOW_THERMAL_TRIP)
+		.add(4,2,SysStatus.STOW_DPA_CB_OFF)
+		.add(4,3,SysStatus.STOW_DPA_COND_OFF)
+		.add(4,4,SysStatus.EL_STOW_TO)
+		.add(4,5,SysStatus.EL_STOW_THERMAL_TRIP)
+
+		// Byte 5
+		.add(5,0,SysStatus.SHUTTER_TO)
+		.add(5,1,SysStatus.SHUTTER_THERMAL_TRIP)
+		.add(5,2,SysStatus.SHUTTER_DPA_CB_OFF)
+		.add(5,3,SysStatus.SHUTTER_DPA_COND_OFF)
+		.add(5,7,SysStatus.ZENITH_SHUTTER_OPEN)
+
+		// Byte 6
+		.add(6,0,SysStatus.RD_CONV_FAIL)
+		.add(6,1,SysStatus.IF_PANEL_FAIL)
+		.blank(SysStatus.ACR2_PS_ALARM) // Bit 2 of byte 6 not decoded
+		.add(6,3,SysStatus.NUTATOR_RACK_PS_ALARM)
+		.add(6,4,SysStatus.BRAKE_AXIS_HEATER_ALARM)
+		.add(6,5,SysStatus.MOTOR_PUMP_FAIL)
+		.add(6,6,SysStatus.ARRESTER_BROKEN_ALARM)
+		.add(6,7,SysStatus.DC_POWER_CIRCUIT_ALARM)
+
+		// Byte 7
+		.add(7,0,SysStatus.ACU_MAINT)
+		.add(7,1,SysStatus.ANT_STATION_POWER_DISCON)
+		.add(7,2,SysStatus.ANT_INTLK)
+		.add(7,6,SysStatus.DRIVE_SYSTEM_FAIL)
+		.add(7,7,SysStatus.MORE_PCU_CONNECT)
+		.build();
+
+	/**
+	 * The bits of GET_SYSTEM_STATUS_2
+	 */
+	private static final StatusBitTable SYSTEM_STATUS_2_BITS = new StatusBitTable.Builder(8)
+		// Byte 0
+		.add(0,0,SysStatus.DC12V_FAIL)
+		.add(0,1,SysStatus.SYS_FAIL)
+		.add(0,2,SysStatus.AC_FAIL)
+		.add(0,3,SysStatus.DATA_FAULT)
+		.add(0,4,SysStatus.AD_CONV_FAIL)
+		.add(0,6,SysStatus.CAN_BOARD_FAIL)
+		.add(0,7,SysStatus.CLOCK_BOARD_FAIL)
+
+		// Byte 1
+		.add(1,0,SysStatus.DSP_FAIL)
+		.add(1,1,SysStatus.DSP_AD_CONV_FAIL)
+
+		// Byte 2
+		.add(2,0,SysStatus.IMP1_FAIL)
+		.add(2,1,SysStatus.IMP2_FAIL)
+		.add(2,2,SysStatus.IMP3_FAIL)
+		.add(2,3,SysStatus.IMP4_FAIL)
+		.add(2,4,SysStatus.IMP5_FAIL)
+		.add(2,5,SysStatus.IMP6_FAIL)
+		.add(2,6,SysStatus.IMP7_FAIL)
+
+		// Byte 3
+		.add(3,0,SysStatus.PCU1_CONNECTED)
+		.add(3,1,SysStatus.PCU2_CONNECTED)
+		.add(3,2,SysStatus.PCU3_CONNECTED)
+
+		// Byte 4
+		.add(4,6,SysStatus.DIFC_FAULT)
+		.add(4,7,SysStatus.DIFC_POWER_FAIL)
+
+		// Byte 5
+		.add(5,0,SysStatus.ACU2DIFC_LINE1_DISCON)
+		.add(5,1,SysStatus.ACU2DIFC_LINE2_DISCON)
+		.add(5,2,SysStatus.DIFC2ACU_LINE1_DISCON)
+		.add(5,3,SysStatus.DIFC2ACU_LINE2_DISCON)
+		.add(5,4,SysStatus.ACU2DIFC_LINE3_DISCON)
+		.build();
+
+	/**
+	 * The bits of GET_POWER_STATUS
+	 */
+	private static final StatusBitTable POWER_STATUS_BITS = new StatusBitTable.Builder(3)
+		// byte 0
+		.add(0,0,PowerStatus.BASE_PWR,Polarity.ERROR_IF_UNSET)
+		.add(0,1,PowerStatus.TRANS_PWR)
+		.add(0,2,PowerStatus.AC_PWR_FAILURE)
+		.add(0,3,PowerStatus.AC_ABNORMAL_PHASE)
+
+		// byte 1
+		.add(1,0,PowerStatus.UPS1_DISC)
+		.add(1,1,PowerStatus.UPS1_ALARM)
+		.add(1,2,PowerStatus.UPS1_INPUT_FAILURE)
+		.add(1,3,PowerStatus.UPS1_BAT_LOW)
+
+		// byte 2
+		.add(2,0,PowerStatus.UPS2_DISC)
+		.add(2,1,PowerStatus.UPS2_ALARM)
+		.add(2,2,PowerStatus.UPS2_INPUT_FAILURE)
+		.add(2,3,PowerStatus.UPS2_BAT_LOW)
+		.build();
+
+	/**
+	 * The bits of GET_AZ_STATUS
+	 */
+	private static final StatusBitTable AZ_STATUS_BITS = new StatusBitTable.Builder(8)
+		// byte 0
+		.add(0,0,AzStatus.LIMIT2_CW)
+		.add(0,1,AzStatus.LIMIT2_CCW)
+		.add(0,2,AzStatus.LIMIT1_CW)
+		.add(0,3,AzStatus.LIMIT1_CCW)
+		.add(0,4,AzStatus.PRE_LIMIT_CW)
+		.add(0,5,AzStatus.PRE_LIMIT_CCW)
+		.add(0,6,AzStatus.LIMIT_WARN_CW)
+		.add(0,7,AzStatus.LIMIT_WARN_CCW)
+
+		// byte 1
+		.add(1,0,AzStatus.INVALID_DIR)
+		.add(1,1,AzStatus.OVERRIDE_SW_ENABLED)
+
+		// byte 2
+		.add(2,0,AzStatus.AZ_L1_DPA_FAULT)
+		.add(2,1,AzStatus.AZ_L2_DPA_FAULT)
+		.add(2,2,AzStatus.AZ_R1_DPA_FAULT)
+		.add(2,3,AzStatus.AZ_R2_DPA_FAULT)
+		.add(2,4,AzStatus.AZ_L1_MOTOR_OH)
+		.add(2,5,AzStatus.AZ_L2_MOTOR_OH)
+		.add(2,6,AzStatus.AZ_R1_MOTOR_OH)
+		.add(2,7,AzStatus.AZ_R2_MOTOR_OH)
+
+		// byte 3
+		.add(3,0,AzStatus.AZ_L1_CBANK_FAULT)
+		.add(3,1,AzStatus.AZ_L2_CBANK_FAULT)
+		.add(3,2,AzStatus.AZ_R1_CBANK_FAULT)
+		.add(3,3,AzStatus.AZ_R2_CBANK_FAULT)
+		.add(3,4,AzStatus.AZ_L1_CBANK_FULL)
+		.add(3,5,AzStatus.AZ_L2_CBANK_FULL)
+		.add(3,6,AzStatus.AZ_R1_CBANK_FULL)
+		.add(3,7,AzStatus.AZ_R2_CBANK_FULL)
+
+		// byte 4
+		.add(4,0,AzStatus.AZ_L1_EXCSV_CURR)
+		.add(4,1,AzStatus.AZ_L2_EXCSV_CURR)
+		.add(4,2,AzStatus.AZ_R1_EXCSV_CURR)
+		.add(4,3,AzStatus.AZ_R2_EXCSV_CURR)
+		.add(4,4,AzStatus.SERVO_OSCILLATION)
+		.add(4,5,AzStatus.RUNAWAY)
+		.add(4,6,AzStatus.OVERSPEED)
+		.add(4,7,AzStatus.ANGLE_INPUT_FAULT)
+
+		// byte 5
+		.add(5,0,AzStatus.AZ_L_DCPA_CB_OFF)
+		.add(5,1,AzStatus.AZ_R_DCPA_CB_OFF)
+		.add(5,3,AzStatus.AZ_ALL_ENCODER_ALARM)
+		.add(5,4,AzStatus.AZ_LF_ENCODER_ALARM)
+		.add(5,5,AzStatus.AZ_LR_ENCODER_ALARM)
+		.add(5,6,AzStatus.AZ_RF_ENCODER_ALARM)
+		.add(5,7,AzStatus.AZ_RR_ENCODER_ALARM)
+
+		// byte 6
+		.add(6,4,AzStatus.BRAKE_POWER_FAIL)
+		.add(6,5,AzStatus.BRAKE_PS_FUSE_BLOW)
+
+		// byte 7
+		.add(7,0,AzStatus.SURVIVAL_STOW_POS)
+		.add(7,1,AzStatus.MAINT_STOW_POS)
+		.add(7,4,AzStatus.CABLE_OVERLAP_CW)
+		.add(7,5,AzStatus.CABLE_OVERLAP_CCW)
+		.add(7,7,AzStatus.OTHER_FAULT)
+		.build();
+
+	/**
+	 * The bits of GET_AZ_STATUS_2
+	 */
+	private static final StatusBitTable AZ_STATUS_2_BITS = new StatusBitTable.Builder(8)
+		// byte 0
+		.add(0,0,AzStatus.AZ_LF_ENCDR_DISCON)
+		.add(0,1,AzStatus.AZ_LR_ENCDR_DISCON)
+		.add(0,2,AzStatus.AZ_RF_ENCDR_DISCON)
+		.add(0,3,AzStatus.AZ_RR_ENCDR_DISCON)
+		.add(0,4,AzStatus.AZ_LF_ENCDR_NOT_INIT)
+		.add(0,5,AzStatus.AZ_LR_ENCDR_NOT_INIT)
+		.add(0,6,AzStatus.AZ_RF_ENCDR_NOT_INIT)
+		.add(0,7,AzStatus.AZ_RR_ENCDR_NOT_INIT)
+
+		// byte 1
+		.add(1,0,AzStatus.AZ_L1_DPA_DISCON)
+		.add(1,1,AzStatus.AZ_L2_DPA_DISCON)
+		.add(1,2,AzStatus.AZ_R1_DPA_DISCON)
+		.add(1,3,AzStatus.AZ_R2_DPA_DISCON)
+
+		// byte 2
+		.add(2,0,AzStatus.AZ_L1_DPA_COND_OFF)
+		.add(2,1,AzStatus.AZ_L2_DPA_COND_OFF)
+		.add(2,2,AzStatus.AZ_R1_DPA_COND_OFF)
+		.add(2,3,AzStatus.AZ_R2_DPA_COND_OFF)
+		.add(2,4,AzStatus.AZ_L1_DPA_DISCHARGE)
+		.add(2,5,AzStatus.AZ_L2_DPA_DISCHARGE)
+		.add(2,6,AzStatus.AZ_R1_DPA_DISCHARGE)
+		.add(2,7,AzStatus.AZ_R2_DPA_DISCHARGE)
+
+		// byte 3
+		.add(3,0,AzStatus.POSN_FILTER_FAULT)
+		.add(3,1,AzStatus.MAJOR_FILTER_FAULT)
+		.add(3,2,AzStatus.MINOR_FILTER_FAULT)
+		.add(3,3,AzStatus.FDBK_FILTER_FAULT)
+
+		// byte 4
+		.add(4,0,AzStatus.AZ_L1_DRIVE_ON_TO)
+		.add(4,1,AzStatus.AZ_L2_DRIVE_ON_TO)
+		.add(4,2,AzStatus.AZ_R1_DRIVE_ON_TO)
+		.add(4,3,AzStatus.AZ_R2_DRIVE_ON_TO)
+		.add(4,4,AzStatus.AZ_L1_POWER_ON_TO)
+		.add(4,5,AzStatus.AZ_L2_POWER_ON_TO)
+		.add(4,6,AzStatus.AZ_R1_POWER_ON_TO)
+		.add(4,7,AzStatus.AZ_R2_POWER_ON_TO)
+
+		// byte 5
+		.add(5,0,AzStatus.BRAKE_AXIS_DPA_FAULT)
+		.add(5,1,AzStatus.BRAKE_AXIS_DPA_CB_OFF)
+		.add(5,2,AzStatus.BRAKE_AXIS_DPA_COND_OFF)
+		.add(5,3,AzStatus.BRAKE_AXIS_RSLV_DISCON)
+		.add(5,4,AzStatus.BRAKE_AXIS_ASYNC)
+		.add(5,7,AzStatus.BRAKE_AXIS_DRIVE_ON_TO)
+		.build();
+
+	/**
+	 * The bits of GET_EL_STATUS
+	 */
+	private static final StatusBitTable EL_STATUS_BITS = new StatusBitTable.Builder(8)
+		// byte 0
+		.add(0,0,ElStatus.LIMIT2_UP)
+		.add(0,1,ElStatus.LIMIT2_DOWN)
+		.add(0,2,ElStatus.LIMIT1_UP)
+		.add(0,3,ElStatus.LIMIT1_DOWN)
+		.add(0,4,ElStatus.PRE_LIMIT_UP)
+		.add(0,5,ElStatus.PRE_LIMIT_DOWN)
+		.add(0,6,ElStatus.LIMIT_WARN_UP)
+		.add(0,7,ElStatus.LIMIT_WARN_DOWN)
+
+		// byte 1
+		.add(1,0,ElStatus.INVALID_DIR)
+		.add(1,1,ElStatus.OVERRIDE_SW_ENABLED)
+
+		// byte 2
+		.add(2,0,ElStatus.EL_L_DPA_FAULT)
+		.add(2,1,ElStatus.EL_R_DPA_FAULT)
+		.add(2,4,ElStatus.EL_L_MOTOR_OH)
+		.add(2,5,ElStatus.EL_R_MOTOR_OH)
+
+		// byte 3
+		.add(3,0,ElStatus.EL_L_CBANK_FAULT)
+		.add(3,1,ElStatus.EL_R_CBANK_FAULT)
+		.add(3,4,ElStatus.EL_L_CBANK_FULL)
+		.add(3,5,ElStatus.EL_R_CBANK_FULL)
+
+		// byte 4
+		.add(4,0,ElStatus.EL_L_EXCSV_CURR)
+		.add(4,1,ElStatus.EL_R_EXCSV_CURR)
+		.add(4,4,ElStatus.SERVO_OSCILLATION)
+		.add(4,5,ElStatus.RUNAWAY)
+		.add(4,6,ElStatus.OVERSPEED)
+		.add(4,7,ElStatus.ANGLE_INPUT_FAULT)
+
+		// byte 5
+		.add(5,0,ElStatus.DCPA_CB_OFF)
+		.add(5,3,ElStatus.EL_ALL_ENCDR_ALARM)
+		.add(5,4,ElStatus.EL_F_ENCDR_ALARM)
+		.add(5,5,ElStatus.EL_R_ENCDR_ALARM)
+
+		// byte 6
+		.add(6,4,ElStatus.BRAKE_POWER_FAIL)
+		.add(6,5,ElStatus.BRAKE_PS_FUSE_BLOW)
+
+		// byte 7
+		.add(7,0,ElStatus.SURVIVAL_STOW_POS)
+		.add(7,1,ElStatus.MAINT_STOW_POS)
+		.add(7,2,ElStatus.ZENITH_POS)
+		.add(7,7,ElStatus.OTHER_FAULT)
+		.build();
+
+	/**
+	 * The bits of GET_EL_STATUS_2
+	 */
+	private static final StatusBitTable EL_STATUS_2_BITS = new StatusBitTable.Builder(8)
+		// byte 0
+		.add(0,0,ElStatus.EL_F_ENCDR_DISCON)
+		.add(0,1,ElStatus.EL_R_ENCDR_DISCON)
+		.add(0,4,ElStatus.EL_F_ENCDR_NOT_INIT)
+		.add(0,5,ElStatus.EL_R_ENCDR_NOT_INIT)
+
+		// byte 1
+		.add(1,0,ElStatus.EL_L_DPA_DISCON)
+		.add(1,1,ElStatus.EL_R_DPA_DISCON)
+
+		// byte 2
+		.add(2,0,ElStatus.EL_L_DPA_COND_OFF)
+		.add(2,1,ElStatus.EL_R_DPA_COND_OFF)
+		.add(2,4,ElStatus.EL_L_DPA_DISCHARGE)
+		.add(2,5,ElStatus.EL_R_DPA_DISCHARGE)
+
+		// byte 3
+		.add(3,0,ElStatus.POSN_FILTER_FAULT)
+		.add(3,1,ElStatus.MAJOR_FILTER_FAULT)
+		.add(3,2,ElStatus.MINOR_FILTER_FAULT)
+		.add(3,3,ElStatus.FDBK_FILTER_FAULT)
+
+		// byte 4
+		.add(4,0,ElStatus.EL_L_DRIVE_ON_TO)
+		.add(4,1,ElStatus.EL_R_DRIVE_ON_TO)
+		.add(4,4,ElStatus.EL_L_POWER_ON_TO)
+		.add(4,5,ElStatus.EL_R_POWER_ON_TO)
+
+		// byte 5
+		.add(5,0,ElStatus.BRAKE_AXIS_DPA_FAULT)
+		.add(5,1,ElStatus.BRAKE_AXIS_DPA_CB_OFF)
+		.add(5,2,ElStatus.BRAKE_AXIS_DPA_COND_OFF)
+		.add(5,3,ElStatus.BRAKE_AXIS_RSLV_DISCON)
+		.add(5,4,ElStatus.BRAKE_AXIS_ASYNC)
+		.add(5,7,ElStatus.BRAKE_AXIS_DRIVE_ON_TO)
+		.build();
+
+	/**
+	 * The decoder of GET_SYSTEM_STATUS
+	 */
+	private final StatusWordDecoder systemStatusDecoder;
+
+	/**
+	 * The decoder of GET_SYSTEM_STATUS_2
+	 */
+	private final StatusWordDecoder systemStatus2Decoder;
+
+	/**
+	 * The decoder of GET_POWER_STATUS
+	 */
+	private final StatusWordDecoder powerStatusDecoder;
+
+	/**
+	 * The decoder of GET_AZ_STATUS
+	 */
+	private final StatusWordDecoder azStatusDecoder;
+
+	/**
+	 * The decoder of GET_AZ_STATUS_2
+	 */
+	private final StatusWordDecoder azStatus2Decoder;
+
+	/**
+	 * The decoder of GET_EL_STATUS
+	 */
+	private final StatusWordDecoder elStatusDecoder;
+
+	/**
+	 * The decoder of GET_EL_STATUS_2
+	 */
+	private final StatusWordDecoder elStatus2Decoder;
+
 	/**
 	 * Constructor
 	 *
@@ -528,6 +912,13 @@ public class MountA7MStatus extends MountDetails implements MountInterface {
 		elStatusVals = new String[ElStatus.values().length];
 		azStatusVals = new String[AzStatus.values().length];
 		powerStatusVals=new String[PowerStatus.values().length];
+		systemStatusDecoder=addDecoder(StatusWord.SYSTEM_STATUS, SYSTEM_STATUS_BITS, statusVals);
+		systemStatus2Decoder=addDecoder(StatusWord.SYSTEM_STATUS_2, SYSTEM_STATUS_2_BITS, statusVals);
+		powerStatusDecoder=addDecoder(StatusWord.POWER_STATUS, POWER_STATUS_BITS, powerStatusVals);
+		azStatusDecoder=addDecoder(StatusWord.AZ_STATUS, AZ_STATUS_BITS, azStatusVals);
+		azStatus2Decoder=addDecoder(StatusWord.AZ_STATUS_2, AZ_STATUS_2_BITS, azStatusVals);
+		elStatusDecoder=addDecoder(StatusWord.EL_STATUS, EL_STATUS_BITS, elStatusVals);
+		elStatus2Decoder=addDecoder(StatusWord.EL_STATUS_2, EL_STATUS_2_BITS, elStatusVals);
 		updateError();
 	}
 	
@@ -541,93 +932,12 @@ public class MountA7MStatus extends MountDetails implements MountInterface {
 			updateError();
 			return ValueState.NORMAL;
 		}
-		ValueHolder<int[]> statusBits = mnt.getStatus();
-		if (statusBits!=null && statusBits.getValue()!=null) {
-			Long[] longBits = new Long[statusBits.getValue().length];
-			if (longBits.length!=8) {
-				//System.out.printf("updateSystemStatus longBits.length= %d\n", longBits.length);
-				updateStatusError();
-				return ValueState.ERROR;
-			}
-			for (int t=0; t<longBits.length; t++) {
-				longBits[t]=(long)statusBits.getValue()[t];
-			}
-			LongArrayBit bits = new LongArrayBit(longBits);
-			ValueState ret = ValueState.NORMAL;
-			// Byte 0
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,0),ret,SysStatus.SAFE_SWITCH.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,1),ret,SysStatus.STAIRWAY_INTERLOCK.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,2),ret,SysStatus.HANDLING_INTERLOCK.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,3),ret,SysStatus.SMOKE_ALARM.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,4),ret,SysStatus.ACU_FAULT.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,5),ret,SysStatus.SURVIVAL_FOR_MISSING_COMMANDS.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,6),ret,SysStatus.SURVIVAL_FOR_MISSING_TIMING.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,7),ret,SysStatus.TIMING_PULSE.value,statusBits);
-			
-			// Byte 1
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(1,0),ret,SysStatus.RCV_CABIN_SAFETY.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(1,1),ret,SysStatus.ANT_BASE_SAFETY.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(1,2),ret,SysStatus.VERANDA_EQUIP_FREE.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(1,3),ret,SysStatus.LADDER_SWITCH.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(1,4),ret,SysStatus.TRANSP_INTLK.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(1,5),ret,SysStatus.TRANSP_INTLK_EXCPT_AZ.value,statusBits);
-			
-			// Byte 2
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(2,0),ret,SysStatus.RCV_CABIN_DOOR_OPEN.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(2,1),ret,SysStatus.CNTR_CABIN_DOOR_OPEN.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(2,2),ret,SysStatus.ANT_BASE_DOOR_OPEN.value,statusBits);
-			//20091002MT  The following three bits have been removed.
-			//ret=ValueDisplayer.formatStatusBit(bits.getBit(2,3),ret,SysStatus.UPS_ROOM_DOOR_OPEN.value,statusBits);
-			//ret=ValueDisplayer.formatStatusBit(bits.getBit(2,4),ret,SysStatus.PDB_ROOM_DOOR_OPEN.value,statusBits);
-			//ret=ValueDisplayer.formatStatusBit(bits.getBit(2,5),ret,SysStatus.MAIN_REF_HATCH_OPEN.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(2,6),ret,SysStatus.YOKE_L_HATCH_OPEN.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(2,7),ret,SysStatus.YOKE_R_HATCH_OPEN.value,statusBits);
-			
-			// Byte 3
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(3,0),ret,SysStatus.AZ_HNDL_INTLK.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(3,1),ret,SysStatus.EL_HNDL_INTLK.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(3,2),ret,SysStatus.AZ_STOW_HNDL_INTLK.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(3,3),ret,SysStatus.EL_STOW_HNDL_INTLK.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(3,4),ret,SysStatus.SHUTTER_HNDL_INTLK.value,statusBits);
-			
-			// Byte 4
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(4,0),ret,SysStatus.AZ_STOW_TO.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(4,1),ret,SysStatus.AZ_STOW_THERMAL_TRIP.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(4,2),ret,SysStatus.STOW_DPA_CB_OFF.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(4,3),ret,SysStatus.STOW_DPA_COND_OFF.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(4,4),ret,SysStatus.EL_STOW_TO.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(4,5),ret,SysStatus.EL_STOW_THERMAL_TRIP.value,statusBits);
-			
-			// Byte 5
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(5,0),ret,SysStatus.SHUTTER_TO.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(5,1),ret,SysStatus.SHUTTER_THERMAL_TRIP.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(5,2),ret,SysStatus.SHUTTER_DPA_CB_OFF.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(5,3),ret,SysStatus.SHUTTER_DPA_COND_OFF.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(5,7),ret,SysStatus.ZENITH_SHUTTER_OPEN.value,statusBits);
-			
-			// Byte 6
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(6,0),ret,SysStatus.RD_CONV_FAIL.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(6,1),ret,SysStatus.IF_PANEL_FAIL.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(6,3),ret,SysStatus.NUTATOR_RACK_PS_ALARM.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(6,4),ret,SysStatus.BRAKE_AXIS_HEATER_ALARM.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(6,5),ret,SysStatus.MOTOR_PUMP_FAIL.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(6,6),ret,SysStatus.ARRESTER_BROKEN_ALARM.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(6,7),ret,SysStatus.DC_POWER_CIRCUIT_ALARM.value,statusBits);
-			
-			// Byte 7
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(7,0),ret,SysStatus.ACU_MAINT.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(7,1),ret,SysStatus.ANT_STATION_POWER_DISCON.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(7,2),ret,SysStatus.ANT_INTLK.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(7,6),ret,SysStatus.DRIVE_SYSTEM_FAIL.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(7,7),ret,SysStatus.MORE_PCU_CONNECT.value,statusBits);
-			for (int t=SysStatus.SAFE_SWITCH.ordinal(); t<=SysStatus.MORE_PCU_CONNECT.ordinal(); t++) {
-				statusVals[t]=SysStatus.values()[t].value.toString();
-			}
-			return ret;
-		} else {
+		ValueState ret=systemStatusDecoder.decode(mnt.getStatus());
+		if (ret==null) {
 			updateStatusError();
 			return ValueState.ERROR;
 		}
+		return ret;
 	}
 
 	private ValueState updateSystemStatus2(MountA7M mnt) {
@@ -635,63 +945,12 @@ public class MountA7MStatus extends MountDetails implements MountInterface {
 			updateError();
 			return ValueState.NORMAL;
 		}
-		ValueHolder<int[]> statusBits = mnt.getStatus2();
-		if (statusBits!=null && statusBits.getValue()!=null) {
-			Long[] longBits = new Long[statusBits.getValue().length];
-			if (longBits.length!=8) {
-				updateStatusError();
-				return ValueState.ERROR;
-			}
-			for (int t=0; t<longBits.length; t++) {
-				longBits[t]=(long)statusBits.getValue()[t];
-			}
-			LongArrayBit bits = new LongArrayBit(longBits);
-			ValueState ret = ValueState.NORMAL;
-			// Byte 0
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,0),ret,SysStatus.DC12V_FAIL.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,1),ret,SysStatus.SYS_FAIL.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,2),ret,SysStatus.AC_FAIL.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,3),ret,SysStatus.DATA_FAULT.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,4),ret,SysStatus.AD_CONV_FAIL.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,6),ret,SysStatus.CAN_BOARD_FAIL.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,7),ret,SysStatus.CLOCK_BOARD_FAIL.value,statusBits);
-
-			// Byte 1
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(1,0),ret,SysStatus.DSP_FAIL.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(1,1),ret,SysStatus.DSP_AD_CONV_FAIL.value,statusBits);
-
-			// Byte 2
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(2,0),ret,SysStatus.IMP1_FAIL.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(2,1),ret,SysStatus.IMP2_FAIL.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(2,2),ret,SysStatus.IMP3_FAIL.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(2,3),ret,SysStatus.IMP4_FAIL.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(2,4),ret,SysStatus.IMP5_FAIL.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(2,5),ret,SysStatus.IMP6_FAIL.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(2,6),ret,SysStatus.IMP7_FAIL.value,statusBits);
-			
-			// Byte 3
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(3,0),ret,SysStatus.PCU1_CONNECTED.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(3,1),ret,SysStatus.PCU2_CONNECTED.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(3,2),ret,SysStatus.PCU3_CONNECTED.value,statusBits);
-
-			// Byte 4
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(4,6),ret,SysStatus.DIFC_FAULT.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(4,7),ret,SysStatus.DIFC_POWER_FAIL.value,statusBits);
-
-			// Byte 5
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(5,0),ret,SysStatus.ACU2DIFC_LINE1_DISCON.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(5,1),ret,SysStatus.ACU2DIFC_LINE2_DISCON.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(5,2),ret,SysStatus.DIFC2ACU_LINE1_DISCON.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(5,3),ret,SysStatus.DIFC2ACU_LINE2_DISCON.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(5,4),ret,SysStatus.ACU2DIFC_LINE3_DISCON.value,statusBits);
-			for (int t=SysStatus.DC12V_FAIL.ordinal(); t<=SysStatus.ACU2DIFC_LINE3_DISCON.ordinal(); t++) {
-				statusVals[t]=SysStatus.values()[t].value.toString();
-			}
-			return ret;
-		} else {
+		ValueState ret=systemStatus2Decoder.decode(mnt.getStatus2());
+		if (ret==null) {
 			updateStatusError();
 			return ValueState.ERROR;
 		}
+		return ret;
 	}
 	
 	/**
@@ -704,43 +963,12 @@ public class MountA7MStatus extends MountDetails implements MountInterface {
 			updateError();
 			return ValueState.NORMAL;
 		}
-		ValueHolder<int[]> powerStatusBits = mnt.getPowerStatus();
-		if (powerStatusBits!=null && powerStatusBits.getValue()!=null) {
-			Long[] longBits = new Long[powerStatusBits.getValue().length];
-			if (longBits.length!=3) {
-				updatePowerError();
-				return ValueState.ERROR;
-			}
-			for (int t=0; t<longBits.length; t++) {
-				longBits[t]=(long)powerStatusBits.getValue()[t];
-			}
-			LongArrayBit bits = new LongArrayBit(longBits);
-			ValueState ret = ValueState.NORMAL;
-			// byte 0
-			ret=ValueDisplayer.formatStatusBitInverse(bits.getBit(0,0),ret,PowerStatus.BASE_PWR.value,powerStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,1),ret,PowerStatus.TRANS_PWR.value,powerStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,2),ret,PowerStatus.AC_PWR_FAILURE.value,powerStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,3),ret,PowerStatus.AC_ABNORMAL_PHASE.value,powerStatusBits);
-			
-			// byte 1
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(1,0),ret,PowerStatus.UPS1_DISC.value,powerStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(1,1),ret,PowerStatus.UPS1_ALARM.value,powerStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(1,2),ret,PowerStatus.UPS1_INPUT_FAILURE.value,powerStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(1,3),ret,PowerStatus.UPS1_BAT_LOW.value,powerStatusBits);
-			
-			// byte 2
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(2,0),ret,PowerStatus.UPS2_DISC.value,powerStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(2,1),ret,PowerStatus.UPS2_ALARM.value,powerStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(2,2),ret,PowerStatus.UPS2_INPUT_FAILURE.value,powerStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(2,3),ret,PowerStatus.UPS2_BAT_LOW.value,powerStatusBits);
-			for (int t=0; t<PowerStatus.values().length; t++) {
-				powerStatusVals[t]=PowerStatus.values()[t].value.toString();
-			}
-			return ret;
-		} else {
+		ValueState ret=powerStatusDecoder.decode(mnt.getPowerStatus());
+		if (ret==null) {
 			updatePowerError();
 			return ValueState.ERROR;
 		}
+		return ret;
 	}
 	
 	/**
@@ -770,89 +998,12 @@ public class MountA7MStatus extends MountDetails implements MountInterface {
 			updateError();
 			return ValueState.NORMAL;
 		}
-		ValueHolder<int[]> azStatusBits = mnt.getAzStatus();
-		if (azStatusBits!=null && azStatusBits.getValue()!=null) {
-			Long[] longBits = new Long[azStatusBits.getValue().length];
-			if (longBits.length!=8) {
-				updateAzError();
-				return ValueState.ERROR;
-			}
-			for (int t=0; t<longBits.length; t++) {
-				longBits[t]=(long)azStatusBits.getValue()[t];
-			}
-			LongArrayBit bits = new LongArrayBit(longBits);
-			ValueState ret = ValueState.NORMAL;
-			// byte 0
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,0),ret,AzStatus.LIMIT2_CW.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,1),ret,AzStatus.LIMIT2_CCW.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,2),ret,AzStatus.LIMIT1_CW.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,3),ret,AzStatus.LIMIT1_CCW.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,4),ret,AzStatus.PRE_LIMIT_CW.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,5),ret,AzStatus.PRE_LIMIT_CCW.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,6),ret,AzStatus.LIMIT_WARN_CW.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,7),ret,AzStatus.LIMIT_WARN_CCW.value,azStatusBits);
-			
-			// byte 1
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(1,0),ret,AzStatus.INVALID_DIR.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(1,1),ret,AzStatus.OVERRIDE_SW_ENABLED.value,azStatusBits);
-			
-			// byte 2 
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(2,0),ret,AzStatus.AZ_L1_DPA_FAULT.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(2,1),ret,AzStatus.AZ_L2_DPA_FAULT.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(2,2),ret,AzStatus.AZ_R1_DPA_FAULT.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(2,3),ret,AzStatus.AZ_R2_DPA_FAULT.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(2,4),ret,AzStatus.AZ_L1_MOTOR_OH.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(2,5),ret,AzStatus.AZ_L2_MOTOR_OH.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(2,6),ret,AzStatus.AZ_R1_MOTOR_OH.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(2,7),ret,AzStatus.AZ_R2_MOTOR_OH.value,azStatusBits);
-			
-			// byte 3
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(3,0),ret,AzStatus.AZ_L1_CBANK_FAULT.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(3,1),ret,AzStatus.AZ_L2_CBANK_FAULT.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(3,2),ret,AzStatus.AZ_R1_CBANK_FAULT.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(3,3),ret,AzStatus.AZ_R2_CBANK_FAULT.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(3,4),ret,AzStatus.AZ_L1_CBANK_FULL.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(3,5),ret,AzStatus.AZ_L2_CBANK_FULL.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(3,6),ret,AzStatus.AZ_R1_CBANK_FULL.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(3,7),ret,AzStatus.AZ_R2_CBANK_FULL.value,azStatusBits);
-			
-			// byte 4
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(4,0),ret,AzStatus.AZ_L1_EXCSV_CURR.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(4,1),ret,AzStatus.AZ_L2_EXCSV_CURR.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(4,2),ret,AzStatus.AZ_R1_EXCSV_CURR.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(4,3),ret,AzStatus.AZ_R2_EXCSV_CURR.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(4,4),ret,AzStatus.SERVO_OSCILLATION.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(4,5),ret,AzStatus.RUNAWAY.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(4,6),ret,AzStatus.OVERSPEED.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(4,7),ret,AzStatus.ANGLE_INPUT_FAULT.value,azStatusBits);
-			
-			// byte 5
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(5,0),ret,AzStatus.AZ_L_DCPA_CB_OFF.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(5,1),ret,AzStatus.AZ_R_DCPA_CB_OFF.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(5,3),ret,AzStatus.AZ_ALL_ENCODER_ALARM.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(5,4),ret,AzStatus.AZ_LF_ENCODER_ALARM.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(5,5),ret,AzStatus.AZ_LR_ENCODER_ALARM.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(5,6),ret,AzStatus.AZ_RF_ENCODER_ALARM.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(5,7),ret,AzStatus.AZ_RR_ENCODER_ALARM.value,azStatusBits);
-			
-			// byte 6
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(6,4),ret,AzStatus.BRAKE_POWER_FAIL.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(6,5),ret,AzStatus.BRAKE_PS_FUSE_BLOW.value,azStatusBits);
-			
-			// byte 7
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(7,0),ret,AzStatus.SURVIVAL_STOW_POS.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(7,1),ret,AzStatus.MAINT_STOW_POS.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(7,4),ret,AzStatus.CABLE_OVERLAP_CW.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(7,5),ret,AzStatus.CABLE_OVERLAP_CCW.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(7,7),ret,AzStatus.OTHER_FAULT.value,azStatusBits);
-			for (int t=AzStatus.LIMIT2_CW.ordinal(); t<=AzStatus.OTHER_FAULT.ordinal(); t++) {
-				azStatusVals[t]=AzStatus.values()[t].value.toString();
-			}
-			return ret;
-		} else {
+		ValueState ret=azStatusDecoder.decode(mnt.getAzStatus());
+		if (ret==null) {
 			updateAzError();
 			return ValueState.ERROR;
 		}
+		return ret;
 	}
 	
 	private ValueState updateAzStatus2(MountA7M mnt) {
@@ -860,75 +1011,12 @@ public class MountA7MStatus extends MountDetails implements MountInterface {
 			updateError();
 			return ValueState.NORMAL;
 		}
-		ValueHolder<int[]> azStatusBits = mnt.getAzStatus2();
-		if (azStatusBits!=null && azStatusBits.getValue()!=null) {
-			Long[] longBits = new Long[azStatusBits.getValue().length];
-			if (longBits.length!=8) {
-				updateAzError();
-				return ValueState.ERROR;
-			}
-			for (int t=0; t<longBits.length; t++) {
-				longBits[t]=(long)azStatusBits.getValue()[t];
-			}
-			LongArrayBit bits = new LongArrayBit(longBits);
-			ValueState ret = ValueState.NORMAL;
-			// byte 0
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,0),ret,AzStatus.AZ_LF_ENCDR_DISCON.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,1),ret,AzStatus.AZ_LR_ENCDR_DISCON.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,2),ret,AzStatus.AZ_RF_ENCDR_DISCON.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,3),ret,AzStatus.AZ_RR_ENCDR_DISCON.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,4),ret,AzStatus.AZ_LF_ENCDR_NOT_INIT.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,5),ret,AzStatus.AZ_LR_ENCDR_NOT_INIT.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,6),ret,AzStatus.AZ_RF_ENCDR_NOT_INIT.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,7),ret,AzStatus.AZ_RR_ENCDR_NOT_INIT.value,azStatusBits);
-	
-			// byte 1
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(1,0),ret,AzStatus.AZ_L1_DPA_DISCON.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(1,1),ret,AzStatus.AZ_L2_DPA_DISCON.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(1,2),ret,AzStatus.AZ_R1_DPA_DISCON.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(1,3),ret,AzStatus.AZ_R2_DPA_DISCON.value,azStatusBits);
-	
-			// byte 2
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(2,0),ret,AzStatus.AZ_L1_DPA_COND_OFF.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(2,1),ret,AzStatus.AZ_L2_DPA_COND_OFF.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(2,2),ret,AzStatus.AZ_R1_DPA_COND_OFF.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(2,3),ret,AzStatus.AZ_R2_DPA_COND_OFF.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(2,4),ret,AzStatus.AZ_L1_DPA_DISCHARGE.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(2,5),ret,AzStatus.AZ_L2_DPA_DISCHARGE.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(2,6),ret,AzStatus.AZ_R1_DPA_DISCHARGE.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(2,7),ret,AzStatus.AZ_R2_DPA_DISCHARGE.value,azStatusBits);
-	
-			// byte 3
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(3,0),ret,AzStatus.POSN_FILTER_FAULT.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(3,1),ret,AzStatus.MAJOR_FILTER_FAULT.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(3,2),ret,AzStatus.MINOR_FILTER_FAULT.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(3,3),ret,AzStatus.FDBK_FILTER_FAULT.value,azStatusBits);
-	
-			// byte 4
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(4,0),ret,AzStatus.AZ_L1_DRIVE_ON_TO.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(4,1),ret,AzStatus.AZ_L2_DRIVE_ON_TO.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(4,2),ret,AzStatus.AZ_R1_DRIVE_ON_TO.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(4,3),ret,AzStatus.AZ_R2_DRIVE_ON_TO.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(4,4),ret,AzStatus.AZ_L1_POWER_ON_TO.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(4,5),ret,AzStatus.AZ_L2_POWER_ON_TO.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(4,6),ret,AzStatus.AZ_R1_POWER_ON_TO.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(4,7),ret,AzStatus.AZ_R2_POWER_ON_TO.value,azStatusBits);
-	
-			// byte 5
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(5,0),ret,AzStatus.BRAKE_AXIS_DPA_FAULT.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(5,1),ret,AzStatus.BRAKE_AXIS_DPA_CB_OFF.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(5,2),ret,AzStatus.BRAKE_AXIS_DPA_COND_OFF.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(5,3),ret,AzStatus.BRAKE_AXIS_RSLV_DISCON.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(5,4),ret,AzStatus.BRAKE_AXIS_ASYNC.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(5,7),ret,AzStatus.BRAKE_AXIS_DRIVE_ON_TO.value,azStatusBits);
-			for (int t=AzStatus.AZ_LF_ENCDR_DISCON.ordinal(); t<=AzStatus.BRAKE_AXIS_DRIVE_ON_TO.ordinal(); t++) {
-				azStatusVals[t]=AzStatus.values()[t].value.toString();
-			}
-			return ret;
-		} else {
+		ValueState ret=azStatus2Decoder.decode(mnt.getAzStatus2());
+		if (ret==null) {
 			updateAzError();
 			return ValueState.ERROR;
 		}
+		return ret;
 	}
 	
 	/**
@@ -941,76 +1029,12 @@ public class MountA7MStatus extends MountDetails implements MountInterface {
 			updateError();
 			return ValueState.NORMAL;
 		}
-		ValueHolder<int[]> elStatusBits = mnt.getElStatus();
-		if (elStatusBits!=null && elStatusBits.getValue()!=null) {
-			Long[] longBits = new Long[elStatusBits.getValue().length];
-			if (longBits.length!=8) {
-				updateElError();
-				return ValueState.ERROR;
-			}
-			for (int t=0; t<longBits.length; t++) {
-				longBits[t]=(long)elStatusBits.getValue()[t];
-			}
-			LongArrayBit bits = new LongArrayBit(longBits);
-			ValueState ret = ValueState.NORMAL;
-			// byte 0
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,0),ret,ElStatus.LIMIT2_UP.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,1),ret,ElStatus.LIMIT2_DOWN.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,2),ret,ElStatus.LIMIT1_UP.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,3),ret,ElStatus.LIMIT1_DOWN.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,4),ret,ElStatus.PRE_LIMIT_UP.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,5),ret,ElStatus.PRE_LIMIT_DOWN.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,6),ret,ElStatus.LIMIT_WARN_UP.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,7),ret,ElStatus.LIMIT_WARN_DOWN.value,elStatusBits);
-			
-			
-			// byte 1
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(1,0),ret,ElStatus.INVALID_DIR.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(1,1),ret,ElStatus.OVERRIDE_SW_ENABLED.value,elStatusBits);
-			
-			// byte 2 
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(2,0),ret,ElStatus.EL_L_DPA_FAULT.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(2,1),ret,ElStatus.EL_R_DPA_FAULT.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(2,4),ret,ElStatus.EL_L_MOTOR_OH.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(2,5),ret,ElStatus.EL_R_MOTOR_OH.value,elStatusBits);
-			
-			// byte 3
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(3,0),ret,ElStatus.EL_L_CBANK_FAULT.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(3,1),ret,ElStatus.EL_R_CBANK_FAULT.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(3,4),ret,ElStatus.EL_L_CBANK_FULL.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(3,5),ret,ElStatus.EL_R_CBANK_FULL.value,elStatusBits);
-			
-			// byte 4
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(4,0),ret,ElStatus.EL_L_EXCSV_CURR.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(4,1),ret,ElStatus.EL_R_EXCSV_CURR.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(4,4),ret,ElStatus.SERVO_OSCILLATION.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(4,5),ret,ElStatus.RUNAWAY.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(4,6),ret,ElStatus.OVERSPEED.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(4,7),ret,ElStatus.ANGLE_INPUT_FAULT.value,elStatusBits);
-			
-			// byte 5
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(5,0),ret,ElStatus.DCPA_CB_OFF.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(5,3),ret,ElStatus.EL_ALL_ENCDR_ALARM.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(5,4),ret,ElStatus.EL_F_ENCDR_ALARM.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(5,5),ret,ElStatus.EL_R_ENCDR_ALARM.value,elStatusBits);
-
-			// byte 6
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(6,4),ret,ElStatus.BRAKE_POWER_FAIL.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(6,5),ret,ElStatus.BRAKE_PS_FUSE_BLOW.value,elStatusBits);
-			
-			// byte 7
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(7,0),ret,ElStatus.SURVIVAL_STOW_POS.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(7,1),ret,ElStatus.MAINT_STOW_POS.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(7,2),ret,ElStatus.ZENITH_POS.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(7,7),ret,ElStatus.OTHER_FAULT.value,elStatusBits);
-			for (int t=ElStatus.LIMIT2_UP.ordinal(); t<=ElStatus.OTHER_FAULT.ordinal(); t++) {
-				elStatusVals[t]=ElStatus.values()[t].value.toString();
-			}
-			return ret;
-		} else {
+		ValueState ret=elStatusDecoder.decode(mnt.getElStatus());
+		if (ret==null) {
 			updateElError();
 			return ValueState.ERROR;
 		}
+		return ret;
 	}
 
 	private ValueState updateElStatus2(MountA7M mnt) {
@@ -1018,61 +1042,12 @@ public class MountA7MStatus extends MountDetails implements MountInterface {
 			updateError();
 			return ValueState.NORMAL;
 		}
-		ValueHolder<int[]> elStatusBits = mnt.getElStatus2();
-		if (elStatusBits!=null && elStatusBits.getValue()!=null) {
-			Long[] longBits = new Long[elStatusBits.getValue().length];
-			if (longBits.length!=8) {
-				updateElError();
-				return ValueState.ERROR;
-			}
-			for (int t=0; t<longBits.length; t++) {
-				longBits[t]=(long)elStatusBits.getValue()[t];
-			}
-			LongArrayBit bits = new LongArrayBit(longBits);
-			ValueState ret = ValueState.NORMAL;
-			// byte 0
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,0),ret,ElStatus.EL_F_ENCDR_DISCON.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,1),ret,ElStatus.EL_R_ENCDR_DISCON.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,4),ret,ElStatus.EL_F_ENCDR_NOT_INIT.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,5),ret,ElStatus.EL_R_ENCDR_NOT_INIT.value,elStatusBits);
-
-			// byte 1
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(1,0),ret,ElStatus.EL_L_DPA_DISCON.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(1,1),ret,ElStatus.EL_R_DPA_DISCON.value,elStatusBits);
-
-			// byte 2
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(2,0),ret,ElStatus.EL_L_DPA_COND_OFF.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(2,1),ret,ElStatus.EL_R_DPA_COND_OFF.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(2,4),ret,ElStatus.EL_L_DPA_DISCHARGE.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(2,5),ret,ElStatus.EL_R_DPA_DISCHARGE.value,elStatusBits);
-
-			// byte 3
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(3,0),ret,ElStatus.POSN_FILTER_FAULT.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(3,1),ret,ElStatus.MAJOR_FILTER_FAULT.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(3,2),ret,ElStatus.MINOR_FILTER_FAULT.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(3,3),ret,ElStatus.FDBK_FILTER_FAULT.value,elStatusBits);
-
-			// byte 4
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(4,0),ret,ElStatus.EL_L_DRIVE_ON_TO.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(4,1),ret,ElStatus.EL_R_DRIVE_ON_TO.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(4,4),ret,ElStatus.EL_L_POWER_ON_TO.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(4,5),ret,ElStatus.EL_R_POWER_ON_TO.value,elStatusBits);
-
-			// byte 5
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(5,0),ret,ElStatus.BRAKE_AXIS_DPA_FAULT.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(5,1),ret,ElStatus.BRAKE_AXIS_DPA_CB_OFF.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(5,2),ret,ElStatus.BRAKE_AXIS_DPA_COND_OFF.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(5,3),ret,ElStatus.BRAKE_AXIS_RSLV_DISCON.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(5,4),ret,ElStatus.BRAKE_AXIS_ASYNC.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(5,7),ret,ElStatus.BRAKE_AXIS_DRIVE_ON_TO.value,elStatusBits);
-			for (int t=ElStatus.EL_F_ENCDR_DISCON.ordinal(); t<=ElStatus.BRAKE_AXIS_DRIVE_ON_TO.ordinal(); t++) {
-				elStatusVals[t]=ElStatus.values()[t].value.toString();
-			}
-			return ret;
-		} else {
+		ValueState ret=elStatus2Decoder.decode(mnt.getElStatus2());
+		if (ret==null) {
 			updateElError();
 			return ValueState.ERROR;
 		}
+		return ret;
 	}
 	
 	/**
@@ -20,11 +20,12 @@
 package alma.control.gui.antennamount.tracking;
 
 import alma.control.gui.antennamount.mount.Mount;
-import alma.control.gui.antennamount.mount.ValueHolder;
+import alma.control.gui.antennamount.mount.StatusWord;
 import alma.control.gui.antennamount.mount.aem.MountAEM;
-import alma.control.gui.antennamount.utils.ValueDisplayer;
 import alma.control.gui.antennamount.utils.ValueState;
-import alma.control.gui.antennamount.utils.bit.LongArrayBit;
+import alma.control.gui.antennamount.utils.bit.StatusBitTable;
+import alma.control.gui.antennamount.utils.bit.StatusWordDecoder;
+import alma.control.gui.antennamount.utils.bit.StatusBitTable.Polarity;
 //import java.io.PrintStream;
 
 /**
@@ -107,8 +108,6 @@ public class MountAEMStatus extends MountDetails implements MountInterface {
  
 		public final String title;
 		
-		public final StringBuilder value = new StringBuilder(); 
-		
 		private SysStatus(String title) {
 			this.title=title;
 		}
@@ -181,8 +180,6 @@ public class MountAEMStatus extends MountDetails implements MountInterface {
 
 		public final String title;
 		
-		public final StringBuilder value = new StringBuilder(); 
-		
 		private ElStatus(String title) {
 			this.title=title;
 		}
@@ -264,8 +261,6 @@ public class MountAEMStatus extends MountDetails implements MountInterface {
  
 		public final String title;
 		
-		public final StringBuilder value = new StringBuilder(); 
-		
 		private AzStatus(String title) {
 			this.title=title;
 		}
@@ -299,13 +294,245 @@ public class MountAEMStatus extends MountDetails implements MountInterface {
 		
 		public final String title;
 		
-		public final StringBuilder value = new StringBuilder(); 
-		
 		private PowerStatus(String title) {
 			this.title=title;
 		}
 	}
 	
+	/**
+	 * The bits of GET_SYSTEM_STATUS
+	 */
+	private static final StatusBitTable SYSTEM_STATUS_BITS = new StatusBitTable.Builder(7)
+		// Byte 0
+		.add(0,0,SysStatus.SAFE_SWITCH)
+		.add(0,1,SysStatus.ACU_INTERLOCK)
+		.add(0,2,SysStatus.BASE_DOOR_INTERLOCK)
+		.add(0,3,SysStatus.BASE1_INTERLOCK)
+		.add(0,4,SysStatus.BASE2_INTERLOCK)
+		.add(0,5,SysStatus.AZ_SKIRT1_INTERLOCK)
+		.add(0,6,SysStatus.AZ_SKIRT2_INTERLOCK)
+		.add(0,7,SysStatus.STAIR1_INTERLOCK)
+
+		// Byte 1
+		.add(1,0,SysStatus.EL_LEFT_INTERLOCK)
+		.add(1,1,SysStatus.EL_RIGHT_INTERLOCK)
+		.add(1,2,SysStatus.PCU1_RC_INTERLOCK)
+		.add(1,3,SysStatus.PCU2_D1_INTERLOCK)
+		.add(1,4,SysStatus.PCU3_BASE_INTERLOCK)
+		.add(1,5,SysStatus.PCU4_PLC_INTERLOCK)
+		.add(1,6,SysStatus.RECV_CABIN_INTERLOCK)
+		.add(1,7,SysStatus.RECV_CABIN_DOOR)
+
+		// Byte 2
+		.add(2,0,SysStatus.HANDRAIL_PLATFORM_ILOCK)
+		.add(2,1,SysStatus.ACU_BOOT_FAILURE)
+		.add(2,2,SysStatus.SURVIVAL_STOW_MISSING_CMD)
+		.add(2,3,SysStatus.SURVIVAL_STOW_MISSING_PULSE)
+		.add(2,4,SysStatus.PULSE_MISSING)
+		.add(2,5,SysStatus.ACU_TASK_FAILURE)
+		.add(2,6,SysStatus.PULSE_MISSED)
+
+		// Byte 3
+		.add(3,0,SysStatus.HYDRAULIC_UNIT_ALARM)
+		.add(3,1,SysStatus.FIRE_SYSTEM)
+		.add(3,2,SysStatus.OVERTEMPERATURE_ALARM)
+		.add(3,3,SysStatus.VENT_SKIRT_STATUS)
+
+		// Byte 4
+		.add(4,0,SysStatus.LOCAL_MODE)
+		.add(4,1,SysStatus.REMOTE_MODE,Polarity.ERROR_IF_UNSET)
+		.add(4,2,SysStatus.PCU_MODE)
+		.add(4,3,SysStatus.PCU1_CONN)
+		.add(4,4,SysStatus.PCU2_CONN)
+		.add(4,5,SysStatus.PCU3_CONN)
+		.add(4,6,SysStatus.PCU4_CONN)
+
+		// Byte 5
+		.add(5,0,SysStatus.DRIVES_PWR)
+		.add(5,1,SysStatus.DRIVES)
+		.add(5,2,SysStatus.HYDRAULIC_PUMP,Polarity.ERROR_IF_UNSET)
+		.add(5,3,SysStatus.SKIRT_VENTILATION)
+		.add(5,4,SysStatus.SKIRT_VENTILATION_CMD)
+
+		// Byte 6
+		.add(6,0,SysStatus.CLOSING_MOTOR_SHUTTER)
+		.add(6,1,SysStatus.OPENING_MOTOR_SHUTTER)
+		.add(6,2,SysStatus.LOCK_ON)
+		.add(6,3,SysStatus.TIMEOUT)
+		.add(6,4,SysStatus.BASE_LADDER_INTERLOCK)
+		.add(6,5,SysStatus.DRIVES_LOCKOUT_STATUS)
+		.add(6,6,SysStatus.MISSING_DUMMY_SOCKET)
+		.build();
+
+	/**
+	 * The bits of GET_AZ_STATUS
+	 */
+	private static final StatusBitTable AZ_STATUS_BITS = new StatusBitTable.Builder(8)
+		// byte 0
+		.add(0,0,AzStatus.SW_CW)
+		.add(0,1,AzStatus.HW_CW)
+		.add(0,2,AzStatus.HW_CW_FINAL)
+		.add(0,3,AzStatus.CW_SHUTDOWN)
+		.add(0,4,AzStatus.SW_CCW)
+		.add(0,5,AzStatus.HW_CCW)
+		.add(0,6,AzStatus.HW_CCW_FINAL)
+		.add(0,7,AzStatus.CCW_SHUTDOWN)
+
+		// byte 1
+		.add(1,0,AzStatus.ROT_FINAL_LIMIT)
+		.add(1,1,AzStatus.AXIS_HW_INTERLOCK)
+		.add(1,2,AzStatus.OVERRIDE_CDM)
+		.add(1,3,AzStatus.HARDSTOP_PLUS)
+		.add(1,4,AzStatus.HARDSTOP_MINUS)
+		.add(1,5,AzStatus.SENSE_PLUS)
+		.add(1,6,AzStatus.SENSE_MINUS)
+
+		// byte 2
+		.add(2,0,AzStatus.MOTOR_OVERSPEED)
+		.add(2,1,AzStatus.MOTOR_1HALF_OVRCURRENT)
+		.add(2,2,AzStatus.MOTOR_1HALF_OVRHEATING)
+		.add(2,3,AzStatus.MOTOR_2HALF_OVRCURRENT)
+		.add(2,4,AzStatus.MOTOR_2HALF_OVRHEATING)
+		.add(2,5,AzStatus.DRIVE_PWR_ON,Polarity.ERROR_IF_UNSET)
+		.add(2,6,AzStatus.DC_BUS1,Polarity.ERROR_IF_UNSET)
+		.add(2,7,AzStatus.DC_BUS2,Polarity.ERROR_IF_UNSET)
+
+		// byte 3
+		.add(3,0,AzStatus.MOTORS_PWR_ON_SWITCH_FAIL)
+		.add(3,1,AzStatus.MOTORS_ENABLE_TMOUT)
+		.add(3,2,AzStatus.MOTORS_1HALF_FAULT)
+		.add(3,3,AzStatus.MOTORS_2HALF_FAULT)
+		.add(3,4,AzStatus.MOTORS_DRIVER_RDY,Polarity.ERROR_IF_UNSET)
+		.add(3,5,AzStatus.SENSORS_INCONSISTENCY)
+		.add(3,6,AzStatus.FOLLOWING_ERROR)
+
+		// byte 4
+		.add(4,0,AzStatus.ENC_VALUE_FAULT)
+		.add(4,1,AzStatus.ABSENC_ABS_POS_NA)
+		.add(4,2,AzStatus.ENC_VAL_VALIDATION)
+		.add(4,3,AzStatus.SERVO_OSC)
+		.add(4,4,AzStatus.INTERPOL_BOARD1,Polarity.ERROR_IF_UNSET)
+		.add(4,5,AzStatus.INTERPOL_BOARD2,Polarity.ERROR_IF_UNSET)
+
+		// byte 5
+		.add(5,0,AzStatus.ENC_HEAD1_STATUS)
+		.add(5,1,AzStatus.ENC_HEAD2_STATUS)
+		.add(5,2,AzStatus.ENC_HEAD3_STATUS)
+		.add(5,3,AzStatus.ENC_HEAD4_STATUS)
+		.add(5,4,AzStatus.ENC_HEAD5_STATUS)
+		.add(5,5,AzStatus.ENC_HEAD6_STATUS)
+		.add(5,6,AzStatus.ENC_HEAD7_STATUS)
+		.add(5,7,AzStatus.ENC_HEAD8_STATUS)
+
+		// byte 6
+		.add(6,0,AzStatus.BRAKE_POS_ERR)
+		.add(6,1,AzStatus.BRAKE_WEAR)
+		.add(6,2,AzStatus.BRAKE_LOCAL_MODE)
+		.add(6,3,AzStatus.BRAKE_OUT,Polarity.ERROR_IF_UNSET)
+		.add(6,4,AzStatus.BRAKE_DISENGAGE_TO)
+		.add(6,5,AzStatus.BRAKE_ENGAGE_TO)
+		.build();
+
+	/**
+	 * The bits of GET_EL_STATUS
+	 */
+	private static final StatusBitTable EL_STATUS_BITS = new StatusBitTable.Builder(8)
+		// byte 0
+		.add(0,0,ElStatus.SW_UP)
+		.add(0,1,ElStatus.HW_UP)
+		.add(0,2,ElStatus.HW_UP_FINAL)
+		.add(0,3,ElStatus.UP_SHUTDOWN)
+		.add(0,4,ElStatus.SW_DOWN)
+		.add(0,5,ElStatus.HW_DOWN)
+		.add(0,6,ElStatus.HW_DOWN_FINAL)
+		.add(0,7,ElStatus.DOWN_SHUTDOWN)
+
+		// byte 1
+		.add(1,0,ElStatus.ROT_FINAL_LIMIT)
+		.add(1,1,ElStatus.AXIS_HW_INTERLOCK)
+		.add(1,1,ElStatus.OVERRIDE_CDM)
+
+		// byte 2
+		.add(2,0,ElStatus.MOTOR_OVERSPEED)
+		.add(2,1,ElStatus.MOTOR_1HALF_OVRCURRENT)
+		.add(2,2,ElStatus.MOTOR_1HALF_OVRHEATING)
+		.add(2,3,ElStatus.MOTOR_2HALF_OVRCURRENT)
+		.add(2,4,ElStatus.MOTOR_2HALF_OVRHEATING)
+		.add(2,5,ElStatus.DRIVE_PWR_ON,Polarity.ERROR_IF_UNSET)
+		.add(2,6,ElStatus.DC_BUS1,Polarity.ERROR_IF_UNSET)
+		.add(2,7,ElStatus.DC_BUS2,Polarity.ERROR_IF_UNSET)
+
+		// byte 3
+		.add(3,0,ElStatus.MOTORS_PWR_ON_SWITCH_FAIL)
+		.add(3,1,ElStatus.MOTORS_ENABLE_TMOUT)
+		.add(3,2,ElStatus.MOTORS_1HALF_FAULT)
+		.add(3,3,ElStatus.MOTORS_2HALF_FAULT)
+		.add(3,4,ElStatus.MOTORS_DRIVER_RDY,Polarity.ERROR_IF_UNSET)
+		.add(3,5,ElStatus.SENSORS_INCONSISTENCY)
+		.add(3,6,ElStatus.FOLLOWING)
+
+		// byte 4
+		.add(4,0,ElStatus.ENC_VALUE_FAULT)
+		.add(4,1,ElStatus.ABSENC_ABS_POS_NA)
+		.add(4,2,ElStatus.ENC_VAL_VALIDATION)
+		.add(4,3,ElStatus.SERVO_OSC)
+		.add(4,4,ElStatus.INTERPOL_BOARD1,Polarity.ERROR_IF_UNSET)
+
+		// byte 5
+		.add(5,0,ElStatus.ENC_HEAD1_STATUS)
+		.add(5,1,ElStatus.ENC_HEAD2_STATUS)
+		.add(5,2,ElStatus.ENC_HEAD3_STATUS)
+		.add(5,3,ElStatus.ENC_HEAD4_STATUS)
+
+		// byte 6
+		.add(6,0,ElStatus.BRAKE_POS_ERR)
+		.add(6,1,ElStatus.BRAKE_WEAR)
+		.add(6,2,ElStatus.BRAKE_LOCAL_MODE)
+		.add(6,3,ElStatus.BRAKE_OUT,Polarity.ERROR_IF_UNSET)
+		.add(6,4,ElStatus.BRAKE_DISENGAGE_TO)
+		.add(6,5,ElStatus.BRAKE_ENGAGE_TO)
+		.build();
+
+	/**
+	 * The bits of GET_POWER_STATUS
+	 */
+	private static final StatusBitTable POWER_STATUS_BITS = new StatusBitTable.Builder(2)
+		// byte 0
+		.add(0,0,PowerStatus.PWR_SOURCE)
+		.add(0,1,PowerStatus.UPS_LINE_FAIL)
+		.add(0,2,PowerStatus.UPS_LOW_BAT)
+		.add(0,3,PowerStatus.UPS_ALARM)
+		.add(0,4,PowerStatus.UPS_LOAD_BYPASS)
+		.add(0,5,PowerStatus.UPS_LOAD_INVERTER)
+
+		// byte 1
+		.add(1,0,PowerStatus.AUX_READY,Polarity.ERROR_IF_UNSET)
+		.add(1,1,PowerStatus.INTERFACE,Polarity.ERROR_IF_UNSET)
+		.add(1,2,PowerStatus.AZIMUTH,Polarity.ERROR_IF_UNSET)
+		.add(1,3,PowerStatus.ELEVATION,Polarity.ERROR_IF_UNSET)
+		.add(1,4,PowerStatus.INTERLOCKS,Polarity.ERROR_IF_UNSET)
+		.build();
+
+	/**
+	 * The decoder of GET_SYSTEM_STATUS
+	 */
+	private final StatusWordDecoder systemStatusDecoder;
+
+	/**
+	 * The decoder of GET_AZ_STATUS
+	 */
+	private final StatusWordDecoder azStatusDecoder;
+
+	/**
+	 * The decoder of GET_EL_STATUS
+	 */
+	private final StatusWordDecoder elStatusDecoder;
+
+	/**
+	 * The decoder of GET_POWER_STATUS
+	 */
+	private final StatusWordDecoder powerStatusDecoder;
+
 	/**
 	 * Constructor
 	 *
@@ -343,6 +570,10 @@ public class MountAEMStatus extends MountDetails implements MountInterface {
 		elStatusVals = new String[ElStatus.values().length];
 		azStatusVals = new String[AzStatus.values().length];
 		powerStatusVals=new String[PowerStatus.values().length];
+		systemStatusDecoder=addDecoder(StatusWord.SYSTEM_STATUS, SYSTEM_STATUS_BITS, statusVals);
+		azStatusDecoder=addDecoder(StatusWord.AZ_STATUS, AZ_STATUS_BITS, azStatusVals);
+		elStatusDecoder=addDecoder(StatusWord.EL_STATUS, EL_STATUS_BITS, elStatusVals);
+		powerStatusDecoder=addDecoder(StatusWord.POWER_STATUS, POWER_STATUS_BITS, powerStatusVals);
 		updateError();
 	}
 	
@@ -356,88 +587,12 @@ public class MountAEMStatus extends MountDetails implements MountInterface {
 			updateError();
 			return ValueState.NORMAL;
 		}
-		ValueHolder<int[]> statusBits = mnt.getStatus();
-		if (statusBits!=null && statusBits.getValue()!=null) {
-			Long[] longBits = new Long[statusBits.getValue().length];
-			if (longBits.length!=7) {
-				System.err.printf("updateSystemStatus longBits.length= %d\n", longBits.length);
-				updateStatusError();
-				return ValueState.ERROR;
-			}
-			for (int t=0; t<longBits.length; t++) {
-				longBits[t]=(long)statusBits.getValue()[t];
-			}
-			LongArrayBit bits = new LongArrayBit(longBits);
-			ValueState ret = ValueState.NORMAL;
-			// Byte 0
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,0),ret,SysStatus.SAFE_SWITCH.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,1),ret,SysStatus.ACU_INTERLOCK.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,2),ret,SysStatus.BASE_DOOR_INTERLOCK.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,3),ret,SysStatus.BASE1_INTERLOCK.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,4),ret,SysStatus.BASE2_INTERLOCK.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,5),ret,SysStatus.AZ_SKIRT1_INTERLOCK.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,6),ret,SysStatus.AZ_SKIRT2_INTERLOCK.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,7),ret,SysStatus.STAIR1_INTERLOCK.value,statusBits);
-			
-			// Byte 1
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(1,0),ret,SysStatus.EL_LEFT_INTERLOCK.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(1,1),ret,SysStatus.EL_RIGHT_INTERLOCK.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(1,2),ret,SysStatus.PCU1_RC_INTERLOCK.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(1,3),ret,SysStatus.PCU2_D1_INTERLOCK.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(1,4),ret,SysStatus.PCU3_BASE_INTERLOCK.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(1,5),ret,SysStatus.PCU4_PLC_INTERLOCK.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(1,6),ret,SysStatus.RECV_CABIN_INTERLOCK.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(1,7),ret,SysStatus.RECV_CABIN_DOOR.value,statusBits);
-			
-			// Byte 2
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(2,0),ret,SysStatus.HANDRAIL_PLATFORM_ILOCK.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(2,1),ret,SysStatus.ACU_BOOT_FAILURE.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(2,2),ret,SysStatus.SURVIVAL_STOW_MISSING_CMD.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(2,3),ret,SysStatus.SURVIVAL_STOW_MISSING_PULSE.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(2,4),ret,SysStatus.PULSE_MISSING.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(2,5),ret,SysStatus.ACU_TASK_FAILURE.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(2,6),ret,SysStatus.PULSE_MISSED.value,statusBits);
-			
-			// Byte 3
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(3,0),ret,SysStatus.HYDRAULIC_UNIT_ALARM.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(3,1),ret,SysStatus.FIRE_SYSTEM.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(3,2),ret,SysStatus.OVERTEMPERATURE_ALARM.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(3,3),ret,SysStatus.VENT_SKIRT_STATUS.value,statusBits);
-			
-			// Byte 4
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(4,0),ret,SysStatus.LOCAL_MODE.value,statusBits);
-			ret=ValueDisplayer.formatStatusBitInverse(bits.getBit(4,1),ret,SysStatus.REMOTE_MODE.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(4,2),ret,SysStatus.PCU_MODE.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(4,3),ret,SysStatus.PCU1_CONN.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(4,4),ret,SysStatus.PCU2_CONN.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(4,5),ret,SysStatus.PCU3_CONN.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(4,6),ret,SysStatus.PCU4_CONN.value,statusBits);
-			
-			// Byte 5
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(5,0),ret,SysStatus.DRIVES_PWR.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(5,1),ret,SysStatus.DRIVES.value,statusBits);
-			ret=ValueDisplayer.formatStatusBitInverse(bits.getBit(5,2),ret,SysStatus.HYDRAULIC_PUMP.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(5,3),ret,SysStatus.SKIRT_VENTILATION.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(5,4),ret,SysStatus.SKIRT_VENTILATION_CMD.value,statusBits);
-			
-			// Byte 6
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(6,0),ret,SysStatus.CLOSING_MOTOR_SHUTTER.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(6,1),ret,SysStatus.OPENING_MOTOR_SHUTTER.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(6,2),ret,SysStatus.LOCK_ON.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(6,3),ret,SysStatus.TIMEOUT.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(6,4),ret,SysStatus.BASE_LADDER_INTERLOCK.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(6,5),ret,SysStatus.DRIVES_LOCKOUT_STATUS.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(6,6),ret,SysStatus.MISSING_DUMMY_SOCKET.value,statusBits);
-			
-
-			for (int t=SysStatus.SAFE_SWITCH.ordinal(); t<=SysStatus.MISSING_DUMMY_SOCKET.ordinal(); t++) {
-				statusVals[t]=SysStatus.values()[t].value.toString();
-			}
-			return ret;
-		} else {
+		ValueState ret=systemStatusDecoder.decode(mnt.getStatus());
+		if (ret==null) {
 			updateStatusError();
 			return ValueState.ERROR;
 		}
+		return ret;
 	}
 	
 	/**
@@ -464,91 +619,12 @@ public class MountAEMStatus extends MountDetails implements MountInterface {
 			updateError();
 			return ValueState.NORMAL;
 		}
-		ValueHolder<int[]> azStatusBits = mnt.getAzStatus();
-		if (azStatusBits!=null && azStatusBits.getValue()!=null) {
-			Long[] longBits = new Long[azStatusBits.getValue().length];
-			if (longBits.length!=8) {
-				updateAzError();
-				return ValueState.ERROR;
-			}
-			for (int t=0; t<longBits.length; t++) {
-				longBits[t]=(long)azStatusBits.getValue()[t];
-			}
-			LongArrayBit bits = new LongArrayBit(longBits);
-			ValueState ret = ValueState.NORMAL;
-			// byte 0
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,0),ret,AzStatus.SW_CW.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,1),ret,AzStatus.HW_CW.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,2),ret,AzStatus.HW_CW_FINAL.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,3),ret,AzStatus.CW_SHUTDOWN.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,4),ret,AzStatus.SW_CCW.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,5),ret,AzStatus.HW_CCW.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,6),ret,AzStatus.HW_CCW_FINAL.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,7),ret,AzStatus.CCW_SHUTDOWN.value,azStatusBits);
-			
-			// byte 1
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(1,0),ret,AzStatus.ROT_FINAL_LIMIT.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(1,1),ret,AzStatus.AXIS_HW_INTERLOCK.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(1,2),ret,AzStatus.OVERRIDE_CDM.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(1,3),ret,AzStatus.HARDSTOP_PLUS.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(1,4),ret,AzStatus.HARDSTOP_MINUS.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(1,5),ret,AzStatus.SENSE_PLUS.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(1,6),ret,AzStatus.SENSE_MINUS.value,azStatusBits);
-			
-			// byte 2 
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(2,0),ret,AzStatus.MOTOR_OVERSPEED.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(2,1),ret,AzStatus.MOTOR_1HALF_OVRCURRENT.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(2,2),ret,AzStatus.MOTOR_1HALF_OVRHEATING.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(2,3),ret,AzStatus.MOTOR_2HALF_OVRCURRENT.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(2,4),ret,AzStatus.MOTOR_2HALF_OVRHEATING.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBitInverse(bits.getBit(2,5),ret,AzStatus.DRIVE_PWR_ON.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBitInverse(bits.getBit(2,6),ret,AzStatus.DC_BUS1.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBitInverse(bits.getBit(2,7),ret,AzStatus.DC_BUS2.value,azStatusBits);
-			
-			// byte 3
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(3,0),ret,AzStatus.MOTORS_PWR_ON_SWITCH_FAIL.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(3,1),ret,AzStatus.MOTORS_ENABLE_TMOUT.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(3,2),ret,AzStatus.MOTORS_1HALF_FAULT.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(3,3),ret,AzStatus.MOTORS_2HALF_FAULT.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBitInverse(bits.getBit(3,4),ret,AzStatus.MOTORS_DRIVER_RDY.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(3,5),ret,AzStatus.SENSORS_INCONSISTENCY.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(3,6),ret,AzStatus.FOLLOWING_ERROR.value,azStatusBits);
-			
-			// byte 4
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(4,0),ret,AzStatus.ENC_VALUE_FAULT.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(4,1),ret,AzStatus.ABSENC_ABS_POS_NA.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(4,2),ret,AzStatus.ENC_VAL_VALIDATION.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(4,3),ret,AzStatus.SERVO_OSC.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBitInverse(bits.getBit(4,4),ret,AzStatus.INTERPOL_BOARD1.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBitInverse(bits.getBit(4,5),ret,AzStatus.INTERPOL_BOARD2.value,azStatusBits);
-			
-			// byte 5
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(5,0),ret,AzStatus.ENC_HEAD1_STATUS.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(5,1),ret,AzStatus.ENC_HEAD2_STATUS.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(5,2),ret,AzStatus.ENC_HEAD3_STATUS.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(5,3),ret,AzStatus.ENC_HEAD4_STATUS.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(5,4),ret,AzStatus.ENC_HEAD5_STATUS.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(5,5),ret,AzStatus.ENC_HEAD6_STATUS.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(5,6),ret,AzStatus.ENC_HEAD7_STATUS.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(5,7),ret,AzStatus.ENC_HEAD8_STATUS.value,azStatusBits);
-			
-			// byte 6
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(6,0),ret,AzStatus.BRAKE_POS_ERR.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(6,1),ret,AzStatus.BRAKE_WEAR.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(6,2),ret,AzStatus.BRAKE_LOCAL_MODE.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBitInverse(bits.getBit(6,3),ret,AzStatus.BRAKE_OUT.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(6,4),ret,AzStatus.BRAKE_DISENGAGE_TO.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(6,5),ret,AzStatus.BRAKE_ENGAGE_TO.value,azStatusBits);
-			
-			
-			for (int t=AzStatus.SW_CW.ordinal(); t<=AzStatus.BRAKE_ENGAGE_TO.ordinal(); t++) {
-				azStatusVals[t]=AzStatus.values()[t].value.toString();
-			}
-			return ret;
-		} else {
+		ValueState ret=azStatusDecoder.decode(mnt.getAzStatus());
+		if (ret==null) {
 			updateAzError();
 			return ValueState.ERROR;
 		}
+		return ret;
 	}
 	
 	/**
@@ -561,82 +637,12 @@ public class MountAEMStatus extends MountDetails implements MountInterface {
 			updateError();
 			return ValueState.NORMAL;
 		}
-		ValueHolder<int[]> elStatusBits = mnt.getElStatus();
-		if (elStatusBits!=null && elStatusBits.getValue()!=null) {
-			Long[] longBits = new Long[elStatusBits.getValue().length];
-			if (longBits.length!=8) {
-				updateElError();
-				return ValueState.ERROR;
-			}
-			for (int t=0; t<longBits.length; t++) {
-				longBits[t]=(long)elStatusBits.getValue()[t];
-			}
-			LongArrayBit bits = new LongArrayBit(longBits);
-			ValueState ret = ValueState.NORMAL;
-			// byte 0
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,0),ret,ElStatus.SW_UP.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,1),ret,ElStatus.HW_UP.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,2),ret,ElStatus.HW_UP_FINAL.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,3),ret,ElStatus.UP_SHUTDOWN.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,4),ret,ElStatus.SW_DOWN.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,5),ret,ElStatus.HW_DOWN.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,6),ret,ElStatus.HW_DOWN_FINAL.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,7),ret,ElStatus.DOWN_SHUTDOWN.value,elStatusBits);
-			
-			
-			// byte 1
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(1,0),ret,ElStatus.ROT_FINAL_LIMIT.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(1,1),ret,ElStatus.AXIS_HW_INTERLOCK.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(1,1),ret,ElStatus.OVERRIDE_CDM.value,elStatusBits);
-			
-			// byte 2 
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(2,0),ret,ElStatus.MOTOR_OVERSPEED.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(2,1),ret,ElStatus.MOTOR_1HALF_OVRCURRENT.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(2,2),ret,ElStatus.MOTOR_1HALF_OVRHEATING.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(2,3),ret,ElStatus.MOTOR_2HALF_OVRCURRENT.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(2,4),ret,ElStatus.MOTOR_2HALF_OVRHEATING.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBitInverse(bits.getBit(2,5),ret,ElStatus.DRIVE_PWR_ON.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBitInverse(bits.getBit(2,6),ret,ElStatus.DC_BUS1.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBitInverse(bits.getBit(2,7),ret,ElStatus.DC_BUS2.value,elStatusBits);
-			
-			// byte 3
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(3,0),ret,ElStatus.MOTORS_PWR_ON_SWITCH_FAIL.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(3,1),ret,ElStatus.MOTORS_ENABLE_TMOUT.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(3,2),ret,ElStatus.MOTORS_1HALF_FAULT.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(3,3),ret,ElStatus.MOTORS_2HALF_FAULT.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBitInverse(bits.getBit(3,4),ret,ElStatus.MOTORS_DRIVER_RDY.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(3,5),ret,ElStatus.SENSORS_INCONSISTENCY.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(3,6),ret,ElStatus.FOLLOWING.value,elStatusBits);
-			
-			// byte 4
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(4,0),ret,ElStatus.ENC_VALUE_FAULT.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(4,1),ret,ElStatus.ABSENC_ABS_POS_NA.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(4,2),ret,ElStatus.ENC_VAL_VALIDATION.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(4,3),ret,ElStatus.SERVO_OSC.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBitInverse(bits.getBit(4,4),ret,ElStatus.INTERPOL_BOARD1.value,elStatusBits);
-
-			// byte 5
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(5,0),ret,ElStatus.ENC_HEAD1_STATUS.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(5,1),ret,ElStatus.ENC_HEAD2_STATUS.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(5,2),ret,ElStatus.ENC_HEAD3_STATUS.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(5,3),ret,ElStatus.ENC_HEAD4_STATUS.value,elStatusBits);
-			
-			// byte 6
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(6,0),ret,ElStatus.BRAKE_POS_ERR.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(6,1),ret,ElStatus.BRAKE_WEAR.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(6,2),ret,ElStatus.BRAKE_LOCAL_MODE.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBitInverse(bits.getBit(6,3),ret,ElStatus.BRAKE_OUT.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(6,4),ret,ElStatus.BRAKE_DISENGAGE_TO.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(6,5),ret,ElStatus.BRAKE_ENGAGE_TO.value,elStatusBits);
-
-			for (int t=ElStatus.SW_UP.ordinal(); t<=ElStatus.BRAKE_ENGAGE_TO.ordinal(); t++) {
-				elStatusVals[t]=ElStatus.values()[t].value.toString();
-			}
-			return ret;
-		} else {
+		ValueState ret=elStatusDecoder.decode(mnt.getElStatus());
+		if (ret==null) {
 			updateElError();
 			return ValueState.ERROR;
 		}
+		return ret;
 	}
 	
 	/**
@@ -649,40 +655,12 @@ public class MountAEMStatus extends MountDetails implements MountInterface {
 			updateError();
 			return ValueState.NORMAL;
 		}
-		ValueHolder<int[]> powerStatusBits = mnt.getPowerStatus();
-		if (powerStatusBits!=null && powerStatusBits.getValue()!=null) {
-			Long[] longBits = new Long[powerStatusBits.getValue().length];
-			if (longBits.length!=2) {
-				updatePowerError();
-				return ValueState.ERROR;
-			}
-			for (int t=0; t<longBits.length; t++) {
-				longBits[t]=(long)powerStatusBits.getValue()[t];
-			}
-			LongArrayBit bits = new LongArrayBit(longBits);
-			ValueState ret = ValueState.NORMAL;
-			// byte 0
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,0),ret,PowerStatus.PWR_SOURCE.value,powerStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,1),ret,PowerStatus.UPS_LINE_FAIL.value,powerStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,2),ret,PowerStatus.UPS_LOW_BAT.value,powerStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,3),ret,PowerStatus.UPS_ALARM.value,powerStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,4),ret,PowerStatus.UPS_LOAD_BYPASS.value,powerStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,5),ret,PowerStatus.UPS_LOAD_INVERTER.value,powerStatusBits);
-			
-			// byte 1
-			ret=ValueDisplayer.formatStatusBitInverse(bits.getBit(1,0),ret,PowerStatus.AUX_READY.value,powerStatusBits);
-			ret=ValueDisplayer.formatStatusBitInverse(bits.getBit(1,1),ret,PowerStatus.INTERFACE.value,powerStatusBits);
-			ret=ValueDisplayer.formatStatusBitInverse(bits.getBit(1,2),ret,PowerStatus.AZIMUTH.value,powerStatusBits);
-			ret=ValueDisplayer.formatStatusBitInverse(bits.getBit(1,3),ret,PowerStatus.ELEVATION.value,powerStatusBits);
-			ret=ValueDisplayer.formatStatusBitInverse(bits.getBit(1,4),ret,PowerStatus.INTERLOCKS.value,powerStatusBits);
-			for (int t=0; t<PowerStatus.values().length; t++) {
-				powerStatusVals[t]=PowerStatus.values()[t].value.toString();
-			}
-			return ret;
-		} else {
+		ValueState ret=powerStatusDecoder.decode(mnt.getPowerStatus());
+		if (ret==null) {
 			updatePowerError();
 			return ValueState.ERROR;
 		}
+		return ret;
 	}
 	
 	/** 
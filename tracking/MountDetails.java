@@ -18,15 +18,26 @@
  */
 package alma.control.gui.antennamount.tracking;
 
+import java.util.EnumMap;
+
+import alma.control.gui.antennamount.mount.Mount;
+import alma.control.gui.antennamount.mount.StatusChangeListener;
+import alma.control.gui.antennamount.mount.StatusWord;
 import alma.control.gui.antennamount.utils.ValueDisplayer;
+import alma.control.gui.antennamount.utils.bit.StatusBitTable;
+import alma.control.gui.antennamount.utils.bit.StatusWordDecoder;
 
 /**
  * A class containing common methods to show values in MountVA, MountAEM, MountACA and MountA7M
+ * <P>
+ * When attached to a {@link Mount}, the rows of the status words are rendered
+ * when the mount notifies the bits that changed, instead of decoding
+ * the words at each refresh.
  * 
  * @author acaproni
  *
  */
-public abstract class MountDetails {
+public abstract class MountDetails implements StatusChangeListener {
 	
 	/**
 	 * The description of a ACU error
@@ -71,6 +82,104 @@ public abstract class MountDetails {
 	
 	protected final String unknownAcuError="UNKNOWN ACU ERROR";
 	
+	/**
+	 * The decoders of the status words
+	 */
+	private final EnumMap<StatusWord, StatusWordDecoder> decoders = new EnumMap<StatusWord, StatusWordDecoder>(StatusWord.class);
+	
+	/**
+	 * Build a decoder of a status word.
+	 * <P>
+	 * The decoder is invalidated every time its rows are set in error state.
+	 * 
+	 * @param status The status word to decode
+	 * @param table The table of the bits of the status word
+	 * @param vals The rows to write the bits into
+	 *            (one of statusVals, azStatusVals, elStatusVals, powerStatusVals)
+	 * @return The decoder
+	 */
+	protected StatusWordDecoder addDecoder(StatusWord status, StatusBitTable table, String[] vals) {
+		if (status==null) {
+			throw new IllegalArgumentException("Invalid null status word");
+		}
+		StatusWordDecoder decoder = new StatusWordDecoder(table, vals);
+		synchronized (decoders) {
+			decoders.put(status, decoder);
+		}
+		return decoder;
+	}
+	
+	/**
+	 * Invalidate the decoders writing in the given rows
+	 * 
+	 * @param vals The rows
+	 */
+	private void invalidateDecoders(String[] vals) {
+		synchronized (decoders) {
+			for (StatusWordDecoder decoder: decoders.values()) {
+				if (decoder.getRows()==vals) {
+					decoder.invalidate();
+				}
+			}
+		}
+	}
+	
+	/**
+	 * @see MountInterface
+	 */
+	public void attach(Mount mnt) {
+		if (mnt==null) {
+			throw new IllegalArgumentException("Invalid null mount");
+		}
+		synchronized (decoders) {
+			for (StatusWordDecoder decoder: decoders.values()) {
+				decoder.setEventDriven(true);
+			}
+		}
+		mnt.addStatusChangeListener(this);
+	}
+	
+	/**
+	 * @see MountInterface
+	 */
+	public void detach(Mount mnt) {
+		if (mnt==null) {
+			throw new IllegalArgumentException("Invalid null mount");
+		}
+		mnt.removeStatusChangeListener(this);
+		synchronized (decoders) {
+			for (StatusWordDecoder decoder: decoders.values()) {
+				decoder.setEventDriven(false);
+			}
+		}
+	}
+	
+	/**
+	 * @see StatusChangeListener
+	 */
+	public void statusBitChanged(StatusWord status, int word, int bit, boolean value) {
+		StatusWordDecoder decoder;
+		synchronized (decoders) {
+			decoder=decoders.get(status);
+		}
+		if (decoder!=null) {
+			decoder.bitChanged(word, bit, value);
+		}
+	}
+	
+	/**
+	 * @see StatusChangeListener
+	 */
+	public void statusUnavailable(StatusWord status) {
+		StatusWordDecoder decoder;
+		synchronized (decoders) {
+			decoder=decoders.get(status);
+		}
+		if (decoder!=null) {
+			decoder.invalidate();
+		}
+	}
+	
 	/**
 	 * @see MountInterface
 	 */
@@ -88,6 +197,7 @@ public abstract class MountDetails {
 		if (powerStatusVals==null) {
 			return;
 		}
+		invalidateDecoders(powerStatusVals);
 		for (int t=0; t<powerStatusVals.length; t++) {
 			powerStatusVals[t]=ValueDisplayer.RED_NOT_AVAILABLE;
 		}
@@ -101,6 +211,7 @@ public abstract class MountDetails {
 		if (statusVals==null) {
 			return;
 		}
+		invalidateDecoders(statusVals);
 		for (int t=0; t<statusVals.length; t++) {
 			statusVals[t]=ValueDisplayer.RED_NOT_AVAILABLE;
 		}
@@ -114,6 +225,7 @@ public abstract class MountDetails {
 		if (elStatusVals==null) {
 			return;
 		}
+		invalidateDecoders(elStatusVals);
 		for (int t=0; t<elStatusVals.length; t++) {
 			elStatusVals[t]=ValueDisplayer.RED_NOT_AVAILABLE;
 		}
@@ -127,6 +239,7 @@ public abstract class MountDetails {
 		if (azStatusVals==null) {
 			return;
 		}
+		invalidateDecoders(azStatusVals);
 		for (int t=0; t<azStatusVals.length; t++) {
 			azStatusVals[t]=ValueDisplayer.RED_NOT_AVAILABLE;
 		}
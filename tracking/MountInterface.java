@@ -59,6 +59,22 @@ public interface MountInterface {
 	 */
 	public ValueState refreshValues(Mount mnt);
 	
+	/**
+	 * Listen to the changes of the status words of the mount so that
+	 * {@link #refreshValues(Mount)} does not need to decode the words
+	 * while they do not change.
+	 * 
+	 * @param mnt The mount
+	 */
+	public void attach(Mount mnt);
+	
+	/**
+	 * Stop listening to the changes of the status words of the mount
+	 * 
+	 * @param mnt The mount
+	 */
+	public void detach(Mount mnt);
+	
 	/** 
 	 * Set all the fields in error state (/N/A)
 	 *
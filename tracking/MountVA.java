@@ -25,11 +25,12 @@
 package alma.control.gui.antennamount.tracking;
 
 import alma.control.gui.antennamount.mount.Mount;
-import alma.control.gui.antennamount.mount.ValueHolder;
+import alma.control.gui.antennamount.mount.StatusWord;
 import alma.control.gui.antennamount.mount.vertex.MountVertex;
 import alma.control.gui.antennamount.utils.ValueState;
-import alma.control.gui.antennamount.utils.bit.LongArrayBit;
-import alma.control.gui.antennamount.utils.ValueDisplayer;
+import alma.control.gui.antennamount.utils.bit.StatusBitTable;
+import alma.control.gui.antennamount.utils.bit.StatusWordDecoder;
+import alma.control.gui.antennamount.utils.bit.StatusBitTable.Polarity;
 
 /**
  * 
@@ -94,7 +95,6 @@ public class MountVA extends MountDetails implements MountInterface {
 		ACU_UPS_COMM_ERROR("Comm error (ACU-UPS)");
 		
 		public final String title;
-		public final StringBuilder value = new StringBuilder();
 		
 		private VAStatus(String title) {
 			this.title=title;
@@ -170,7 +170,6 @@ public class MountVA extends MountDetails implements MountInterface {
 		AXIS_IN_STOP("EL: Axis in stop");
 		
 		public final String title;
-		public final StringBuilder value = new StringBuilder();
 		
 		private ElStatus(String title) {
 			this.title=title;
@@ -239,7 +238,6 @@ public class MountVA extends MountDetails implements MountInterface {
 		HAND_CRANCK("AZ: Hand cranck inserted");
 		
 		public final String title;
-		public final StringBuilder value = new StringBuilder();
 		
 		private AzStatus(String title) {
 			this.title=title;
@@ -272,14 +270,221 @@ public class MountVA extends MountDetails implements MountInterface {
 		
 		public final String title;
 		
-		public final StringBuilder value = new StringBuilder(); 
-		
 		private PowerStatus(String title) {
 			this.title=title;
 		}
 	}
 		
 	
+	/**
+	 * The bits of GET_SYSTEM_STATUS
+	 */
+	private static final StatusBitTable SYSTEM_STATUS_BITS = new StatusBitTable.Builder(6)
+		// Byte 0
+		.add(0,0,VAStatus.EMERGENCY_STOP)
+		.add(0,1,VAStatus.STAIRWAY_INTERLOCK)
+		.add(0,2,VAStatus.HANDLING_INTERLOCK)
+		.add(0,3,VAStatus.SMOKE_ALARM)
+		.add(0,4,VAStatus.ACU_BOOT)
+		.add(0,5,VAStatus.SURVIVAL_FOR_MISSING_COMMANDS)
+		.add(0,6,VAStatus.SURVIVAL_FOR_MISSING_TIMING)
+		.add(0,7,VAStatus.TIMING_PULSE)
+
+		// Byte 1
+		.add(1,0,VAStatus.SAFE_SWITCH)
+		.add(1,1,VAStatus.POWER_FAILURE)
+		.add(1,2,VAStatus.V24_FAILURE)
+		.add(1,3,VAStatus.BREAKER_FAILURE)
+		.add(1,4,VAStatus.ACU_FAN)
+		.add(1,5,VAStatus.ACU_PLC_COMM_ERROR)
+		.add(1,6,VAStatus.CABINET_OVERTEMPERATURE)
+		.add(1,7,VAStatus.ALMA_E_STOP)
+
+		// Byte 2
+		.add(2,1,VAStatus.RAMP_TO_RECEIVER)
+		.add(2,3,VAStatus.GATE_PLATFORM2)
+		.add(2,4,VAStatus.LADDER_TO_PLATFORM1)
+		.add(2,5,VAStatus.RECEIVER_DOOR_OPEN)
+		.add(2,6,VAStatus.PEDESTAL_DOOR_OPEN)
+		.add(2,7,VAStatus.DRIVE_CABINET_OPEN)
+
+		// Byte 3
+		.add(3,0,VAStatus.CABINET)
+		.add(3,1,VAStatus.AZ_DRIVES)
+		.add(3,2,VAStatus.INSIDE_ANTENNA_BASE)
+		.add(3,3,VAStatus.PLATFORM2)
+		.add(3,4,VAStatus.LADDER_TO_PLATFORM)
+		.add(3,5,VAStatus.RECEIVER_CABIN)
+		.add(3,6,VAStatus.PORTABLE_CONTROL_UNIT)
+		.add(3,7,VAStatus.OUTSIDE_OF_PEDESTAL)
+
+		// Byte 4
+		.add(4,0,VAStatus.AUTO_LUBRIFICATION_FAILURE)
+		.add(4,1,VAStatus.AUTO_LUBRIFICATION_MALFUNCTION)
+
+		// Byte 5
+		.add(5,0,VAStatus.ACU_UPS_COMM_ERROR)
+		.build();
+
+	/**
+	 * The bits of GET_AZ_STATUS
+	 */
+	private static final StatusBitTable AZ_STATUS_BITS = new StatusBitTable.Builder(8)
+		// byte 0
+		.add(0,0,AzStatus.PRELIMIT_CW)
+		.add(0,1,AzStatus.PRELIMIT_CCW)
+		.add(0,2,AzStatus.LIMIT_CW)
+		.add(0,3,AzStatus.LIMIT_CCW)
+		.add(0,4,AzStatus.EMERGENCY_LIMIT_CW)
+		.add(0,5,AzStatus.EMERGENCY_LIMIT_CCW)
+		.add(0,6,AzStatus.EMERGENCY2_LIMIT_CW)
+		.add(0,7,AzStatus.EMERGENCY2_LIMIT_CCW)
+
+		// byte 1
+		.add(1,0,AzStatus.SERVO_FAILURE)
+		.add(1,1,AzStatus.OVERSPEED)
+		.add(1,2,AzStatus.IMMOBILE)
+		.add(1,3,AzStatus.SPEED_ZERO,Polarity.NO_ERROR)
+		.add(1,4,AzStatus.STOW_POSITION)
+		.add(1,5,AzStatus.ENCODER_FAILURE)
+		.add(1,6,AzStatus.INSANE_VELOCITY)
+
+		// byte 2
+		.add(2,0,AzStatus.BRAKE1)
+		.add(2,1,AzStatus.BRAKE2)
+
+		// byte 3
+		.add(3,0,AzStatus.AMPLIFIER1)
+		.add(3,1,AzStatus.AMPLIFIER2)
+		.add(3,4,AzStatus.CAN_COMMUNICATION)
+		.add(3,5,AzStatus.BREAKER_FAULT)
+
+		// byte 4
+		.add(4,0,AzStatus.MOTOR1_OVERTEMPERATURE)
+		.add(4,1,AzStatus.MOTOR2_OVERTEMPERATURE)
+		.add(4,4,AzStatus.REGENERATION_RESISTORE)
+		.add(4,5,AzStatus.SERVO_OSCILLATION)
+		.add(4,6,AzStatus.AUXILIARY_ENC)
+		.add(4,7,AzStatus.POS_DEVIATION)
+
+		// byte 5
+
+		// byte 6
+		.add(6,0,AzStatus.AUX_MOTOR1_OFF)
+		.add(6,1,AzStatus.AUX_MOTOR2_OFF)
+		.add(6,4,AzStatus.GEAR1_OIL)
+		.add(6,5,AzStatus.GEAR2_OIL)
+
+		// byte 7
+		.add(7,0,AzStatus.COMPUTER_DISABLED)
+		.add(7,1,AzStatus.AXIS_DISABLED)
+		.add(7,2,AzStatus.HANDLED_CONTROL_UIT_OP)
+		.add(7,3,AzStatus.AXIS_IN_STOP)
+		.add(7,4,AzStatus.FLIP_FLOP_INCORRECT_POS)
+		.add(7,5,AzStatus.HAND_CRANCK)
+		.build();
+
+	/**
+	 * The bits of GET_POWER_STATUS
+	 */
+	private static final StatusBitTable POWER_STATUS_BITS = new StatusBitTable.Builder(2)
+		// byte 0
+		.add(0,0,PowerStatus.MAIN_SWITCH_TRANS)
+		.add(0,1,PowerStatus.MAIN_SWITCH_ANT_BASE,Polarity.ERROR_IF_UNSET)
+		.add(0,2,PowerStatus.MAIN_CIRCUIT_BRK,Polarity.ERROR_IF_UNSET)
+		.add(0,5,PowerStatus.LIGHTNING_ARREST)
+
+		// byte 1
+		.add(1,0,PowerStatus.SINGLE_PHASE_ILOCK)
+		.add(1,1,PowerStatus.REVERSE_PHASE)
+		.add(1,2,PowerStatus.CIRCUIT_BRK_ELECTRONIC,Polarity.NO_ERROR)
+		.add(1,3,PowerStatus.CIRCUIT_BRK_CRYO,Polarity.NO_ERROR)
+		.add(1,0,PowerStatus.CIRCUIT_BRK_NON_CRITICAL)
+		.build();
+
+	/**
+	 * The bits of GET_EL_STATUS
+	 */
+	private static final StatusBitTable EL_STATUS_BITS = new StatusBitTable.Builder(8)
+		// byte 0
+		.add(0,0,ElStatus.PRELIMIT_UP)
+		.add(0,1,ElStatus.PRELIMIT_DOWN)
+		.add(0,2,ElStatus.LIMIT_UP)
+		.add(0,3,ElStatus.LIMIT_DOWN)
+		.add(0,4,ElStatus.EMERGENCY_LIMIT_UP)
+		.add(0,5,ElStatus.EMERGENCY_LIMIT_DOWN)
+		.add(0,6,ElStatus.EMERGENCY_LIMIT2_CW)
+		.add(0,7,ElStatus.EMERGENCY_LIMIT2_CCW)
+
+		// byte 1
+		.add(1,0,ElStatus.SERVO_FAILURE)
+		.add(1,1,ElStatus.OVERSPEED)
+		.add(1,2,ElStatus.IMMOBILE)
+		.add(1,3,ElStatus.SPEED_ZERO,Polarity.NO_ERROR)
+		.add(1,4,ElStatus.STOW_POSITION)
+		.add(1,5,ElStatus.ENCODER_FAILURE)
+		.add(1,6,ElStatus.INSANE_VELOCITY)
+
+		// byte 2
+		.add(2,0,ElStatus.BRAKE1)
+		.add(2,1,ElStatus.BRAKE2)
+		.add(2,2,ElStatus.BRAKE3)
+		.add(2,3,ElStatus.BRAKE4)
+
+		// byte 3
+		.add(3,0,ElStatus.AMPLIFIER1)
+		.add(3,1,ElStatus.AMPLIFIER2)
+		.add(3,2,ElStatus.AMPLIFIER3)
+		.add(3,3,ElStatus.AMPLIFIER4)
+		.add(3,4,ElStatus.CAN_COMMUNICATION)
+		.add(3,5,ElStatus.BREAKER)
+
+		// byte 4
+		.add(4,0,ElStatus.MOTOR1_OVERTEMPERATURE)
+		.add(4,1,ElStatus.MOTOR2_OVERTEMPERATURE)
+		.add(4,2,ElStatus.MOTOR3_OVERTEMPERATURE)
+		.add(4,3,ElStatus.MOTOR4_OVERTEMPERATURE)
+		.add(4,4,ElStatus.REGENERATION_RESISTORE)
+		.add(4,5,ElStatus.SERVO_OSCILLATION)
+		.add(4,6,ElStatus.AUXILIARY_ENC)
+		.add(4,7,ElStatus.POS_DEVIATION)
+
+		// byte 5
+		// byte 6
+		.add(6,0,ElStatus.AUX_MOTOR1_2)
+		.add(6,2,ElStatus.AUX_MOTOR3_4)
+		.add(6,4,ElStatus.GEAR1_OIL)
+		.add(6,5,ElStatus.GEAR2_OIL)
+		.add(6,6,ElStatus.GEAR3_OIL)
+		.add(6,7,ElStatus.GEAR4_OIL)
+
+		// byte 7
+		.add(7,0,ElStatus.COMPUTER_DISABLED)
+		.add(7,1,ElStatus.AXIS_DISABLED)
+		.add(7,2,ElStatus.HANDLED_CONTROL_UIT_OP)
+		.add(7,3,ElStatus.AXIS_IN_STOP)
+		.build();
+
+	/**
+	 * The decoder of GET_SYSTEM_STATUS
+	 */
+	private final StatusWordDecoder systemStatusDecoder;
+
+	/**
+	 * The decoder of GET_AZ_STATUS
+	 */
+	private final StatusWordDecoder azStatusDecoder;
+
+	/**
+	 * The decoder of GET_POWER_STATUS
+	 */
+	private final StatusWordDecoder powerStatusDecoder;
+
+	/**
+	 * The decoder of GET_EL_STATUS
+	 */
+	private final StatusWordDecoder elStatusDecoder;
+
 	/**
 	 * Constructor
 	 *
@@ -314,6 +519,10 @@ public class MountVA extends MountDetails implements MountInterface {
 		elStatusVals = new String[ElStatus.values().length];
 		azStatusVals = new String[AzStatus.values().length];
 		powerStatusVals=new String[PowerStatus.values().length];
+		systemStatusDecoder=addDecoder(StatusWord.SYSTEM_STATUS, SYSTEM_STATUS_BITS, statusVals);
+		azStatusDecoder=addDecoder(StatusWord.AZ_STATUS, AZ_STATUS_BITS, azStatusVals);
+		powerStatusDecoder=addDecoder(StatusWord.POWER_STATUS, POWER_STATUS_BITS, powerStatusVals);
+		elStatusDecoder=addDecoder(StatusWord.EL_STATUS, EL_STATUS_BITS, elStatusVals);
 		updateError();
 	}
 	
@@ -327,70 +536,12 @@ public class MountVA extends MountDetails implements MountInterface {
 			updateError();
 			return ValueState.NORMAL;
 		}
-		ValueHolder<int[]> statusBits = mnt.getStatus();
-		if (statusBits!=null && statusBits.getValue()!=null) {
-			Long[] longBits = new Long[statusBits.getValue().length];
-			if (longBits.length!=6) {
-				updateStatusError();
-				return ValueState.ERROR;
-			}
-			for (int t=0; t<longBits.length; t++) {
-				longBits[t]=(long)statusBits.getValue()[t];
-			}
-			LongArrayBit bits = new LongArrayBit(longBits);
-			ValueState ret = ValueState.NORMAL;
-			// Byte 0
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,0),ret,VAStatus.EMERGENCY_STOP.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,1),ret,VAStatus.STAIRWAY_INTERLOCK.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,2),ret,VAStatus.HANDLING_INTERLOCK.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,3),ret,VAStatus.SMOKE_ALARM.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,4),ret,VAStatus.ACU_BOOT.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,5),ret,VAStatus.SURVIVAL_FOR_MISSING_COMMANDS.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,6),ret,VAStatus.SURVIVAL_FOR_MISSING_TIMING.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,7),ret,VAStatus.TIMING_PULSE.value,statusBits);
-			
-			// Byte 1
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(1,0),ret,VAStatus.SAFE_SWITCH.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(1,1),ret,VAStatus.POWER_FAILURE.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(1,2),ret,VAStatus.V24_FAILURE.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(1,3),ret,VAStatus.BREAKER_FAILURE.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(1,4),ret,VAStatus.ACU_FAN.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(1,5),ret,VAStatus.ACU_PLC_COMM_ERROR.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(1,6),ret,VAStatus.CABINET_OVERTEMPERATURE.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(1,7),ret,VAStatus.ALMA_E_STOP.value,statusBits);
-			
-			// Byte 2
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(2,1),ret,VAStatus.RAMP_TO_RECEIVER.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(2,3),ret,VAStatus.GATE_PLATFORM2.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(2,4),ret,VAStatus.LADDER_TO_PLATFORM1.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(2,5),ret,VAStatus.RECEIVER_DOOR_OPEN.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(2,6),ret,VAStatus.PEDESTAL_DOOR_OPEN.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(2,7),ret,VAStatus.DRIVE_CABINET_OPEN.value,statusBits);
-			
-			// Byte 3
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(3,0),ret,VAStatus.CABINET.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(3,1),ret,VAStatus.AZ_DRIVES.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(3,2),ret,VAStatus.INSIDE_ANTENNA_BASE.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(3,3),ret,VAStatus.PLATFORM2.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(3,4),ret,VAStatus.LADDER_TO_PLATFORM.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(3,5),ret,VAStatus.RECEIVER_CABIN.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(3,6),ret,VAStatus.PORTABLE_CONTROL_UNIT.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(3,7),ret,VAStatus.OUTSIDE_OF_PEDESTAL.value,statusBits);
-			
-			// Byte 4
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(4,0),ret,VAStatus.AUTO_LUBRIFICATION_FAILURE.value,statusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(4,1),ret,VAStatus.AUTO_LUBRIFICATION_MALFUNCTION.value,statusBits);
-			
-			// Byte 5
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(5,0),ret,VAStatus.ACU_UPS_COMM_ERROR.value,statusBits);
-			for (int t=0; t<VAStatus.values().length; t++) {
-				statusVals[t]=VAStatus.values()[t].value.toString();
-			}
-			return ret;
-		} else {
+		ValueState ret=systemStatusDecoder.decode(mnt.getStatus());
+		if (ret==null) {
 			updateStatusError();
 			return ValueState.ERROR;
 		}
+		return ret;
 	}
 	
 	/**
@@ -417,78 +568,12 @@ public class MountVA extends MountDetails implements MountInterface {
 			updateError();
 			return ValueState.NORMAL;
 		}
-		ValueHolder<int[]> azStatusBits = mnt.getAzStatus();
-		if (azStatusBits!=null && azStatusBits.getValue()!=null) {
-			Long[] longBits = new Long[azStatusBits.getValue().length];
-			if (longBits.length!=8) {
-				updateAzError();
-				return ValueState.ERROR;
-			}
-			for (int t=0; t<longBits.length; t++) {
-				longBits[t]=(long)azStatusBits.getValue()[t];
-			}
-			LongArrayBit bits = new LongArrayBit(longBits);
-			ValueState ret = ValueState.NORMAL;
-			// byte 0
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,0),ret,AzStatus.PRELIMIT_CW.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,1),ret,AzStatus.PRELIMIT_CCW.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,2),ret,AzStatus.LIMIT_CW.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,3),ret,AzStatus.LIMIT_CCW.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,4),ret,AzStatus.EMERGENCY_LIMIT_CW.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,5),ret,AzStatus.EMERGENCY_LIMIT_CCW.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,6),ret,AzStatus.EMERGENCY2_LIMIT_CW.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,7),ret,AzStatus.EMERGENCY2_LIMIT_CCW.value,azStatusBits);
-			
-			// byte 1
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(1,0),ret,AzStatus.SERVO_FAILURE.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(1,1),ret,AzStatus.OVERSPEED.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(1,2),ret,AzStatus.IMMOBILE.value,azStatusBits);
-			ret=ValueDisplayer.formatBit(bits.getBit(1,3),ret,AzStatus.SPEED_ZERO.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(1,4),ret,AzStatus.STOW_POSITION.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(1,5),ret,AzStatus.ENCODER_FAILURE.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(1,6),ret,AzStatus.INSANE_VELOCITY.value,azStatusBits);
-			
-			// byte 2 
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(2,0),ret,AzStatus.BRAKE1.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(2,1),ret,AzStatus.BRAKE2.value,azStatusBits);
-			
-			// byte 3
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(3,0),ret,AzStatus.AMPLIFIER1.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(3,1),ret,AzStatus.AMPLIFIER2.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(3,4),ret,AzStatus.CAN_COMMUNICATION.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(3,5),ret,AzStatus.BREAKER_FAULT.value,azStatusBits);
-			
-			// byte 4
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(4,0),ret,AzStatus.MOTOR1_OVERTEMPERATURE.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(4,1),ret,AzStatus.MOTOR2_OVERTEMPERATURE.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(4,4),ret,AzStatus.REGENERATION_RESISTORE.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(4,5),ret,AzStatus.SERVO_OSCILLATION.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(4,6),ret,AzStatus.AUXILIARY_ENC.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(4,7),ret,AzStatus.POS_DEVIATION.value,azStatusBits);
-			
-			// byte 5
-			
-			// byte 6
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(6,0),ret,AzStatus.AUX_MOTOR1_OFF.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(6,1),ret,AzStatus.AUX_MOTOR2_OFF.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(6,4),ret,AzStatus.GEAR1_OIL.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(6,5),ret,AzStatus.GEAR2_OIL.value,azStatusBits);
-			
-			// byte 7
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(7,0),ret,AzStatus.COMPUTER_DISABLED.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(7,1),ret,AzStatus.AXIS_DISABLED.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(7,2),ret,AzStatus.HANDLED_CONTROL_UIT_OP.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(7,3),ret,AzStatus.AXIS_IN_STOP.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(7,4),ret,AzStatus.FLIP_FLOP_INCORRECT_POS.value,azStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(7,5),ret,AzStatus.HAND_CRANCK.value,azStatusBits);
-			for (int t=0; t<AzStatus.values().length; t++) {
-				azStatusVals[t]=AzStatus.values()[t].value.toString();
-			}
-			return ret;
-		} else {
+		ValueState ret=azStatusDecoder.decode(mnt.getAzStatus());
+		if (ret==null) {
 			updateAzError();
 			return ValueState.ERROR;
 		}
+		return ret;
 	}
 	
 	/**
@@ -501,38 +586,12 @@ public class MountVA extends MountDetails implements MountInterface {
 			updateError();
 			return ValueState.NORMAL;
 		}
-		ValueHolder<int[]> powerStatusBits = mnt.getPowerStatus();
-		if (powerStatusBits!=null && powerStatusBits.getValue()!=null) {
-			Long[] longBits = new Long[powerStatusBits.getValue().length];
-			if (longBits.length!=2) {
-				updatePowerError();
-				return ValueState.ERROR;
-			}
-			for (int t=0; t<longBits.length; t++) {
-				longBits[t]=(long)powerStatusBits.getValue()[t];
-			}
-			LongArrayBit bits = new LongArrayBit(longBits);
-			ValueState ret = ValueState.NORMAL;
-			// byte 0
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,0),ret,PowerStatus.MAIN_SWITCH_TRANS.value,powerStatusBits);
-			ret=ValueDisplayer.formatStatusBitInverse(bits.getBit(0,1),ret,PowerStatus.MAIN_SWITCH_ANT_BASE.value,powerStatusBits);
-			ret=ValueDisplayer.formatStatusBitInverse(bits.getBit(0,2),ret,PowerStatus.MAIN_CIRCUIT_BRK.value,powerStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,5),ret,PowerStatus.LIGHTNING_ARREST.value,powerStatusBits);
-			
-			// byte 1
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(1,0),ret,PowerStatus.SINGLE_PHASE_ILOCK.value,powerStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(1,1),ret,PowerStatus.REVERSE_PHASE.value,powerStatusBits);
-			ret=ValueDisplayer.formatBit(bits.getBit(1,2),ret,PowerStatus.CIRCUIT_BRK_ELECTRONIC.value,powerStatusBits);
-			ret=ValueDisplayer.formatBit(bits.getBit(1,3),ret,PowerStatus.CIRCUIT_BRK_CRYO.value,powerStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(1,0),ret,PowerStatus.CIRCUIT_BRK_NON_CRITICAL.value,powerStatusBits);
-			for (int t=0; t<PowerStatus.values().length; t++) {
-				powerStatusVals[t]=PowerStatus.values()[t].value.toString();
-			}
-			return ret;
-		} else {
+		ValueState ret=powerStatusDecoder.decode(mnt.getPowerStatus());
+		if (ret==null) {
 			updatePowerError();
 			return ValueState.ERROR;
 		}
+		return ret;
 	}
 	
 	/**
@@ -545,84 +604,12 @@ public class MountVA extends MountDetails implements MountInterface {
 			updateError();
 			return ValueState.ERROR;
 		}
-		ValueHolder<int[]> elStatusBits = mnt.getElStatus();
-		if (elStatusBits!=null && elStatusBits.getValue()!=null) {
-			Long[] longBits = new Long[elStatusBits.getValue().length];
-			if (longBits.length!=8) {
-				updateElError();
-				return ValueState.NORMAL;
-			}
-			for (int t=0; t<longBits.length; t++) {
-				longBits[t]=(long)elStatusBits.getValue()[t];
-			}
-			LongArrayBit bits = new LongArrayBit(longBits);
-			ValueState ret = ValueState.NORMAL;
-			// byte 0
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,0),ret,ElStatus.PRELIMIT_UP.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,1),ret,ElStatus.PRELIMIT_DOWN.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,2),ret,ElStatus.LIMIT_UP.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,3),ret,ElStatus.LIMIT_DOWN.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,4),ret,ElStatus.EMERGENCY_LIMIT_UP.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,5),ret,ElStatus.EMERGENCY_LIMIT_DOWN.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,6),ret,ElStatus.EMERGENCY_LIMIT2_CW.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(0,7),ret,ElStatus.EMERGENCY_LIMIT2_CCW.value,elStatusBits);
-			
-			
-			// byte 1
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(1,0),ret,ElStatus.SERVO_FAILURE.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(1,1),ret,ElStatus.OVERSPEED.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(1,2),ret,ElStatus.IMMOBILE.value,elStatusBits);
-			ret=ValueDisplayer.formatBit(bits.getBit(1,3),ret,ElStatus.SPEED_ZERO.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(1,4),ret,ElStatus.STOW_POSITION.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(1,5),ret,ElStatus.ENCODER_FAILURE.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(1,6),ret,ElStatus.INSANE_VELOCITY.value,elStatusBits);
-			
-			// byte 2 
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(2,0),ret,ElStatus.BRAKE1.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(2,1),ret,ElStatus.BRAKE2.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(2,2),ret,ElStatus.BRAKE3.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(2,3),ret,ElStatus.BRAKE4.value,elStatusBits);
-			
-			// byte 3
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(3,0),ret,ElStatus.AMPLIFIER1.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(3,1),ret,ElStatus.AMPLIFIER2.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(3,2),ret,ElStatus.AMPLIFIER3.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(3,3),ret,ElStatus.AMPLIFIER4.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(3,4),ret,ElStatus.CAN_COMMUNICATION.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(3,5),ret,ElStatus.BREAKER.value,elStatusBits);
-			
-			// byte 4
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(4,0),ret,ElStatus.MOTOR1_OVERTEMPERATURE.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(4,1),ret,ElStatus.MOTOR2_OVERTEMPERATURE.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(4,2),ret,ElStatus.MOTOR3_OVERTEMPERATURE.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(4,3),ret,ElStatus.MOTOR4_OVERTEMPERATURE.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(4,4),ret,ElStatus.REGENERATION_RESISTORE.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(4,5),ret,ElStatus.SERVO_OSCILLATION.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(4,6),ret,ElStatus.AUXILIARY_ENC.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(4,7),ret,ElStatus.POS_DEVIATION.value,elStatusBits);
-			
-			// byte 5
-			// byte 6
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(6,0),ret,ElStatus.AUX_MOTOR1_2.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(6,2),ret,ElStatus.AUX_MOTOR3_4.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(6,4),ret,ElStatus.GEAR1_OIL.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(6,5),ret,ElStatus.GEAR2_OIL.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(6,6),ret,ElStatus.GEAR3_OIL.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(6,7),ret,ElStatus.GEAR4_OIL.value,elStatusBits);
-			
-			// byte 7
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(7,0),ret,ElStatus.COMPUTER_DISABLED.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(7,1),ret,ElStatus.AXIS_DISABLED.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(7,2),ret,ElStatus.HANDLED_CONTROL_UIT_OP.value,elStatusBits);
-			ret=ValueDisplayer.formatStatusBit(bits.getBit(7,3),ret,ElStatus.AXIS_IN_STOP.value,elStatusBits);
-			for (int t=0; t<ElStatus.values().length; t++) {
-				elStatusVals[t]=ElStatus.values()[t].value.toString();
-			}
-			return ret;
-		} else {
+		ValueState ret=elStatusDecoder.decode(mnt.getElStatus());
+		if (ret==null) {
 			updateElError();
 			return ValueState.ERROR;
 		}
+		return ret;
 	}
 	
 	/**
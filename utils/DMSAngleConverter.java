@@ -1,6 +1,6 @@
 package alma.control.gui.antennamount.utils;
 
-import alma.control.gui.antennamount.mount.ValueHolder;
+import alma.control.gui.antennamount.mount.DoubleValueHolder;
 
 /**
  * A class to convert a randians angle into degrees/minutes/seconds
@@ -24,7 +24,7 @@ public class DMSAngleConverter implements AngleConverter {
 	 * A struct holding degrees, minutes and seconds
 	 *
 	 */
-	private class DMS {
+	private static class DMS {
 		public boolean neg; // true mins <0
 		public double deg;
 		public double min;
@@ -45,10 +45,10 @@ public class DMSAngleConverter implements AngleConverter {
 		
 	}
 	
-	// The angle in radians (can be null)
-	private ValueHolder<Double> value=null;
+	// The angle in radians (NaN if not available)
+	private final DoubleValueHolder value;
 	
-	public DMSAngleConverter(ValueHolder<Double> val) {
+	public DMSAngleConverter(DoubleValueHolder val) {
 		if (val==null) {
 			throw new IllegalArgumentException("Invalid null radians value");
 		}
@@ -56,10 +56,20 @@ public class DMSAngleConverter implements AngleConverter {
 	}
 	
 	public String getString() {
-		if (value==null || value.getValue()==null) {
+		return format(value.getValue());
+	}
+	
+	/**
+	 * Format an angle in degrees/minutes/seconds
+	 * 
+	 * @param rad The angle in radians 
+	 * @return The formatted angle or an empty string if <code>rad</code> is <code>NaN</code>
+	 */
+	public static String format(double rad) {
+		if (Double.isNaN(rad)) {
 			return "";
 		}
-		DMS dms = rad2dms();
+		DMS dms = rad2dms(rad);
 		String str=String.format(DMSAngleConverter.formatString, (int)dms.deg, (int)dms.min, dms.sec);
 		if (dms.neg) {
 			return "-"+str;
@@ -70,15 +80,12 @@ public class DMSAngleConverter implements AngleConverter {
 	/**
 	 * Convert the radians in DMS
 	 * 
+	 * @param rad The angle in radians
 	 * @return A double representing the angle in DMS
 	 */
-	private DMS rad2dms()
+	private static DMS rad2dms(double rad)
 	{
-		if (value==null || value.getValue()==null) {
-			throw new IllegalStateException("The value is null: no radians angle to convert");
-		}
 		double f = 1.0;
-		double rad=value.getValue();
 		if (rad < 0.0) {
 			rad = Math.abs(rad);
 			f = -1.0;
@@ -1,6 +1,6 @@
 package alma.control.gui.antennamount.utils;
 
-import alma.control.gui.antennamount.mount.ValueHolder;
+import alma.control.gui.antennamount.mount.DoubleValueHolder;
 
 /**
  * A class to convert a randians angle into hours/minutes/seconds
@@ -12,15 +12,15 @@ public class HMSAngleConverter implements AngleConverter {
 	
 	static final char[] HOURS_SEPARATORS = new char[] {':',':','.' };
 	
-	// The angle in radians (can be null)
-	private ValueHolder<Double> value=null;
+	// The angle in radians (NaN if not available)
+	private final DoubleValueHolder value;
 		
 	/**
 	 * The string to format the d/m/s
 	 */
 	public final static String formatString = "%02d"+HOURS_SEPARATORS[0]+"%02d"+HOURS_SEPARATORS[1]+"%05.2f";
 		
-	public HMSAngleConverter(ValueHolder<Double> val) {
+	public HMSAngleConverter(DoubleValueHolder val) {
 		if (val==null) {
 			throw new IllegalArgumentException("Invalid null radians value");
 		}
@@ -28,14 +28,23 @@ public class HMSAngleConverter implements AngleConverter {
 	}
 	
 	public String getString() {
-		if (value==null || value.getValue()==null) {
+		return format(value.getValue());
+	}
+	
+	/**
+	 * Format an angle in hours/minutes/seconds
+	 * 
+	 * @param rad The angle in radians 
+	 * @return The formatted angle or an empty string if <code>rad</code> is <code>NaN</code>
+	 */
+	public static String format(double rad) {
+		if (Double.isNaN(rad)) {
 			return "";
 		}
-		return rad2hms();
+		return rad2hms(rad);
 	}
 	
-	private String rad2hms() {
-		double rad = value.getValue();
+	private static String rad2hms(double rad) {
 		boolean negative=false;
 		if (rad<0) {
 			negative=true;
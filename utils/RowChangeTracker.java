@@ -0,0 +1,170 @@
+/*
+ * ALMA - Atacama Large Millimiter Array (c) European Southern Observatory, 2007
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ */
+package alma.control.gui.antennamount.utils;
+
+import javax.swing.table.AbstractTableModel;
+
+/**
+ * Track the content of the rows of a table model between two refreshes
+ * to notify the table only about the rows that really changed.
+ * <P>
+ * Calling <code>fireTableDataChanged()</code> at each refresh forces the table
+ * to repaint all the cells and to layout again all the HTML strings even if
+ * nothing changed.
+ * The tracker instead compares the content of each row with the content
+ * it had at the previous refresh and fires a <code>fireTableRowsUpdated()</code>
+ * for each block of consecutive rows that changed.
+ * If no row changed, no event is fired at all.
+ * <P>
+ * If the number of rows or columns changed, the whole table is refreshed
+ * with <code>fireTableDataChanged()</code>.
+ *
+ * @author acaproni
+ *
+ */
+public class RowChangeTracker {
+
+	/**
+	 * The content of the cells at the last refresh
+	 * (<code>null</code> before the first refresh)
+	 */
+	private Object[][] lastValues=null;
+
+	/**
+	 * The number of rows updated since the tracker has been built
+	 */
+	private long updatedRows=0;
+
+	/**
+	 * The number of refreshes where nothing changed
+	 */
+	private long skippedRefreshes=0;
+
+	/**
+	 * Compare the content of the model with the content it had at the
+	 * previous call and fire the events for the rows that changed.
+	 *
+	 * @param model The model of the table
+	 */
+	public synchronized void fireChanges(AbstractTableModel model) {
+		if (model==null) {
+			throw new IllegalArgumentException("Invalid null model");
+		}
+		int rows=model.getRowCount();
+		int cols=model.getColumnCount();
+		if (lastValues==null || lastValues.length!=rows || (rows>0 && lastValues[0].length!=cols)) {
+			lastValues = new Object[rows][cols];
+			for (int r=0; r<rows; r++) {
+				for (int c=0; c<cols; c++) {
+					lastValues[r][c]=copyOf(model.getValueAt(r, c));
+				}
+			}
+			updatedRows+=rows;
+			model.fireTableDataChanged();
+			return;
+		}
+		int firstChanged=-1;
+		boolean changed=false;
+		for (int r=0; r<rows; r++) {
+			boolean rowChanged=false;
+			for (int c=0; c<cols; c++) {
+				Object val = model.getValueAt(r, c);
+				if (!equal(lastValues[r][c], val)) {
+					lastValues[r][c]=copyOf(val);
+					rowChanged=true;
+				}
+			}
+			if (rowChanged) {
+				updatedRows++;
+				changed=true;
+				if (firstChanged<0) {
+					firstChanged=r;
+				}
+			} else if (firstChanged>=0) {
+				model.fireTableRowsUpdated(firstChanged, r-1);
+				firstChanged=-1;
+			}
+		}
+		if (firstChanged>=0) {
+			model.fireTableRowsUpdated(firstChanged, rows-1);
+		}
+		if (!changed) {
+			skippedRefreshes++;
+		}
+	}
+
+	/**
+	 * Forget the content of the rows so that the next call to
+	 * {@link #fireChanges(AbstractTableModel)} refreshes the whole table
+	 */
+	public synchronized void reset() {
+		lastValues=null;
+	}
+
+	/**
+	 *
+	 * @return The number of rows updated since the tracker has been built
+	 */
+	public synchronized long getUpdatedRows() {
+		return updatedRows;
+	}
+
+	/**
+	 *
+	 * @return The number of refreshes where nothing changed
+	 */
+	public synchronized long getSkippedRefreshes() {
+		return skippedRefreshes;
+	}
+
+	/**
+	 * Compare the content of a cell with the content it had
+	 * at the previous refresh.
+	 * <P>
+	 * Some models return the <code>StringBuilder</code> they update
+	 * so the strings are compared by content.
+	 *
+	 * @param last The content of the cell at the previous refresh (can be <code>null</code>)
+	 * @param val The content of the cell (can be <code>null</code>)
+	 * @return <code>true</code> if the cells have the same content
+	 */
+	private static boolean equal(Object last, Object val) {
+		if (last==null || val==null) {
+			return last==val;
+		}
+		if (last instanceof String && val instanceof CharSequence) {
+			return ((String)last).contentEquals((CharSequence)val);
+		}
+		return last.equals(val);
+	}
+
+	/**
+	 * Return a copy of the content of a cell that does not change
+	 * when the model updates the cell.
+	 *
+	 * @param val The content of the cell (can be <code>null</code>)
+	 * @return The content to store for the next comparison
+	 */
+	private static Object copyOf(Object val) {
+		if (val instanceof CharSequence && !(val instanceof String)) {
+			return val.toString();
+		}
+		return val;
+	}
+}
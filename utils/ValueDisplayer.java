@@ -25,6 +25,11 @@
 
 package alma.control.gui.antennamount.utils;
 
+import java.util.EnumMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import alma.control.gui.antennamount.mount.DoubleValueHolder;
+import alma.control.gui.antennamount.mount.HolderSnapshot;
 import alma.control.gui.antennamount.mount.ValueHolder;
 import alma.control.gui.antennamount.utils.ValueConverter.ValueType;
 
@@ -34,6 +39,14 @@ import alma.control.gui.antennamount.utils.ValueConverter.ValueType;
  * The values is checked to determine if it is valid an up to date.
  * The returned value is then composed of the string to pass plus a 
  * {@link ValueState}. 
+ * <P>
+ * The methods of this class are not synchronized and can be called
+ * concurrently by the threads refreshing the tables.
+ * The HTML strings of the cells (i.e. the text decorated with the color of 
+ * its {@link ValueState}) are cached by {@link #render(String, ValueState)}:
+ * most of the cells show one of a few texts (like {@link #Set} and {@link #Unset})
+ * so the status tables do not need to build a new string for each bit 
+ * at each refresh.
  *
  */
 public class ValueDisplayer {
@@ -85,6 +98,85 @@ public class ValueDisplayer {
 	 */
 	public final static String Unset="Unset";
 	
+	/**
+	 * The max number of strings cached for each {@link ValueState}.
+	 * <P>
+	 * When the cache is full, the strings are rendered but not cached
+	 * so that texts that change continuously (like numbers) 
+	 * can't make the cache grow without limits.
+	 */
+	private static final int MAX_CACHED_STRINGS=2048;
+	
+	/**
+	 * The cache of the rendered strings: for each state, the text is the key
+	 * and the HTML string is the value
+	 */
+	private static final EnumMap<ValueState, ConcurrentHashMap<String, String>> renderedStrings = 
+		new EnumMap<ValueState, ConcurrentHashMap<String,String>>(ValueState.class);
+	
+	static {
+		for (ValueState state: ValueState.values()) {
+			renderedStrings.put(state, new ConcurrentHashMap<String, String>());
+		}
+	}
+	
+	/**
+	 * Return the HTML string with the text colored depending on the state.
+	 * <P>
+	 * The result is the same of {@link ValueState#format(String)} but
+	 * the strings are cached and the same instance is returned for the same
+	 * text and state.
+	 * 
+	 * @param text The text to render
+	 * @param state The state of the value
+	 * @return The HTML string
+	 */
+	public static String render(String text, ValueState state) {
+		ConcurrentHashMap<String, String> cache=renderedStrings.get(state);
+		String ret=cache.get(text);
+		if (ret!=null) {
+			return ret;
+		}
+		ret=state.format(text);
+		if (cache.size()<MAX_CACHED_STRINGS) {
+			String old=cache.putIfAbsent(text, ret);
+			if (old!=null) {
+				ret=old;
+			}
+		}
+		return ret;
+	}
+	
+	/**
+	 * Return the state of a value.
+	 * <P>
+	 * It is the state returned by {@link #getString(String, HolderSnapshot)}
+	 * without allocating any object.
+	 * 
+	 * @param snap The snapshot of the value (can be <code>null</code>)
+	 * @return The state of the value
+	 */
+	public static ValueState getState(HolderSnapshot snap) {
+		if (snap==null || !snap.isAvailable() || !snap.isUpToDate()) {
+			return ValueState.ERROR;
+		}
+		if (!snap.isValid()) {
+			return ValueState.WARNING;
+		}
+		return ValueState.NORMAL;
+	}
+	
+	/**
+	 * Return the state of a value.
+	 * 
+	 * @param val The value (can be <code>null</code>)
+	 * @return The state of the value
+	 * @see #getState(HolderSnapshot)
+	 */
+	public static ValueState getState(ValueHolder<?> val) {
+		return getState((val==null)?null:val.snapshot());
+	}
+	
 	/**
 	 * Set a String with the content and the colors  depending on the content
 	 * of the ValueHolder
@@ -103,21 +195,61 @@ public class ValueDisplayer {
 	 *        
 	 * @return The formatted string
 	 */
-	public static synchronized DisplayStruct getString(ValueHolder<Double> val, ValueType converterType) {
+	public static DisplayStruct getString(ValueHolder<Double> val, ValueType converterType) {
 		DisplayStruct ret = new DisplayStruct();
-		if (val==null || val.getValue()==null) {
+		if (val==null) {
+			ret.str=NOT_AVAILABLE;
+			ret.state=ValueState.ERROR;
+			return ret;
+		}
+		ValueHolder.Snapshot<Double> snap = val.snapshot();
+		if (snap.value==null) {
+			ret.str=NOT_AVAILABLE;
+			ret.state=ValueState.ERROR;
+			return ret;
+		} 
+		String str;
+		if (converterType==null) {
+			str=snap.value.toString();
+		} else {
+			str=ValueConverter.rad2string(snap.value.doubleValue(), converterType);
+		}
+		str=ValueDisplayer.checkDecimal(str);
+		return getString(str,snap);
+	}
+	
+	/**
+	 * Set a String with the content and the colors  depending on the content
+	 * of the {@link DoubleValueHolder}.
+	 * <P>
+	 * It is the same of {@link #getString(ValueHolder, ValueType)} for values
+	 * stored as primitive <code>double</code>.
+	 *  
+	 * @param val The value to display (if <code>null</code> or not available, NOT_AVAILABLE is displayed)
+	 * @param The converterType to show the number in a human readable format
+	 *        (can be <code>null</code>)
+	 *        
+	 * @return The formatted string
+	 */
+	public static DisplayStruct getString(DoubleValueHolder val, ValueType converterType) {
+		if (val==null) {
+			DisplayStruct ret = new DisplayStruct();
 			ret.str=NOT_AVAILABLE;
 			ret.state=ValueState.ERROR;
 			return ret;
+		}
+		DoubleValueHolder.Snapshot snap = val.snapshot();
+		if (!snap.isAvailable()) {
+			return getString(NOT_AVAILABLE,snap);
 		} 
 		String str;
 		if (converterType==null) {
-			str=val.getValue().toString();
+			str=Double.toString(snap.value);
 		} else {
-			str=ValueConverter.rad2string(val.getValue().doubleValue(), converterType);
+			str=ValueConverter.rad2string(snap.value, converterType);
 		}
 		str=ValueDisplayer.checkDecimal(str);
-		return getString(str,val);
+		return getString(str,snap);
 	}
 	
 	/**
@@ -131,25 +263,36 @@ public class ValueDisplayer {
 	 * @param val The value used to decorate the string 
 	 * @return The coloured string
 	 */
-	public static synchronized DisplayStruct getString(String str, ValueHolder<?> val) {
+	public static DisplayStruct getString(String str, ValueHolder<?> val) {
+		return getString(str, (val==null)?null:val.snapshot());
+	}
+	
+	/**
+	 * This method format the string with a state depending on the status
+	 * of the snapshot of a value holder.
+	 * <P>
+	 * It is the same of {@link #getString(String, ValueHolder)} but 
+	 * the value, its timestamp and the error are read from the same snapshot.
+	 * The snapshot can be taken from any kind of holder (i.e. also from the 
+	 * holders of primitive values like {@link DoubleValueHolder}).
+	 *  
+	 * @param str The string to print
+	 * @param snap The snapshot of the value used to decorate the string 
+	 * @return The coloured string
+	 */
+	public static DisplayStruct getString(String str, HolderSnapshot snap) {
 		DisplayStruct ret = new DisplayStruct();
-		if (str==null || val==null || val.getValue()==null) {
+		if (str==null || snap==null || !snap.isAvailable()) {
 			ret.str=NOT_AVAILABLE;
 			ret.state=ValueState.ERROR;
 			return ret;
 		}
 		ret.str=str;
-		if (!val.isUpToDate()) {
-			ret.state=ValueState.ERROR;
-		} else if (!val.isValid()) {
-			ret.state=ValueState.WARNING;
-		} else {
-			ret.state=ValueState.NORMAL;
-		}
+		ret.state=getState(snap);
 		return ret;
 	}
 	
-	private static synchronized String checkDecimal(String str) {
+	private static String checkDecimal(String str) {
 		str=str.trim();
 		int pos = str.lastIndexOf('.');
 		if (pos<0) {
@@ -204,14 +347,10 @@ public class ValueDisplayer {
 			str.delete(0, str.length());
 		}
 		if (bit) {
-			str.append(ValueDisplayer.errorColor);
-			str.append(Set);
-			str.append(ValueDisplayer.closeHTML);
+			str.append(render(Set,ValueState.ERROR));
 			return ValueState.ERROR;
 		} else {
-			ValueDisplayer.DisplayStruct dStruct=ValueDisplayer.getString(Unset, val);
-			str.append(dStruct.state.format(dStruct.str));
-			return ValueState.max(actualState, dStruct.state);
+			return appendBit(Unset, actualState, str, val);
 		}
 	}
 	
@@ -244,13 +383,9 @@ public class ValueDisplayer {
 		}
 		if (bit) {
 			// This is not an error
-			ValueDisplayer.DisplayStruct dStruct=ValueDisplayer.getString(Set, val);
-			str.append(dStruct.state.format(dStruct.str));
-			return ValueState.max(actualState, dStruct.state);
+			return appendBit(Set, actualState, str, val);
 		} else {
-			str.append(ValueDisplayer.errorColor);
-			str.append(Unset);
-			str.append(ValueDisplayer.closeHTML);
+			str.append(render(Unset,ValueState.ERROR));
 			return ValueState.ERROR;
 		}
 	}
@@ -276,14 +411,33 @@ public class ValueDisplayer {
 		if (str.length()>0) {
 			str.delete(0, str.length());
 		}
-		ValueDisplayer.DisplayStruct dStruct;
 		if (bit) {
-			dStruct=ValueDisplayer.getString(Set, val);
 			str.append(Set);
 		} else {
-			dStruct=ValueDisplayer.getString(Unset, val);
 			str.append(Unset);
 		}
-		return ValueState.max(actualState, dStruct.state);
+		return ValueState.max(actualState, getState(val));
+	}
+	
+	/**
+	 * Append the rendered text of a bit that is not in error state.
+	 * <P>
+	 * The color depends on the state of the holder; <code>NOT_AVAILABLE</code> 
+	 * is appended instead of the text if the value is not available.
+	 * 
+	 * @param text The text of the bit
+	 * @param actualState The actual error state
+	 * @param str The string to append the rendered text to
+	 * @param val The {@link ValueHolder} used to get the bit
+	 * @return The new error state
+	 */
+	private static ValueState appendBit(String text, ValueState actualState, StringBuilder str, ValueHolder<?> val) {
+		ValueHolder.Snapshot<?> snap=(val==null)?null:val.snapshot();
+		ValueState state=getState(snap);
+		if (snap==null || !snap.isAvailable()) {
+			text=NOT_AVAILABLE;
+		}
+		str.append(render(text,state));
+		return ValueState.max(actualState, state);
 	}
 }
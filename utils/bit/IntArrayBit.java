@@ -0,0 +1,155 @@
+/*
+ * ALMA - Atacama Large Millimiter Array (c) European Southern Observatory, 2007
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ */
+package alma.control.gui.antennamount.utils.bit;
+
+/**
+ * A view of the bits of an array of int as returned by the components
+ * for the status words.
+ * <P>
+ * The view does not copy the array nor decode the words in advance:
+ * each bit is read with a shift and a mask when requested.
+ * The array must not be modified after building the view (the arrays
+ * returned by the components and stored in the <code>ValueHolder</code>s
+ * are never modified).
+ * <P>
+ * The static methods allow to read the bits without building the view.
+ * <P>
+ * The bit less significant is in position 0.
+ *
+ * @author acaproni
+ *
+ */
+public final class IntArrayBit {
+
+	/**
+	 * The words whose bits are read by this view
+	 */
+	private final int[] words;
+
+	/**
+	 * Constructor
+	 *
+	 * @param words The words whose bits are read by this view
+	 */
+	public IntArrayBit(int[] words) {
+		if (words==null || words.length==0) {
+			throw new IllegalArgumentException("Invalid null/empty array of int");
+		}
+		this.words=words;
+	}
+
+	/**
+	 * Return one bit of one word in the array
+	 *
+	 * @param word The index of the word
+	 * @param bit The index of the bit
+	 * @return true if the bit is set
+	 *         false otherwise
+	 */
+	public boolean getBit(int word, int bit) {
+		return getBit(words,word,bit);
+	}
+
+	/**
+	 * Return one word of the array
+	 *
+	 * @param word The index of the word
+	 * @return The word in the given position
+	 */
+	public int getWord(int word) {
+		if (word<0 || word>=words.length) {
+			throw new IllegalArgumentException("Invalid word index: "+word);
+		}
+		return words[word];
+	}
+
+	/**
+	 *
+	 * @return The number of words in the array
+	 */
+	public int size() {
+		return words.length;
+	}
+
+	/**
+	 * Return one bit of one word in the array
+	 *
+	 * @param words The array of words
+	 * @param word The index of the word
+	 * @param bit The index of the bit
+	 * @return true if the bit is set
+	 *         false otherwise
+	 */
+	public static boolean getBit(int[] words, int word, int bit) {
+		if (words==null) {
+			throw new IllegalArgumentException("Invalid null array of int");
+		}
+		if (word<0 || word>=words.length) {
+			throw new IllegalArgumentException("Invalid word index: "+word);
+		}
+		return isBitSet(words[word],bit);
+	}
+
+	/**
+	 * Return one bit of a word
+	 *
+	 * @param value The word
+	 * @param bit The index of the bit
+	 * @return true if the bit is set
+	 *         false otherwise
+	 */
+	public static boolean isBitSet(int value, int bit) {
+		if (bit<0 || bit>=Integer.SIZE) {
+			throw new IllegalArgumentException("Invalid bit index: "+bit);
+		}
+		return ((value>>>bit)&1)!=0;
+	}
+
+	/**
+	 * Print the bits of a word, the most significant first
+	 *
+	 * @param value The word
+	 * @return The bits of the word
+	 */
+	public static String toString(int value) {
+		StringBuilder ret = new StringBuilder(Integer.SIZE+Integer.SIZE/8);
+		for (int t=Integer.SIZE-1; t>=0; t--) {
+			ret.append(((value>>>t)&1)!=0?'1':'0');
+			if (t>0 && t%8==0) {
+				ret.append(' ');
+			}
+		}
+		return ret.toString();
+	}
+
+	/**
+	 * Print the bits of this array
+	 */
+	public String toString() {
+		StringBuilder ret = new StringBuilder();
+		for (int t=0; t<words.length; t++) {
+			ret.append("Byte ");
+			ret.append(t);
+			ret.append(": [");
+			ret.append(toString(words[t]));
+			ret.append("]\n");
+		}
+		return ret.toString();
+	}
+}
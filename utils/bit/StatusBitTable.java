@@ -0,0 +1,287 @@
+/*
+ * ALMA - Atacama Large Millimiter Array (c) European Southern Observatory, 2007
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ */
+package alma.control.gui.antennamount.utils.bit;
+
+import java.util.Vector;
+
+/**
+ * The map between the bits of a status word (i.e. of an array of int returned
+ * by the component) and the rows of a table.
+ * <P>
+ * Each entry of the table associates a bit of a word to a row and to the
+ * {@link Polarity} of the bit.
+ * The table is built once per antenna type with a {@link Builder} and compiled in
+ * flat arrays of int so that the {@link StatusWordDecoder} can decode the words
+ * with a single loop and find the rows of a bit without iterating over the entries.
+ * <P>
+ * The same bit can be associated to more rows.
+ * The rows without bit (for example the bits not used by
+ * an antenna type) are left empty.
+ *
+ * @author acaproni
+ *
+ */
+public final class StatusBitTable {
+
+	/**
+	 * The meaning of the value of a bit
+	 *
+	 * @author acaproni
+	 *
+	 */
+	public enum Polarity {
+		/**
+		 * The bit represents an error when it is set
+		 * (see <code>ValueDisplayer.formatStatusBit</code>)
+		 */
+		ERROR_IF_SET,
+		/**
+		 * The bit represents an error when it is NOT set
+		 * (see <code>ValueDisplayer.formatStatusBitInverse</code>)
+		 */
+		ERROR_IF_UNSET,
+		/**
+		 * The bit never represents an error
+		 * (see <code>ValueDisplayer.formatBit</code>)
+		 */
+		NO_ERROR
+	}
+
+	/**
+	 * The builder of a table.
+	 * <P>
+	 * The entries are added in the same order the rows are refreshed.
+	 *
+	 * @author acaproni
+	 *
+	 */
+	public static class Builder {
+
+		/**
+		 * The number of words
+		 */
+		private final int numOfWords;
+
+		/**
+		 * The entries added so far, each one is <code>{word, bit, row, polarity}</code>
+		 */
+		private final Vector<int[]> entries = new Vector<int[]>();
+
+		/**
+		 * The rows without bit
+		 */
+		private final Vector<Integer> blankRows = new Vector<Integer>();
+
+		/**
+		 * Constructor
+		 *
+		 * @param numOfWords The number of words of the status
+		 */
+		public Builder(int numOfWords) {
+			if (numOfWords<=0) {
+				throw new IllegalArgumentException("Invalid number of words "+numOfWords);
+			}
+			this.numOfWords=numOfWords;
+		}
+
+		/**
+		 * Add a bit that represents an error when it is set
+		 *
+		 * @param word The index of the word
+		 * @param bit The index of the bit in the word
+		 * @param row The row of the table (its ordinal is the index of the row)
+		 * @return This builder
+		 */
+		public Builder add(int word, int bit, Enum<?> row) {
+			return add(word,bit,row,Polarity.ERROR_IF_SET);
+		}
+
+		/**
+		 * Add a bit
+		 *
+		 * @param word The index of the word
+		 * @param bit The index of the bit in the word
+		 * @param row The row of the table (its ordinal is the index of the row)
+		 * @param polarity The meaning of the value of the bit
+		 * @return This builder
+		 */
+		public Builder add(int word, int bit, Enum<?> row, Polarity polarity) {
+			if (word<0 || word>=numOfWords) {
+				throw new IllegalArgumentException("Invalid word index: "+word);
+			}
+			if (bit<0 || bit>=Integer.SIZE) {
+				throw new IllegalArgumentException("Invalid bit index: "+bit);
+			}
+			if (row==null) {
+				throw new IllegalArgumentException("Invalid null row");
+			}
+			if (polarity==null) {
+				throw new IllegalArgumentException("Invalid null polarity");
+			}
+			entries.add(new int[] { word, bit, row.ordinal(), polarity.ordinal() });
+			return this;
+		}
+
+		/**
+		 * Add a row without bit: the row is always empty
+		 *
+		 * @param row The row of the table (its ordinal is the index of the row)
+		 * @return This builder
+		 */
+		public Builder blank(Enum<?> row) {
+			if (row==null) {
+				throw new IllegalArgumentException("Invalid null row");
+			}
+			blankRows.add(Integer.valueOf(row.ordinal()));
+			return this;
+		}
+
+		/**
+		 * Compile the entries in a table
+		 *
+		 * @return The table
+		 */
+		public StatusBitTable build() {
+			if (entries.isEmpty()) {
+				throw new IllegalStateException("No bits in the table");
+			}
+			return new StatusBitTable(numOfWords,entries,blankRows);
+		}
+	}
+
+	/**
+	 * The position of the word in an entry of {@link #entries}
+	 */
+	static final int WORD=0;
+
+	/**
+	 * The position of the bit in an entry of {@link #entries}
+	 */
+	static final int BIT=1;
+
+	/**
+	 * The position of the row in an entry of {@link #entries}
+	 */
+	static final int ROW=2;
+
+	/**
+	 * The position of the polarity in an entry of {@link #entries}
+	 */
+	static final int POLARITY=3;
+
+	/**
+	 * The position of the next entry of the same bit in an entry of {@link #entries}
+	 * (-1 if there are no other entries for the same bit)
+	 */
+	static final int NEXT=4;
+
+	/**
+	 * The number of int of each entry in {@link #entries}
+	 */
+	static final int ENTRY_SIZE=5;
+
+	/**
+	 * The entries of the table, {@link #ENTRY_SIZE} int for each entry
+	 */
+	final int[] entries;
+
+	/**
+	 * The first entry of each bit of each word (-1 if the bit is not in the table)
+	 * <P>
+	 * The bit <code>b</code> of the word <code>w</code> is in
+	 * position <code>w*Integer.SIZE+b</code>.
+	 */
+	private final int[] firstEntries;
+
+	/**
+	 * The rows without bit
+	 */
+	final int[] blankRows;
+
+	/**
+	 * The number of words of the status
+	 */
+	public final int numOfWords;
+
+	/**
+	 * The number of rows needed to display the table
+	 * (i.e. the greatest row plus one)
+	 */
+	public final int numOfRows;
+
+	/**
+	 * Constructor
+	 *
+	 * @param numOfWords The number of words of the status
+	 * @param items The entries as <code>{word, bit, row, polarity}</code>
+	 * @param blanks The rows without bit
+	 */
+	private StatusBitTable(int numOfWords, Vector<int[]> items, Vector<Integer> blanks) {
+		this.numOfWords=numOfWords;
+		entries = new int[items.size()*ENTRY_SIZE];
+		firstEntries = new int[numOfWords*Integer.SIZE];
+		for (int t=0; t<firstEntries.length; t++) {
+			firstEntries[t]=-1;
+		}
+		int rows=0;
+		// Built backward so that the entries of the same bit are
+		// linked in the order they have been added
+		for (int t=items.size()-1; t>=0; t--) {
+			int[] item = items.get(t);
+			int pos=t*ENTRY_SIZE;
+			entries[pos+WORD]=item[WORD];
+			entries[pos+BIT]=item[BIT];
+			entries[pos+ROW]=item[ROW];
+			entries[pos+POLARITY]=item[POLARITY];
+			int idx=item[WORD]*Integer.SIZE+item[BIT];
+			entries[pos+NEXT]=firstEntries[idx];
+			firstEntries[idx]=pos;
+			rows=Math.max(rows, item[ROW]+1);
+		}
+		blankRows = new int[blanks.size()];
+		for (int t=0; t<blankRows.length; t++) {
+			blankRows[t]=blanks.get(t).intValue();
+			rows=Math.max(rows, blankRows[t]+1);
+		}
+		numOfRows=rows;
+	}
+
+	/**
+	 * Return the position in {@link #entries} of the first entry
+	 * of a bit.
+	 * <P>
+	 * The following entries of the same bit are linked by the {@link #NEXT}
+	 * field of each entry.
+	 *
+	 * @param word The index of the word
+	 * @param bit The index of the bit
+	 * @return The position of the first entry or -1 if the bit is not in the table
+	 */
+	int firstEntry(int word, int bit) {
+		return firstEntries[word*Integer.SIZE+bit];
+	}
+
+	/**
+	 *
+	 * @return The number of entries in the table
+	 */
+	public int size() {
+		return entries.length/ENTRY_SIZE;
+	}
+}
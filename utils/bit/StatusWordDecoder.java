@@ -0,0 +1,277 @@
+/*
+ * ALMA - Atacama Large Millimiter Array (c) European Southern Observatory, 2007
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this library; if not, write to the Free Software Foundation, Inc.,
+ * 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ */
+package alma.control.gui.antennamount.utils.bit;
+
+import alma.control.gui.antennamount.mount.StatusChangeListener;
+import alma.control.gui.antennamount.mount.ValueHolder;
+import alma.control.gui.antennamount.utils.ValueDisplayer;
+import alma.control.gui.antennamount.utils.ValueState;
+import alma.control.gui.antennamount.utils.bit.StatusBitTable.Polarity;
+
+/**
+ * Decode the words of a status in the rows of a table by means of
+ * a {@link StatusBitTable}.
+ * <P>
+ * All the rows are rendered from the words of the {@link ValueHolder}
+ * the first time, when the state of the holder changes (for example when the
+ * value is not up to date anymore) and after {@link #invalidate()}.
+ * <P>
+ * Between two full renders, only the rows of the bits that changed are rendered again.
+ * If the decoder is event driven (see {@link #setEventDriven(boolean)}), the bits
+ * that changed are those passed to {@link #bitChanged(int, int, boolean)} by the
+ * {@link StatusChangeListener} of the status word and {@link #decode(ValueHolder)} does not
+ * read the words at all while the state of the holder does not change.
+ * Otherwise the new words are compared with the old ones with a XOR.
+ * <P>
+ * The strings written in the rows are the same produced by
+ * {@link ValueDisplayer#formatStatusBit(boolean, ValueState, StringBuilder, ValueHolder)},
+ * {@link ValueDisplayer#formatStatusBitInverse(boolean, ValueState, StringBuilder, ValueHolder)}
+ * and {@link ValueDisplayer#formatBit(boolean, ValueState, StringBuilder, ValueHolder)}
+ * depending on the {@link Polarity} of each bit.
+ *
+ * @author acaproni
+ *
+ */
+public class StatusWordDecoder {
+
+	/**
+	 * The polarities indexed by their ordinal (<code>values()</code> returns a new array each time)
+	 */
+	private static final Polarity[] POLARITIES=Polarity.values();
+
+	/**
+	 * The table of the bits
+	 */
+	private final StatusBitTable table;
+
+	/**
+	 * The rows to write the decoded bits into
+	 */
+	private final String[] vals;
+
+	/**
+	 * For each entry of the table, <code>true</code> if the row is in error state
+	 */
+	private final boolean[] errors;
+
+	/**
+	 * The number of rows in error state
+	 */
+	private int errorRows=0;
+
+	/**
+	 * A copy of the words rendered in the rows
+	 * (<code>null</code> if the rows must be rendered again)
+	 */
+	private int[] words=null;
+
+	/**
+	 * <code>true</code> if the bits that changed are notified by
+	 * {@link #bitChanged(int, int, boolean)}
+	 */
+	private boolean eventDriven=false;
+
+	/**
+	 * The state of the holder in the previous refresh
+	 */
+	private ValueState previousState=null;
+
+	/**
+	 * The number of rows rendered so far
+	 */
+	private long renderedRows=0;
+
+	/**
+	 * Constructor
+	 *
+	 * @param table The table of the bits
+	 * @param vals The rows to write the decoded bits into
+	 */
+	public StatusWordDecoder(StatusBitTable table, String[] vals) {
+		if (table==null) {
+			throw new IllegalArgumentException("Invalid null table");
+		}
+		if (vals==null || vals.length<table.numOfRows) {
+			throw new IllegalArgumentException("The rows can't contain all the bits of the table");
+		}
+		this.table=table;
+		this.vals=vals;
+		this.errors = new boolean[table.size()];
+	}
+
+	/**
+	 * Decode the words of the holder in the rows.
+	 * <P>
+	 * If the words are not available or their number does not match with the
+	 * table, the rows are not modified and the method returns <code>null</code>:
+	 * the caller shall set the rows in error state.
+	 *
+	 * @param holder The holder of the words
+	 * @return The state of the rows i.e. ERROR if at least one bit is in error state,
+	 * 		the state of the holder otherwise;
+	 * 		<code>null</code> if the words are not available
+	 */
+	public synchronized ValueState decode(ValueHolder<int[]> holder) {
+		ValueHolder.Snapshot<int[]> snap=(holder==null)?null:holder.snapshot();
+		if (snap==null || snap.value==null || snap.value.length!=table.numOfWords) {
+			words=null;
+			return null;
+		}
+		ValueState state=ValueDisplayer.getState(snap);
+		if (words==null || state!=previousState) {
+			words=snap.value.clone();
+			errorRows=0;
+			for (int pos=0; pos<table.entries.length; pos+=StatusBitTable.ENTRY_SIZE) {
+				render(pos, state);
+			}
+			for (int row: table.blankRows) {
+				vals[row]="";
+			}
+		} else if (!eventDriven) {
+			for (int w=0; w<words.length; w++) {
+				int changed=snap.value[w]^words[w];
+				words[w]=snap.value[w];
+				while (changed!=0) {
+					int bit=Integer.numberOfTrailingZeros(changed);
+					changed&=changed-1;
+					renderBit(w, bit, state);
+				}
+			}
+		}
+		previousState=state;
+		return (errorRows>0)?ValueState.ERROR:state;
+	}
+
+	/**
+	 * A bit of the status word changed.
+	 * <P>
+	 * The rows of the bit are rendered immediately with the state of
+	 * the holder of the last refresh.
+	 * The bit is ignored if the rows must be rendered again anyhow.
+	 *
+	 * @param word The index of the word
+	 * @param bit The index of the bit in the word
+	 * @param value The new value of the bit
+	 * @see StatusChangeListener#statusBitChanged(alma.control.gui.antennamount.mount.StatusWord, int, int, boolean)
+	 */
+	public synchronized void bitChanged(int word, int bit, boolean value) {
+		if (words==null || word<0 || word>=words.length || bit<0 || bit>=Integer.SIZE) {
+			return;
+		}
+		if (value) {
+			words[word]|=1<<bit;
+		} else {
+			words[word]&=~(1<<bit);
+		}
+		renderBit(word, bit, previousState);
+	}
+
+	/**
+	 * Set the decoder as event driven.
+	 * <P>
+	 * An event driven decoder must receive all the changes of
+	 * the bits by {@link #bitChanged(int, int, boolean)}
+	 * and the unavailability of the status word by {@link #invalidate()}.
+	 *
+	 * @param eventDriven <code>true</code> if the changes of the bits are notified
+	 */
+	public synchronized void setEventDriven(boolean eventDriven) {
+		this.eventDriven=eventDriven;
+		words=null;
+	}
+
+	/**
+	 * Render the rows of a bit
+	 *
+	 * @param word The index of the word
+	 * @param bit The index of the bit in the word
+	 * @param state The state of the holder of the words
+	 */
+	private void renderBit(int word, int bit, ValueState state) {
+		for (int pos=table.firstEntry(word, bit); pos>=0; pos=table.entries[pos+StatusBitTable.NEXT]) {
+			if (errors[pos/StatusBitTable.ENTRY_SIZE]) {
+				errorRows--;
+			}
+			render(pos, state);
+		}
+	}
+
+	/**
+	 * Render the row of an entry of the table and update the
+	 * number of rows in error state.
+	 * <P>
+	 * The caller must have already removed the previous state of the row
+	 * from {@link #errorRows}.
+	 *
+	 * @param pos The position of the entry in the table
+	 * @param state The state of the holder of the words
+	 */
+	private void render(int pos, ValueState state) {
+		int[] entries=table.entries;
+		boolean bit=((words[entries[pos+StatusBitTable.WORD]]>>>entries[pos+StatusBitTable.BIT])&1)!=0;
+		boolean error;
+		String str;
+		switch (POLARITIES[entries[pos+StatusBitTable.POLARITY]]) {
+		case ERROR_IF_SET:
+			error=bit;
+			str=ValueDisplayer.render(bit?ValueDisplayer.Set:ValueDisplayer.Unset, error?ValueState.ERROR:state);
+			break;
+		case ERROR_IF_UNSET:
+			error=!bit;
+			str=ValueDisplayer.render(bit?ValueDisplayer.Set:ValueDisplayer.Unset, error?ValueState.ERROR:state);
+			break;
+		default:
+			error=false;
+			str=bit?ValueDisplayer.Set:ValueDisplayer.Unset;
+		}
+		errors[pos/StatusBitTable.ENTRY_SIZE]=error;
+		if (error) {
+			errorRows++;
+		}
+		vals[entries[pos+StatusBitTable.ROW]]=str;
+		renderedRows++;
+	}
+
+	/**
+	 * Force the rendering of all the rows in the next refresh.
+	 * <P>
+	 * It must be called when the rows are modified by someone else
+	 * (for example to set the rows in error state) or when the status word
+	 * is not available.
+	 */
+	public synchronized void invalidate() {
+		words=null;
+	}
+
+	/**
+	 *
+	 * @return The rows the bits are written into
+	 */
+	public String[] getRows() {
+		return vals;
+	}
+
+	/**
+	 *
+	 * @return The number of rows rendered so far
+	 */
+	public synchronized long getRenderedRows() {
+		return renderedRows;
+	}
+}